@@ -0,0 +1,193 @@
+package com.muratagin.dddgenerator.benchmarks;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import com.muratagin.dddgenerator.dto.ProjectRequest;
+import com.muratagin.dddgenerator.service.ConnectionPoolRegistry;
+import com.muratagin.dddgenerator.service.EnumRegistry;
+import com.muratagin.dddgenerator.service.GenerationMetrics;
+import com.muratagin.dddgenerator.service.GenerationResultCache;
+import com.muratagin.dddgenerator.service.JdbcMetadataSchemaIntrospector;
+import com.muratagin.dddgenerator.service.NamingModel;
+import com.muratagin.dddgenerator.service.PgDumpSchemaParser;
+import com.muratagin.dddgenerator.service.PostgresSchemaIntrospector;
+import com.muratagin.dddgenerator.service.ProjectService;
+import com.muratagin.dddgenerator.service.SchemaIntrospectionService;
+import com.muratagin.dddgenerator.service.SchemaModelCache;
+import com.muratagin.dddgenerator.service.ZipArchiveFactory;
+import com.muratagin.dddgenerator.service.job.GenerationProgress;
+import com.muratagin.dddgenerator.service.output.ZipProjectOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the main generation steps over synthetic schemas. One operation covers the whole schema, e.g. every
+ * table's domain entity, so scores of different table counts are not per-table rates.
+ *
+ * <pre>
+ * mvn -f benchmarks/pom.xml package
+ * java -jar benchmarks/target/benchmarks.jar -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectServiceBenchmark {
+
+    private static final String BASE_PACKAGE = "com.example.shop";
+
+    @Param({"10", "100", "1000", "5000"})
+    public int tableCount;
+
+    private ProjectService projectService;
+    private SchemaIntrospectionService schemaIntrospectionService;
+    private ConnectionPoolRegistry connectionPoolRegistry;
+    private ZipArchiveFactory zipArchiveFactory;
+    private SchemaModel schemaModel;
+    private ProjectRequest projectRequest;
+    private EnvironmentalCredentialsRequest environmentalCredentialsRequest;
+    private Map<String, String> columnToEnumMap;
+    private NamingModel naming;
+
+    // The generation steps are private to ProjectService; method handles keep the call overhead negligible
+    private MethodHandle generateProject;
+    private MethodHandle generateDomainEntityClassContent;
+    private MethodHandle generateJpaEntityContent;
+    private MethodHandle writePersistenceMapperContent;
+    private MethodHandle buildEnumRegistry;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        GeneratorProperties generatorProperties = new GeneratorProperties();
+        // Every invocation must really generate, not hit the result cache
+        generatorProperties.getResultCache().setMaxSize(DataSize.ofBytes(0));
+        connectionPoolRegistry = new ConnectionPoolRegistry(generatorProperties, new SimpleMeterRegistry());
+        schemaIntrospectionService = new SchemaIntrospectionService(
+                List.of(new PostgresSchemaIntrospector(generatorProperties), new JdbcMetadataSchemaIntrospector()), new PgDumpSchemaParser(),
+                new SchemaModelCache(generatorProperties), connectionPoolRegistry, generatorProperties);
+        zipArchiveFactory = new ZipArchiveFactory(generatorProperties);
+        projectService = new ProjectService(schemaIntrospectionService, new GenerationResultCache(generatorProperties),
+                new GenerationMetrics(new SimpleMeterRegistry()), zipArchiveFactory);
+
+        generateProject = privateMethod("generateProject", 5);
+        generateDomainEntityClassContent = privateMethod("generateDomainEntityClassContent", 10);
+        generateJpaEntityContent = privateMethod("generateJpaEntityContent", 6);
+        writePersistenceMapperContent = privateMethod("writePersistenceMapperContent", 8);
+        buildEnumRegistry = privateMethod("buildEnumRegistry", 2);
+
+        schemaModel = SyntheticSchemas.create(tableCount);
+
+        projectRequest = new ProjectRequest();
+        projectRequest.setGroupId("com.example");
+        projectRequest.setArtifactId("shop");
+        projectRequest.setName("shop");
+        projectRequest.setDescription("Benchmark project");
+        projectRequest.setPackageName(BASE_PACKAGE);
+
+        environmentalCredentialsRequest = new EnvironmentalCredentialsRequest();
+        environmentalCredentialsRequest.setApplicationName("shop");
+        environmentalCredentialsRequest.setLocalDatasourceUrl("jdbc:postgresql://localhost:5432/shop");
+        environmentalCredentialsRequest.setLocalDatasourceUsername("shop");
+        environmentalCredentialsRequest.setLocalDatasourcePassword("shop");
+        environmentalCredentialsRequest.setSelectedSchema(schemaModel.getSchemaName());
+        environmentalCredentialsRequest.setTableEntityTypes(SyntheticSchemas.tableEntityTypes(schemaModel));
+
+        columnToEnumMap = ((EnumRegistry) buildEnumRegistry.invoke(projectService, schemaModel, BASE_PACKAGE)).getEnumTypesByColumn();
+        naming = new NamingModel(schemaModel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        schemaIntrospectionService.destroy();
+        connectionPoolRegistry.destroy();
+        zipArchiveFactory.destroy();
+    }
+
+    // Everything generateProjectZip does after introspection, with the synthetic schema in place of a database
+    @Benchmark
+    public byte[] generateProjectZip() throws Throwable {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipProjectOutput output = zipArchiveFactory.open(out)) {
+            generateProject.invoke(projectService, output, projectRequest, environmentalCredentialsRequest, schemaModel, GenerationProgress.NONE);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public void generateDomainEntityClassContent(Blackhole blackhole) throws Throwable {
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+        Set<String> aggregateRoots = schemaModel.getAggregateRoots();
+        for (String table : schemaModel.getTables()) {
+            String classNamePrefix = naming.table(table).getClassName();
+            String extendsClass = aggregateRoots.contains(table) ? "AggregateRoot" : "BaseDomainEntity";
+            blackhole.consume((String) generateDomainEntityClassContent.invoke(projectService, BASE_PACKAGE, naming,
+                    classNamePrefix + "DomainEntity", classNamePrefix + "Id", schemaModel.getColumns(table), extendsClass,
+                    columnToEnumMap, table, detailedForeignKeys, aggregateRoots));
+        }
+    }
+
+    @Benchmark
+    public void generateJpaEntityContent(Blackhole blackhole) throws Throwable {
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+        for (String table : schemaModel.getTables()) {
+            blackhole.consume((String) generateJpaEntityContent.invoke(projectService, table, BASE_PACKAGE, schemaModel, naming, detailedForeignKeys, false));
+        }
+    }
+
+    @Benchmark
+    public StringBuilder generatePersistenceMapperContent() throws Throwable {
+        StringBuilder content = new StringBuilder();
+        writePersistenceMapperContent.invoke(projectService, (Appendable) content, schemaModel.getTables(), BASE_PACKAGE, schemaModel, naming,
+                schemaModel.getDetailedForeignKeys(), projectRequest.getArtifactId(), columnToEnumMap);
+        return content;
+    }
+
+    @Benchmark
+    public Set<String> determineAggregateRootsFromDB() {
+        return schemaIntrospectionService.determineAggregateRootsFromDB(schemaModel.getTables(), schemaModel.getReferencedTables());
+    }
+
+    // Every identifier the generators need, derived once per generation
+    @Benchmark
+    public NamingModel naming() {
+        return new NamingModel(schemaModel);
+    }
+
+    private static MethodHandle privateMethod(String name, int parameterCount) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(ProjectService.class, MethodHandles.lookup());
+        for (Method method : ProjectService.class.getDeclaredMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == parameterCount) {
+                return lookup.unreflect(method);
+            }
+        }
+        throw new NoSuchMethodException("ProjectService." + name + " with " + parameterCount + " parameters");
+    }
+}
@@ -0,0 +1,94 @@
+package com.muratagin.dddgenerator.benchmarks;
+
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds deterministic in-memory schemas shaped like a typical OLTP database: a handful of heavily referenced hub
+ * tables, most tables pointing at one to three others, and an enum-backed status column on every fifth table.
+ */
+public final class SyntheticSchemas {
+
+    private static final String[] NOUNS = {
+            "customer", "order", "order_item", "product", "category", "invoice", "payment", "shipment", "address",
+            "supplier", "warehouse", "stock_entry", "employee", "department", "contract", "price_list", "discount",
+            "review", "ticket", "account"
+    };
+
+    private SyntheticSchemas() {
+    }
+
+    public static SchemaModel create(int tableCount) {
+        Random random = new Random(tableCount);
+        List<String> tables = new ArrayList<>();
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(NOUNS[i % NOUNS.length] + "_" + (i / NOUNS.length + 1));
+        }
+
+        Map<String, List<Map<String, String>>> columnsByTable = new LinkedHashMap<>();
+        Map<String, List<String>> primaryKeys = new HashMap<>();
+        Map<String, Map<String, ForeignKeyInfo>> foreignKeys = new HashMap<>();
+
+        for (int i = 0; i < tableCount; i++) {
+            String table = tables.get(i);
+            List<Map<String, String>> columns = new ArrayList<>();
+            columns.add(column("id", "uuid", null));
+            columns.add(column("name", "character varying", null));
+            columns.add(column("description", "text", "Free-form description"));
+            columns.add(column("quantity", "integer", null));
+            columns.add(column("amount", "numeric", null));
+            columns.add(column("active", "boolean", null));
+            if (i % 5 == 0) {
+                columns.add(column("status", "smallint", "Enum:{1-NEW;2-ACTIVE;3-SUSPENDED;4-CLOSED}"));
+            }
+
+            // Earlier tables are referenced more often, which gives the hub-and-spoke fan-out of real schemas
+            int references = i == 0 ? 0 : random.nextInt(4);
+            Map<String, ForeignKeyInfo> tableForeignKeys = new LinkedHashMap<>();
+            for (int r = 0; r < references; r++) {
+                double skew = random.nextDouble();
+                String target = tables.get((int) (skew * skew * i));
+                String fkColumn = target + "_id";
+                if (target.equals(table) || tableForeignKeys.containsKey(fkColumn)) {
+                    continue;
+                }
+                columns.add(column(fkColumn, "uuid", null));
+                tableForeignKeys.put(fkColumn, new ForeignKeyInfo(target, fkColumn, "id"));
+            }
+
+            columns.add(column("created_at", "timestamp without time zone", null));
+            columns.add(column("updated_at", "timestamp without time zone", null));
+            columnsByTable.put(table, columns);
+            primaryKeys.put(table, List.of("id"));
+            if (!tableForeignKeys.isEmpty()) {
+                foreignKeys.put(table, tableForeignKeys);
+            }
+        }
+
+        return new SchemaModel("public", tables, columnsByTable, primaryKeys, foreignKeys);
+    }
+
+    // What the wizard posts once the user has accepted the suggested aggregate roots
+    public static Map<String, String> tableEntityTypes(SchemaModel schemaModel) {
+        Map<String, String> tableEntityTypes = new LinkedHashMap<>();
+        for (String table : schemaModel.getTables()) {
+            tableEntityTypes.put(table, schemaModel.getAggregateRoots().contains(table) ? "AggregateRoot" : "BaseDomainEntity");
+        }
+        return tableEntityTypes;
+    }
+
+    private static Map<String, String> column(String name, String type, String comment) {
+        Map<String, String> column = new HashMap<>();
+        column.put("name", name);
+        column.put("type", type);
+        column.put("comment", comment);
+        return column;
+    }
+}
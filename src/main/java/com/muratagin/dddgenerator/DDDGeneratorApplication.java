@@ -1,15 +1,35 @@
 package com.muratagin.dddgenerator;
 
+import com.muratagin.dddgenerator.cli.ProjectGeneratorCli;
+import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
+import java.util.Arrays;
+
+@ConfigurationPropertiesScan
 @SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
 public class DDDGeneratorApplication {
 
 	public static void main(String[] args) {
+		if (Arrays.asList(args).contains(ProjectGeneratorCli.CLI_FLAG)) {
+			System.exit(runCli(args));
+		}
 		SpringApplication.run(DDDGeneratorApplication.class, args);
 	}
 
+	// Batch generation without the web server: no servlet container, no banner, beans created on first use
+	private static int runCli(String[] args) {
+		SpringApplication application = new SpringApplication(DDDGeneratorApplication.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		application.setLazyInitialization(true);
+		application.setBannerMode(Banner.Mode.OFF);
+		application.setAdditionalProfiles(ProjectGeneratorCli.PROFILE);
+		return SpringApplication.exit(application.run(args));
+	}
+
 }
@@ -0,0 +1,134 @@
+package com.muratagin.dddgenerator.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muratagin.dddgenerator.dto.GenerateProjectRequest;
+import com.muratagin.dddgenerator.service.ProjectService;
+import com.muratagin.dddgenerator.service.output.GenerationManifest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Generates projects from a JSON file of {@link GenerateProjectRequest}s (one object or an array) without starting
+ * the web server. Started with {@code --cli --input=<file> [--output-dir=<dir>] [--parallelism=<n>]}; every request
+ * is written to {@code <output-dir>/<artifactId>.zip} ({@code <artifactId>-delta.zip} for requests that carry a previous
+ * manifest) and the exit code is non-zero if any of them failed.
+ */
+@Component
+@Profile(ProjectGeneratorCli.PROFILE)
+public class ProjectGeneratorCli implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String CLI_FLAG = "--cli";
+    public static final String PROFILE = "cli";
+
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private int exitCode;
+
+    public ProjectGeneratorCli(ProjectService projectService, ObjectMapper objectMapper, Validator validator) {
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String input = singleOption(args, "input", null);
+        if (input == null) {
+            System.err.println("Usage: --cli --input=<requests.json> [--output-dir=<directory>] [--parallelism=<threads>]");
+            exitCode = 2;
+            return;
+        }
+        Path outputDir = Paths.get(singleOption(args, "output-dir", "."));
+        int parallelism = Integer.parseInt(singleOption(args, "parallelism", "1"));
+        Files.createDirectories(outputDir);
+
+        List<GenerateProjectRequest> requests = readRequests(Paths.get(input));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, requests.size())));
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (GenerateProjectRequest request : requests) {
+                results.add(executor.submit(() -> generate(request, outputDir)));
+            }
+            int failed = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    System.out.println("OK     " + results.get(i).get());
+                } catch (ExecutionException e) {
+                    failed++;
+                    System.err.println("FAILED request " + (i + 1) + ": " + e.getCause().getMessage());
+                }
+            }
+            System.out.println((requests.size() - failed) + " of " + requests.size() + " projects generated into " + outputDir.toAbsolutePath());
+            exitCode = failed == 0 ? 0 : 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private String generate(GenerateProjectRequest request, Path outputDir) throws Exception {
+        Set<ConstraintViolation<GenerateProjectRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        GenerationManifest previousManifest = request.getPreviousManifest();
+        Path target = outputDir.resolve(request.getProject().getArtifactId() + (previousManifest != null ? "-delta.zip" : ".zip"));
+        try (OutputStream out = Files.newOutputStream(target)) {
+            if (previousManifest != null) {
+                projectService.generateProjectDelta(request.getProject(), request.resolveEnvironment(), previousManifest, out);
+            } else {
+                projectService.generateProject(request.getProject(), request.resolveEnvironment(), out);
+            }
+        } catch (Exception e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return target.toString();
+    }
+
+    private List<GenerateProjectRequest> readRequests(Path input) throws IOException {
+        JsonNode root = objectMapper.readTree(input.toFile());
+        List<GenerateProjectRequest> requests = new ArrayList<>();
+        if (root.isArray()) {
+            for (JsonNode node : root) {
+                requests.add(objectMapper.treeToValue(node, GenerateProjectRequest.class));
+            }
+        } else {
+            requests.add(objectMapper.treeToValue(root, GenerateProjectRequest.class));
+        }
+        return requests;
+    }
+
+    private static String singleOption(ApplicationArguments args, String name, String defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+}
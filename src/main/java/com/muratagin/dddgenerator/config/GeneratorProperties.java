@@ -0,0 +1,329 @@
+package com.muratagin.dddgenerator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "dddgenerator")
+public class GeneratorProperties {
+
+    private final Introspection introspection = new Introspection();
+    private final ConnectionPool connectionPool = new ConnectionPool();
+    private final SchemaCache schemaCache = new SchemaCache();
+    private final ResultCache resultCache = new ResultCache();
+    private final Jobs jobs = new Jobs();
+    private final Scheduler scheduler = new Scheduler();
+    private final Archive archive = new Archive();
+
+    public Introspection getIntrospection() {
+        return introspection;
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public SchemaCache getSchemaCache() {
+        return schemaCache;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public Jobs getJobs() {
+        return jobs;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public Archive getArchive() {
+        return archive;
+    }
+
+    public static class Introspection {
+        // Rows fetched per round-trip by the catalog queries; only honoured by the PostgreSQL driver outside auto-commit
+        private int fetchSize = 500;
+        // Connections used to load one large schema concurrently; keep below connection-pool.max-pool-size
+        private int parallelism = 3;
+        // Schemas with fewer tables than this are loaded over a single connection
+        private int parallelThreshold = 200;
+        // Schema lists, table lists and models loaded ahead of the wizard step that needs them; 0 disables prefetching
+        private int maxPrefetches = 4;
+        // Prefetches running at once against one url and username; never counted against scheduler.max-per-datasource
+        private int maxPrefetchesPerDatasource = 2;
+        // How long a prefetched schema or table list may stand in for a fresh load, and a finished prefetch holds its slot
+        private Duration prefetchTtl = Duration.ofMinutes(2);
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getParallelThreshold() {
+            return parallelThreshold;
+        }
+
+        public void setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        public int getMaxPrefetches() {
+            return maxPrefetches;
+        }
+
+        public void setMaxPrefetches(int maxPrefetches) {
+            this.maxPrefetches = maxPrefetches;
+        }
+
+        public int getMaxPrefetchesPerDatasource() {
+            return maxPrefetchesPerDatasource;
+        }
+
+        public void setMaxPrefetchesPerDatasource(int maxPrefetchesPerDatasource) {
+            this.maxPrefetchesPerDatasource = maxPrefetchesPerDatasource;
+        }
+
+        public Duration getPrefetchTtl() {
+            return prefetchTtl;
+        }
+
+        public void setPrefetchTtl(Duration prefetchTtl) {
+            this.prefetchTtl = prefetchTtl;
+        }
+    }
+
+    public static class ConnectionPool {
+        // Upper bound on distinct (url, username, password) pools kept open at the same time
+        private int maxPools = 16;
+        private int maxPoolSize = 4;
+        // Pools (and pooled connections) unused for this long are closed
+        private Duration idleTimeout = Duration.ofMinutes(5);
+        private Duration connectionTimeout = Duration.ofSeconds(10);
+
+        public int getMaxPools() {
+            return maxPools;
+        }
+
+        public void setMaxPools(int maxPools) {
+            this.maxPools = maxPools;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+
+    public static class SchemaCache {
+        // 0 disables caching of introspected schemas
+        private int maxEntries = 64;
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    public static class ResultCache {
+        // Total size of the cached project archives; 0 disables the cache and streams every download
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+        private Duration ttl = Duration.ofMinutes(30);
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    public static class Jobs {
+        // Finished jobs (and their archives) not downloaded within this time are discarded
+        private Duration retention = Duration.ofMinutes(10);
+        // A job event stream that has not taken one event within this time is closed; the page reconnects and gets the current state
+        private Duration eventTimeout = Duration.ofSeconds(10);
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+
+        public Duration getEventTimeout() {
+            return eventTimeout;
+        }
+
+        public void setEventTimeout(Duration eventTimeout) {
+            this.eventTimeout = eventTimeout;
+        }
+    }
+
+    public static class Scheduler {
+        // Generations running at the same time, wizard jobs and API requests alike
+        private int maxConcurrent = 2;
+        // Admitted generations waiting for a running slot; further ones are rejected with 503
+        private int queueCapacity = 16;
+        // Generations one wizard session (or one API client address) may have admitted at once; beyond that 429
+        private int maxPerSession = 2;
+        // Generations reading the same database (url and username) at once; beyond that 429
+        private int maxPerDatasource = 2;
+        // How long an API request may wait for a running slot before it is answered with 503
+        private Duration maxQueueWait = Duration.ofSeconds(30);
+        // Assumed generation time for Retry-After until real generations have been timed
+        private Duration initialRetryAfter = Duration.ofSeconds(10);
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxPerSession() {
+            return maxPerSession;
+        }
+
+        public void setMaxPerSession(int maxPerSession) {
+            this.maxPerSession = maxPerSession;
+        }
+
+        public int getMaxPerDatasource() {
+            return maxPerDatasource;
+        }
+
+        public void setMaxPerDatasource(int maxPerDatasource) {
+            this.maxPerDatasource = maxPerDatasource;
+        }
+
+        public Duration getMaxQueueWait() {
+            return maxQueueWait;
+        }
+
+        public void setMaxQueueWait(Duration maxQueueWait) {
+            this.maxQueueWait = maxQueueWait;
+        }
+
+        public Duration getInitialRetryAfter() {
+            return initialRetryAfter;
+        }
+
+        public void setInitialRetryAfter(Duration initialRetryAfter) {
+            this.initialRetryAfter = initialRetryAfter;
+        }
+    }
+
+    public static class Archive {
+        // STORED skips compression entirely, which is faster end to end when the archive is downloaded over a fast link
+        private Method method = Method.DEFLATED;
+        // Deflate level from 0 (fastest) to 9 (smallest); -1 is the zlib default
+        private int compressionLevel = 6;
+        // Threads compressing archive entries, shared by all generations; 1 compresses on the generating thread
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        // Generated files waiting for the archive writer thread of one generation; bounds memory when the writer or
+        // the downloading client falls behind. 0 writes on the generating thread.
+        private int queueCapacity = 64;
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public void setMethod(Method method) {
+            this.method = method;
+        }
+
+        public int getCompressionLevel() {
+            return compressionLevel;
+        }
+
+        public void setCompressionLevel(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public enum Method {
+            DEFLATED,
+            STORED
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.muratagin.dddgenerator.controller;
+
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.dto.GenerateProjectRequest;
+import com.muratagin.dddgenerator.dto.ProjectRequest;
+import com.muratagin.dddgenerator.service.ProjectService;
+import com.muratagin.dddgenerator.service.job.GenerationScheduler;
+import com.muratagin.dddgenerator.service.output.GenerationManifest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Stateless generation for scripts and pipelines: one request in, one zip out, no session.
+ */
+@RestController
+@RequestMapping("/api/v1/projects")
+public class ProjectApiController {
+
+    private final ProjectService projectService;
+    private final GenerationScheduler generationScheduler;
+
+    public ProjectApiController(ProjectService projectService, GenerationScheduler generationScheduler) {
+        this.projectService = projectService;
+        this.generationScheduler = generationScheduler;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> generateProject(@Valid @RequestBody GenerateProjectRequest request,
+                                                                 HttpServletRequest httpRequest) throws SQLException {
+        ProjectRequest projectRequest = request.getProject();
+        EnvironmentalCredentialsRequest environmentalCredentialsRequest = request.resolveEnvironment();
+        // Admitted before anything touches the database; a full scheduler or an exhausted quota is answered with
+        // 503/429 and Retry-After by GlobalExceptionHandler. The API has no session, so quotas are per client address.
+        GenerationScheduler.Admission admission = generationScheduler.acquire(httpRequest.getRemoteAddr(),
+                GenerationScheduler.datasourceKey(environmentalCredentialsRequest));
+        try {
+            // Bad input and unreachable databases are answered with an error status before the first byte is streamed;
+            // handled by GlobalExceptionHandler
+            projectService.validateGenerationRequest(projectRequest, environmentalCredentialsRequest);
+        } catch (SQLException | RuntimeException e) {
+            admission.close();
+            throw e;
+        }
+
+        GenerationManifest previousManifest = request.getPreviousManifest();
+        StreamingResponseBody body = outputStream -> {
+            try (admission) {
+                if (previousManifest != null) {
+                    projectService.generateProjectDelta(projectRequest, environmentalCredentialsRequest, previousManifest, outputStream);
+                } else {
+                    projectService.generateProject(projectRequest, environmentalCredentialsRequest, outputStream);
+                }
+            } catch (SQLException e) {
+                throw new IOException("Error generating project: " + e.getMessage(), e);
+            }
+        };
+        String fileName = projectRequest.getArtifactId() + (previousManifest != null ? "-delta.zip" : ".zip");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+}
@@ -1,12 +1,20 @@
 package com.muratagin.dddgenerator.controller;
 
 import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.domain.schema.AggregateGraph;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
 import com.muratagin.dddgenerator.dto.ProjectRequest;
 import com.muratagin.dddgenerator.service.ProjectService;
+import com.muratagin.dddgenerator.service.SchemaIntrospectionService;
+import com.muratagin.dddgenerator.service.TableNameMatcher;
+import com.muratagin.dddgenerator.service.job.GenerationJob;
+import com.muratagin.dddgenerator.service.job.GenerationJobListener;
+import com.muratagin.dddgenerator.service.job.GenerationJobService;
+import com.muratagin.dddgenerator.service.job.GenerationPhase;
+import com.muratagin.dddgenerator.service.job.GenerationRejectedException;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -16,25 +24,29 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.SessionAttributes;
 import org.springframework.web.bind.support.SessionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 
 @Controller
 @RequestMapping("/ui")
@@ -42,12 +54,20 @@ import java.util.Set;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final SchemaIntrospectionService schemaIntrospectionService;
+    private final GenerationJobService generationJobService;
     private static final String SESSION_PROJECT_REQUEST_SUMMARY = "projectRequestSummary";
-    private static final String SESSION_PROJECT_ZIP_BYTES = "projectZipBytes";
-    private static final String SESSION_PROJECT_FILE_NAME = "projectFileName";
-
-    public ProjectController(ProjectService projectService) {
+    // The background job generating this session's project; the archive itself stays with the job
+    private static final String SESSION_GENERATION_JOB_ID = "generationJobId";
+    private static final long JOB_EVENTS_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+    private static final String DEFAULT_TABLE_PAGE_SIZE = "200";
+    private static final int MAX_TABLE_PAGE_SIZE = 1000;
+
+    public ProjectController(ProjectService projectService, SchemaIntrospectionService schemaIntrospectionService,
+                             GenerationJobService generationJobService) {
         this.projectService = projectService;
+        this.schemaIntrospectionService = schemaIntrospectionService;
+        this.generationJobService = generationJobService;
     }
 
     @ModelAttribute("projectRequest")
@@ -138,17 +158,21 @@ public class ProjectController {
                                     // Password can be blank
 
         if (hasLocalDbDetails) {
+            // The schema list loads while the browser follows the redirect
+            schemaIntrospectionService.prefetchSchemas(
+                    environmentalCredentialsRequest.getLocalDatasourceUrl(),
+                    environmentalCredentialsRequest.getLocalDatasourceUsername(),
+                    environmentalCredentialsRequest.getLocalDatasourcePassword()
+            );
             return "redirect:/ui/schema-selection";
         } else {
             // No local DB details, proceed to generation
             try {
-                byte[] zipBytes = projectService.generateProjectZip(projectRequest, environmentalCredentialsRequest);
-                String fileName = projectRequest.getArtifactId() + ".zip";
-
-                session.setAttribute(SESSION_PROJECT_ZIP_BYTES, zipBytes);
-                session.setAttribute(SESSION_PROJECT_FILE_NAME, fileName);
+                projectService.validateProjectRequest(projectRequest);
+                GenerationJob job = generationJobService.submit(session.getId(), projectRequest, environmentalCredentialsRequest);
+                session.setAttribute(SESSION_GENERATION_JOB_ID, job.getId());
                 return "redirect:/ui/download-page";
-            } catch (IOException | SQLException | IllegalArgumentException e) {
+            } catch (IllegalArgumentException | IllegalStateException | GenerationRejectedException e) {
                 redirectAttributes.addFlashAttribute("globalErrorMessage", "Error generating project: " + e.getMessage());
                 // Don't clear sessionStatus here, allow user to go back and correct
                 return "redirect:/ui/generate-project"; // Or back to environmental if more appropriate
@@ -170,45 +194,24 @@ public class ProjectController {
         }
 
         model.addAttribute("projectRequestSummary", projectRequest); // For sidebar display
+        // The page posts only the tables the user changed and the bulk rules; choices bound by an earlier visit would
+        // otherwise outlive the page
+        environmentalCredentialsRequest.setTableEntityTypes(null);
+        environmentalCredentialsRequest.setTableEntityTypeRules(null);
 
         List<String> schemas = new ArrayList<>();
         String connectionError = null;
-        Connection connection = null;
 
         try {
-            // Ensure PostgreSQL driver is loaded
-            Class.forName("org.postgresql.Driver");
-            connection = DriverManager.getConnection(
+            // User schemas only; the introspector for the connected database knows its system schemas
+            schemas = schemaIntrospectionService.loadSchemas(
                     environmentalCredentialsRequest.getLocalDatasourceUrl(),
                     environmentalCredentialsRequest.getLocalDatasourceUsername(),
                     environmentalCredentialsRequest.getLocalDatasourcePassword()
             );
-            Statement statement = connection.createStatement();
-            // Query to list schemas (excluding system schemas)
-            ResultSet resultSet = statement.executeQuery(
-                "SELECT schema_name FROM information_schema.schemata " +
-                "WHERE schema_name NOT IN ('pg_catalog', 'information_schema', 'pg_toast') " +
-                "AND schema_name NOT LIKE 'pg_temp_%' AND schema_name NOT LIKE 'pg_toast_temp_%';"
-            );
-            while (resultSet.next()) {
-                schemas.add(resultSet.getString("schema_name"));
-            }
-            resultSet.close();
-            statement.close();
-        } catch (ClassNotFoundException e) {
-            connectionError = "PostgreSQL JDBC driver not found. Please ensure it's in the classpath.";
-            // Log this error server-side as well
         } catch (SQLException e) {
             connectionError = "Error connecting to database or fetching schemas: " + e.getMessage();
              // Log this error server-side as well
-        } finally {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException e) {
-                    // Log error closing connection
-                }
-            }
         }
 
         if (connectionError != null) {
@@ -223,70 +226,208 @@ public class ProjectController {
         return "schema-selection"; // Name of the new Thymeleaf template
     }
 
+    // Called as soon as a schema is picked; the model loads in the background while the page asks for its tables
+    @PostMapping("/prefetch-schema")
+    @ResponseBody
+    public ResponseEntity<Void> prefetchSchema(@RequestParam("schemaName") String schemaName,
+                                               @ModelAttribute("environmentalCredentialsRequest") EnvironmentalCredentialsRequest environmentalCredentialsRequest) {
+        if (environmentalCredentialsRequest == null || environmentalCredentialsRequest.getLocalDatasourceUrl() == null || schemaName.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        schemaIntrospectionService.prefetch(
+                environmentalCredentialsRequest.getLocalDatasourceUrl(),
+                environmentalCredentialsRequest.getLocalDatasourceUsername(),
+                environmentalCredentialsRequest.getLocalDatasourcePassword(),
+                schemaName
+        );
+        return ResponseEntity.accepted().build();
+    }
+
+    // One page of the schema's table names, optionally filtered by a name prefix or a wildcard pattern. Only the table
+    // list is loaded; suggestions come with the schema summary and foreign keys with the table details. The cursor is
+    // the position in the schema's table list to continue from; nextCursor is null after the last page.
     @GetMapping("/get-tables")
     @ResponseBody
     public ResponseEntity<Object> getTablesForSchema(@RequestParam("schemaName") String schemaName,
+                                                   @RequestParam(value = "cursor", required = false) String cursor,
+                                                   @RequestParam(value = "limit", defaultValue = DEFAULT_TABLE_PAGE_SIZE) int limit,
+                                                   @RequestParam(value = "search", required = false) String search,
+                                                   @RequestParam(value = "glob", defaultValue = "false") boolean glob,
                                                    @ModelAttribute("environmentalCredentialsRequest") EnvironmentalCredentialsRequest environmentalCredentialsRequest,
                                                    HttpSession session) {
-        ProjectRequest projectRequest = (ProjectRequest) session.getAttribute("projectRequest");
-
-        if (projectRequest == null || projectRequest.getGroupId() == null ||
-            environmentalCredentialsRequest == null || environmentalCredentialsRequest.getLocalDatasourceUrl() == null ||
-            schemaName == null || schemaName.isBlank()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Missing project, environmental details, or schema name."));
+        ResponseEntity<Object> invalid = checkSchemaRequest(schemaName, environmentalCredentialsRequest, session);
+        if (invalid != null) {
+            return invalid;
         }
 
-        List<String> tables = new ArrayList<>();
-        String connectionError = null;
-        Connection connection = null;
-
         try {
-            Class.forName("org.postgresql.Driver");
-            connection = DriverManager.getConnection(
-                    environmentalCredentialsRequest.getLocalDatasourceUrl(),
-                    environmentalCredentialsRequest.getLocalDatasourceUsername(),
-                    environmentalCredentialsRequest.getLocalDatasourcePassword()
-            );
-            // Use PreparedStatement to prevent SQL injection
-            try (PreparedStatement preparedStatement = connection.prepareStatement(
-                    "SELECT table_name FROM information_schema.tables WHERE table_schema = ? ORDER BY table_name"
-            )) {
-                preparedStatement.setString(1, schemaName);
-                try (ResultSet rs = preparedStatement.executeQuery()) {
-                    while (rs.next()) {
-                        tables.add(rs.getString("table_name"));
-                    }
+            List<String> tables = loadTableNames(schemaName, environmentalCredentialsRequest);
+            Predicate<String> matcher = TableNameMatcher.compile(search, glob);
+            int start = parseCursor(cursor, tables.size());
+            int pageSize = Math.max(1, Math.min(limit, MAX_TABLE_PAGE_SIZE));
+
+            // Matches are counted over the whole schema so that the page can size its scroll area
+            int total = 0;
+            List<String> page = new ArrayList<>();
+            Integer nextCursor = null;
+            for (int i = 0; i < tables.size(); i++) {
+                String table = tables.get(i);
+                if (!matcher.test(table)) {
+                    continue;
+                }
+                total++;
+                if (i < start) {
+                    continue;
+                }
+                if (page.size() < pageSize) {
+                    page.add(table);
+                } else if (nextCursor == null) {
+                    nextCursor = i;
                 }
             }
 
-            // Get aggregate roots
-            Set<String> aggregateRoots = projectService.determineAggregateRootsFromDB(
-                tables,
-                projectService.getForeignKeys(connection, schemaName)
-            );
+            Map<String, Object> responseData = new LinkedHashMap<>();
+            responseData.put("tables", page);
+            responseData.put("nextCursor", nextCursor == null ? null : String.valueOf(nextCursor));
+            responseData.put("total", total);
+            return ResponseEntity.ok(responseData);
 
-            Map<String, Object> responseData = Map.of(
-                "tables", tables,
-                "aggregateRoots", aggregateRoots
-            );
+        } catch (SQLException e) {
+            String connectionError = "Error connecting to database or fetching data: " + e.getMessage();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", connectionError));
+        }
+    }
 
-            return ResponseEntity.ok(responseData);
+    // The suggested aggregate roots, and the FK cycles and self-references that keep tables from being suggested as
+    // roots; fetched once per schema, while the table list pages in
+    @GetMapping("/get-schema-summary")
+    @ResponseBody
+    public ResponseEntity<Object> getSchemaSummary(@RequestParam("schemaName") String schemaName,
+                                                   @ModelAttribute("environmentalCredentialsRequest") EnvironmentalCredentialsRequest environmentalCredentialsRequest,
+                                                   HttpSession session) {
+        ResponseEntity<Object> invalid = checkSchemaRequest(schemaName, environmentalCredentialsRequest, session);
+        if (invalid != null) {
+            return invalid;
+        }
 
-        } catch (ClassNotFoundException e) {
-            connectionError = "PostgreSQL JDBC driver not found.";
-             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", connectionError));
+        try {
+            SchemaModel schemaModel = loadSchemaModel(schemaName, environmentalCredentialsRequest);
+            AggregateGraph aggregateGraph = schemaModel.getAggregateGraph();
+            return ResponseEntity.ok(Map.of(
+                "tableCount", schemaModel.getTables().size(),
+                "aggregateRoots", new TreeSet<>(aggregateGraph.getAggregateRoots()),
+                "cyclicClusters", aggregateGraph.getCyclicClusters(),
+                "selfReferencingTables", aggregateGraph.getSelfReferencingTables()
+            ));
         } catch (SQLException e) {
-            connectionError = "Error connecting to database or fetching data: " + e.getMessage();
+            String connectionError = "Error connecting to database or fetching data: " + e.getMessage();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", connectionError));
-        } finally {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException e) {
-                    // Log error closing connection
+        }
+    }
+
+    // A single table's foreign keys in both directions, loaded when the user looks at that table
+    @GetMapping("/get-table-details")
+    @ResponseBody
+    public ResponseEntity<Object> getTableDetails(@RequestParam("schemaName") String schemaName,
+                                                  @RequestParam("table") String table,
+                                                  @ModelAttribute("environmentalCredentialsRequest") EnvironmentalCredentialsRequest environmentalCredentialsRequest,
+                                                  HttpSession session) {
+        ResponseEntity<Object> invalid = checkSchemaRequest(schemaName, environmentalCredentialsRequest, session);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        try {
+            SchemaModel schemaModel = loadSchemaModel(schemaName, environmentalCredentialsRequest);
+            if (!schemaModel.getTables().contains(table)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Table " + table + " was not found in schema " + schemaName + "."));
+            }
+
+            List<Map<String, String>> references = new ArrayList<>();
+            for (ForeignKeyInfo foreignKeyInfo : new TreeMap<>(schemaModel.getForeignKeys(table)).values()) {
+                references.add(Map.of(
+                    "column", foreignKeyInfo.getFkColumnName(),
+                    "referencedTable", foreignKeyInfo.getPkTableName(),
+                    "referencedColumn", foreignKeyInfo.getPkColumnName()
+                ));
+            }
+            List<String> referencedBy = schemaModel.getReferencingTables().getOrDefault(table, List.of());
+
+            AggregateGraph aggregateGraph = schemaModel.getAggregateGraph();
+            List<String> cyclicCluster = List.of();
+            for (List<String> cluster : aggregateGraph.getCyclicClusters()) {
+                if (cluster.contains(table)) {
+                    cyclicCluster = cluster;
+                    break;
+                }
+            }
+            // The root whose aggregate this table falls in; null when its FKs lead to no root or to several
+            String aggregateRoot = aggregateGraph.getAggregateRoots().contains(table) ? table : null;
+            for (Map.Entry<String, List<String>> boundary : aggregateGraph.getAggregateBoundaries().entrySet()) {
+                if (aggregateRoot == null && boundary.getValue().contains(table)) {
+                    aggregateRoot = boundary.getKey();
                 }
             }
+
+            Map<String, Object> responseData = new LinkedHashMap<>();
+            responseData.put("table", table);
+            responseData.put("suggestedEntityType", aggregateGraph.getAggregateRoots().contains(table) ? "AggregateRoot" : "BaseDomainEntity");
+            responseData.put("aggregateRoot", aggregateRoot);
+            responseData.put("foreignKeys", references);
+            responseData.put("referencedBy", referencedBy);
+            responseData.put("cyclicCluster", cyclicCluster);
+            responseData.put("selfReferencing", aggregateGraph.getSelfReferencingTables().contains(table));
+            return ResponseEntity.ok(responseData);
+
+        } catch (SQLException e) {
+            String connectionError = "Error connecting to database or fetching data: " + e.getMessage();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", connectionError));
+        }
+    }
+
+    private ResponseEntity<Object> checkSchemaRequest(String schemaName, EnvironmentalCredentialsRequest environmentalCredentialsRequest, HttpSession session) {
+        ProjectRequest projectRequest = (ProjectRequest) session.getAttribute("projectRequest");
+
+        if (projectRequest == null || projectRequest.getGroupId() == null ||
+            environmentalCredentialsRequest == null || environmentalCredentialsRequest.getLocalDatasourceUrl() == null ||
+            schemaName == null || schemaName.isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Missing project, environmental details, or schema name."));
+        }
+        return null;
+    }
+
+    // Same snapshot the generator builds, so the suggested roots match what will be generated. Registered as a
+    // prefetch first, so that the page requests that follow, and the generation, reuse it instead of loading again.
+    private SchemaModel loadSchemaModel(String schemaName, EnvironmentalCredentialsRequest environmentalCredentialsRequest) throws SQLException {
+        String url = environmentalCredentialsRequest.getLocalDatasourceUrl();
+        String username = environmentalCredentialsRequest.getLocalDatasourceUsername();
+        String password = environmentalCredentialsRequest.getLocalDatasourcePassword();
+        schemaIntrospectionService.prefetch(url, username, password, schemaName);
+        return schemaIntrospectionService.introspect(url, username, password, schemaName);
+    }
+
+    // Shares one table list across the pages, without waiting for the full model that the summary needs
+    private List<String> loadTableNames(String schemaName, EnvironmentalCredentialsRequest environmentalCredentialsRequest) throws SQLException {
+        String url = environmentalCredentialsRequest.getLocalDatasourceUrl();
+        String username = environmentalCredentialsRequest.getLocalDatasourceUsername();
+        String password = environmentalCredentialsRequest.getLocalDatasourcePassword();
+        schemaIntrospectionService.prefetchTables(url, username, password, schemaName);
+        return schemaIntrospectionService.loadTables(url, username, password, schemaName);
+    }
+
+    private static int parseCursor(String cursor, int tableCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int position = Integer.parseInt(cursor);
+            if (position >= 0 && position <= tableCount) {
+                return position;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
         }
+        throw new IllegalArgumentException("Invalid table cursor '" + cursor + "'.");
     }
 
     @PostMapping("/generate-final")
@@ -340,17 +481,17 @@ public class ProjectController {
 
 
         try {
-            byte[] zipBytes = projectService.generateProjectZip(sessionProjectRequest, environmentalCredentialsRequest);
-            String fileName = sessionProjectRequest.getArtifactId() + ".zip";
-
-            session.setAttribute(SESSION_PROJECT_ZIP_BYTES, zipBytes);
-            session.setAttribute(SESSION_PROJECT_FILE_NAME, fileName);
+            // Introspection and generation run in the background; the download page follows their progress
+            projectService.validateProjectRequest(sessionProjectRequest);
+            projectService.validateTableEntityTypeRules(environmentalCredentialsRequest);
+            GenerationJob job = generationJobService.submit(session.getId(), sessionProjectRequest, environmentalCredentialsRequest);
+            session.setAttribute(SESSION_GENERATION_JOB_ID, job.getId());
 
             // environmentalCredentialsRequest will be cleared from session by SessionStatus.setComplete()
-            // which is called in /perform-download, along with projectRequest.
+            // which is called when the archive is downloaded, along with projectRequest.
             return "redirect:/ui/download-page";
 
-        } catch (IOException | SQLException | IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IllegalStateException | GenerationRejectedException e) {
             redirectAttributes.addFlashAttribute("globalErrorMessage", "Error generating project: " + e.getMessage());
             // Don't clear sessionStatus here, allow user to go back and correct
             // Redirect to the page that submitted here. If schema selection was involved, that's the one.
@@ -364,48 +505,129 @@ public class ProjectController {
 
     @GetMapping("/download-page")
     public String downloadPage(HttpSession session, Model model, RedirectAttributes redirectAttributes) {
-        byte[] projectZipBytes = (byte[]) session.getAttribute(SESSION_PROJECT_ZIP_BYTES);
-        String fileName = (String) session.getAttribute(SESSION_PROJECT_FILE_NAME);
+        GenerationJob job = generationJobService.getJob((String) session.getAttribute(SESSION_GENERATION_JOB_ID));
         ProjectRequest projectRequest = (ProjectRequest) session.getAttribute("projectRequest"); // From @SessionAttributes
 
-        if (projectZipBytes == null || fileName == null || projectRequest == null || projectRequest.getName() == null) {
+        if (job == null || projectRequest == null || projectRequest.getName() == null) {
             redirectAttributes.addFlashAttribute("globalErrorMessage", "No project available for download or session expired. Please start over.");
             return "redirect:/ui/generate-project";
         }
 
-        model.addAttribute("fileName", fileName);
+        model.addAttribute("fileName", job.getFileName());
+        model.addAttribute("jobId", job.getId());
         model.addAttribute(SESSION_PROJECT_REQUEST_SUMMARY, session.getAttribute(SESSION_PROJECT_REQUEST_SUMMARY)); // For display
         return "download-project";
     }
 
-    @GetMapping("/perform-download")
-    public ResponseEntity<Resource> performDownload(HttpSession session, SessionStatus sessionStatus, RedirectAttributes redirectAttributes) {
-        byte[] projectZipBytes = (byte[]) session.getAttribute(SESSION_PROJECT_ZIP_BYTES);
-        String fileName = (String) session.getAttribute(SESSION_PROJECT_FILE_NAME);
+    @GetMapping("/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<Object> getJobStatus(@PathVariable("jobId") String jobId, HttpSession session) {
+        GenerationJob job = getSessionJob(session, jobId);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Unknown or expired generation job."));
+        }
+        // LinkedHashMap because phase and error are null for most of a job's life
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("jobId", job.getId());
+        status.put("fileName", job.getFileName());
+        status.put("status", job.getStatus());
+        status.put("phase", job.getPhase());
+        status.put("errorMessage", job.getErrorMessage());
+        return ResponseEntity.ok(status);
+    }
+
+    // Pushes "phase", "completed" and "failed" events for the job; the current state is sent as soon as the client connects
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobEvents(@PathVariable("jobId") String jobId, HttpSession session) {
+        GenerationJob job = getSessionJob(session, jobId);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        SseEmitter emitter = new SseEmitter(JOB_EVENTS_TIMEOUT_MILLIS);
+        GenerationJobListener listener = new GenerationJobListener() {
+            @Override
+            public void phaseStarted(GenerationJob job, GenerationPhase phase) {
+                sendJobEvent(emitter, "phase", Map.of(
+                        "phase", phase.name(),
+                        "label", phase.getLabel(),
+                        "step", phase.ordinal() + 1,
+                        "totalSteps", GenerationPhase.values().length));
+            }
 
-        // Clear session attributes immediately after retrieving them
+            @Override
+            public void completed(GenerationJob job) {
+                sendJobEvent(emitter, "completed", Map.of("fileName", job.getFileName(), "size", job.getArchiveSize()));
+                emitter.complete();
+            }
+
+            @Override
+            public void failed(GenerationJob job, String message) {
+                sendJobEvent(emitter, "failed", Map.of("message", message));
+                emitter.complete();
+            }
+
+            @Override
+            public void dropped(GenerationJob job) {
+                // The browser reconnects on its own and is sent the current state
+                emitter.complete();
+            }
+        };
+        emitter.onCompletion(() -> job.unsubscribe(listener));
+        emitter.onTimeout(() -> job.unsubscribe(listener));
+        emitter.onError(e -> job.unsubscribe(listener));
+        job.subscribe(listener);
+        return ResponseEntity.ok(emitter);
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadJobResult(@PathVariable("jobId") String jobId, HttpSession session, SessionStatus sessionStatus) {
+        GenerationJob job = getSessionJob(session, jobId);
+        Path archive = job == null ? null : generationJobService.takeArchive(jobId);
+        if (archive == null) {
+            // Unknown, expired, still running or already downloaded
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+
+        // The wizard is finished once the archive has been handed out
         sessionStatus.setComplete(); // Clears @SessionAttributes ("projectRequest")
         session.removeAttribute(SESSION_PROJECT_REQUEST_SUMMARY);
-        session.removeAttribute(SESSION_PROJECT_ZIP_BYTES);
-        session.removeAttribute(SESSION_PROJECT_FILE_NAME);
-
-        if (projectZipBytes == null || fileName == null) {
-            // This case should ideally be handled by the downloadPage redirect, but as a fallback:
-            // Cannot set flash attributes here as we are returning ResponseEntity
-            // Consider logging this unexpected state
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null); 
-        }
+        session.removeAttribute(SESSION_GENERATION_JOB_ID);
 
-        ByteArrayResource resource = new ByteArrayResource(projectZipBytes);
         HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getFileName());
         headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE);
 
+        // Streamed from the spooled file, which is deleted once it has been sent
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Files.copy(archive, outputStream);
+            } finally {
+                Files.deleteIfExists(archive);
+            }
+        };
         return ResponseEntity.ok()
                 .headers(headers)
-                .contentLength(projectZipBytes.length)
+                .contentLength(job.getArchiveSize())
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(resource);
+                .body(body);
+    }
+
+    // Jobs are only visible to the session that started them
+    private GenerationJob getSessionJob(HttpSession session, String jobId) {
+        if (!jobId.equals(session.getAttribute(SESSION_GENERATION_JOB_ID))) {
+            return null;
+        }
+        return generationJobService.getJob(jobId);
+    }
+
+    // Throws when the page was closed or the emitter already finished, which makes the job drop the listener
+    private void sendJobEvent(SseEmitter emitter, String name, Map<String, Object> data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @GetMapping("/selected-schema")
@@ -416,44 +638,11 @@ public class ProjectController {
         String password = environmentalCredentialsRequest.getLocalDatasourcePassword();
         List<String> tables = new ArrayList<>();
         try {
-            tables = getTables(url, username, password, environmentalCredentialsRequest.getSelectedSchema());
+            tables = schemaIntrospectionService.loadTables(url, username, password, environmentalCredentialsRequest.getSelectedSchema());
         } catch (SQLException e) {
             e.printStackTrace();
         }
         model.addAttribute("tables", tables);
         return "selected-schema";
     }
-
-    private List<String> getTables(String url, String username, String password, String schema) throws SQLException {
-        List<String> tables = new ArrayList<>();
-        String query = "SELECT table_name FROM information_schema.tables WHERE table_schema = ?";
-
-        try (Connection conn = DriverManager.getConnection(url, username, password);
-             PreparedStatement pstmt = conn.prepareStatement(query)) {
-            pstmt.setString(1, schema);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    tables.add(rs.getString("table_name"));
-                }
-            }
-        }
-        return tables;
-    }
-
-    private List<Map<String, String>> getColumnsForTable(String url, String username, String password, String schema, String table) throws SQLException {
-        List<Map<String, String>> columns = new ArrayList<>();
-        String query = "SELECT column_name, data_type FROM information_schema.columns WHERE table_schema = ? AND table_name = ?";
-
-        try (Connection conn = DriverManager.getConnection(url, username, password);
-             PreparedStatement pstmt = conn.prepareStatement(query)) {
-            pstmt.setString(1, schema);
-            pstmt.setString(2, table);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    columns.add(Map.of("name", rs.getString("column_name"), "type", rs.getString("data_type")));
-                }
-            }
-        }
-        return columns;
-    }
 }
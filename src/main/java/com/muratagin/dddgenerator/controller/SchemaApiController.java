@@ -0,0 +1,32 @@
+package com.muratagin.dddgenerator.controller;
+
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.domain.schema.SchemaSnapshot;
+import com.muratagin.dddgenerator.service.ProjectService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.SQLException;
+
+/**
+ * Exports schema snapshots that later generation requests can use instead of a live database.
+ */
+@RestController
+@RequestMapping("/api/v1/schemas")
+public class SchemaApiController {
+
+    private final ProjectService projectService;
+
+    public SchemaApiController(ProjectService projectService) {
+        this.projectService = projectService;
+    }
+
+    // Introspects the datasource and schema of the request, or converts its schemaDdl
+    @PostMapping(path = "/snapshot", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public SchemaSnapshot exportSnapshot(@RequestBody EnvironmentalCredentialsRequest environment) throws SQLException {
+        return projectService.exportSchemaSnapshot(environment);
+    }
+}
@@ -1,5 +1,10 @@
 package com.muratagin.dddgenerator.domain.request;
 
+import com.muratagin.dddgenerator.domain.schema.SchemaSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class EnvironmentalCredentialsRequest {
@@ -17,6 +22,39 @@ public class EnvironmentalCredentialsRequest {
     private String selectedSchema;
 
     private Map<String, String> tableEntityTypes;
+    // Entity types for the tables without an entry above; tables matched by neither get the suggested type
+    private List<TableEntityTypeRule> tableEntityTypeRules;
+
+    // Offline alternatives to the datasource: an exported snapshot, or pg_dump --schema-only output
+    private SchemaSnapshot schemaSnapshot;
+    private String schemaDdl;
+
+    public EnvironmentalCredentialsRequest() {
+    }
+
+    // A copy that a background generation can own, e.g. while the wizard session keeps binding onto the original
+    public EnvironmentalCredentialsRequest(EnvironmentalCredentialsRequest other) {
+        this.applicationName = other.applicationName;
+        this.serverPort = other.serverPort;
+        this.bannerMode = other.bannerMode;
+        this.localDatasourceUrl = other.localDatasourceUrl;
+        this.localDatasourceUsername = other.localDatasourceUsername;
+        this.localDatasourcePassword = other.localDatasourcePassword;
+        this.generateDev = other.generateDev;
+        this.generateTest = other.generateTest;
+        this.generateUat = other.generateUat;
+        this.generateProd = other.generateProd;
+        this.selectedSchema = other.selectedSchema;
+        this.tableEntityTypes = other.tableEntityTypes == null ? null : new HashMap<>(other.tableEntityTypes);
+        if (other.tableEntityTypeRules != null) {
+            this.tableEntityTypeRules = new ArrayList<>();
+            for (TableEntityTypeRule rule : other.tableEntityTypeRules) {
+                this.tableEntityTypeRules.add(rule == null ? null : new TableEntityTypeRule(rule));
+            }
+        }
+        this.schemaSnapshot = other.schemaSnapshot;
+        this.schemaDdl = other.schemaDdl;
+    }
 
     // Getters and Setters
 
@@ -28,6 +66,14 @@ public class EnvironmentalCredentialsRequest {
         this.tableEntityTypes = tableEntityTypes;
     }
 
+    public List<TableEntityTypeRule> getTableEntityTypeRules() {
+        return tableEntityTypeRules;
+    }
+
+    public void setTableEntityTypeRules(List<TableEntityTypeRule> tableEntityTypeRules) {
+        this.tableEntityTypeRules = tableEntityTypeRules;
+    }
+
     public String getApplicationName() {
         return applicationName;
     }
@@ -115,4 +161,20 @@ public class EnvironmentalCredentialsRequest {
     public void setSelectedSchema(String selectedSchema) {
         this.selectedSchema = selectedSchema;
     }
+
+    public SchemaSnapshot getSchemaSnapshot() {
+        return schemaSnapshot;
+    }
+
+    public void setSchemaSnapshot(SchemaSnapshot schemaSnapshot) {
+        this.schemaSnapshot = schemaSnapshot;
+    }
+
+    public String getSchemaDdl() {
+        return schemaDdl;
+    }
+
+    public void setSchemaDdl(String schemaDdl) {
+        this.schemaDdl = schemaDdl;
+    }
 }
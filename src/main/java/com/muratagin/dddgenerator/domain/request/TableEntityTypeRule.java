@@ -0,0 +1,47 @@
+package com.muratagin.dddgenerator.domain.request;
+
+/**
+ * Assigns an entity type to every table whose name matches, e.g. all tables starting with "audit_" are
+ * BaseDomainEntity. Tables with an explicit entry in tableEntityTypes are not affected; otherwise the first matching
+ * rule wins.
+ */
+public class TableEntityTypeRule {
+    // A case-insensitive name prefix, or a wildcard pattern over the whole name with * and ?
+    private String pattern;
+    private boolean glob;
+    // AggregateRoot or BaseDomainEntity
+    private String entityType;
+
+    public TableEntityTypeRule() {
+    }
+
+    public TableEntityTypeRule(TableEntityTypeRule other) {
+        this.pattern = other.pattern;
+        this.glob = other.glob;
+        this.entityType = other.entityType;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public boolean isGlob() {
+        return glob;
+    }
+
+    public void setGlob(boolean glob) {
+        this.glob = glob;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+}
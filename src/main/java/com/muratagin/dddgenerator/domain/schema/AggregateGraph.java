@@ -0,0 +1,216 @@
+package com.muratagin.dddgenerator.domain.schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The foreign key dependency graph of a schema, condensed into strongly connected components so that aggregate roots
+ * and FK cycles are found in a single O(tables + foreign keys) pass.
+ * <p>
+ * A table is an aggregate root when every table it references is an aggregate root; tables without foreign keys are
+ * the base case. Tables in an FK cycle (a table referencing itself included), tables referencing a table outside the
+ * schema and tables depending on either are therefore not roots. The cycles are reported as clusters: tables that
+ * cannot be given separate aggregate boundaries without breaking a foreign key.
+ * <p>
+ * Every other table belongs to the aggregate of the one root it leads to through its foreign keys, directly or through
+ * other non-root tables. Tables leading to no root, or to more than one, are left outside every boundary.
+ */
+public final class AggregateGraph {
+
+    private static final AggregateGraph EMPTY = new AggregateGraph(Set.of(), List.of(), Set.of(), Map.of());
+    // Owners of a non-root table besides the index of its root
+    private static final int NO_ROOT = -1;
+    private static final int SEVERAL_ROOTS = -2;
+
+    private final Set<String> aggregateRoots;
+    private final List<List<String>> cyclicClusters;
+    private final Set<String> selfReferencingTables;
+    private final Map<String, List<String>> aggregateBoundaries;
+
+    private AggregateGraph(Set<String> aggregateRoots, List<List<String>> cyclicClusters, Set<String> selfReferencingTables,
+                           Map<String, List<String>> aggregateBoundaries) {
+        this.aggregateRoots = aggregateRoots;
+        this.cyclicClusters = cyclicClusters;
+        this.selfReferencingTables = selfReferencingTables;
+        this.aggregateBoundaries = aggregateBoundaries;
+    }
+
+    public static AggregateGraph empty() {
+        return EMPTY;
+    }
+
+    // referencedTables: table name -> names of the tables it references through foreign keys
+    public static AggregateGraph build(List<String> tables, Map<String, Set<String>> referencedTables) {
+        int tableCount = tables.size();
+        Map<String, Integer> indexByTable = new HashMap<>(tableCount * 2);
+        for (int i = 0; i < tableCount; i++) {
+            indexByTable.putIfAbsent(tables.get(i), i);
+        }
+
+        int[][] edges = new int[tableCount][];
+        boolean[] blocked = new boolean[tableCount];
+        Set<String> selfReferencing = new TreeSet<>();
+        for (int i = 0; i < tableCount; i++) {
+            Set<String> referenced = referencedTables.getOrDefault(tables.get(i), Set.of());
+            int[] targets = new int[referenced.size()];
+            int targetCount = 0;
+            for (String target : referenced) {
+                Integer targetIndex = indexByTable.get(target);
+                if (targetIndex == null) {
+                    // Nothing is known about a table outside the schema, so nothing depending on it is a root
+                    blocked[i] = true;
+                } else if (targetIndex == i) {
+                    blocked[i] = true;
+                    selfReferencing.add(tables.get(i));
+                } else {
+                    targets[targetCount++] = targetIndex;
+                }
+            }
+            edges[i] = targetCount == targets.length ? targets : Arrays.copyOf(targets, targetCount);
+        }
+
+        // Iterative Tarjan; recursion would overflow the stack on long FK chains
+        int[] order = new int[tableCount];
+        int[] lowLink = new int[tableCount];
+        int[] nextEdge = new int[tableCount];
+        int[] callStack = new int[tableCount];
+        int[] componentStack = new int[tableCount];
+        boolean[] onStack = new boolean[tableCount];
+        boolean[] root = new boolean[tableCount];
+        // The root whose aggregate a table belongs to; a root owns itself
+        int[] owner = new int[tableCount];
+        Arrays.fill(order, -1);
+        int counter = 0;
+        int componentStackSize = 0;
+        Set<String> aggregateRoots = new HashSet<>();
+        List<List<String>> cyclicClusters = new ArrayList<>();
+
+        for (int start = 0; start < tableCount; start++) {
+            if (order[start] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = start;
+            order[start] = lowLink[start] = counter++;
+            componentStack[componentStackSize++] = start;
+            onStack[start] = true;
+
+            while (depth >= 0) {
+                int table = callStack[depth];
+                if (nextEdge[table] < edges[table].length) {
+                    int target = edges[table][nextEdge[table]++];
+                    if (order[target] == -1) {
+                        order[target] = lowLink[target] = counter++;
+                        componentStack[componentStackSize++] = target;
+                        onStack[target] = true;
+                        callStack[++depth] = target;
+                    } else if (onStack[target]) {
+                        lowLink[table] = Math.min(lowLink[table], order[target]);
+                    }
+                    continue;
+                }
+
+                if (lowLink[table] == order[table]) {
+                    // Components are completed in reverse topological order: every table this component references
+                    // outside itself already has its root flag
+                    int first = componentStackSize - 1;
+                    while (componentStack[first] != table) {
+                        first--;
+                    }
+                    if (first == componentStackSize - 1) {
+                        onStack[table] = false;
+                        boolean isRoot = !blocked[table];
+                        for (int target : edges[table]) {
+                            isRoot &= root[target];
+                        }
+                        root[table] = isRoot;
+                        if (isRoot) {
+                            aggregateRoots.add(tables.get(table));
+                            owner[table] = table;
+                        } else {
+                            owner[table] = NO_ROOT;
+                            for (int target : edges[table]) {
+                                owner[table] = mergeOwner(owner[table], owner[target]);
+                            }
+                        }
+                    } else {
+                        // The referenced tables still on the stack are exactly this cluster's members
+                        int clusterOwner = NO_ROOT;
+                        for (int i = first; i < componentStackSize; i++) {
+                            for (int target : edges[componentStack[i]]) {
+                                if (!onStack[target]) {
+                                    clusterOwner = mergeOwner(clusterOwner, owner[target]);
+                                }
+                            }
+                        }
+                        List<String> cluster = new ArrayList<>(componentStackSize - first);
+                        for (int i = first; i < componentStackSize; i++) {
+                            owner[componentStack[i]] = clusterOwner;
+                            onStack[componentStack[i]] = false;
+                            cluster.add(tables.get(componentStack[i]));
+                        }
+                        Collections.sort(cluster);
+                        cyclicClusters.add(Collections.unmodifiableList(cluster));
+                    }
+                    componentStackSize = first;
+                }
+
+                depth--;
+                if (depth >= 0) {
+                    int caller = callStack[depth];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[table]);
+                }
+            }
+        }
+
+        Map<String, Set<String>> members = new TreeMap<>();
+        for (String aggregateRoot : aggregateRoots) {
+            members.put(aggregateRoot, new TreeSet<>());
+        }
+        for (int i = 0; i < tableCount; i++) {
+            if (owner[i] >= 0 && !root[i]) {
+                members.get(tables.get(owner[i])).add(tables.get(i));
+            }
+        }
+        Map<String, List<String>> aggregateBoundaries = new TreeMap<>();
+        members.forEach((aggregateRoot, tablesOfRoot) -> aggregateBoundaries.put(aggregateRoot, List.copyOf(tablesOfRoot)));
+
+        cyclicClusters.sort(Comparator.comparing(cluster -> cluster.get(0)));
+        return new AggregateGraph(Collections.unmodifiableSet(aggregateRoots), Collections.unmodifiableList(cyclicClusters),
+                Collections.unmodifiableSet(selfReferencing), Collections.unmodifiableMap(aggregateBoundaries));
+    }
+
+    private static int mergeOwner(int owner, int other) {
+        if (owner == NO_ROOT || owner == other) {
+            return other;
+        }
+        return other == NO_ROOT ? owner : SEVERAL_ROOTS;
+    }
+
+    public Set<String> getAggregateRoots() {
+        return aggregateRoots;
+    }
+
+    // Groups of two or more tables that reference each other through a cycle of foreign keys, each sorted by name
+    public List<List<String>> getCyclicClusters() {
+        return cyclicClusters;
+    }
+
+    public Set<String> getSelfReferencingTables() {
+        return selfReferencingTables;
+    }
+
+    // Aggregate root -> the other tables inside its boundary, sorted by name; every root is a key
+    public Map<String, List<String>> getAggregateBoundaries() {
+        return aggregateBoundaries;
+    }
+}
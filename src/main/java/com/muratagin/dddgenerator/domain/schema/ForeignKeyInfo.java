@@ -0,0 +1,25 @@
+package com.muratagin.dddgenerator.domain.schema;
+
+public class ForeignKeyInfo {
+    private final String pkTableName;
+    private final String fkColumnName;
+    private final String pkColumnName;
+
+    public ForeignKeyInfo(String pkTableName, String fkColumnName, String pkColumnName) {
+        this.pkTableName = pkTableName;
+        this.fkColumnName = fkColumnName;
+        this.pkColumnName = pkColumnName;
+    }
+
+    public String getPkTableName() {
+        return pkTableName;
+    }
+
+    public String getFkColumnName() {
+        return fkColumnName;
+    }
+
+    public String getPkColumnName() {
+        return pkColumnName;
+    }
+}
@@ -0,0 +1,501 @@
+package com.muratagin.dddgenerator.domain.schema;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of a database schema, introspected once per generation and shared by every generation phase.
+ * <p>
+ * Stored column-wise so that cached models stay small: every table name, column name and comment is interned into one
+ * symbol table, column types are codes into a per-schema type dictionary, and columns, primary keys and foreign keys
+ * are flat {@code int} arrays with one offset range per table. The {@code Map} and {@code List} accessors are read-only
+ * views over those arrays; a column's view only answers the {@code "name"}, {@code "type"} and {@code "comment"} keys.
+ * Each view is created on first use and kept, so the generator's per-table and per-column loops do not allocate.
+ */
+public final class SchemaModel {
+
+    private static final int NULL_SYMBOL = -1;
+
+    private final String schemaName;
+    private final List<String> tables;
+    private final Map<String, Integer> tableIndex;
+    private final String[] symbols;
+    private final String[] types;
+
+    // Table i owns columns columnOffsets[i] until columnOffsets[i + 1], and likewise for keys
+    private final int[] columnOffsets;
+    private final int[] columnNames;
+    private final int[] columnTypes;
+    private final int[] columnComments;
+    private final int[] primaryKeyOffsets;
+    private final int[] primaryKeyColumns;
+    private final int[] foreignKeyOffsets;
+    private final int[] foreignKeyColumns;
+    private final int[] foreignKeyTables;
+    private final int[] foreignKeyTargetColumns;
+
+    private final Map<String, String> enumComments;
+    private final Map<String, Set<String>> referencedTables;
+    private final AggregateGraph aggregateGraph;
+
+    // Views filled in on first use. Every view only has final fields, so a racing thread at worst builds an equal copy.
+    private final ColumnList[] columnLists;
+    private final ColumnView[] columnViews;
+    private final ForeignKeyMap[] foreignKeyMaps;
+    private final ForeignKeyInfo[] foreignKeyInfos;
+    private final DetailedForeignKeyMap detailedForeignKeys = new DetailedForeignKeyMap();
+    private volatile Map<String, List<String>> referencingTables;
+
+    // Keys and foreign keys of tables outside the table list are dropped; nothing is generated for those tables
+    public SchemaModel(String schemaName,
+                       List<String> tables,
+                       Map<String, List<Map<String, String>>> columnsByTable,
+                       Map<String, List<String>> primaryKeys,
+                       Map<String, Map<String, ForeignKeyInfo>> foreignKeys) {
+        this.schemaName = schemaName;
+        int tableCount = tables.size();
+        Map<String, Integer> symbolIds = new HashMap<>();
+        List<String> symbolList = new ArrayList<>();
+        Map<String, Integer> typeIds = new HashMap<>();
+        List<String> typeList = new ArrayList<>();
+
+        String[] tableNames = new String[tableCount];
+        Map<String, Integer> tableIndexCopy = new HashMap<>(tableCount * 2);
+        int columnCount = 0;
+        int primaryKeyCount = 0;
+        int foreignKeyCount = 0;
+        for (int i = 0; i < tableCount; i++) {
+            tableNames[i] = symbol(symbolList, intern(tables.get(i), symbolIds, symbolList));
+            tableIndexCopy.putIfAbsent(tableNames[i], i);
+            columnCount += columnsByTable.getOrDefault(tableNames[i], List.of()).size();
+            primaryKeyCount += primaryKeys.getOrDefault(tableNames[i], List.of()).size();
+            foreignKeyCount += foreignKeys.getOrDefault(tableNames[i], Map.of()).size();
+        }
+        this.tables = Collections.unmodifiableList(Arrays.asList(tableNames));
+        this.tableIndex = Collections.unmodifiableMap(tableIndexCopy);
+
+        this.columnOffsets = new int[tableCount + 1];
+        this.columnNames = new int[columnCount];
+        this.columnTypes = new int[columnCount];
+        this.columnComments = new int[columnCount];
+        this.primaryKeyOffsets = new int[tableCount + 1];
+        this.primaryKeyColumns = new int[primaryKeyCount];
+        this.foreignKeyOffsets = new int[tableCount + 1];
+        this.foreignKeyColumns = new int[foreignKeyCount];
+        this.foreignKeyTables = new int[foreignKeyCount];
+        this.foreignKeyTargetColumns = new int[foreignKeyCount];
+
+        Map<String, String> enumCommentsCopy = new HashMap<>();
+        int column = 0;
+        int primaryKey = 0;
+        int foreignKey = 0;
+        for (int i = 0; i < tableCount; i++) {
+            String table = tableNames[i];
+            columnOffsets[i] = column;
+            for (Map<String, String> columnData : columnsByTable.getOrDefault(table, List.of())) {
+                columnNames[column] = intern(columnData.get("name"), symbolIds, symbolList);
+                String type = columnData.get("type");
+                columnTypes[column] = intern(type, typeIds, typeList);
+                // Comments repeat across tables as often as names do, e.g. the same enum on every status column
+                columnComments[column] = intern(columnData.get("comment"), symbolIds, symbolList);
+                String comment = symbol(symbolList, columnComments[column]);
+                if (comment != null && comment.startsWith("Enum:")) {
+                    enumCommentsCopy.put(table + "." + columnData.get("name"), comment);
+                }
+                column++;
+            }
+            primaryKeyOffsets[i] = primaryKey;
+            for (String keyColumn : primaryKeys.getOrDefault(table, List.of())) {
+                primaryKeyColumns[primaryKey++] = intern(keyColumn, symbolIds, symbolList);
+            }
+            foreignKeyOffsets[i] = foreignKey;
+            // Sorted by column, so that views iterate in the same order whatever map the introspector used
+            Map<String, ForeignKeyInfo> tableForeignKeys = new TreeMap<>(Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+            tableForeignKeys.putAll(foreignKeys.getOrDefault(table, Map.of()));
+            for (Map.Entry<String, ForeignKeyInfo> entry : tableForeignKeys.entrySet()) {
+                ForeignKeyInfo foreignKeyInfo = entry.getValue();
+                foreignKeyColumns[foreignKey] = intern(entry.getKey(), symbolIds, symbolList);
+                foreignKeyTables[foreignKey] = intern(foreignKeyInfo.getPkTableName(), symbolIds, symbolList);
+                foreignKeyTargetColumns[foreignKey] = intern(foreignKeyInfo.getPkColumnName(), symbolIds, symbolList);
+                foreignKey++;
+            }
+        }
+        columnOffsets[tableCount] = column;
+        primaryKeyOffsets[tableCount] = primaryKey;
+        foreignKeyOffsets[tableCount] = foreignKey;
+
+        this.symbols = symbolList.toArray(new String[0]);
+        this.types = typeList.toArray(new String[0]);
+        this.enumComments = Collections.unmodifiableMap(enumCommentsCopy);
+        this.referencedTables = buildReferencedTables();
+        this.aggregateGraph = AggregateGraph.build(this.tables, referencedTables);
+        this.columnLists = new ColumnList[tableCount];
+        this.columnViews = new ColumnView[columnCount];
+        this.foreignKeyMaps = new ForeignKeyMap[tableCount];
+        this.foreignKeyInfos = new ForeignKeyInfo[foreignKeyCount];
+    }
+
+    // Null stays null: JDBC drivers may report a column without a type or a foreign key without a target column
+    private static int intern(String value, Map<String, Integer> ids, List<String> values) {
+        if (value == null) {
+            return NULL_SYMBOL;
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = values.size();
+            ids.put(value, id);
+            values.add(value);
+        }
+        return id;
+    }
+
+    private static String symbol(List<String> values, int id) {
+        return id == NULL_SYMBOL ? null : values.get(id);
+    }
+
+    private String symbol(int id) {
+        return id == NULL_SYMBOL ? null : symbols[id];
+    }
+
+    private String type(int id) {
+        return id == NULL_SYMBOL ? null : types[id];
+    }
+
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    public List<String> getTables() {
+        return tables;
+    }
+
+    public List<Map<String, String>> getColumns(String table) {
+        Integer index = tableIndex.get(table);
+        if (index == null) {
+            return List.of();
+        }
+        ColumnList columnList = columnLists[index];
+        if (columnList == null) {
+            columnList = new ColumnList(columnOffsets[index], columnOffsets[index + 1]);
+            columnLists[index] = columnList;
+        }
+        return columnList;
+    }
+
+    // Primary key column names in key order
+    public List<String> getPrimaryKeyColumns(String table) {
+        Integer index = tableIndex.get(table);
+        return index == null ? List.of() : new SymbolList(primaryKeyColumns, primaryKeyOffsets[index], primaryKeyOffsets[index + 1]);
+    }
+
+    public Map<String, ForeignKeyInfo> getForeignKeys(String table) {
+        Integer index = tableIndex.get(table);
+        if (index == null || foreignKeyOffsets[index] == foreignKeyOffsets[index + 1]) {
+            return Map.of();
+        }
+        return foreignKeyMap(index);
+    }
+
+    // Only tables with at least one foreign key have an entry, as before
+    public Map<String, Map<String, ForeignKeyInfo>> getDetailedForeignKeys() {
+        return detailedForeignKeys;
+    }
+
+    // Table name -> names of the tables it references through foreign keys
+    public Map<String, Set<String>> getReferencedTables() {
+        return referencedTables;
+    }
+
+    // Table name -> names of the tables whose foreign keys reference it, sorted; built on first use
+    public Map<String, List<String>> getReferencingTables() {
+        Map<String, List<String>> result = referencingTables;
+        if (result == null) {
+            Map<String, Set<String>> referencing = new HashMap<>();
+            for (Map.Entry<String, Set<String>> entry : referencedTables.entrySet()) {
+                for (String referenced : entry.getValue()) {
+                    referencing.computeIfAbsent(referenced, table -> new TreeSet<>()).add(entry.getKey());
+                }
+            }
+            Map<String, List<String>> lists = new HashMap<>();
+            referencing.forEach((table, tables) -> lists.put(table, List.copyOf(tables)));
+            result = Collections.unmodifiableMap(lists);
+            referencingTables = result;
+        }
+        return result;
+    }
+
+    private Map<String, Set<String>> buildReferencedTables() {
+        Map<String, Set<String>> referencedTables = new HashMap<>();
+        for (int i = 0; i < tables.size(); i++) {
+            int start = foreignKeyOffsets[i];
+            int end = foreignKeyOffsets[i + 1];
+            if (start == end) {
+                continue;
+            }
+            Set<String> referenced = new HashSet<>();
+            for (int foreignKey = start; foreignKey < end; foreignKey++) {
+                referenced.add(symbol(foreignKeyTables[foreignKey]));
+            }
+            referencedTables.put(tables.get(i), Collections.unmodifiableSet(referenced));
+        }
+        return Collections.unmodifiableMap(referencedTables);
+    }
+
+    // "table.column" -> raw "Enum:..." column comment
+    public Map<String, String> getEnumComments() {
+        return enumComments;
+    }
+
+    public Set<String> getAggregateRoots() {
+        return aggregateGraph.getAggregateRoots();
+    }
+
+    public AggregateGraph getAggregateGraph() {
+        return aggregateGraph;
+    }
+
+    private ForeignKeyMap foreignKeyMap(int table) {
+        ForeignKeyMap foreignKeyMap = foreignKeyMaps[table];
+        if (foreignKeyMap == null) {
+            foreignKeyMap = new ForeignKeyMap(foreignKeyOffsets[table], foreignKeyOffsets[table + 1]);
+            foreignKeyMaps[table] = foreignKeyMap;
+        }
+        return foreignKeyMap;
+    }
+
+    private ForeignKeyInfo foreignKeyInfo(int foreignKey) {
+        ForeignKeyInfo foreignKeyInfo = foreignKeyInfos[foreignKey];
+        if (foreignKeyInfo == null) {
+            foreignKeyInfo = new ForeignKeyInfo(symbol(foreignKeyTables[foreignKey]), symbol(foreignKeyColumns[foreignKey]), symbol(foreignKeyTargetColumns[foreignKey]));
+            foreignKeyInfos[foreignKey] = foreignKeyInfo;
+        }
+        return foreignKeyInfo;
+    }
+
+    private final class ColumnList extends AbstractList<Map<String, String>> {
+        private final int start;
+        private final int end;
+
+        private ColumnList(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Map<String, String> get(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            ColumnView columnView = columnViews[start + index];
+            if (columnView == null) {
+                columnView = new ColumnView(start + index);
+                columnViews[start + index] = columnView;
+            }
+            return columnView;
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+    }
+
+    private final class ColumnView extends AbstractMap<String, String> {
+        private final int column;
+
+        private ColumnView(int column) {
+            this.column = column;
+        }
+
+        @Override
+        public String get(Object key) {
+            if ("name".equals(key)) {
+                return symbol(columnNames[column]);
+            }
+            if ("type".equals(key)) {
+                return type(columnTypes[column]);
+            }
+            if ("comment".equals(key)) {
+                return symbol(columnComments[column]);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return "name".equals(key) || "type".equals(key) || "comment".equals(key);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return Set.of(new SimpleImmutableEntry<>("name", get("name")),
+                    new SimpleImmutableEntry<>("type", get("type")),
+                    new SimpleImmutableEntry<>("comment", get("comment")));
+        }
+    }
+
+    private final class SymbolList extends AbstractList<String> {
+        private final int[] ids;
+        private final int start;
+        private final int end;
+
+        private SymbolList(int[] ids, int start, int end) {
+            this.ids = ids;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return symbol(ids[start + index]);
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+    }
+
+    // FK column -> foreign key; tables have few foreign keys, so lookups scan the table's range
+    private final class ForeignKeyMap extends AbstractMap<String, ForeignKeyInfo> {
+        private final int start;
+        private final int end;
+
+        private ForeignKeyMap(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private int find(Object column) {
+            for (int foreignKey = start; foreignKey < end; foreignKey++) {
+                if (Objects.equals(symbol(foreignKeyColumns[foreignKey]), column)) {
+                    return foreignKey;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public ForeignKeyInfo get(Object key) {
+            int foreignKey = find(key);
+            return foreignKey < 0 ? null : foreignKeyInfo(foreignKey);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return find(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+
+        @Override
+        public Set<Entry<String, ForeignKeyInfo>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, ForeignKeyInfo>> iterator() {
+                    return new Iterator<>() {
+                        private int next = start;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < end;
+                        }
+
+                        @Override
+                        public Entry<String, ForeignKeyInfo> next() {
+                            if (next >= end) {
+                                throw new NoSuchElementException();
+                            }
+                            int foreignKey = next++;
+                            return new SimpleImmutableEntry<>(symbol(foreignKeyColumns[foreignKey]), foreignKeyInfo(foreignKey));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return end - start;
+                }
+            };
+        }
+    }
+
+    private final class DetailedForeignKeyMap extends AbstractMap<String, Map<String, ForeignKeyInfo>> {
+
+        @Override
+        public Map<String, ForeignKeyInfo> get(Object key) {
+            Map<String, ForeignKeyInfo> foreignKeys = key instanceof String table ? getForeignKeys(table) : Map.of();
+            return foreignKeys.isEmpty() ? null : foreignKeys;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, Map<String, ForeignKeyInfo>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Map<String, ForeignKeyInfo>>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int table) {
+                            while (table < tables.size() && (foreignKeyOffsets[table] == foreignKeyOffsets[table + 1]
+                                    || tableIndex.get(tables.get(table)) != table)) {
+                                table++;
+                            }
+                            return table;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < tables.size();
+                        }
+
+                        @Override
+                        public Entry<String, Map<String, ForeignKeyInfo>> next() {
+                            if (next >= tables.size()) {
+                                throw new NoSuchElementException();
+                            }
+                            int table = next;
+                            next = advance(table + 1);
+                            return new SimpleImmutableEntry<>(tables.get(table), foreignKeyMap(table));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (Iterator<?> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                        size++;
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.muratagin.dddgenerator.domain.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Versioned, serialisable form of an introspected schema. Exported from a live database once, it can stand in for the
+ * database in later generations.
+ */
+public class SchemaSnapshot {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private int formatVersion = FORMAT_VERSION;
+    private String schemaName;
+    private List<Table> tables = new ArrayList<>();
+
+    public SchemaSnapshot() {
+    }
+
+    public SchemaSnapshot(String schemaName) {
+        this.schemaName = schemaName;
+    }
+
+    public static SchemaSnapshot of(SchemaModel schemaModel) {
+        SchemaSnapshot snapshot = new SchemaSnapshot(schemaModel.getSchemaName());
+        for (String tableName : schemaModel.getTables()) {
+            Table table = new Table(tableName);
+            for (Map<String, String> column : schemaModel.getColumns(tableName)) {
+                table.getColumns().add(new Column(column.get("name"), column.get("type"), column.get("comment")));
+            }
+            table.getPrimaryKey().addAll(schemaModel.getPrimaryKeyColumns(tableName));
+            // Sorted so that exporting the same schema twice gives the same document
+            for (ForeignKeyInfo foreignKeyInfo : new TreeMap<>(schemaModel.getForeignKeys(tableName)).values()) {
+                table.getForeignKeys().add(new ForeignKey(foreignKeyInfo.getFkColumnName(), foreignKeyInfo.getPkTableName(), foreignKeyInfo.getPkColumnName()));
+            }
+            snapshot.getTables().add(table);
+        }
+        return snapshot;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public void setFormatVersion(int formatVersion) {
+        this.formatVersion = formatVersion;
+    }
+
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    public void setSchemaName(String schemaName) {
+        this.schemaName = schemaName;
+    }
+
+    public List<Table> getTables() {
+        return tables;
+    }
+
+    public void setTables(List<Table> tables) {
+        this.tables = tables;
+    }
+
+    public static class Table {
+        private String name;
+        private List<Column> columns = new ArrayList<>();
+        private List<String> primaryKey = new ArrayList<>();
+        private List<ForeignKey> foreignKeys = new ArrayList<>();
+
+        public Table() {
+        }
+
+        public Table(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        // In declaration order
+        public List<Column> getColumns() {
+            return columns;
+        }
+
+        public void setColumns(List<Column> columns) {
+            this.columns = columns;
+        }
+
+        // In key order
+        public List<String> getPrimaryKey() {
+            return primaryKey;
+        }
+
+        public void setPrimaryKey(List<String> primaryKey) {
+            this.primaryKey = primaryKey;
+        }
+
+        public List<ForeignKey> getForeignKeys() {
+            return foreignKeys;
+        }
+
+        public void setForeignKeys(List<ForeignKey> foreignKeys) {
+            this.foreignKeys = foreignKeys;
+        }
+    }
+
+    public static class Column {
+        private String name;
+        // As information_schema.columns.data_type reports it, e.g. "character varying", "ARRAY" or "USER-DEFINED"
+        private String type;
+        private String comment;
+
+        public Column() {
+        }
+
+        public Column(String name, String type, String comment) {
+            this.name = name;
+            this.type = type;
+            this.comment = comment;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public void setComment(String comment) {
+            this.comment = comment;
+        }
+    }
+
+    public static class ForeignKey {
+        private String column;
+        private String referencedTable;
+        private String referencedColumn;
+
+        public ForeignKey() {
+        }
+
+        public ForeignKey(String column, String referencedTable, String referencedColumn) {
+            this.column = column;
+            this.referencedTable = referencedTable;
+            this.referencedColumn = referencedColumn;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        public void setColumn(String column) {
+            this.column = column;
+        }
+
+        public String getReferencedTable() {
+            return referencedTable;
+        }
+
+        public void setReferencedTable(String referencedTable) {
+            this.referencedTable = referencedTable;
+        }
+
+        public String getReferencedColumn() {
+            return referencedColumn;
+        }
+
+        public void setReferencedColumn(String referencedColumn) {
+            this.referencedColumn = referencedColumn;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.muratagin.dddgenerator.dto;
+
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.service.output.GenerationManifest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Everything the wizard collects over its steps, in one document: the JSON body of POST /api/v1/projects and the
+ * input format of the command line runner.
+ */
+public class GenerateProjectRequest {
+
+    @NotNull(message = "Project details are required")
+    @Valid
+    private ProjectRequest project;
+
+    // Optional; without it the project is generated without a database schema
+    @Valid
+    private EnvironmentalCredentialsRequest environment;
+
+    // The .dddgenerator/manifest.json of an earlier generation; when present only the changes since are generated
+    private GenerationManifest previousManifest;
+
+    public GenerateProjectRequest() {
+    }
+
+    public GenerateProjectRequest(ProjectRequest project, EnvironmentalCredentialsRequest environment) {
+        this.project = project;
+        this.environment = environment;
+    }
+
+    public ProjectRequest getProject() {
+        return project;
+    }
+
+    public void setProject(ProjectRequest project) {
+        this.project = project;
+    }
+
+    public EnvironmentalCredentialsRequest getEnvironment() {
+        return environment;
+    }
+
+    public void setEnvironment(EnvironmentalCredentialsRequest environment) {
+        this.environment = environment;
+    }
+
+    public GenerationManifest getPreviousManifest() {
+        return previousManifest;
+    }
+
+    public void setPreviousManifest(GenerationManifest previousManifest) {
+        this.previousManifest = previousManifest;
+    }
+
+    // The environment to generate with, never null
+    public EnvironmentalCredentialsRequest resolveEnvironment() {
+        return environment != null ? environment : new EnvironmentalCredentialsRequest();
+    }
+}
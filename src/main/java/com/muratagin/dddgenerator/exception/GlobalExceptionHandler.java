@@ -1,5 +1,7 @@
 package com.muratagin.dddgenerator.exception;
 
+import com.muratagin.dddgenerator.service.job.GenerationRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,4 +38,23 @@ public class GlobalExceptionHandler {
         error.put("error", ex.getMessage());
         return ResponseEntity.badRequest().body(error);
     }
-} 
\ No newline at end of file
+
+    // The database named in the request could not be reached or read
+    @ExceptionHandler(SQLException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ResponseEntity<Map<String, String>> handleSQLException(SQLException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Error reading database schema: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    // The generation scheduler is full (503) or the caller is over one of its quotas (429)
+    @ExceptionHandler(GenerationRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleGenerationRejectedException(GenerationRejectedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(ex.isQuotaExceeded() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+}
@@ -0,0 +1,178 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps one small HikariCP pool per (url, username, password hash) so the wizard and the generator reuse warm
+ * connections instead of opening a new physical connection for every step. Every pool reports HikariCP's
+ * {@code hikaricp.connections.*} meters, tagged with its pool name, until it is evicted.
+ */
+@Component
+public class ConnectionPoolRegistry implements DisposableBean {
+
+    private final GeneratorProperties.ConnectionPool settings;
+    private final Map<String, PoolEntry> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger poolSequence = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private final MetricsTrackerFactory metricsTrackerFactory;
+
+    public ConnectionPoolRegistry(GeneratorProperties generatorProperties, MeterRegistry meterRegistry) {
+        this.settings = generatorProperties.getConnectionPool();
+        this.metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dddgenerator-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, settings.getIdleTimeout().toSeconds() / 2);
+        this.evictor.scheduleWithFixedDelay(this::evictIdlePools, period, period, TimeUnit.SECONDS);
+    }
+
+    public Connection getConnection(String url, String username, String password) throws SQLException {
+        String key = poolKey(url, username, password);
+        PoolEntry entry = pools.get(key);
+        if (entry == null) {
+            entry = createPool(key, url, username, password);
+        }
+        entry.touch();
+        try {
+            return entry.dataSource.getConnection();
+        } catch (SQLException e) {
+            // The evictor may have closed this pool between lookup and borrow; retry once on a fresh pool
+            if (!entry.dataSource.isClosed()) {
+                throw e;
+            }
+            return createPool(key, url, username, password).dataSource.getConnection();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+        for (String key : new ArrayList<>(pools.keySet())) {
+            close(key);
+        }
+    }
+
+    private synchronized PoolEntry createPool(String key, String url, String username, String password) throws SQLException {
+        PoolEntry existing = pools.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (pools.size() >= settings.getMaxPools() && !evictLeastRecentlyUsedIdlePool()) {
+            throw new SQLException("Too many concurrent database connections are open (" + settings.getMaxPools() + " pools). Please try again shortly.");
+        }
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("dddgenerator-pool-" + poolSequence.incrementAndGet());
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(settings.getMaxPoolSize());
+        config.setMinimumIdle(0);
+        config.setIdleTimeout(settings.getIdleTimeout().toMillis());
+        config.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        config.setReadOnly(true);
+        config.setRegisterMbeans(true);
+        // Closing the pool removes its meters again
+        config.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        HikariDataSource dataSource;
+        try {
+            dataSource = new HikariDataSource(config);
+        } catch (HikariPool.PoolInitializationException e) {
+            // Surface the driver's own message (bad credentials, unknown host, ...) like DriverManager did
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException(e.getMessage(), e);
+        }
+        PoolEntry entry = new PoolEntry(dataSource);
+        pools.put(key, entry);
+        return entry;
+    }
+
+    private synchronized void evictIdlePools() {
+        long cutoff = System.currentTimeMillis() - settings.getIdleTimeout().toMillis();
+        for (Map.Entry<String, PoolEntry> entry : pools.entrySet()) {
+            if (entry.getValue().lastUsed < cutoff && isIdle(entry.getValue())) {
+                close(entry.getKey());
+            }
+        }
+    }
+
+    private boolean evictLeastRecentlyUsedIdlePool() {
+        String candidate = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, PoolEntry> entry : pools.entrySet()) {
+            if (entry.getValue().lastUsed < oldest && isIdle(entry.getValue())) {
+                oldest = entry.getValue().lastUsed;
+                candidate = entry.getKey();
+            }
+        }
+        if (candidate == null) {
+            return false;
+        }
+        close(candidate);
+        return true;
+    }
+
+    private boolean isIdle(PoolEntry entry) {
+        HikariPoolMXBean pool = entry.dataSource.getHikariPoolMXBean();
+        return pool == null || (pool.getActiveConnections() == 0 && pool.getThreadsAwaitingConnection() == 0);
+    }
+
+    private void close(String key) {
+        PoolEntry removed = pools.remove(key);
+        if (removed != null) {
+            removed.dataSource.close();
+        }
+    }
+
+    static String poolKey(String url, String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] passwordHash = digest.digest((password == null ? "" : password).getBytes(StandardCharsets.UTF_8));
+            // Only a hash of the password is kept in the key
+            return url + '\u0000' + username + '\u0000' + HexFormat.of().formatHex(passwordHash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class PoolEntry {
+        private final HikariDataSource dataSource;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private PoolEntry(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void touch() {
+            lastUsed = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.muratagin.dddgenerator.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The enums declared by "Enum:Name{...}" column comments of one schema. Built in a single pass before generation
+ * starts; every phase looks enum-typed columns up here, and each enum class is emitted once from here.
+ */
+public class EnumRegistry {
+
+    private final String enumPackageName;
+    // "table.column" -> fully qualified enum class name
+    private final Map<String, String> enumTypesByColumn = new HashMap<>();
+    // Enum class name -> rendered constants, in declaration order
+    private final Map<String, String> constantsByEnum = new LinkedHashMap<>();
+
+    public EnumRegistry(String enumPackageName) {
+        this.enumPackageName = enumPackageName;
+    }
+
+    // Several columns may declare the same enum class; the first declaration defines its constants
+    public void register(String table, String column, String enumClassName, String constants) {
+        constantsByEnum.putIfAbsent(enumClassName, constants);
+        enumTypesByColumn.put(table + "." + column, enumPackageName + "." + enumClassName);
+    }
+
+    public Map<String, String> getEnumTypesByColumn() {
+        return Collections.unmodifiableMap(enumTypesByColumn);
+    }
+
+    public Map<String, String> getConstantsByEnum() {
+        return Collections.unmodifiableMap(constantsByEnum);
+    }
+}
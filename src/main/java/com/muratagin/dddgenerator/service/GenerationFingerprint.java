@@ -0,0 +1,44 @@
+package com.muratagin.dddgenerator.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Accumulates the inputs of a generation into a SHA-256 digest. Values are length-prefixed so that adjacent values
+ * cannot run into each other, and null is distinct from an empty string.
+ */
+public class GenerationFingerprint {
+
+    private final MessageDigest digest;
+
+    public GenerationFingerprint() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public GenerationFingerprint add(String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return this;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(new byte[] {(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16), (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+        return this;
+    }
+
+    public GenerationFingerprint add(boolean value) {
+        digest.update(value ? (byte) 3 : (byte) 2);
+        return this;
+    }
+
+    public String toHex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
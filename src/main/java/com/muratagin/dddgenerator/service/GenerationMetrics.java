@@ -0,0 +1,132 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.service.job.GenerationPhase;
+import com.muratagin.dddgenerator.service.job.GenerationProgress;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instrumentation of project generation: one timer per phase, an overall timer per result, counters for
+ * the files and bytes produced and the bytes allocated by the generating thread.
+ */
+@Component
+public class GenerationMetrics {
+
+    public static final String RESULT_GENERATED = "generated";
+    public static final String RESULT_CACHED = "cached";
+    public static final String RESULT_FAILED = "failed";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<GenerationPhase, Timer> phaseTimers = new EnumMap<>(GenerationPhase.class);
+    private final Counter filesCounter;
+    private final Counter bytesCounter;
+    private final DistributionSummary allocatedBytes;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    public GenerationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            phaseTimers.put(phase, Timer.builder("dddgenerator.generation.phase")
+                    .description("Time spent in one phase of a project generation")
+                    .tag("phase", phase.name().toLowerCase(Locale.ENGLISH))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.filesCounter = Counter.builder("dddgenerator.generation.files")
+                .description("Source files written into generated projects")
+                .register(meterRegistry);
+        this.bytesCounter = Counter.builder("dddgenerator.generation.bytes")
+                .description("Uncompressed bytes written into generated projects")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.allocatedBytes = DistributionSummary.builder("dddgenerator.generation.allocated")
+                .description("Heap bytes allocated by the thread running one generation")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.threadMXBean = allocationTrackingThreadMXBean();
+    }
+
+    // Wraps the caller's progress callback; the returned recording must be stopped once the generation ends
+    public Recording start(GenerationProgress progress) {
+        return new Recording(progress);
+    }
+
+    public void recordOutput(int files, long bytes) {
+        filesCounter.increment(files);
+        bytesCounter.increment(bytes);
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return threadMXBean == null ? -1 : threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingThreadMXBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        // Allocation tracking is a HotSpot extension; other JVMs simply report no allocation metric
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean hotSpotThreadMXBean
+                && hotSpotThreadMXBean.isThreadAllocatedMemorySupported()
+                && hotSpotThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return hotSpotThreadMXBean;
+        }
+        return null;
+    }
+
+    /**
+     * Times the phases of one generation as they are reported. Not thread-safe: a generation reports its phases from
+     * the thread that runs it.
+     */
+    public class Recording implements GenerationProgress {
+
+        private final GenerationProgress delegate;
+        private final long startedAt = System.nanoTime();
+        private final long allocatedAtStart = currentThreadAllocatedBytes();
+        private GenerationPhase phase;
+        private long phaseStartedAt;
+
+        private Recording(GenerationProgress delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void phaseStarted(GenerationPhase next) {
+            long now = System.nanoTime();
+            endPhase(now);
+            phase = next;
+            phaseStartedAt = now;
+            delegate.phaseStarted(next);
+        }
+
+        public void stop(String result) {
+            long now = System.nanoTime();
+            endPhase(now);
+            Timer.builder("dddgenerator.generation")
+                    .description("Time to produce one project archive")
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(now - startedAt, TimeUnit.NANOSECONDS);
+            long allocatedAtEnd = currentThreadAllocatedBytes();
+            if (allocatedAtStart >= 0 && allocatedAtEnd >= allocatedAtStart) {
+                allocatedBytes.record(allocatedAtEnd - allocatedAtStart);
+            }
+        }
+
+        private void endPhase(long now) {
+            if (phase != null) {
+                phaseTimers.get(phase).record(now - phaseStartedAt, TimeUnit.NANOSECONDS);
+                phase = null;
+            }
+        }
+    }
+}
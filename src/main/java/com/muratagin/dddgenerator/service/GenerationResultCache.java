@@ -0,0 +1,160 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps finished project archives keyed by a fingerprint of everything that went into them, bounded by their total
+ * size in bytes (least recently used first out). Identical requests that arrive while the same archive is still being
+ * generated wait for that generation instead of starting their own, unless it turns out too large to be cached.
+ */
+@Component
+public class GenerationResultCache {
+
+    private final GeneratorProperties.ResultCache settings;
+    // Access-ordered so iteration starts at the least recently used archive
+    private final LinkedHashMap<String, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    public GenerationResultCache(GeneratorProperties generatorProperties) {
+        this.settings = generatorProperties.getResultCache();
+    }
+
+    public boolean isEnabled() {
+        return settings.getMaxSize().toBytes() > 0;
+    }
+
+    // A single archive may take at most a quarter of the cache, so one huge project cannot flush everything else
+    public long getMaxArchiveSize() {
+        return settings.getMaxSize().toBytes() / 4;
+    }
+
+    // The returned array is shared between callers and must not be modified. Null when the generation produced no
+    // cacheable archive; callers then generate their own.
+    public byte[] get(String key, Generation generation) throws IOException, SQLException {
+        byte[] cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            // Another caller may have stored the archive between the lookup above and claiming the key
+            byte[] result = lookup(key);
+            if (result == null) {
+                result = generation.generate();
+                if (result != null) {
+                    store(key, result);
+                }
+            }
+            future.complete(result);
+            return result;
+        } catch (IOException | SQLException | RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized byte[] lookup(String key) {
+        CachedResult cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - cached.storedAt > settings.getTtl().toMillis()) {
+            remove(key);
+            return null;
+        }
+        return cached.archive;
+    }
+
+    private synchronized void store(String key, byte[] archive) {
+        long maxBytes = settings.getMaxSize().toBytes();
+        if (archive.length > getMaxArchiveSize()) {
+            return;
+        }
+        remove(key);
+        entries.put(key, new CachedResult(archive, System.currentTimeMillis()));
+        totalBytes += archive.length;
+        Iterator<Map.Entry<String, CachedResult>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().archive.length;
+            eldest.remove();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResult removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.archive.length;
+        }
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> running) throws IOException, SQLException {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an identical generation");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    public interface Generation {
+        // Null when the archive is not to be cached
+        byte[] generate() throws IOException, SQLException;
+    }
+
+    private static final class CachedResult {
+        private final byte[] archive;
+        private final long storedAt;
+
+        private CachedResult(byte[] archive, long storedAt) {
+            this.archive = archive;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Reads any schema through the driver's {@link DatabaseMetaData}, e.g. of an embedded H2 database. The fallback for
+ * databases without a dedicated introspector: portable, but keys are read table by table and models are not cached.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class JdbcMetadataSchemaIntrospector implements SchemaIntrospector {
+
+    @Override
+    public boolean supports(DatabaseMetaData metaData) {
+        return true;
+    }
+
+    @Override
+    public List<String> loadSchemas(Connection conn) throws SQLException {
+        List<String> schemas = new ArrayList<>();
+        try (ResultSet rs = conn.getMetaData().getSchemas()) {
+            while (rs.next()) {
+                String schema = rs.getString("TABLE_SCHEM");
+                if (!"information_schema".equalsIgnoreCase(schema)) {
+                    schemas.add(schema);
+                }
+            }
+        }
+        return schemas;
+    }
+
+    @Override
+    public List<String> loadTables(Connection conn, String schema) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = metaData.getTables(conn.getCatalog(), escape(metaData, schema), "%", null)) {
+            while (rs.next()) {
+                String tableType = rs.getString("TABLE_TYPE");
+                if (tableType == null || !tableType.toUpperCase(Locale.ENGLISH).contains("SYSTEM")) {
+                    tables.add(rs.getString("TABLE_NAME"));
+                }
+            }
+        }
+        tables.sort(null);
+        return tables;
+    }
+
+    @Override
+    public Map<String, List<Map<String, String>>> loadColumns(Connection conn, String schema, List<String> tables) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        Set<String> wanted = tables == null ? null : new HashSet<>(tables);
+        // Drivers order by table and position, but not necessarily by table name
+        Map<String, List<Map<String, String>>> columnsByTable = new TreeMap<>();
+        try (ResultSet rs = metaData.getColumns(conn.getCatalog(), escape(metaData, schema), "%", "%")) {
+            while (rs.next()) {
+                String table = rs.getString("TABLE_NAME");
+                if (wanted != null && !wanted.contains(table)) {
+                    continue;
+                }
+                Map<String, String> columnData = new HashMap<>();
+                columnData.put("name", rs.getString("COLUMN_NAME"));
+                columnData.put("type", rs.getString("TYPE_NAME"));
+                columnData.put("comment", rs.getString("REMARKS"));
+                columnsByTable.computeIfAbsent(table, k -> new ArrayList<>()).add(columnData);
+            }
+        }
+        return new LinkedHashMap<>(columnsByTable);
+    }
+
+    @Override
+    public Map<String, List<String>> loadPrimaryKeys(Connection conn, String schema, List<String> tables) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        Map<String, List<String>> primaryKeys = new HashMap<>();
+        for (String table : tables == null ? loadTables(conn, schema) : tables) {
+            // KEY_SEQ orders composite keys; the result set itself is ordered by column name
+            Map<Integer, String> columnsBySequence = new TreeMap<>();
+            try (ResultSet rs = metaData.getPrimaryKeys(conn.getCatalog(), schema, table)) {
+                while (rs.next()) {
+                    columnsBySequence.put(rs.getInt("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+                }
+            }
+            if (!columnsBySequence.isEmpty()) {
+                primaryKeys.put(table, new ArrayList<>(columnsBySequence.values()));
+            }
+        }
+        return primaryKeys;
+    }
+
+    @Override
+    public Map<String, Map<String, ForeignKeyInfo>> loadForeignKeys(Connection conn, String schema, List<String> tables) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        Map<String, Map<String, ForeignKeyInfo>> foreignKeys = new HashMap<>();
+        for (String table : tables == null ? loadTables(conn, schema) : tables) {
+            try (ResultSet rs = metaData.getImportedKeys(conn.getCatalog(), schema, table)) {
+                while (rs.next()) {
+                    String fkColumnName = rs.getString("FKCOLUMN_NAME");
+                    foreignKeys
+                        .computeIfAbsent(table, k -> new HashMap<>())
+                        .put(fkColumnName, new ForeignKeyInfo(rs.getString("PKTABLE_NAME"), fkColumnName, rs.getString("PKCOLUMN_NAME")));
+                }
+            }
+        }
+        return foreignKeys;
+    }
+
+    // getTables and getColumns take a LIKE pattern, in which '_' of a schema name would match any character
+    private String escape(DatabaseMetaData metaData, String schema) throws SQLException {
+        String escape = metaData.getSearchStringEscape();
+        if (schema == null || escape == null || escape.isEmpty()) {
+            return schema;
+        }
+        return schema.replace(escape, escape + escape).replace("_", escape + "_").replace("%", escape + "%");
+    }
+}
@@ -0,0 +1,226 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Java identifiers derived from the table and column names of one schema. Built in a single pass before
+ * generation starts; every phase reads class names, variable names, package segments and keyword-safe field names
+ * from here instead of re-deriving them per file.
+ */
+public class NamingModel {
+
+    private static final Set<String> JAVA_KEYWORDS = Set.of(
+            "abstract", "continue", "for", "new", "switch", "assert", "default", "goto", "package", "synchronized",
+            "boolean", "do", "if", "private", "this", "break", "double", "implements", "protected", "throw",
+            "byte", "else", "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
+            "catch", "extends", "int", "short", "try", "char", "final", "interface", "static", "void",
+            "class", "finally", "long", "strictfp", "volatile", "const", "float", "native", "super", "while",
+            "true", "false", "null"
+    );
+
+    private static final Map<String, String> IRREGULAR_PLURALS = Map.of(
+            "person", "people",
+            "child", "children",
+            "foot", "feet",
+            "tooth", "teeth",
+            "goose", "geese",
+            "mouse", "mice",
+            "man", "men",
+            "woman", "women",
+            "ox", "oxen"
+    );
+
+    private static final Set<String> PLURAL_S_AFTER_O = Set.of("photo", "piano", "halo", "soprano");
+
+    private final Map<String, TableNames> tables = new HashMap<>();
+
+    public NamingModel(SchemaModel schemaModel) {
+        for (String table : schemaModel.getTables()) {
+            TableNames tableNames = new TableNames(table);
+            for (Map<String, String> column : schemaModel.getColumns(table)) {
+                String columnName = column.get("name");
+                if (columnName != null) {
+                    tableNames.columns.put(columnName, new ColumnNames(columnName, tableNames.variableName));
+                }
+            }
+            tables.put(table, tableNames);
+        }
+    }
+
+    // Tables outside the schema, e.g. only named in the user's aggregate root selection, are derived on demand
+    public TableNames table(String table) {
+        TableNames tableNames = tables.get(table);
+        return tableNames != null ? tableNames : new TableNames(table);
+    }
+
+    public static boolean isJavaKeyword(String name) {
+        return JAVA_KEYWORDS.contains(name);
+    }
+
+    // "order_item" and "order-item" both become "OrderItem"
+    public static String toPascalCase(String input) {
+        if (input == null || input.isEmpty()) {
+            return "";
+        }
+        StringBuilder pascalCase = new StringBuilder(input.length());
+        int partStart = 0;
+        for (int i = 0; i <= input.length(); i++) {
+            if (i == input.length() || input.charAt(i) == '_' || input.charAt(i) == '-') {
+                if (i > partStart) {
+                    pascalCase.append(Character.toUpperCase(input.charAt(partStart)))
+                            .append(input.substring(partStart + 1, i).toLowerCase(Locale.ENGLISH));
+                }
+                partStart = i + 1;
+            }
+        }
+        return pascalCase.toString();
+    }
+
+    public static String toCamelCase(String input) {
+        if (input == null || input.isEmpty()) {
+            return input;
+        }
+        String pascalCase = toPascalCase(input);
+        if (pascalCase.isEmpty()) {
+            return pascalCase;
+        }
+        return Character.toLowerCase(pascalCase.charAt(0)) + pascalCase.substring(1);
+    }
+
+    public static String pluralize(String word) {
+        if (word == null || word.isEmpty()) {
+            return word;
+        }
+        String lowerWord = word.toLowerCase(Locale.ENGLISH);
+
+        String irregular = IRREGULAR_PLURALS.get(lowerWord);
+        if (irregular != null) {
+            return irregular;
+        }
+
+        // Words ending in 'y' preceded by a consonant: change 'y' to 'ies'
+        if (lowerWord.endsWith("y") && lowerWord.length() > 1 && !isVowel(lowerWord.charAt(lowerWord.length() - 2))) {
+            return lowerWord.substring(0, lowerWord.length() - 1) + "ies";
+        }
+
+        // Words ending in 's', 'sh', 'ch', 'x', 'z': add 'es', doubling a single trailing 'z'
+        if (lowerWord.endsWith("s") || lowerWord.endsWith("sh") || lowerWord.endsWith("ch")
+                || lowerWord.endsWith("x") || lowerWord.endsWith("z")) {
+            if (lowerWord.endsWith("z") && !lowerWord.endsWith("zz")) {
+                return lowerWord + "zes";
+            }
+            return lowerWord + "es";
+        }
+
+        // Words ending in 'f' or 'fe': change to 'ves'
+        if (lowerWord.endsWith("f")) {
+            return lowerWord.substring(0, lowerWord.length() - 1) + "ves";
+        }
+        if (lowerWord.endsWith("fe")) {
+            return lowerWord.substring(0, lowerWord.length() - 2) + "ves";
+        }
+
+        // Words ending in 'o' preceded by a consonant: add 'es', except for a few common words
+        if (lowerWord.endsWith("o") && lowerWord.length() > 1 && !isVowel(lowerWord.charAt(lowerWord.length() - 2))) {
+            return PLURAL_S_AFTER_O.contains(lowerWord) ? lowerWord + "s" : lowerWord + "es";
+        }
+
+        return lowerWord + "s";
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiou".indexOf(Character.toLowerCase(c)) != -1;
+    }
+
+    private static String capitalizeFirstLetter(String input) {
+        return Character.toUpperCase(input.charAt(0)) + input.substring(1);
+    }
+
+    public static final class TableNames {
+        private final String tableName;
+        private final String className;
+        private final String variableName;
+        private final String packageSegment;
+        private final String pluralPath;
+        private final Map<String, ColumnNames> columns = new HashMap<>();
+
+        private TableNames(String tableName) {
+            this.tableName = tableName;
+            this.className = toPascalCase(tableName);
+            this.variableName = toCamelCase(tableName);
+            this.packageSegment = tableName.toLowerCase(Locale.ENGLISH).replace("_", "");
+            this.pluralPath = pluralize(packageSegment);
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        // "order_item" -> "OrderItem"
+        public String getClassName() {
+            return className;
+        }
+
+        // "order_item" -> "orderItem"
+        public String getVariableName() {
+            return variableName;
+        }
+
+        // "order_item" -> "orderitem", the per-aggregate package below commands and queries
+        public String getPackageSegment() {
+            return packageSegment;
+        }
+
+        // "order_item" -> "orderitems", the REST resource path
+        public String getPluralPath() {
+            return pluralPath;
+        }
+
+        public ColumnNames column(String columnName) {
+            ColumnNames columnNames = columns.get(columnName);
+            return columnNames != null ? columnNames : new ColumnNames(columnName, variableName);
+        }
+    }
+
+    public static final class ColumnNames {
+        private final String camelCaseName;
+        private final String fieldName;
+        private final String getterName;
+        private final String setterName;
+
+        private ColumnNames(String columnName, String tableVariableName) {
+            this.camelCaseName = toCamelCase(columnName);
+            // A column named like a Java keyword is prefixed with its entity, e.g. "class" on "person" -> "personClass"
+            this.fieldName = JAVA_KEYWORDS.contains(camelCaseName) ? tableVariableName + toPascalCase(columnName) : camelCaseName;
+            this.getterName = fieldName.isEmpty() ? "get" : "get" + capitalizeFirstLetter(fieldName);
+            this.setterName = fieldName.isEmpty() ? "set" : "set" + capitalizeFirstLetter(fieldName);
+        }
+
+        public String getCamelCaseName() {
+            return camelCaseName;
+        }
+
+        public boolean isJavaKeyword() {
+            return !fieldName.equals(camelCaseName);
+        }
+
+        // Keyword-safe field name
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public String getGetterName() {
+            return getterName;
+        }
+
+        public String getSetterName() {
+            return setterName;
+        }
+    }
+}
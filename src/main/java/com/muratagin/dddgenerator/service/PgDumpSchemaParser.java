@@ -0,0 +1,619 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.domain.schema.SchemaSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Reads the tables, columns, keys and column comments of one schema from {@code pg_dump --schema-only} output (or
+ * hand-written DDL in the same dialect) into a {@link SchemaSnapshot}. Column types are reported the way
+ * information_schema.columns.data_type reports them, so the generator cannot tell a parsed schema from an introspected
+ * one. Views, functions, indexes and all other statements are ignored.
+ */
+@Component
+public class PgDumpSchemaParser {
+
+    private static final String DEFAULT_SCHEMA = "public";
+
+    // Spellings accepted by PostgreSQL, mapped to the name format_type() reports
+    private static final Map<String, String> TYPE_ALIASES = Map.ofEntries(
+            Map.entry("int", "integer"),
+            Map.entry("int4", "integer"),
+            Map.entry("serial", "integer"),
+            Map.entry("serial4", "integer"),
+            Map.entry("int8", "bigint"),
+            Map.entry("bigserial", "bigint"),
+            Map.entry("serial8", "bigint"),
+            Map.entry("int2", "smallint"),
+            Map.entry("smallserial", "smallint"),
+            Map.entry("serial2", "smallint"),
+            Map.entry("varchar", "character varying"),
+            Map.entry("char varying", "character varying"),
+            Map.entry("char", "character"),
+            Map.entry("bpchar", "character"),
+            Map.entry("bool", "boolean"),
+            Map.entry("decimal", "numeric"),
+            Map.entry("float4", "real"),
+            Map.entry("float", "double precision"),
+            Map.entry("float8", "double precision"),
+            Map.entry("timestamp", "timestamp without time zone"),
+            Map.entry("timestamptz", "timestamp with time zone"),
+            Map.entry("time", "time without time zone"),
+            Map.entry("timetz", "time with time zone"),
+            Map.entry("varbit", "bit varying"));
+
+    // Words that end a column's type and start its constraints
+    private static final Set<String> COLUMN_CONSTRAINT_WORDS = Set.of(
+            "not", "null", "default", "constraint", "primary", "references", "unique", "check", "collate", "generated", "deferrable", "initially");
+
+    public SchemaSnapshot parse(String ddl, String schema) {
+        ParseState state = new ParseState(schema == null || schema.isBlank() ? null : schema);
+        for (List<Token> statement : tokenize(ddl)) {
+            Cursor cursor = new Cursor(statement);
+            if (cursor.acceptWords("create")) {
+                parseCreate(cursor, state);
+            } else if (cursor.acceptWords("alter", "table")) {
+                parseAlterTable(cursor, state);
+            } else if (cursor.acceptWords("comment", "on", "column")) {
+                parseColumnComment(cursor, state);
+            }
+        }
+        if (state.schema == null || state.tables.isEmpty()) {
+            throw new IllegalArgumentException("The DDL does not create any table" + (state.schema == null ? "" : " in schema '" + state.schema + "'") + ".");
+        }
+        return state.toSnapshot();
+    }
+
+    private void parseCreate(Cursor cursor, ParseState state) {
+        cursor.acceptWords("or", "replace");
+        cursor.acceptAnyWord("global", "local");
+        cursor.acceptAnyWord("unlogged", "temporary", "temp");
+        if (cursor.acceptWords("table")) {
+            parseCreateTable(cursor, state);
+        } else if (cursor.acceptWords("domain")) {
+            QualifiedName name = qualifiedName(cursor, state);
+            cursor.acceptWords("as");
+            state.domains.put(name.key(), columnType(cursor, state));
+        } else if (cursor.acceptWords("type")) {
+            state.userTypes.add(qualifiedName(cursor, state).key());
+        }
+    }
+
+    private void parseCreateTable(Cursor cursor, ParseState state) {
+        cursor.acceptWords("if", "not", "exists");
+        QualifiedName tableName = qualifiedName(cursor, state);
+        // Partitions and typed tables take their columns from elsewhere
+        if (!cursor.peekSymbol("(")) {
+            return;
+        }
+        if (state.schema == null) {
+            state.schema = tableName.schema;
+        }
+        if (!tableName.schema.equals(state.schema)) {
+            return;
+        }
+        ParsedTable table = state.tables.computeIfAbsent(tableName.name, ParsedTable::new);
+        for (List<Token> element : cursor.parenthesizedList()) {
+            parseTableElement(new Cursor(element), table, state);
+        }
+    }
+
+    private void parseTableElement(Cursor cursor, ParsedTable table, ParseState state) {
+        if (cursor.acceptWords("constraint")) {
+            cursor.next();
+        }
+        if (cursor.acceptWords("primary", "key")) {
+            table.primaryKey = identifierList(cursor);
+        } else if (cursor.acceptWords("foreign", "key")) {
+            List<String> columns = identifierList(cursor);
+            parseReferences(cursor, table, columns, state);
+        } else if (cursor.peekAnyWord("unique", "check", "exclude", "like")) {
+            // Not needed for generation
+        } else {
+            parseColumn(cursor, table, state);
+        }
+    }
+
+    private void parseColumn(Cursor cursor, ParsedTable table, ParseState state) {
+        String columnName = identifier(cursor.next());
+        String type = columnType(cursor, state);
+        table.columns.put(columnName, new SchemaSnapshot.Column(columnName, type, null));
+        while (cursor.hasNext()) {
+            if (cursor.acceptWords("primary", "key")) {
+                table.primaryKey = List.of(columnName);
+            } else if (cursor.acceptWords("references")) {
+                cursor.back();
+                parseReferences(cursor, table, List.of(columnName), state);
+            } else if (cursor.peekSymbol("(")) {
+                cursor.skipParenthesized();
+            } else {
+                cursor.next();
+            }
+        }
+    }
+
+    // REFERENCES table [(columns)]; without columns the referenced table's primary key is meant
+    private void parseReferences(Cursor cursor, ParsedTable table, List<String> columns, ParseState state) {
+        if (!cursor.acceptWords("references")) {
+            return;
+        }
+        QualifiedName referencedTable = qualifiedName(cursor, state);
+        List<String> referencedColumns = cursor.peekSymbol("(") ? identifierList(cursor) : null;
+        for (int i = 0; i < columns.size(); i++) {
+            String referencedColumn = referencedColumns != null && i < referencedColumns.size() ? referencedColumns.get(i) : null;
+            table.foreignKeys.put(columns.get(i), new PendingForeignKey(columns.get(i), referencedTable.name, referencedColumn, i));
+        }
+    }
+
+    private void parseAlterTable(Cursor cursor, ParseState state) {
+        cursor.acceptWords("if", "exists");
+        cursor.acceptWords("only");
+        QualifiedName tableName = qualifiedName(cursor, state);
+        ParsedTable table = tableName.schema.equals(state.schema) ? state.tables.get(tableName.name) : null;
+        if (table == null) {
+            return;
+        }
+        for (List<Token> action : cursor.remainingList()) {
+            Cursor actionCursor = new Cursor(action);
+            if (!actionCursor.acceptWords("add")) {
+                continue;
+            }
+            if (actionCursor.acceptWords("column")) {
+                actionCursor.acceptWords("if", "not", "exists");
+                parseColumn(actionCursor, table, state);
+            } else if (actionCursor.peekAnyWord("constraint", "primary", "foreign", "unique", "check", "exclude")) {
+                parseTableElement(actionCursor, table, state);
+            } else {
+                parseColumn(actionCursor, table, state);
+            }
+        }
+    }
+
+    // COMMENT ON COLUMN [schema.]table.column IS 'text' | NULL
+    private void parseColumnComment(Cursor cursor, ParseState state) {
+        List<String> parts = new ArrayList<>();
+        parts.add(identifier(cursor.next()));
+        while (cursor.acceptSymbol(".")) {
+            parts.add(identifier(cursor.next()));
+        }
+        if (parts.size() < 2 || !cursor.acceptWords("is")) {
+            return;
+        }
+        String schema = parts.size() > 2 ? parts.get(parts.size() - 3) : state.schema;
+        ParsedTable table = schema.equals(state.schema) ? state.tables.get(parts.get(parts.size() - 2)) : null;
+        SchemaSnapshot.Column column = table == null ? null : table.columns.get(parts.get(parts.size() - 1));
+        Token comment = cursor.next();
+        if (column != null) {
+            column.setComment(comment.kind == Kind.STRING ? comment.text : null);
+        }
+    }
+
+    // Consumes a type and reports it the way information_schema.columns.data_type does
+    private String columnType(Cursor cursor, ParseState state) {
+        List<Token> typeTokens = new ArrayList<>();
+        boolean array = false;
+        while (cursor.hasNext()) {
+            Token token = cursor.peek();
+            if (token.kind == Kind.WORD && COLUMN_CONSTRAINT_WORDS.contains(token.text)) {
+                break;
+            }
+            if (token.kind == Kind.SYMBOL && token.text.equals("(")) {
+                // Type modifiers such as (255) or (10,2) do not show up in data_type
+                cursor.skipParenthesized();
+                continue;
+            }
+            if (token.kind == Kind.SYMBOL && token.text.equals("[")) {
+                array = true;
+                while (cursor.hasNext() && !cursor.next().text.equals("]")) {
+                    // skip the array bounds
+                }
+                continue;
+            }
+            if (token.kind == Kind.WORD && token.text.equals("array")) {
+                array = true;
+                cursor.next();
+                continue;
+            }
+            typeTokens.add(cursor.next());
+        }
+        if (array) {
+            return "ARRAY";
+        }
+
+        // A qualified name outside pg_catalog, or a quoted one, is a user-defined type or domain
+        int dot = -1;
+        for (int i = 0; i < typeTokens.size(); i++) {
+            if (typeTokens.get(i).kind == Kind.SYMBOL && typeTokens.get(i).text.equals(".")) {
+                dot = i;
+            }
+        }
+        if (dot > 0 && dot + 1 < typeTokens.size()) {
+            String schema = identifier(typeTokens.get(dot - 1));
+            String name = identifier(typeTokens.get(dot + 1));
+            if (!schema.equals("pg_catalog")) {
+                return userDefinedType(schema + "." + name, state);
+            }
+            typeTokens = typeTokens.subList(dot + 1, typeTokens.size());
+        } else if (typeTokens.size() == 1 && typeTokens.get(0).kind == Kind.QUOTED) {
+            return userDefinedType(DEFAULT_SCHEMA + "." + typeTokens.get(0).text, state);
+        }
+
+        StringBuilder type = new StringBuilder();
+        for (Token token : typeTokens) {
+            if (type.length() > 0) {
+                type.append(' ');
+            }
+            type.append(token.text);
+        }
+        String name = type.toString();
+        String unqualified = (state.schema == null ? DEFAULT_SCHEMA : state.schema) + "." + name;
+        if (state.domains.containsKey(unqualified) || state.userTypes.contains(unqualified)) {
+            return userDefinedType(unqualified, state);
+        }
+        return TYPE_ALIASES.getOrDefault(name, name);
+    }
+
+    // Columns of a domain report the domain's base type, unless that is itself user-defined
+    private String userDefinedType(String qualifiedName, ParseState state) {
+        return state.domains.getOrDefault(qualifiedName, "USER-DEFINED");
+    }
+
+    private QualifiedName qualifiedName(Cursor cursor, ParseState state) {
+        String first = identifier(cursor.next());
+        if (cursor.acceptSymbol(".")) {
+            return new QualifiedName(first, identifier(cursor.next()));
+        }
+        return new QualifiedName(state.schema == null ? DEFAULT_SCHEMA : state.schema, first);
+    }
+
+    private List<String> identifierList(Cursor cursor) {
+        List<String> identifiers = new ArrayList<>();
+        for (List<Token> element : cursor.parenthesizedList()) {
+            if (!element.isEmpty()) {
+                identifiers.add(identifier(element.get(0)));
+            }
+        }
+        return identifiers;
+    }
+
+    private static String identifier(Token token) {
+        if (token.kind != Kind.WORD && token.kind != Kind.QUOTED) {
+            throw new IllegalArgumentException("Expected an identifier but found '" + token.text + "' in the DDL.");
+        }
+        return token.text;
+    }
+
+    // Splits the DDL into statements of tokens; comments are dropped, unquoted identifiers folded to lower case
+    static List<List<Token>> tokenize(String ddl) {
+        List<List<Token>> statements = new ArrayList<>();
+        List<Token> statement = new ArrayList<>();
+        int length = ddl.length();
+        int i = 0;
+        while (i < length) {
+            char c = ddl.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '-' && i + 1 < length && ddl.charAt(i + 1) == '-') {
+                while (i < length && ddl.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && ddl.charAt(i + 1) == '*') {
+                int depth = 0;
+                do {
+                    if (ddl.startsWith("/*", i)) {
+                        depth++;
+                        i += 2;
+                    } else if (ddl.startsWith("*/", i)) {
+                        depth--;
+                        i += 2;
+                    } else {
+                        i++;
+                    }
+                } while (depth > 0 && i < length);
+            } else if (c == ';') {
+                if (!statement.isEmpty()) {
+                    statements.add(statement);
+                    statement = new ArrayList<>();
+                }
+                i++;
+            } else if (c == '\'' || ((c == 'e' || c == 'E') && i + 1 < length && ddl.charAt(i + 1) == '\'')) {
+                boolean escaped = c != '\'';
+                StringBuilder text = new StringBuilder();
+                i += escaped ? 2 : 1;
+                while (i < length) {
+                    char s = ddl.charAt(i);
+                    if (escaped && s == '\\' && i + 1 < length) {
+                        char next = ddl.charAt(i + 1);
+                        text.append(next == 'n' ? '\n' : next == 't' ? '\t' : next == 'r' ? '\r' : next);
+                        i += 2;
+                    } else if (s == '\'' && i + 1 < length && ddl.charAt(i + 1) == '\'') {
+                        text.append('\'');
+                        i += 2;
+                    } else if (s == '\'') {
+                        i++;
+                        break;
+                    } else {
+                        text.append(s);
+                        i++;
+                    }
+                }
+                statement.add(new Token(Kind.STRING, text.toString()));
+            } else if (c == '"') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (i < length) {
+                    char s = ddl.charAt(i);
+                    if (s == '"' && i + 1 < length && ddl.charAt(i + 1) == '"') {
+                        text.append('"');
+                        i += 2;
+                    } else if (s == '"') {
+                        i++;
+                        break;
+                    } else {
+                        text.append(s);
+                        i++;
+                    }
+                }
+                statement.add(new Token(Kind.QUOTED, text.toString()));
+            } else if (c == '$' && dollarTag(ddl, i) != null) {
+                String tag = dollarTag(ddl, i);
+                int end = ddl.indexOf(tag, i + tag.length());
+                int bodyEnd = end < 0 ? length : end;
+                statement.add(new Token(Kind.STRING, ddl.substring(i + tag.length(), bodyEnd)));
+                i = end < 0 ? length : end + tag.length();
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(ddl.charAt(i)) || ddl.charAt(i) == '_' || ddl.charAt(i) == '$')) {
+                    i++;
+                }
+                statement.add(new Token(Kind.WORD, ddl.substring(start, i).toLowerCase(java.util.Locale.ROOT)));
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(ddl.charAt(i)) || ddl.charAt(i) == '.')) {
+                    i++;
+                }
+                statement.add(new Token(Kind.NUMBER, ddl.substring(start, i)));
+            } else {
+                statement.add(new Token(Kind.SYMBOL, String.valueOf(c)));
+                i++;
+            }
+        }
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+
+    // The opening $tag$ of a dollar-quoted string at the given position, or null
+    private static String dollarTag(String ddl, int start) {
+        int i = start + 1;
+        while (i < ddl.length() && (Character.isLetterOrDigit(ddl.charAt(i)) || ddl.charAt(i) == '_')) {
+            i++;
+        }
+        if (i < ddl.length() && ddl.charAt(i) == '$' && (i == start + 1 || !Character.isDigit(ddl.charAt(start + 1)))) {
+            return ddl.substring(start, i + 1);
+        }
+        return null;
+    }
+
+    enum Kind {
+        WORD, QUOTED, STRING, NUMBER, SYMBOL
+    }
+
+    static final class Token {
+        private final Kind kind;
+        private final String text;
+
+        private Token(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    private static final class Cursor {
+        private final List<Token> tokens;
+        private int position;
+
+        private Cursor(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private Token peek() {
+            return tokens.get(position);
+        }
+
+        private Token next() {
+            if (!hasNext()) {
+                throw new IllegalArgumentException("Unexpected end of a DDL statement.");
+            }
+            return tokens.get(position++);
+        }
+
+        private void back() {
+            position--;
+        }
+
+        // Consumes the words only if all of them follow in this order
+        private boolean acceptWords(String... words) {
+            if (position + words.length > tokens.size()) {
+                return false;
+            }
+            for (int i = 0; i < words.length; i++) {
+                Token token = tokens.get(position + i);
+                if (token.kind != Kind.WORD || !token.text.equals(words[i])) {
+                    return false;
+                }
+            }
+            position += words.length;
+            return true;
+        }
+
+        private boolean acceptAnyWord(String... words) {
+            if (peekAnyWord(words)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean peekAnyWord(String... words) {
+            if (!hasNext() || peek().kind != Kind.WORD) {
+                return false;
+            }
+            for (String word : words) {
+                if (peek().text.equals(word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean peekSymbol(String symbol) {
+            return hasNext() && peek().kind == Kind.SYMBOL && peek().text.equals(symbol);
+        }
+
+        private boolean acceptSymbol(String symbol) {
+            if (peekSymbol(symbol)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipParenthesized() {
+            parenthesizedList();
+        }
+
+        // Consumes "( ... )" and returns its comma-separated elements
+        private List<List<Token>> parenthesizedList() {
+            if (!acceptSymbol("(")) {
+                throw new IllegalArgumentException("Expected '(' in the DDL.");
+            }
+            List<List<Token>> elements = new ArrayList<>();
+            List<Token> element = new ArrayList<>();
+            int depth = 0;
+            while (true) {
+                Token token = next();
+                if (token.kind == Kind.SYMBOL && token.text.equals("(")) {
+                    depth++;
+                } else if (token.kind == Kind.SYMBOL && token.text.equals(")")) {
+                    if (depth == 0) {
+                        break;
+                    }
+                    depth--;
+                } else if (depth == 0 && token.kind == Kind.SYMBOL && token.text.equals(",")) {
+                    elements.add(element);
+                    element = new ArrayList<>();
+                    continue;
+                }
+                element.add(token);
+            }
+            elements.add(element);
+            return elements;
+        }
+
+        // The rest of the statement, split at commas outside parentheses
+        private List<List<Token>> remainingList() {
+            List<List<Token>> elements = new ArrayList<>();
+            List<Token> element = new ArrayList<>();
+            int depth = 0;
+            while (hasNext()) {
+                Token token = next();
+                if (token.kind == Kind.SYMBOL && token.text.equals("(")) {
+                    depth++;
+                } else if (token.kind == Kind.SYMBOL && token.text.equals(")")) {
+                    depth--;
+                } else if (depth == 0 && token.kind == Kind.SYMBOL && token.text.equals(",")) {
+                    elements.add(element);
+                    element = new ArrayList<>();
+                    continue;
+                }
+                element.add(token);
+            }
+            elements.add(element);
+            return elements;
+        }
+    }
+
+    private static final class QualifiedName {
+        private final String schema;
+        private final String name;
+
+        private QualifiedName(String schema, String name) {
+            this.schema = schema;
+            this.name = name;
+        }
+
+        private String key() {
+            return schema + "." + name;
+        }
+    }
+
+    private static final class PendingForeignKey {
+        private final String column;
+        private final String referencedTable;
+        private final String referencedColumn;
+        private final int position;
+
+        private PendingForeignKey(String column, String referencedTable, String referencedColumn, int position) {
+            this.column = column;
+            this.referencedTable = referencedTable;
+            this.referencedColumn = referencedColumn;
+            this.position = position;
+        }
+    }
+
+    private static final class ParsedTable {
+        private final String name;
+        private final Map<String, SchemaSnapshot.Column> columns = new LinkedHashMap<>();
+        private List<String> primaryKey = List.of();
+        private final Map<String, PendingForeignKey> foreignKeys = new LinkedHashMap<>();
+
+        private ParsedTable(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class ParseState {
+        private String schema;
+        private final Map<String, ParsedTable> tables = new TreeMap<>();
+        private final Map<String, String> domains = new HashMap<>();
+        private final Set<String> userTypes = new HashSet<>();
+
+        private ParseState(String schema) {
+            this.schema = schema;
+        }
+
+        private SchemaSnapshot toSnapshot() {
+            SchemaSnapshot snapshot = new SchemaSnapshot(schema);
+            for (ParsedTable parsed : tables.values()) {
+                SchemaSnapshot.Table table = new SchemaSnapshot.Table(parsed.name);
+                table.getColumns().addAll(parsed.columns.values());
+                table.getPrimaryKey().addAll(parsed.primaryKey);
+                for (PendingForeignKey foreignKey : parsed.foreignKeys.values()) {
+                    String referencedColumn = foreignKey.referencedColumn;
+                    if (referencedColumn == null) {
+                        ParsedTable referenced = tables.get(foreignKey.referencedTable);
+                        referencedColumn = referenced != null && foreignKey.position < referenced.primaryKey.size()
+                                ? referenced.primaryKey.get(foreignKey.position) : "id";
+                    }
+                    table.getForeignKeys().add(new SchemaSnapshot.ForeignKey(foreignKey.column, foreignKey.referencedTable, referencedColumn));
+                }
+                snapshot.getTables().add(table);
+            }
+            return snapshot;
+        }
+    }
+}
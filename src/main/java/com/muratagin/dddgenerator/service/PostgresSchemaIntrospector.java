@@ -0,0 +1,259 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Loads a whole PostgreSQL schema with a handful of set-based catalog queries, independent of the number of tables.
+ */
+@Component
+@Order(0)
+public class PostgresSchemaIntrospector implements SchemaIntrospector {
+
+    // The column, key and foreign key queries are split right after their schema filter, where this is added when only
+    // some tables are loaded
+    private static final String TABLE_FILTER = "  AND c.relname = ANY(?)\n";
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Fa-f-]+");
+
+    private static final String SCHEMAS_QUERY = """
+            SELECT schema_name FROM information_schema.schemata
+            WHERE schema_name NOT IN ('pg_catalog', 'information_schema', 'pg_toast')
+              AND schema_name NOT LIKE 'pg_temp_%' AND schema_name NOT LIKE 'pg_toast_temp_%'
+            """;
+
+    private static final String TABLES_QUERY = "SELECT table_name FROM information_schema.tables WHERE table_schema = ?\n";
+    private static final String TABLES_QUERY_END = "ORDER BY table_name";
+
+    // data_type mirrors the expression information_schema.columns uses, so toJavaType sees the same type names as before
+    private static final String COLUMNS_QUERY = """
+            SELECT c.relname AS table_name,
+                   a.attname AS column_name,
+                   CASE WHEN t.typtype = 'd' THEN
+                            CASE WHEN bt.typelem <> 0 AND bt.typlen = -1 THEN 'ARRAY'
+                                 WHEN nbt.nspname = 'pg_catalog' THEN format_type(t.typbasetype, NULL)
+                                 ELSE 'USER-DEFINED' END
+                        ELSE
+                            CASE WHEN t.typelem <> 0 AND t.typlen = -1 THEN 'ARRAY'
+                                 WHEN nt.nspname = 'pg_catalog' THEN format_type(a.atttypid, NULL)
+                                 ELSE 'USER-DEFINED' END
+                   END AS data_type,
+                   d.description
+            FROM pg_catalog.pg_attribute a
+            JOIN pg_catalog.pg_class c ON c.oid = a.attrelid
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            JOIN pg_catalog.pg_type t ON t.oid = a.atttypid
+            JOIN pg_catalog.pg_namespace nt ON nt.oid = t.typnamespace
+            LEFT JOIN (pg_catalog.pg_type bt JOIN pg_catalog.pg_namespace nbt ON nbt.oid = bt.typnamespace)
+                   ON t.typtype = 'd' AND t.typbasetype = bt.oid
+            LEFT JOIN pg_catalog.pg_description d
+                   ON d.objoid = c.oid AND d.classoid = 'pg_catalog.pg_class'::regclass AND d.objsubid = a.attnum
+            WHERE n.nspname = ?
+            """;
+    private static final String COLUMNS_QUERY_END = """
+              AND c.relkind IN ('r', 'p', 'v', 'f')
+              AND a.attnum > 0
+              AND NOT a.attisdropped
+            ORDER BY c.relname, a.attnum
+            """;
+
+    private static final String PRIMARY_KEYS_QUERY = """
+            SELECT c.relname AS table_name, a.attname AS column_name
+            FROM pg_catalog.pg_constraint con
+            JOIN pg_catalog.pg_class c ON c.oid = con.conrelid
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            CROSS JOIN LATERAL unnest(con.conkey) WITH ORDINALITY AS k(attnum, position)
+            JOIN pg_catalog.pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+            WHERE n.nspname = ?
+            """;
+    private static final String PRIMARY_KEYS_QUERY_END = """
+              AND con.contype = 'p'
+            ORDER BY c.relname, k.position
+            """;
+
+    private static final String FOREIGN_KEYS_QUERY = """
+            SELECT c.relname AS table_name,
+                   a.attname AS fk_column_name,
+                   rc.relname AS pk_table_name,
+                   ra.attname AS pk_column_name
+            FROM pg_catalog.pg_constraint con
+            JOIN pg_catalog.pg_class c ON c.oid = con.conrelid
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            JOIN pg_catalog.pg_class rc ON rc.oid = con.confrelid
+            CROSS JOIN LATERAL unnest(con.conkey, con.confkey) WITH ORDINALITY AS k(attnum, ref_attnum, position)
+            JOIN pg_catalog.pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+            JOIN pg_catalog.pg_attribute ra ON ra.attrelid = con.confrelid AND ra.attnum = k.ref_attnum
+            WHERE n.nspname = ?
+            """;
+    private static final String FOREIGN_KEYS_QUERY_END = """
+              AND con.contype = 'f'
+            ORDER BY c.relname, con.conname, k.position
+            """;
+
+    // Changes whenever a relation, column, constraint or column comment in the schema is created, altered or dropped
+    private static final String FINGERPRINT_QUERY = """
+            SELECT md5(concat_ws('|',
+                (SELECT string_agg(c.oid::text || ':' || c.relfilenode::text || ':' || c.xmin::text, ',' ORDER BY c.oid)
+                 FROM pg_catalog.pg_class c
+                 JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+                 WHERE n.nspname = ? AND c.relkind IN ('r', 'p', 'v', 'f')),
+                (SELECT string_agg(a.attrelid::text || ':' || a.attnum::text || ':' || a.xmin::text, ',' ORDER BY a.attrelid, a.attnum)
+                 FROM pg_catalog.pg_attribute a
+                 JOIN pg_catalog.pg_class c ON c.oid = a.attrelid
+                 JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+                 WHERE n.nspname = ? AND c.relkind IN ('r', 'p', 'v', 'f') AND a.attnum > 0),
+                (SELECT string_agg(con.oid::text || ':' || con.xmin::text, ',' ORDER BY con.oid)
+                 FROM pg_catalog.pg_constraint con
+                 JOIN pg_catalog.pg_namespace n ON n.oid = con.connamespace
+                 WHERE n.nspname = ?),
+                (SELECT string_agg(d.objoid::text || ':' || d.objsubid::text || ':' || d.xmin::text, ',' ORDER BY d.objoid, d.objsubid)
+                 FROM pg_catalog.pg_description d
+                 JOIN pg_catalog.pg_class c ON c.oid = d.objoid
+                 JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+                 WHERE n.nspname = ? AND d.classoid = 'pg_catalog.pg_class'::regclass)
+            )) AS fingerprint
+            """;
+
+    private final GeneratorProperties generatorProperties;
+
+    public PostgresSchemaIntrospector(GeneratorProperties generatorProperties) {
+        this.generatorProperties = generatorProperties;
+    }
+
+    @Override
+    public boolean supports(DatabaseMetaData metaData) throws SQLException {
+        return "PostgreSQL".equalsIgnoreCase(metaData.getDatabaseProductName());
+    }
+
+    @Override
+    public List<String> loadSchemas(Connection conn) throws SQLException {
+        List<String> schemas = new ArrayList<>();
+        try (Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery(SCHEMAS_QUERY)) {
+            while (rs.next()) {
+                schemas.add(rs.getString("schema_name"));
+            }
+        }
+        return schemas;
+    }
+
+    @Override
+    public List<String> loadTables(Connection conn, String schema) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement pstmt = prepare(conn, TABLES_QUERY, TABLES_QUERY_END, schema, null);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                tables.add(rs.getString("table_name"));
+            }
+        }
+        return tables;
+    }
+
+    @Override
+    public Map<String, List<Map<String, String>>> loadColumns(Connection conn, String schema, List<String> tables) throws SQLException {
+        Map<String, List<Map<String, String>>> columnsByTable = new LinkedHashMap<>();
+        try (PreparedStatement pstmt = prepare(conn, COLUMNS_QUERY, COLUMNS_QUERY_END, schema, tables);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                Map<String, String> columnData = new HashMap<>();
+                columnData.put("name", rs.getString("column_name"));
+                columnData.put("type", rs.getString("data_type"));
+                columnData.put("comment", rs.getString("description"));
+                columnsByTable.computeIfAbsent(rs.getString("table_name"), k -> new ArrayList<>()).add(columnData);
+            }
+        }
+        return columnsByTable;
+    }
+
+    @Override
+    public Map<String, List<String>> loadPrimaryKeys(Connection conn, String schema, List<String> tables) throws SQLException {
+        Map<String, List<String>> primaryKeys = new HashMap<>();
+        try (PreparedStatement pstmt = prepare(conn, PRIMARY_KEYS_QUERY, PRIMARY_KEYS_QUERY_END, schema, tables);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                primaryKeys.computeIfAbsent(rs.getString("table_name"), k -> new ArrayList<>()).add(rs.getString("column_name"));
+            }
+        }
+        return primaryKeys;
+    }
+
+    @Override
+    public Map<String, Map<String, ForeignKeyInfo>> loadForeignKeys(Connection conn, String schema, List<String> tables) throws SQLException {
+        Map<String, Map<String, ForeignKeyInfo>> foreignKeys = new HashMap<>();
+        try (PreparedStatement pstmt = prepare(conn, FOREIGN_KEYS_QUERY, FOREIGN_KEYS_QUERY_END, schema, tables);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                String fkColumnName = rs.getString("fk_column_name");
+                foreignKeys
+                    .computeIfAbsent(rs.getString("table_name"), k -> new HashMap<>())
+                    .put(fkColumnName, new ForeignKeyInfo(rs.getString("pk_table_name"), fkColumnName, rs.getString("pk_column_name")));
+            }
+        }
+        return foreignKeys;
+    }
+
+    @Override
+    public String loadFingerprint(Connection conn, String schema) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(FINGERPRINT_QUERY)) {
+            for (int i = 1; i <= 4; i++) {
+                pstmt.setString(i, schema);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString("fingerprint") : null;
+            }
+        }
+    }
+
+    // Exports the calling transaction's snapshot so other connections can read exactly the same catalog state.
+    // Returns null where exporting is not possible (e.g. on a hot standby); the transaction stays usable either way.
+    @Override
+    public String exportSnapshot(Connection conn) throws SQLException {
+        Savepoint savepoint = conn.setSavepoint();
+        try (Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_export_snapshot()")) {
+            return rs.next() ? rs.getString(1) : null;
+        } catch (SQLException e) {
+            conn.rollback(savepoint);
+            return null;
+        }
+    }
+
+    // Must be the first statement of a REPEATABLE READ transaction on the importing connection
+    @Override
+    public void importSnapshot(Connection conn, String snapshotId) throws SQLException {
+        if (!SNAPSHOT_ID.matcher(snapshotId).matches()) {
+            throw new SQLException("Unexpected snapshot identifier: " + snapshotId);
+        }
+        try (Statement statement = conn.createStatement()) {
+            // SET TRANSACTION SNAPSHOT does not accept bind parameters; the identifier was validated above
+            statement.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+        }
+    }
+
+    // query ends with the schema filter and queryEnd holds the remaining conditions and the ordering; tables, when not null,
+    // limits the result to those tables
+    private PreparedStatement prepare(Connection conn, String query, String queryEnd, String schema, List<String> tables) throws SQLException {
+        PreparedStatement pstmt = conn.prepareStatement(tables == null ? query + queryEnd : query + TABLE_FILTER + queryEnd);
+        pstmt.setFetchSize(generatorProperties.getIntrospection().getFetchSize());
+        pstmt.setString(1, schema);
+        if (tables != null) {
+            pstmt.setArray(2, conn.createArrayOf("text", tables.toArray()));
+        }
+        return pstmt;
+    }
+}
@@ -1,22 +1,31 @@
 package com.muratagin.dddgenerator.service;
 
 import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.domain.request.TableEntityTypeRule;
 import com.muratagin.dddgenerator.dto.ProjectRequest;
 import com.muratagin.dddgenerator.dto.CrossCuttingLibraryRequest;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import com.muratagin.dddgenerator.domain.schema.SchemaSnapshot;
+import com.muratagin.dddgenerator.service.job.GenerationPhase;
+import com.muratagin.dddgenerator.service.job.GenerationProgress;
+import com.muratagin.dddgenerator.service.output.FailureTrackingOutputStream;
+import com.muratagin.dddgenerator.service.output.GenerationManifest;
+import com.muratagin.dddgenerator.service.output.ManifestProjectOutput;
+import com.muratagin.dddgenerator.service.output.SpillingOutputStream;
+import com.muratagin.dddgenerator.service.output.ProjectOutput;
+import com.muratagin.dddgenerator.service.output.ZipProjectOutput;
+import com.muratagin.dddgenerator.service.template.CodeTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -25,9 +34,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.Locale;
 
@@ -37,12 +46,338 @@ public class ProjectService {
     private static final String DEFAULT_VERSION = "0.0.1-SNAPSHOT";
     private static final String DEFAULT_JAVA_VERSION = "21";
     private static final String DEFAULT_SPRING_BOOT_VERSION = "3.3.1";
+    // What %n stood for in the format strings the generators were written with
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final SchemaIntrospectionService schemaIntrospectionService;
+    private final GenerationResultCache generationResultCache;
+    private final GenerationMetrics generationMetrics;
+    private final ZipArchiveFactory zipArchiveFactory;
+
+    public ProjectService(SchemaIntrospectionService schemaIntrospectionService, GenerationResultCache generationResultCache, GenerationMetrics generationMetrics,
+                          ZipArchiveFactory zipArchiveFactory) {
+        this.schemaIntrospectionService = schemaIntrospectionService;
+        this.generationResultCache = generationResultCache;
+        this.generationMetrics = generationMetrics;
+        this.zipArchiveFactory = zipArchiveFactory;
+    }
 
     public byte[] generateProjectZip(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest) throws IOException, SQLException {
-        String tempDirName = "project-" + projectRequest.getArtifactId() + "-" + System.currentTimeMillis();
-        Path tempDirPath = Files.createTempDirectory(tempDirName);
+        return generateProjectZip(projectRequest, environmentalCredentialsRequest, GenerationProgress.NONE);
+    }
+
+    public byte[] generateProjectZip(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, GenerationProgress progress) throws IOException, SQLException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        generateProject(projectRequest, environmentalCredentialsRequest, baos, progress);
+        return baos.toByteArray();
+    }
+
+    // Streams the generated project as a zip archive into the given stream; the stream itself is left open
+    public void generateProject(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, OutputStream out) throws IOException, SQLException {
+        generateProject(projectRequest, environmentalCredentialsRequest, out, GenerationProgress.NONE);
+    }
+
+    public void generateProject(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, OutputStream out, GenerationProgress progress) throws IOException, SQLException {
+        GenerationMetrics.Recording recording = generationMetrics.start(progress);
+        String result = GenerationMetrics.RESULT_FAILED;
+        try {
+            SchemaModel schemaModel = resolveSchemaModel(environmentalCredentialsRequest, recording);
+            if (!generationResultCache.isEnabled()) {
+                writeProject(projectRequest, environmentalCredentialsRequest, schemaModel, null, out, recording);
+                result = GenerationMetrics.RESULT_GENERATED;
+                return;
+            }
+            // Identical requests against an unchanged schema are served from (or wait for) one archive
+            String key = generationKey(projectRequest, environmentalCredentialsRequest, schemaModel);
+            boolean[] generated = new boolean[1];
+            IOException[] clientFailure = new IOException[1];
+            byte[] archive = generationResultCache.get(key, () -> {
+                // Only archives small enough to be cached are held in memory; larger ones are streamed to out as they
+                // are written, and null tells the cache there is nothing to keep
+                FailureTrackingOutputStream client = new FailureTrackingOutputStream(out);
+                SpillingOutputStream buffer = new SpillingOutputStream(client, generationResultCache.getMaxArchiveSize());
+                try {
+                    writeProject(projectRequest, environmentalCredentialsRequest, schemaModel, null, buffer, recording);
+                } catch (IOException e) {
+                    if (!client.isFailed()) {
+                        throw e;
+                    }
+                    // This caller's client went away; the identical requests waiting on this run generate their own
+                    clientFailure[0] = e;
+                    generated[0] = true;
+                    return null;
+                }
+                generated[0] = true;
+                return buffer.toByteArray();
+            });
+            if (clientFailure[0] != null) {
+                throw clientFailure[0];
+            }
+            if (archive != null) {
+                out.write(archive);
+            } else if (!generated[0]) {
+                // The identical generation this one waited for was too large to be shared
+                writeProject(projectRequest, environmentalCredentialsRequest, schemaModel, null, out, recording);
+                generated[0] = true;
+            }
+            result = generated[0] ? GenerationMetrics.RESULT_GENERATED : GenerationMetrics.RESULT_CACHED;
+        } finally {
+            recording.stop(result);
+        }
+    }
+
+    // Streams a zip of only the files that differ from the generation described by the previous manifest, plus the new
+    // manifest and a list of deleted files. Tables whose definition did not change are not rendered at all.
+    public void generateProjectDelta(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, GenerationManifest previousManifest, OutputStream out) throws IOException, SQLException {
+        GenerationMetrics.Recording recording = generationMetrics.start(GenerationProgress.NONE);
+        String result = GenerationMetrics.RESULT_FAILED;
+        try {
+            SchemaModel schemaModel = resolveSchemaModel(environmentalCredentialsRequest, recording);
+            writeProject(projectRequest, environmentalCredentialsRequest, schemaModel, previousManifest, out, recording);
+            result = GenerationMetrics.RESULT_GENERATED;
+        } finally {
+            recording.stop(result);
+        }
+    }
+
+    // The schema the request points at (database, snapshot or DDL) in the portable snapshot format
+    public SchemaSnapshot exportSchemaSnapshot(EnvironmentalCredentialsRequest environmentalCredentialsRequest) throws SQLException {
+        SchemaModel schemaModel = loadSchemaModel(environmentalCredentialsRequest, GenerationProgress.NONE);
+        if (schemaModel == null) {
+            throw new IllegalArgumentException("Select a schema, or provide a schema snapshot or DDL, to export a snapshot.");
+        }
+        return SchemaSnapshot.of(schemaModel);
+    }
+
+    // Runs every check that can fail a generation before any byte is written, so a streamed download cannot break half-way
+    // for a predictable reason. The loaded schema stays in the schema cache for the generation that follows.
+    public void validateGenerationRequest(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest) throws SQLException {
+        validateProjectRequest(projectRequest);
+        validateTableEntityTypeRules(environmentalCredentialsRequest);
+        loadSchemaModel(environmentalCredentialsRequest, GenerationProgress.NONE);
+    }
+
+    // The checks that need no database, cheap enough to run on a request thread before a generation is queued
+    public void validateProjectRequest(ProjectRequest projectRequest) {
+        determineUseCrossCuttingLibrary(projectRequest);
+    }
+
+    private void writeProject(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, SchemaModel schemaModel,
+                              GenerationManifest previousManifest, OutputStream out, GenerationProgress progress) throws IOException {
+        GenerationManifest manifest = describeGeneration(projectRequest, environmentalCredentialsRequest, schemaModel);
+        Set<String> tables = previousManifest == null ? null : tablesToRegenerate(manifest, previousManifest, schemaModel);
+        ZipProjectOutput zipOutput = zipArchiveFactory.open(StreamUtils.nonClosing(out));
+        try (zipOutput) {
+            try {
+                ManifestProjectOutput output = new ManifestProjectOutput(zipOutput, manifest, previousManifest, tables);
+                if (tables != null && tables.isEmpty()) {
+                    // Neither the settings nor any table changed, so every file would come out exactly as before
+                    manifest.setFiles(previousManifest.getFiles());
+                } else {
+                    generateProject(output, projectRequest, environmentalCredentialsRequest, schemaModel, progress);
+                }
+                output.finish();
+            } catch (IOException | RuntimeException | Error e) {
+                // The client gets a truncated archive rather than a valid one that is missing files
+                zipOutput.abort();
+                throw e;
+            }
+            // Closing the output writes the entries still being compressed and the zip's central directory
+            progress.phaseStarted(GenerationPhase.ZIP);
+        }
+        generationMetrics.recordOutput(zipOutput.getFileCount(), zipOutput.getContentBytes());
+    }
+
+    // The tables whose files must be rendered again: those that changed since the previous manifest and their foreign
+    // key neighbours, whose generated references depend on them. Null means every table.
+    private Set<String> tablesToRegenerate(GenerationManifest manifest, GenerationManifest previousManifest, SchemaModel schemaModel) {
+        if (!manifest.isComparableTo(previousManifest)) {
+            return null;
+        }
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> table : manifest.getTables().entrySet()) {
+            if (!table.getValue().equals(previousManifest.getTables().get(table.getKey()))) {
+                changed.add(table.getKey());
+            }
+        }
+        for (String table : previousManifest.getTables().keySet()) {
+            if (!manifest.getTables().containsKey(table)) {
+                changed.add(table);
+            }
+        }
+        if (changed.isEmpty() || schemaModel == null) {
+            return changed;
+        }
+
+        Set<String> tables = new HashSet<>(changed);
+        for (Map.Entry<String, Map<String, ForeignKeyInfo>> foreignKeys : schemaModel.getDetailedForeignKeys().entrySet()) {
+            for (ForeignKeyInfo foreignKeyInfo : foreignKeys.getValue().values()) {
+                if (changed.contains(foreignKeys.getKey())) {
+                    tables.add(foreignKeyInfo.getPkTableName());
+                }
+                if (changed.contains(foreignKeyInfo.getPkTableName())) {
+                    tables.add(foreignKeys.getKey());
+                }
+            }
+        }
+        return tables;
+    }
+
+    // The cache key is the manifest's settings and table fingerprints, which cover every request field and every part
+    // of the schema that generation reads; the schema is hashed by content, so a re-introspected but unchanged schema
+    // still hits the cache
+    private String generationKey(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, SchemaModel schemaModel) {
+        GenerationManifest manifest = describeGeneration(projectRequest, environmentalCredentialsRequest, schemaModel);
+        GenerationFingerprint fingerprint = new GenerationFingerprint().add(manifest.getSettings());
+        for (Map.Entry<String, String> table : manifest.getTables().entrySet()) {
+            fingerprint.add(table.getKey()).add(table.getValue());
+        }
+        return fingerprint.toHex();
+    }
+
+    // A manifest without files: the settings fingerprint and one fingerprint per table
+    private GenerationManifest describeGeneration(ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, SchemaModel schemaModel) {
+        GenerationFingerprint settings = new GenerationFingerprint()
+                .add(ProjectService.class.getPackage().getImplementationVersion())
+                .add(projectRequest.getGroupId())
+                .add(projectRequest.getArtifactId())
+                .add(projectRequest.getName())
+                .add(projectRequest.getVersion())
+                .add(projectRequest.getDescription())
+                .add(projectRequest.getPackageName())
+                .add(projectRequest.getJavaVersion())
+                .add(projectRequest.getSpringBootVersion())
+                .add(projectRequest.getLombokVersion());
+        CrossCuttingLibraryRequest crossCuttingLibrary = projectRequest.getCrossCuttingLibrary();
+        settings.add(crossCuttingLibrary != null);
+        if (crossCuttingLibrary != null) {
+            settings.add(crossCuttingLibrary.getGroupId())
+                    .add(crossCuttingLibrary.getName())
+                    .add(crossCuttingLibrary.getVersion())
+                    .add(String.valueOf(crossCuttingLibrary.getDependencies()));
+        }
+
+        settings.add(environmentalCredentialsRequest.getApplicationName())
+                .add(environmentalCredentialsRequest.getServerPort())
+                .add(environmentalCredentialsRequest.getBannerMode())
+                .add(environmentalCredentialsRequest.getLocalDatasourceUrl())
+                .add(environmentalCredentialsRequest.getLocalDatasourceUsername())
+                .add(environmentalCredentialsRequest.getLocalDatasourcePassword())
+                .add(environmentalCredentialsRequest.isGenerateDev())
+                .add(environmentalCredentialsRequest.isGenerateTest())
+                .add(environmentalCredentialsRequest.isGenerateUat())
+                .add(environmentalCredentialsRequest.isGenerateProd())
+                .add(environmentalCredentialsRequest.getSelectedSchema());
+        // Which tables are roots shapes the files of every table that references them, so it belongs to the settings
+        Map<String, String> tableEntityTypes = environmentalCredentialsRequest.getTableEntityTypes();
+        settings.add(tableEntityTypes == null ? null : String.valueOf(new TreeSet<>(determineAggregateRootsFromUserSelection(tableEntityTypes))));
+
+        settings.add(schemaModel != null);
+        Map<String, String> tables = new TreeMap<>();
+        if (schemaModel != null) {
+            settings.add(schemaModel.getSchemaName())
+                    .add(String.valueOf(new TreeSet<>(schemaModel.getAggregateRoots())));
+            for (String table : schemaModel.getTables()) {
+                GenerationFingerprint fingerprint = new GenerationFingerprint()
+                        .add(tableEntityTypes == null ? null : tableEntityTypes.get(table));
+                for (Map<String, String> column : schemaModel.getColumns(table)) {
+                    fingerprint.add(column.get("name")).add(column.get("type")).add(column.get("comment"));
+                }
+                fingerprint.add(String.valueOf(schemaModel.getPrimaryKeyColumns(table)));
+                for (ForeignKeyInfo foreignKeyInfo : new TreeMap<>(schemaModel.getForeignKeys(table)).values()) {
+                    fingerprint.add(foreignKeyInfo.getFkColumnName()).add(foreignKeyInfo.getPkTableName()).add(foreignKeyInfo.getPkColumnName());
+                }
+                tables.put(table, fingerprint.toHex());
+            }
+        }
+
+        GenerationManifest manifest = new GenerationManifest(settings.toHex());
+        manifest.setTables(tables);
+        return manifest;
+    }
+
+    private SchemaModel resolveSchemaModel(EnvironmentalCredentialsRequest environmentalCredentialsRequest, GenerationProgress progress) throws SQLException {
+        SchemaModel schemaModel = loadSchemaModel(environmentalCredentialsRequest, progress);
+        if (schemaModel != null) {
+            // Callers may only name some tables, or none: every other table gets its rule's type or the suggested one
+            environmentalCredentialsRequest.setTableEntityTypes(resolveTableEntityTypes(schemaModel, environmentalCredentialsRequest));
+        }
+        return schemaModel;
+    }
+
+    // Bulk rules are checked before a generation is queued, so a bad rule is reported to the page that sent it
+    public void validateTableEntityTypeRules(EnvironmentalCredentialsRequest environmentalCredentialsRequest) {
+        List<TableEntityTypeRule> rules = environmentalCredentialsRequest.getTableEntityTypeRules();
+        if (rules == null) {
+            return;
+        }
+        for (TableEntityTypeRule rule : rules) {
+            if (rule.getPattern() == null || rule.getPattern().isBlank()) {
+                throw new IllegalArgumentException("A table entity type rule needs a table name pattern.");
+            }
+            if (!"AggregateRoot".equals(rule.getEntityType()) && !"BaseDomainEntity".equals(rule.getEntityType())) {
+                throw new IllegalArgumentException("Unknown entity type '" + rule.getEntityType() + "' in the rule for '" + rule.getPattern()
+                        + "'; expected AggregateRoot or BaseDomainEntity.");
+            }
+        }
+    }
+
+    private SchemaModel loadSchemaModel(EnvironmentalCredentialsRequest environmentalCredentialsRequest, GenerationProgress progress) throws SQLException {
+        // An exported snapshot or schema-only DDL stands in for the database; no connection is opened
+        SchemaModel offlineSchemaModel = null;
+        if (environmentalCredentialsRequest.getSchemaSnapshot() != null) {
+            offlineSchemaModel = schemaIntrospectionService.introspect(environmentalCredentialsRequest.getSchemaSnapshot());
+        } else if (environmentalCredentialsRequest.getSchemaDdl() != null && !environmentalCredentialsRequest.getSchemaDdl().isBlank()) {
+            offlineSchemaModel = schemaIntrospectionService.introspectDdl(environmentalCredentialsRequest.getSchemaDdl(), environmentalCredentialsRequest.getSelectedSchema());
+        }
+        if (offlineSchemaModel != null) {
+            // Every generation phase decides on the selected schema whether there is a schema to generate from
+            environmentalCredentialsRequest.setSelectedSchema(offlineSchemaModel.getSchemaName());
+            return offlineSchemaModel;
+        }
+
+        if (environmentalCredentialsRequest.getSelectedSchema() == null || environmentalCredentialsRequest.getSelectedSchema().isEmpty()) {
+            return null;
+        }
+        // Introspect the selected schema exactly once; every generation phase reads from this snapshot
+        return schemaIntrospectionService.introspect(
+                environmentalCredentialsRequest.getLocalDatasourceUrl(),
+                environmentalCredentialsRequest.getLocalDatasourceUsername(),
+                environmentalCredentialsRequest.getLocalDatasourcePassword(),
+                environmentalCredentialsRequest.getSelectedSchema(),
+                progress);
+    }
+
+    // Explicit entries win, then the first matching rule, then the suggested roots with everything else an entity
+    private Map<String, String> resolveTableEntityTypes(SchemaModel schemaModel, EnvironmentalCredentialsRequest environmentalCredentialsRequest) {
+        validateTableEntityTypeRules(environmentalCredentialsRequest);
+        List<TableEntityTypeRule> rules = environmentalCredentialsRequest.getTableEntityTypeRules() == null
+                ? List.of() : environmentalCredentialsRequest.getTableEntityTypeRules();
+        List<Predicate<String>> matchers = new ArrayList<>(rules.size());
+        for (TableEntityTypeRule rule : rules) {
+            matchers.add(TableNameMatcher.compile(rule.getPattern(), rule.isGlob()));
+        }
+
+        Map<String, String> explicit = environmentalCredentialsRequest.getTableEntityTypes();
+        Map<String, String> tableEntityTypes = explicit == null ? new HashMap<>() : new HashMap<>(explicit);
+        for (String table : schemaModel.getTables()) {
+            if (tableEntityTypes.containsKey(table)) {
+                continue;
+            }
+            String entityType = schemaModel.getAggregateRoots().contains(table) ? "AggregateRoot" : "BaseDomainEntity";
+            for (int i = 0; i < matchers.size(); i++) {
+                if (matchers.get(i).test(table)) {
+                    entityType = rules.get(i).getEntityType();
+                    break;
+                }
+            }
+            tableEntityTypes.put(table, entityType);
+        }
+        return tableEntityTypes;
+    }
+
+    private boolean determineUseCrossCuttingLibrary(ProjectRequest projectRequest) {
         CrossCuttingLibraryRequest crossCuttingLib = projectRequest.getCrossCuttingLibrary();
-        boolean useCrossCuttingLibrary = false;
         // Validation for CrossCuttingLibrary is now handled by @ValidCrossCuttingLibrary annotation on ProjectRequest
         // and @Valid on the crossCuttingLibrary field itself for its internal constraints (if any were added).
         // The custom validator CrossCuttingLibraryValidator handles the conditional logic.
@@ -55,7 +390,7 @@ public class ProjectService {
             List<String> requiredDeps = Arrays.asList("domain", "application", "persistence");
             Set<String> providedDeps = new HashSet<>(crossCuttingLib.getDependencies());
             if (providedDeps.containsAll(requiredDeps)) {
-                useCrossCuttingLibrary = true;
+                return true;
             } else {
                 // This case should ideally be caught by the validator, but as a safeguard:
                 throw new IllegalArgumentException("Cross-cutting library dependencies must include 'domain', 'application', and 'persistence'. This should have been caught by earlier validation.");
@@ -64,13 +399,19 @@ public class ProjectService {
             // This case should also be caught by the validator.
             throw new IllegalArgumentException("Cross-cutting library details are incomplete. This should have been caught by earlier validation.");
         }
-        // If crossCuttingLib is null or not populated, useCrossCuttingLibrary remains false.
+        // If crossCuttingLib is null or not populated, no cross-cutting library is used.
+        return false;
+    }
+
+    private void generateProject(ProjectOutput output, ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest, SchemaModel schemaModel, GenerationProgress progress) throws IOException {
+        boolean useCrossCuttingLibrary = determineUseCrossCuttingLibrary(projectRequest);
 
         String serverPort = (environmentalCredentialsRequest.getServerPort() != null && !environmentalCredentialsRequest.getServerPort().isEmpty()) ? environmentalCredentialsRequest.getServerPort() : "8080";
         String bannerMode = (environmentalCredentialsRequest.getBannerMode() != null && !environmentalCredentialsRequest.getBannerMode().isEmpty()) ? environmentalCredentialsRequest.getBannerMode() : "off";
         String springAppName = (environmentalCredentialsRequest.getApplicationName() != null && !environmentalCredentialsRequest.getApplicationName().isEmpty()) ? environmentalCredentialsRequest.getApplicationName() : projectRequest.getName();
 
-        Path tempDir = Files.createTempDirectory("ddd-project-" + projectRequest.getArtifactId() + "-");
+        // Every file path below is relative to the root of the generated project
+        Path projectRoot = Paths.get("");
         String rootArtifactId = projectRequest.getArtifactId();
         String groupId = projectRequest.getGroupId();
         String version = (projectRequest.getVersion() != null && !projectRequest.getVersion().isEmpty()) ? projectRequest.getVersion() : DEFAULT_VERSION;
@@ -81,217 +422,163 @@ public class ProjectService {
 
         String basePackagePath = sanitizedPackageName.replace('.', File.separatorChar);
         String basePackageNameForClassGen = sanitizedPackageName;
+        EnumRegistry enumRegistry = schemaModel == null ? null : buildEnumRegistry(schemaModel, basePackageNameForClassGen);
+        NamingModel naming = schemaModel == null ? null : new NamingModel(schemaModel);
 
-        Path pomFile = Paths.get(tempDir.toString(), "pom.xml");
-        Files.writeString(pomFile, generateRootPomXmlContent(projectRequest, version));
+        Path pomFile = Paths.get(projectRoot.toString(), "pom.xml");
+        output.write(pomFile, generateRootPomXmlContent(projectRequest, version));
 
         String containerArtifactId = rootArtifactId + "-container";
-        Path containerModuleDir = Paths.get(tempDir.toString(), containerArtifactId);
-        Files.createDirectories(containerModuleDir);
+        Path containerModuleDir = Paths.get(projectRoot.toString(), containerArtifactId);
         Path containerPom = Paths.get(containerModuleDir.toString(), "pom.xml");
-        Files.writeString(containerPom, generateContainerPomXmlContent(projectRequest, containerArtifactId, rootArtifactId, version));
+        output.write(containerPom, generateContainerPomXmlContent(projectRequest, containerArtifactId, rootArtifactId, version));
         Path containerMainJavaDir = Paths.get(containerModuleDir.toString(), "src", "main", "java", basePackagePath, "container");
-        Files.createDirectories(containerMainJavaDir);
-        Path containerAppFile = Paths.get(containerMainJavaDir.toString(), snakeKebabCaseToPascalCase(rootArtifactId) + "ContainerApplication.java");
-        Files.writeString(containerAppFile, generateContainerApplicationJavaContent(basePackageNameForClassGen, projectRequest, rootArtifactId, "container", useCrossCuttingLibrary));
+        Path containerAppFile = Paths.get(containerMainJavaDir.toString(), NamingModel.toPascalCase(rootArtifactId) + "ContainerApplication.java");
+        output.write(containerAppFile, generateContainerApplicationJavaContent(basePackageNameForClassGen, projectRequest, rootArtifactId, "container", useCrossCuttingLibrary));
         Path containerResources = Paths.get(containerModuleDir.toString(), "src", "main", "resources");
-        Files.createDirectories(containerResources);
         Path applicationYml = Paths.get(containerResources.toString(), "application.yml");
-        Files.writeString(applicationYml, generateApplicationYmlContent(springAppName, serverPort, bannerMode));
+        output.write(applicationYml, generateApplicationYmlContent(springAppName, serverPort, bannerMode));
 
         // Always generate application-local.yml; the method provides defaults if details are not entered.
         Path applicationLocalYml = Paths.get(containerResources.toString(), "application-local.yml");
-        Files.writeString(applicationLocalYml, generateApplicationLocalYmlContent(environmentalCredentialsRequest));
+        output.write(applicationLocalYml, generateApplicationLocalYmlContent(environmentalCredentialsRequest));
 
         // Conditionally generate profile-specific application.yml files
         if (environmentalCredentialsRequest.isGenerateDev()) {
             Path profileApplicationYml = Paths.get(containerResources.toString(), "application-dev.yml");
-            Files.writeString(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "dev"));
+            output.write(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "dev"));
         }
         if (environmentalCredentialsRequest.isGenerateTest()) {
             Path profileApplicationYml = Paths.get(containerResources.toString(), "application-test.yml");
-            Files.writeString(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "test"));
+            output.write(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "test"));
         }
         if (environmentalCredentialsRequest.isGenerateUat()) {
             Path profileApplicationYml = Paths.get(containerResources.toString(), "application-uat.yml");
-            Files.writeString(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "uat"));
+            output.write(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "uat"));
         }
         if (environmentalCredentialsRequest.isGenerateProd()) {
             Path profileApplicationYml = Paths.get(containerResources.toString(), "application-prod.yml");
-            Files.writeString(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "prod"));
+            output.write(profileApplicationYml, generateProfileApplicationYmlContent(projectRequest.getName(), "prod"));
         }
 
+        progress.phaseStarted(GenerationPhase.DOMAIN);
         String domainParentArtifactId = rootArtifactId + "-domain";
-        Path domainModuleDir = Paths.get(tempDir.toString(), domainParentArtifactId);
-        Files.createDirectories(domainModuleDir);
+        Path domainModuleDir = Paths.get(projectRoot.toString(), domainParentArtifactId);
         Path domainParentPom = Paths.get(domainModuleDir.toString(), "pom.xml");
-        Files.writeString(domainParentPom, generateDomainParentPomXmlContent(projectRequest, domainParentArtifactId, rootArtifactId, version));
+        output.write(domainParentPom, generateDomainParentPomXmlContent(projectRequest, domainParentArtifactId, rootArtifactId, version));
 
         String domainCoreArtifactId = rootArtifactId + "-domain-core";
         Path domainCoreModuleDir = Paths.get(domainModuleDir.toString(), domainCoreArtifactId);
-        Files.createDirectories(domainCoreModuleDir);
         Path domainCorePom = Paths.get(domainCoreModuleDir.toString(), "pom.xml");
-        Files.writeString(domainCorePom, generateDomainCorePomXmlContent(projectRequest, domainCoreArtifactId, domainParentArtifactId, version));
+        output.write(domainCorePom, generateDomainCorePomXmlContent(projectRequest, domainCoreArtifactId, domainParentArtifactId, version));
         Path domainCoreMainJava = Paths.get(domainCoreModuleDir.toString(), "src", "main", "java", basePackagePath, "domain", "core");
-        Files.createDirectories(domainCoreMainJava);
 
-        String domainExceptionClassName = useCrossCuttingLibrary ? snakeKebabCaseToPascalCase(rootArtifactId) + "DomainException" : "DomainException";
+        String domainExceptionClassName = useCrossCuttingLibrary ? NamingModel.toPascalCase(rootArtifactId) + "DomainException" : "DomainException";
 
         Path domainCoreExceptionDir = Paths.get(domainCoreMainJava.toString(), "exception");
-        Files.createDirectories(domainCoreExceptionDir);
-        Files.writeString(Paths.get(domainCoreExceptionDir.toString(), domainExceptionClassName + ".java"), generateDomainExceptionContent(basePackageNameForClassGen, domainExceptionClassName));
-        Files.writeString(Paths.get(domainCoreExceptionDir.toString(), "DomainEntityNotFoundException.java"), generateDomainEntityNotFoundExceptionContent(basePackageNameForClassGen));
-        Files.writeString(Paths.get(domainCoreExceptionDir.toString(), "RepositoryOutputPortException.java"), generateRepositoryOutputPortExceptionContent(basePackageNameForClassGen));
+        output.write(Paths.get(domainCoreExceptionDir.toString(), domainExceptionClassName + ".java"), generateDomainExceptionContent(basePackageNameForClassGen, domainExceptionClassName));
+        output.write(Paths.get(domainCoreExceptionDir.toString(), "DomainEntityNotFoundException.java"), generateDomainEntityNotFoundExceptionContent(basePackageNameForClassGen));
+        output.write(Paths.get(domainCoreExceptionDir.toString(), "RepositoryOutputPortException.java"), generateRepositoryOutputPortExceptionContent(basePackageNameForClassGen));
 
-        Files.writeString(Paths.get(domainCoreMainJava.toString(), "DomainConstants.java"), generateDomainConstantsContent(basePackageNameForClassGen));
+        output.write(Paths.get(domainCoreMainJava.toString(), "DomainConstants.java"), generateDomainConstantsContent(basePackageNameForClassGen));
 
         Path domainCorePayloadDir = Paths.get(domainCoreMainJava.toString(), "payload");
-        Files.createDirectories(domainCorePayloadDir);
-        Files.writeString(Paths.get(domainCorePayloadDir.toString(), "BaseQuery.java"), generateBaseQueryContent(basePackageNameForClassGen));
-        Files.writeString(Paths.get(domainCorePayloadDir.toString(), "BaseQueryResponse.java"), generateBaseQueryResponseContent(basePackageNameForClassGen));
+        output.write(Paths.get(domainCorePayloadDir.toString(), "BaseQuery.java"), generateBaseQueryContent(basePackageNameForClassGen));
+        output.write(Paths.get(domainCorePayloadDir.toString(), "BaseQueryResponse.java"), generateBaseQueryResponseContent(basePackageNameForClassGen));
 
         if (environmentalCredentialsRequest.getSelectedSchema() != null && !environmentalCredentialsRequest.getSelectedSchema().isEmpty()) {
-            generateDomainClasses(environmentalCredentialsRequest, domainCoreMainJava, basePackageNameForClassGen);
+            generateDomainClasses(output, environmentalCredentialsRequest, schemaModel, enumRegistry, naming, domainCoreMainJava, basePackageNameForClassGen);
         }
 
         if (!useCrossCuttingLibrary) {
             Path domainCoreEntityDir = Paths.get(domainCoreMainJava.toString(), "entity");
-            Files.createDirectories(domainCoreEntityDir);
-            Files.writeString(Paths.get(domainCoreEntityDir.toString(), "AggregateRoot.java"), generateDefaultAggregateRootContent(basePackageNameForClassGen));
-            Files.writeString(Paths.get(domainCoreEntityDir.toString(), "BaseDomainEntity.java"), generateDefaultBaseDomainEntityContent(basePackageNameForClassGen));
+            output.write(Paths.get(domainCoreEntityDir.toString(), "AggregateRoot.java"), generateDefaultAggregateRootContent(basePackageNameForClassGen));
+            output.write(Paths.get(domainCoreEntityDir.toString(), "BaseDomainEntity.java"), generateDefaultBaseDomainEntityContent(basePackageNameForClassGen));
 
             Path domainCoreValueObjectDir = Paths.get(domainCoreMainJava.toString(), "valueobject");
-            Files.createDirectories(domainCoreValueObjectDir);
-            Files.writeString(Paths.get(domainCoreValueObjectDir.toString(), "BaseId.java"), generateDefaultBaseIdContent(basePackageNameForClassGen));
+            output.write(Paths.get(domainCoreValueObjectDir.toString(), "BaseId.java"), generateDefaultBaseIdContent(basePackageNameForClassGen));
         }
 
+        progress.phaseStarted(GenerationPhase.APPLICATION_SERVICE);
         String appServiceArtifactId = rootArtifactId + "-application-service";
         Path appServiceModuleDir = Paths.get(domainModuleDir.toString(), appServiceArtifactId);
-        Files.createDirectories(appServiceModuleDir);
         Path appServicePom = Paths.get(appServiceModuleDir.toString(), "pom.xml");
-        Files.writeString(appServicePom, generateApplicationServicePomXmlContent(projectRequest, appServiceArtifactId, domainParentArtifactId, domainCoreArtifactId, version));
+        output.write(appServicePom, generateApplicationServicePomXmlContent(projectRequest, appServiceArtifactId, domainParentArtifactId, domainCoreArtifactId, version));
         Path appServiceMainJava = Paths.get(appServiceModuleDir.toString(), "src", "main", "java", basePackagePath, "domain", "applicationservice");
-        Files.createDirectories(appServiceMainJava);
         if (environmentalCredentialsRequest.getSelectedSchema() != null && !environmentalCredentialsRequest.getSelectedSchema().isEmpty()) {
-            generateApplicationServiceClasses(projectRequest, environmentalCredentialsRequest, appServiceMainJava, domainCoreMainJava, basePackageNameForClassGen);
+            generateApplicationServiceClasses(output, projectRequest, environmentalCredentialsRequest, schemaModel, enumRegistry, naming, appServiceMainJava, basePackageNameForClassGen);
         } else {
-        Files.createFile(Paths.get(appServiceMainJava.toString(), ".gitkeep"));
+            output.write(Paths.get(appServiceMainJava.toString(), ".gitkeep"), "");
         }
 
+        progress.phaseStarted(GenerationPhase.PERSISTENCE);
         String infraParentArtifactId = rootArtifactId + "-infrastructure";
-        Path infraModuleDir = Paths.get(tempDir.toString(), infraParentArtifactId);
-        Files.createDirectories(infraModuleDir);
+        Path infraModuleDir = Paths.get(projectRoot.toString(), infraParentArtifactId);
         Path infraParentPom = Paths.get(infraModuleDir.toString(), "pom.xml");
-        Files.writeString(infraParentPom, generateInfrastructureParentPomXmlContent(projectRequest, infraParentArtifactId, rootArtifactId, version));
+        output.write(infraParentPom, generateInfrastructureParentPomXmlContent(projectRequest, infraParentArtifactId, rootArtifactId, version));
 
         String persistenceArtifactId = rootArtifactId + "-persistence";
         Path persistenceModuleDir = Paths.get(infraModuleDir.toString(), persistenceArtifactId);
-        Files.createDirectories(persistenceModuleDir);
         Path persistencePom = Paths.get(persistenceModuleDir.toString(), "pom.xml");
-        Files.writeString(persistencePom, generatePersistencePomXmlContent(projectRequest, persistenceArtifactId, infraParentArtifactId, appServiceArtifactId, version));
+        output.write(persistencePom, generatePersistencePomXmlContent(projectRequest, persistenceArtifactId, infraParentArtifactId, appServiceArtifactId, version));
         Path persistenceMainJava = Paths.get(persistenceModuleDir.toString(), "src", "main", "java", basePackagePath, "infrastructure", "persistence");
-        Files.createDirectories(persistenceMainJava);
 
         if (!useCrossCuttingLibrary) {
             Path persistenceEntityDir = Paths.get(persistenceMainJava.toString(), "entity");
-            Files.createDirectories(persistenceEntityDir);
-            Files.writeString(Paths.get(persistenceEntityDir.toString(), "BaseEntity.java"), generateDefaultBaseEntityContent(basePackageNameForClassGen));
+            output.write(Paths.get(persistenceEntityDir.toString(), "BaseEntity.java"), generateDefaultBaseEntityContent(basePackageNameForClassGen));
         }
         
-        // Generate persistence layer implementation if database details are provided
-        if (environmentalCredentialsRequest.getLocalDatasourceUrl() != null && 
-            !environmentalCredentialsRequest.getLocalDatasourceUrl().isBlank() &&
-            environmentalCredentialsRequest.getSelectedSchema() != null &&
-            !environmentalCredentialsRequest.getSelectedSchema().isBlank()) {
-            generatePersistenceImplementation(projectRequest, environmentalCredentialsRequest, persistenceMainJava, basePackageNameForClassGen, useCrossCuttingLibrary);
+        // Generate persistence layer implementation if a schema was loaded, from the database or offline
+        if (schemaModel != null) {
+            generatePersistenceImplementation(output, projectRequest, environmentalCredentialsRequest, schemaModel, enumRegistry, naming, persistenceMainJava, basePackageNameForClassGen, useCrossCuttingLibrary);
         } else if (useCrossCuttingLibrary) {
-            Files.createFile(Paths.get(persistenceMainJava.toString(), ".gitkeep"));
+            output.write(Paths.get(persistenceMainJava.toString(), ".gitkeep"), "");
         }
 
+        progress.phaseStarted(GenerationPhase.REST);
         String appLayerArtifactId = rootArtifactId + "-application";
-        Path appLayerModuleDir = Paths.get(tempDir.toString(), appLayerArtifactId);
-        Files.createDirectories(appLayerModuleDir);
+        Path appLayerModuleDir = Paths.get(projectRoot.toString(), appLayerArtifactId);
         Path appLayerPom = Paths.get(appLayerModuleDir.toString(), "pom.xml");
-        Files.writeString(appLayerPom, generateApplicationLayerPomXmlContent(projectRequest, appLayerArtifactId, rootArtifactId, appServiceArtifactId, version));
+        output.write(appLayerPom, generateApplicationLayerPomXmlContent(projectRequest, appLayerArtifactId, rootArtifactId, appServiceArtifactId, version));
         Path appLayerMainJava = Paths.get(appLayerModuleDir.toString(), "src", "main", "java", basePackagePath, "application");
-        Files.createDirectories(appLayerMainJava);
 
         if (!useCrossCuttingLibrary) {
             String globalExceptionHandlerClassName = "GlobalExceptionHandler";
             Path appLayerExceptionDir = Paths.get(appLayerMainJava.toString(), "exception");
-            Files.createDirectories(appLayerExceptionDir);
-            Files.writeString(Paths.get(appLayerExceptionDir.toString(), globalExceptionHandlerClassName + ".java"), generateDefaultGlobalExceptionHandlerContent(basePackageNameForClassGen, globalExceptionHandlerClassName, domainExceptionClassName));
+            output.write(Paths.get(appLayerExceptionDir.toString(), globalExceptionHandlerClassName + ".java"), generateDefaultGlobalExceptionHandlerContent(basePackageNameForClassGen, globalExceptionHandlerClassName, domainExceptionClassName));
 
             Path appLayerPayloadDir = Paths.get(appLayerMainJava.toString(), "payload");
-            Files.createDirectories(appLayerPayloadDir);
-            Files.writeString(Paths.get(appLayerPayloadDir.toString(), "ResultObject.java"), generateDefaultResultObjectContent(basePackageNameForClassGen));
+            output.write(Paths.get(appLayerPayloadDir.toString(), "ResultObject.java"), generateDefaultResultObjectContent(basePackageNameForClassGen));
 
             if (environmentalCredentialsRequest.getSelectedSchema() != null && !environmentalCredentialsRequest.getSelectedSchema().isEmpty()) {
                 // Generate REST controllers for aggregate roots
                 Path appLayerRestDir = Paths.get(appLayerMainJava.toString(), "rest");
-                Files.createDirectories(appLayerRestDir);
-                generateRestControllers(environmentalCredentialsRequest, appLayerRestDir, basePackageNameForClassGen);
+                generateRestControllers(output, environmentalCredentialsRequest, naming, appLayerRestDir, basePackageNameForClassGen);
             }
         } else {
-            Files.createFile(Paths.get(appLayerMainJava.toString(), ".gitkeep"));
+            output.write(Paths.get(appLayerMainJava.toString(), ".gitkeep"), "");
         }
 
+        progress.phaseStarted(GenerationPhase.REQUESTS);
         // Generate requests documentation structure
         String requestsDir = "requests";
-        Path requestsModuleDir = Paths.get(tempDir.toString(), requestsDir);
-        Files.createDirectories(requestsModuleDir);
+        Path requestsModuleDir = Paths.get(projectRoot.toString(), requestsDir);
 
         // Create http subfolder
         Path httpDir = Paths.get(requestsModuleDir.toString(), "http");
-        Files.createDirectories(httpDir);
 
         // Create postman subfolder  
         Path postmanDir = Paths.get(requestsModuleDir.toString(), "postman");
-        Files.createDirectories(postmanDir);
 
         // Generate HTTP request files and Postman collection if schema is selected
         if (environmentalCredentialsRequest.getSelectedSchema() != null && 
             !environmentalCredentialsRequest.getSelectedSchema().isEmpty()) {
-            generateHttpRequestFiles(environmentalCredentialsRequest, httpDir, basePackageNameForClassGen);
-            generatePostmanCollection(environmentalCredentialsRequest, postmanDir, basePackageNameForClassGen, projectRequest);
+            generateHttpRequestFiles(output, environmentalCredentialsRequest, schemaModel, enumRegistry, naming, httpDir, basePackageNameForClassGen);
+            generatePostmanCollection(output, environmentalCredentialsRequest, schemaModel, enumRegistry, naming, postmanDir, basePackageNameForClassGen, projectRequest);
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ZipOutputStream zipOut = new ZipOutputStream(baos)) {
-            zipDirectory(tempDir.toFile(), "", zipOut);
-        }
-
-        deleteDirectoryRecursively(tempDir);
-
-        return baos.toByteArray();
     }
 
-    private void zipDirectory(File folderToZip, String parentName, ZipOutputStream zipOut) throws IOException {
-        File[] children = folderToZip.listFiles();
-        if (children == null) {
-            return;
-        }
-
-        for (File file : children) {
-            String zipEntryName = parentName.isEmpty() ? file.getName() : parentName + "/" + file.getName();
-            if (file.isDirectory()) {
-                zipDirectory(file, zipEntryName, zipOut);
-            } else {
-                try (FileInputStream fis = new FileInputStream(file)) {
-                    ZipEntry zipEntry = new ZipEntry(zipEntryName);
-                    zipOut.putNextEntry(zipEntry);
-
-                    byte[] bytes = new byte[1024];
-                    int length;
-                    while ((length = fis.read(bytes)) >= 0) {
-                        zipOut.write(bytes, 0, length);
-                    }
-                    zipOut.closeEntry();
-                }
-            }
-        }
-    }
-    
     private String capitalize(String str) {
         if (str == null || str.isEmpty()) {
             return str;
@@ -299,27 +586,6 @@ public class ProjectService {
         return str.substring(0, 1).toUpperCase(Locale.ENGLISH) + str.substring(1);
     }
 
-    private String snakeKebabCaseToPascalCase(String input) {
-        if (input == null || input.isEmpty()) {
-            return "";
-        }
-        return Arrays.stream(input.split("[_-]")) // Split by underscore or hyphen
-                .filter(part -> !part.isEmpty())
-                .map(part -> Character.toUpperCase(part.charAt(0)) + part.substring(1).toLowerCase(Locale.ENGLISH))
-                .collect(Collectors.joining());
-    }
-
-    private String snakeCaseToCamelCase(String s) {
-        if (s == null || s.isEmpty()) {
-            return s;
-        }
-        String pascalCase = snakeKebabCaseToPascalCase(s);
-        if (pascalCase.isEmpty()) {
-            return pascalCase;
-        }
-        return Character.toLowerCase(pascalCase.charAt(0)) + pascalCase.substring(1);
-    }
-
     private String firstCharToLowerCase(String s) {
         if (s == null || s.isEmpty()) {
             return s;
@@ -327,146 +593,7 @@ public class ProjectService {
         return Character.toLowerCase(s.charAt(0)) + s.substring(1);
     }
 
-    private String capitalizeFirstLetter(String input) {
-        if (input == null || input.isEmpty()) {
-            return "";
-        }
-        return Character.toUpperCase(input.charAt(0)) + input.substring(1);
-    }
-
-    private String pluralize(String word) {
-        if (word == null || word.isEmpty()) {
-            return word;
-        }
-        
-        String lowerWord = word.toLowerCase();
-        
-        // Handle irregular plurals
-        Map<String, String> irregularPlurals = Map.of(
-            "person", "people",
-            "child", "children",
-            "foot", "feet",
-            "tooth", "teeth",
-            "goose", "geese",
-            "mouse", "mice",
-            "man", "men",
-            "woman", "women",
-            "ox", "oxen"
-        );
-        
-        if (irregularPlurals.containsKey(lowerWord)) {
-            return irregularPlurals.get(lowerWord);
-        }
-        
-        // Words ending in 'y' preceded by a consonant: change 'y' to 'ies'
-        if (lowerWord.endsWith("y") && lowerWord.length() > 1) {
-            char beforeY = lowerWord.charAt(lowerWord.length() - 2);
-            if (!isVowel(beforeY)) {
-                return lowerWord.substring(0, lowerWord.length() - 1) + "ies";
-            }
-        }
-        
-        // Words ending in 's', 'ss', 'sh', 'ch', 'x', 'z': add 'es'
-        if (lowerWord.endsWith("s") || lowerWord.endsWith("ss") || 
-            lowerWord.endsWith("sh") || lowerWord.endsWith("ch") || 
-            lowerWord.endsWith("x") || lowerWord.endsWith("z")) {
-            // Special case for words ending in 'z': double the 'z' then add 'es'
-            if (lowerWord.endsWith("z") && !lowerWord.endsWith("zz")) {
-                return lowerWord + "zes";
-            }
-            return lowerWord + "es";
-        }
-        
-        // Words ending in 'f' or 'fe': change to 'ves'
-        if (lowerWord.endsWith("f")) {
-            return lowerWord.substring(0, lowerWord.length() - 1) + "ves";
-        }
-        if (lowerWord.endsWith("fe")) {
-            return lowerWord.substring(0, lowerWord.length() - 2) + "ves";
-        }
-        
-        // Words ending in 'o' preceded by a consonant: add 'es'
-        if (lowerWord.endsWith("o") && lowerWord.length() > 1) {
-            char beforeO = lowerWord.charAt(lowerWord.length() - 2);
-            if (!isVowel(beforeO)) {
-                // Common exceptions that just add 's'
-                if (lowerWord.equals("photo") || lowerWord.equals("piano") || 
-                    lowerWord.equals("halo") || lowerWord.equals("soprano")) {
-                    return lowerWord + "s";
-                }
-                return lowerWord + "es";
-            }
-        }
-        
-        // Default: just add 's'
-        return lowerWord + "s";
-    }
-    
-    private boolean isVowel(char c) {
-        return "aeiou".indexOf(Character.toLowerCase(c)) != -1;
-    }
-
-    private String generateRootPomXmlContent(ProjectRequest request, String effectiveVersion) {
-        String artifactId = request.getArtifactId();
-        String javaVersion = (request.getJavaVersion() != null && !request.getJavaVersion().isEmpty()) ? request.getJavaVersion() : DEFAULT_JAVA_VERSION;
-        String springBootVersion = (request.getSpringBootVersion() != null && !request.getSpringBootVersion().isEmpty()) ? request.getSpringBootVersion() : DEFAULT_SPRING_BOOT_VERSION;
-        String lombokVersion = request.getLombokVersion();
-
-        StringBuilder propertiesBuilder = new StringBuilder();
-        propertiesBuilder.append(String.format("        <java.version>%s</java.version>\n", javaVersion));
-        propertiesBuilder.append("        <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n");
-
-        String lombokDependencyManagementEntry = "";
-        String lombokCompilerPathVersionTag = "";
-
-        if (lombokVersion != null && !lombokVersion.isEmpty()) {
-            propertiesBuilder.append(String.format("        <lombok.version>%s</lombok.version>\n", lombokVersion));
-            String lombokVersionPropertyRef = "${lombok.version}";
-            lombokDependencyManagementEntry =
-                    "            <dependency>\n" +
-                    "                <groupId>org.projectlombok</groupId>\n" +
-                    "                <artifactId>lombok</artifactId>\n" +
-                    String.format("                <version>%s</version>\n", lombokVersionPropertyRef) +
-                    "                <scope>provided</scope>\n" +
-                    "            </dependency>";
-            lombokCompilerPathVersionTag = String.format("                            <version>%s</version>\n", lombokVersionPropertyRef);
-        } else {
-        }
-
-        StringBuilder crossCuttingDepsXmlBuilder = new StringBuilder();
-        CrossCuttingLibraryRequest crossCuttingLib = request.getCrossCuttingLibrary();
-
-        if (crossCuttingLib != null && crossCuttingLib.getName() != null && !crossCuttingLib.getName().isEmpty() &&
-            crossCuttingLib.getVersion() != null && !crossCuttingLib.getVersion().isEmpty() &&
-            crossCuttingLib.getGroupId() != null && !crossCuttingLib.getGroupId().isEmpty() &&
-            crossCuttingLib.getDependencies() != null && !crossCuttingLib.getDependencies().isEmpty()) {
-            
-            String libName = crossCuttingLib.getName();
-            String libVersionProperty = libName.toLowerCase(Locale.ENGLISH).replace("-", "") + ".version";
-            propertiesBuilder.append(String.format("        <%s>%s</%s>\n", libVersionProperty, crossCuttingLib.getVersion(), libVersionProperty));
-
-            crossCuttingDepsXmlBuilder.append("\n            <!-- Cross-Cutting Library: ").append(libName).append(" -->");
-
-            List<String> actualDeps = crossCuttingLib.getDependencies();
-            
-            crossCuttingDepsXmlBuilder.append("\n");
-
-            for (int i = 0; i < actualDeps.size(); i++) {
-                String depSuffix = actualDeps.get(i);
-                String depBlock =
-                        "            <dependency>\n" +
-                        String.format("                <groupId>%s</groupId>\n", crossCuttingLib.getGroupId()) +
-                        String.format("                <artifactId>%s-%s</artifactId>\n", libName, depSuffix) +
-                        String.format("                <version>${%s}</version>\n", libVersionProperty) +
-                        "            </dependency>";
-                crossCuttingDepsXmlBuilder.append(depBlock);
-                if (i < actualDeps.size() - 1) {
-                    crossCuttingDepsXmlBuilder.append("\n");
-                }
-            }
-        }
-
-        return String.format("""
+    private static final CodeTemplate ROOT_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
          xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd">
@@ -554,8 +681,69 @@ public class ProjectService {
         </plugins>
     </build>
 </project>
-                """,
-                springBootVersion,
+                """);
+
+    private String generateRootPomXmlContent(ProjectRequest request, String effectiveVersion) {
+        String artifactId = request.getArtifactId();
+        String javaVersion = (request.getJavaVersion() != null && !request.getJavaVersion().isEmpty()) ? request.getJavaVersion() : DEFAULT_JAVA_VERSION;
+        String springBootVersion = (request.getSpringBootVersion() != null && !request.getSpringBootVersion().isEmpty()) ? request.getSpringBootVersion() : DEFAULT_SPRING_BOOT_VERSION;
+        String lombokVersion = request.getLombokVersion();
+
+        StringBuilder propertiesBuilder = new StringBuilder();
+        propertiesBuilder.append("        <java.version>").append(javaVersion).append("</java.version>\n");
+        propertiesBuilder.append("        <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n");
+
+        String lombokDependencyManagementEntry = "";
+        String lombokCompilerPathVersionTag = "";
+
+        if (lombokVersion != null && !lombokVersion.isEmpty()) {
+            propertiesBuilder.append("        <lombok.version>").append(lombokVersion).append("</lombok.version>\n");
+            String lombokVersionPropertyRef = "${lombok.version}";
+            lombokDependencyManagementEntry =
+                    "            <dependency>\n" +
+                    "                <groupId>org.projectlombok</groupId>\n" +
+                    "                <artifactId>lombok</artifactId>\n" +
+                    "                <version>" + lombokVersionPropertyRef + "</version>\n" +
+                    "                <scope>provided</scope>\n" +
+                    "            </dependency>";
+            lombokCompilerPathVersionTag = "                            <version>" + lombokVersionPropertyRef + "</version>\n";
+        } else {
+        }
+
+        StringBuilder crossCuttingDepsXmlBuilder = new StringBuilder();
+        CrossCuttingLibraryRequest crossCuttingLib = request.getCrossCuttingLibrary();
+
+        if (crossCuttingLib != null && crossCuttingLib.getName() != null && !crossCuttingLib.getName().isEmpty() &&
+            crossCuttingLib.getVersion() != null && !crossCuttingLib.getVersion().isEmpty() &&
+            crossCuttingLib.getGroupId() != null && !crossCuttingLib.getGroupId().isEmpty() &&
+            crossCuttingLib.getDependencies() != null && !crossCuttingLib.getDependencies().isEmpty()) {
+            
+            String libName = crossCuttingLib.getName();
+            String libVersionProperty = libName.toLowerCase(Locale.ENGLISH).replace("-", "") + ".version";
+            propertiesBuilder.append("        <").append(libVersionProperty).append(">").append(crossCuttingLib.getVersion()).append("</").append(libVersionProperty).append(">\n");
+
+            crossCuttingDepsXmlBuilder.append("\n            <!-- Cross-Cutting Library: ").append(libName).append(" -->");
+
+            List<String> actualDeps = crossCuttingLib.getDependencies();
+            
+            crossCuttingDepsXmlBuilder.append("\n");
+
+            for (int i = 0; i < actualDeps.size(); i++) {
+                String depSuffix = actualDeps.get(i);
+                String depBlock =
+                        "            <dependency>\n" +
+                        "                <groupId>" + crossCuttingLib.getGroupId() + "</groupId>\n" +
+                        "                <artifactId>" + libName + "-" + depSuffix + "</artifactId>\n" +
+                        "                <version>${" + libVersionProperty + "}</version>\n" +
+                        "            </dependency>";
+                crossCuttingDepsXmlBuilder.append(depBlock);
+                if (i < actualDeps.size() - 1) {
+                    crossCuttingDepsXmlBuilder.append("\n");
+                }
+            }
+        }
+
+        return ROOT_POM_XML_TEMPLATE.render(springBootVersion,
                 request.getGroupId(),
                 artifactId,
                 effectiveVersion,
@@ -574,9 +762,7 @@ public class ProjectService {
         );
     }
 
-    private String generateContainerPomXmlContent(ProjectRequest request, String containerArtifactId, String rootArtifactId, String effectiveVersion) {
-        String sanitizedPackageName = request.getPackageName().replace('-', '_');
-        return String.format("""
+    private static final CodeTemplate CONTAINER_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -639,8 +825,11 @@ public class ProjectService {
         </plugins>
     </build>
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generateContainerPomXmlContent(ProjectRequest request, String containerArtifactId, String rootArtifactId, String effectiveVersion) {
+        String sanitizedPackageName = request.getPackageName().replace('-', '_');
+        return CONTAINER_POM_XML_TEMPLATE.render(request.getGroupId(),
                 rootArtifactId,
                 effectiveVersion,
                 containerArtifactId,
@@ -653,15 +842,7 @@ public class ProjectService {
         );
     }
 
-    private String generateContainerApplicationJavaContent(String basePackageName, ProjectRequest projectRequest, String rootArtifactId, String moduleSuffix, boolean useCrossCuttingLibrary) {
-        String appName = capitalize(rootArtifactId) + capitalize(moduleSuffix) + "Application";
-        String moduleSpecificPackage = basePackageName + "." + moduleSuffix.replace("-", "").toLowerCase(Locale.ENGLISH);
-
-        if (useCrossCuttingLibrary) {
-            CrossCuttingLibraryRequest crossCuttingLib = projectRequest.getCrossCuttingLibrary();
-            String crossCuttingBasePackage = crossCuttingLib.getGroupId() + "." + crossCuttingLib.getName().replace("-", "");
-
-        return String.format("""
+    private static final CodeTemplate CONTAINER_APPLICATION_JAVA_1_TEMPLATE = CodeTemplate.compile("""
 package %s;
 
 import org.springframework.boot.SpringApplication;
@@ -679,9 +860,9 @@ public class %s {
     }
 
 }
-""", moduleSpecificPackage, basePackageName, basePackageName, basePackageName, crossCuttingBasePackage, appName, appName).stripIndent();
-        } else {
-            return String.format("""
+""");
+
+    private static final CodeTemplate CONTAINER_APPLICATION_JAVA_2_TEMPLATE = CodeTemplate.compile("""
 package %s;
 
 import org.springframework.boot.SpringApplication;
@@ -699,14 +880,23 @@ public class %s {
     }
 
 }
-""", moduleSpecificPackage, basePackageName, basePackageName, basePackageName, appName, appName).stripIndent();
+""");
+
+    private String generateContainerApplicationJavaContent(String basePackageName, ProjectRequest projectRequest, String rootArtifactId, String moduleSuffix, boolean useCrossCuttingLibrary) {
+        String appName = capitalize(rootArtifactId) + capitalize(moduleSuffix) + "Application";
+        String moduleSpecificPackage = basePackageName + "." + moduleSuffix.replace("-", "").toLowerCase(Locale.ENGLISH);
+
+        if (useCrossCuttingLibrary) {
+            CrossCuttingLibraryRequest crossCuttingLib = projectRequest.getCrossCuttingLibrary();
+            String crossCuttingBasePackage = crossCuttingLib.getGroupId() + "." + crossCuttingLib.getName().replace("-", "");
+
+        return CONTAINER_APPLICATION_JAVA_1_TEMPLATE.render(moduleSpecificPackage, basePackageName, basePackageName, basePackageName, crossCuttingBasePackage, appName, appName).stripIndent();
+        } else {
+            return CONTAINER_APPLICATION_JAVA_2_TEMPLATE.render(moduleSpecificPackage, basePackageName, basePackageName, basePackageName, appName, appName).stripIndent();
         }
     }
 
-    private String generateApplicationYmlContent(String springApplicationName, String serverPort, String bannerMode) {
-        // bannerMode argument is no longer used as it's hardcoded to off.
-        // springApplicationName and serverPort are used.
-        return String.format("""
+    private static final CodeTemplate APPLICATION_YML_TEMPLATE = CodeTemplate.compile("""
 spring:
   application:
     name: ${SPRING_APPLICATION_NAME:%s}
@@ -721,18 +911,15 @@ spring:
       ddl-auto: ${JPA_HIBERNATE_DDL_AUTO:validate} # Defaults to validate; can be overridden by profiles
 server:
   port: ${SERVER_PORT:%s}
-""", springApplicationName, serverPort);
-    }
+""");
 
-    private String generateApplicationLocalYmlContent(EnvironmentalCredentialsRequest envRequest) {
-        String url = (envRequest.getLocalDatasourceUrl() != null && !envRequest.getLocalDatasourceUrl().isEmpty())
-                     ? envRequest.getLocalDatasourceUrl() : "jdbc:postgresql://localhost:5432/your_db_name_local";
-        String username = (envRequest.getLocalDatasourceUsername() != null && !envRequest.getLocalDatasourceUsername().isEmpty())
-                          ? envRequest.getLocalDatasourceUsername() : "your_username_local";
-        String password = envRequest.getLocalDatasourcePassword() != null 
-                          ? envRequest.getLocalDatasourcePassword() : "your_password_local";
+    private String generateApplicationYmlContent(String springApplicationName, String serverPort, String bannerMode) {
+        // bannerMode argument is no longer used as it's hardcoded to off.
+        // springApplicationName and serverPort are used.
+        return APPLICATION_YML_TEMPLATE.render(springApplicationName, serverPort);
+    }
 
-        return String.format("""
+    private static final CodeTemplate APPLICATION_LOCAL_YML_TEMPLATE = CodeTemplate.compile("""
 spring:
   datasource:
     url: ${SPRING_DATASOURCE_URL_LOCAL:%s}
@@ -742,12 +929,20 @@ spring:
     hibernate:
       ddl-auto: update
     show-sql: true
-""", url, username, password);
+""");
+
+    private String generateApplicationLocalYmlContent(EnvironmentalCredentialsRequest envRequest) {
+        String url = (envRequest.getLocalDatasourceUrl() != null && !envRequest.getLocalDatasourceUrl().isEmpty())
+                     ? envRequest.getLocalDatasourceUrl() : "jdbc:postgresql://localhost:5432/your_db_name_local";
+        String username = (envRequest.getLocalDatasourceUsername() != null && !envRequest.getLocalDatasourceUsername().isEmpty())
+                          ? envRequest.getLocalDatasourceUsername() : "your_username_local";
+        String password = envRequest.getLocalDatasourcePassword() != null 
+                          ? envRequest.getLocalDatasourcePassword() : "your_password_local";
+
+        return APPLICATION_LOCAL_YML_TEMPLATE.render(url, username, password);
     }
 
-    private String generateProfileApplicationYmlContent(String baseSpringApplicationName, String profile) {
-        // baseSpringApplicationName is not used here.
-        return String.format("""
+    private static final CodeTemplate PROFILE_APPLICATION_YML_TEMPLATE = CodeTemplate.compile("""
 # Configuration for '%s' environment.
 # Expecting datasource credentials to be provided via environment variables or a secure configuration server.
 spring:
@@ -755,11 +950,14 @@ spring:
     url: ${SPRING_DATASOURCE_URL}
     username: ${SPRING_DATASOURCE_USERNAME}
     password: ${SPRING_DATASOURCE_PASSWORD}
-""", profile);
+""");
+
+    private String generateProfileApplicationYmlContent(String baseSpringApplicationName, String profile) {
+        // baseSpringApplicationName is not used here.
+        return PROFILE_APPLICATION_YML_TEMPLATE.render(profile);
     }
 
-    private String generateDomainParentPomXmlContent(ProjectRequest request, String domainParentArtifactId, String rootArtifactId, String effectiveVersion) {
-        return String.format("""
+    private static final CodeTemplate DOMAIN_PARENT_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -780,8 +978,10 @@ spring:
         <module>%s-domain-core</module>
     </modules>
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generateDomainParentPomXmlContent(ProjectRequest request, String domainParentArtifactId, String rootArtifactId, String effectiveVersion) {
+        return DOMAIN_PARENT_POM_XML_TEMPLATE.render(request.getGroupId(),
                 rootArtifactId,
                 effectiveVersion,
                 domainParentArtifactId,
@@ -790,8 +990,7 @@ spring:
         );
     }
 
-    private String generateDomainCorePomXmlContent(ProjectRequest request, String domainCoreArtifactId, String domainParentArtifactId, String effectiveVersion) {
-         return String.format("""
+    private static final CodeTemplate DOMAIN_CORE_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -806,16 +1005,17 @@ spring:
     <artifactId>%s</artifactId>
 
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generateDomainCorePomXmlContent(ProjectRequest request, String domainCoreArtifactId, String domainParentArtifactId, String effectiveVersion) {
+         return DOMAIN_CORE_POM_XML_TEMPLATE.render(request.getGroupId(),
                 domainParentArtifactId,
                 effectiveVersion,
                 domainCoreArtifactId
         );
     }
     
-    private String generateApplicationServicePomXmlContent(ProjectRequest request, String appServiceArtifactId, String domainParentArtifactId, String domainCoreArtifactId, String effectiveVersion) {
-        return String.format("""
+    private static final CodeTemplate APPLICATION_SERVICE_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -873,8 +1073,10 @@ spring:
         </dependency>
     </dependencies>
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generateApplicationServicePomXmlContent(ProjectRequest request, String appServiceArtifactId, String domainParentArtifactId, String domainCoreArtifactId, String effectiveVersion) {
+        return APPLICATION_SERVICE_POM_XML_TEMPLATE.render(request.getGroupId(),
                 domainParentArtifactId,
                 effectiveVersion,
                 appServiceArtifactId,
@@ -882,8 +1084,7 @@ spring:
         );
     }
 
-    private String generateInfrastructureParentPomXmlContent(ProjectRequest request, String infraParentArtifactId, String rootArtifactId, String effectiveVersion) {
-        return String.format("""
+    private static final CodeTemplate INFRASTRUCTURE_PARENT_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -903,8 +1104,10 @@ spring:
         <module>%s-persistence</module>
     </modules>
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generateInfrastructureParentPomXmlContent(ProjectRequest request, String infraParentArtifactId, String rootArtifactId, String effectiveVersion) {
+        return INFRASTRUCTURE_PARENT_POM_XML_TEMPLATE.render(request.getGroupId(),
                 rootArtifactId,
                 effectiveVersion,
                 infraParentArtifactId,
@@ -912,8 +1115,7 @@ spring:
         );
     }
 
-    private String generatePersistencePomXmlContent(ProjectRequest request, String persistenceArtifactId, String infraParentArtifactId, String appServiceArtifactId, String effectiveVersion) {
-        return String.format("""
+    private static final CodeTemplate PERSISTENCE_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -947,8 +1149,10 @@ spring:
         </dependency>
     </dependencies>
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generatePersistencePomXmlContent(ProjectRequest request, String persistenceArtifactId, String infraParentArtifactId, String appServiceArtifactId, String effectiveVersion) {
+        return PERSISTENCE_POM_XML_TEMPLATE.render(request.getGroupId(),
                 infraParentArtifactId,
                 effectiveVersion,
                 persistenceArtifactId,
@@ -956,8 +1160,7 @@ spring:
         );
     }
 
-    private String generateApplicationLayerPomXmlContent(ProjectRequest request, String appLayerArtifactId, String rootArtifactId, String appServiceArtifactId, String effectiveVersion) {
-        return String.format("""
+    private static final CodeTemplate APPLICATION_LAYER_POM_XML_TEMPLATE = CodeTemplate.compile("""
 <?xml version="1.0" encoding="UTF-8"?>
 <project xmlns="http://maven.apache.org/POM/4.0.0"
          xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
@@ -991,8 +1194,10 @@ spring:
         </dependency>
     </dependencies>
 </project>
-                """,
-                request.getGroupId(),
+                """);
+
+    private String generateApplicationLayerPomXmlContent(ProjectRequest request, String appLayerArtifactId, String rootArtifactId, String appServiceArtifactId, String effectiveVersion) {
+        return APPLICATION_LAYER_POM_XML_TEMPLATE.render(request.getGroupId(),
                 rootArtifactId,
                 effectiveVersion,
                 appLayerArtifactId,
@@ -1000,23 +1205,7 @@ spring:
         );
     }
 
-    private void deleteDirectoryRecursively(Path path) throws IOException {
-        if (Files.notExists(path)) {
-            return;
-        }
-        Files.walk(path)
-                .sorted((o1, o2) -> o2.compareTo(o1))
-                .forEach(p -> {
-                    try {
-                        Files.deleteIfExists(p);
-                    } catch (IOException e) {
-                        System.err.println("Failed to delete: " + p + " - " + e.getMessage());
-                    }
-                });
-    }
-
-    private String generateDefaultGlobalExceptionHandlerContent(String basePackageName, String globalExceptionHandlerClassName, String domainExceptionClassName) {
-        return String.format("""
+    private static final CodeTemplate DEFAULT_GLOBAL_EXCEPTION_HANDLER_TEMPLATE = CodeTemplate.compile("""
 package %s.application.exception;
 
 import %s.domain.core.exception.%s;
@@ -1074,11 +1263,13 @@ public class %s {
         return problemDetail;
     }
 }
-""", basePackageName, basePackageName, domainExceptionClassName, globalExceptionHandlerClassName, domainExceptionClassName, domainExceptionClassName, domainExceptionClassName, domainExceptionClassName);
+""");
+
+    private String generateDefaultGlobalExceptionHandlerContent(String basePackageName, String globalExceptionHandlerClassName, String domainExceptionClassName) {
+        return DEFAULT_GLOBAL_EXCEPTION_HANDLER_TEMPLATE.render(basePackageName, basePackageName, domainExceptionClassName, globalExceptionHandlerClassName, domainExceptionClassName, domainExceptionClassName, domainExceptionClassName, domainExceptionClassName);
     }
 
-    private String generateDefaultResultObjectContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DEFAULT_RESULT_OBJECT_TEMPLATE = CodeTemplate.compile("""
 package %s.application.payload;
 
 import lombok.AllArgsConstructor;
@@ -1129,20 +1320,24 @@ public class ResultObject<T> {
                 .build();
     }
 }
-""", basePackageName);
+""");
+
+    private String generateDefaultResultObjectContent(String basePackageName) {
+        return DEFAULT_RESULT_OBJECT_TEMPLATE.render(basePackageName);
     }
 
-    private String generateDefaultAggregateRootContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DEFAULT_AGGREGATE_ROOT_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.entity;
 
 public abstract class AggregateRoot<ID> extends BaseDomainEntity<ID> {
 }
-""", basePackageName);
+""");
+
+    private String generateDefaultAggregateRootContent(String basePackageName) {
+        return DEFAULT_AGGREGATE_ROOT_TEMPLATE.render(basePackageName);
     }
 
-    private String generateDefaultBaseDomainEntityContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DEFAULT_BASE_DOMAIN_ENTITY_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.entity;
 
 import java.util.Objects;
@@ -1172,11 +1367,13 @@ public abstract class BaseDomainEntity<ID> {
         return Objects.hash(id);
     }
 }
-""", basePackageName);
+""");
+
+    private String generateDefaultBaseDomainEntityContent(String basePackageName) {
+        return DEFAULT_BASE_DOMAIN_ENTITY_TEMPLATE.render(basePackageName);
     }
 
-    private String generateDefaultBaseEntityContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DEFAULT_BASE_ENTITY_TEMPLATE = CodeTemplate.compile("""
 package %s.infrastructure.persistence.entity;
 
 import jakarta.persistence.GeneratedValue;
@@ -1204,11 +1401,13 @@ public class BaseEntity {
         this.isDeleted = isDeleted;
     }
 }
-""", basePackageName);
+""");
+
+    private String generateDefaultBaseEntityContent(String basePackageName) {
+        return DEFAULT_BASE_ENTITY_TEMPLATE.render(basePackageName);
     }
 
-    private String generateDefaultBaseIdContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DEFAULT_BASE_ID_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.valueobject;
 
 import java.util.Objects;
@@ -1243,11 +1442,13 @@ public abstract class BaseId<T> {
         return value.toString();
     }
 }
-""", basePackageName);
+""");
+
+    private String generateDefaultBaseIdContent(String basePackageName) {
+        return DEFAULT_BASE_ID_TEMPLATE.render(basePackageName);
     }
 
-    private String generateDomainExceptionContent(String basePackageName, String className) {
-        return String.format("""
+    private static final CodeTemplate DOMAIN_EXCEPTION_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.exception;
 
 public class %s extends RuntimeException {
@@ -1260,11 +1461,13 @@ public class %s extends RuntimeException {
         super(message, cause);
     }
 }
-""", basePackageName, className, className, className);
+""");
+
+    private String generateDomainExceptionContent(String basePackageName, String className) {
+        return DOMAIN_EXCEPTION_TEMPLATE.render(basePackageName, className, className, className);
     }
 
-    private String generateDomainEntityNotFoundExceptionContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DOMAIN_ENTITY_NOT_FOUND_EXCEPTION_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.exception;
 
 public class DomainEntityNotFoundException extends RuntimeException {
@@ -1273,11 +1476,13 @@ public class DomainEntityNotFoundException extends RuntimeException {
         super();
     }
 }
-""", basePackageName);
+""");
+
+    private String generateDomainEntityNotFoundExceptionContent(String basePackageName) {
+        return DOMAIN_ENTITY_NOT_FOUND_EXCEPTION_TEMPLATE.render(basePackageName);
     }
 
-    private String generateRepositoryOutputPortExceptionContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate REPOSITORY_OUTPUT_PORT_EXCEPTION_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.exception;
 
 public class RepositoryOutputPortException extends RuntimeException {
@@ -1286,71 +1491,89 @@ public class RepositoryOutputPortException extends RuntimeException {
         super();
     }
 }
-""", basePackageName);
+""");
+
+    private String generateRepositoryOutputPortExceptionContent(String basePackageName) {
+        return REPOSITORY_OUTPUT_PORT_EXCEPTION_TEMPLATE.render(basePackageName);
     }
 
-    private void generateDomainClasses(EnvironmentalCredentialsRequest envRequest, Path domainCoreMainJava, String basePackageName) {
-        String url = envRequest.getLocalDatasourceUrl();
-        String username = envRequest.getLocalDatasourceUsername();
-        String password = envRequest.getLocalDatasourcePassword();
-        String schema = envRequest.getSelectedSchema();
+    private void generateDomainClasses(ProjectOutput output, EnvironmentalCredentialsRequest envRequest, SchemaModel schemaModel, EnumRegistry enumRegistry, NamingModel naming, Path domainCoreMainJava, String basePackageName) throws IOException {
+        List<String> tables = schemaModel.getTables();
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+
+        Set<String> aggregateRoots = schemaModel.getAggregateRoots();
+        Map<String, String> tableEntityTypes = envRequest.getTableEntityTypes();
+        Map<String, String> columnToEnumMap = enumRegistry.getEnumTypesByColumn();
 
-        try (Connection conn = DriverManager.getConnection(url, username, password)) {
-            List<String> tables = getTables(conn, schema);
-            Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = getDetailedForeignKeys(conn, schema);
+        generateEnums(output, enumRegistry, basePackageName, domainCoreMainJava);
 
-            Map<String, Set<String>> foreignKeys = new HashMap<>();
-            for (Map.Entry<String, Map<String, ForeignKeyInfo>> entry : detailedForeignKeys.entrySet()) {
-                foreignKeys.put(entry.getKey(), entry.getValue().values().stream().map(ForeignKeyInfo::getPkTableName).collect(Collectors.toSet()));
+        for (String table : tables) {
+            if (!output.enterTable(table)) {
+                continue;
+            }
+            String classNamePrefix = naming.table(table).getClassName();
+            String extendsClass;
+            if (tableEntityTypes != null && tableEntityTypes.containsKey(table)) {
+                extendsClass = tableEntityTypes.get(table);
+            } else {
+                extendsClass = aggregateRoots.contains(table) ? "AggregateRoot" : "BaseDomainEntity";
             }
 
-            Set<String> aggregateRoots = determineAggregateRootsFromDB(tables, foreignKeys);
-            Map<String, String> tableEntityTypes = envRequest.getTableEntityTypes();
-            Map<String, String> columnToEnumMap = new HashMap<>();
+            Path valueObjectDir = Paths.get(domainCoreMainJava.toString(), "valueobject");
+            String idClassName = classNamePrefix + "Id";
+            String idClassContent = generateIdClassContent(basePackageName, idClassName);
+            output.write(Paths.get(valueObjectDir.toString(), idClassName + ".java"), idClassContent);
 
-            for (String table : tables) {
-                List<Map<String, String>> columns = getColumnsForTable(conn, schema, table);
-                for (Map<String, String> column : columns) {
-                    String comment = column.get("comment");
-                    if (comment != null && !comment.isBlank()) {
-                        String enumFqn = generateEnumIfApplicable(comment, column.get("name"), basePackageName, domainCoreMainJava);
-                        if (enumFqn != null) {
-                            columnToEnumMap.put(table + "." + column.get("name"), enumFqn);
-                        }
-                    }
-                }
-            }
+            List<Map<String, String>> columns = schemaModel.getColumns(table);
+            Path entityDir = Paths.get(domainCoreMainJava.toString(), "entity");
+            String domainEntityClassName = classNamePrefix + "DomainEntity";
+            String domainEntityClassContent = generateDomainEntityClassContent(basePackageName, naming, domainEntityClassName, idClassName, columns, extendsClass, columnToEnumMap, table, detailedForeignKeys, aggregateRoots);
+            output.write(Paths.get(entityDir.toString(), domainEntityClassName + ".java"), domainEntityClassContent);
+        }
+        output.exitTable();
+    }
 
-            for (String table : tables) {
-                String classNamePrefix = snakeKebabCaseToPascalCase(table);
-                String extendsClass;
-                if (tableEntityTypes != null && tableEntityTypes.containsKey(table)) {
-                    extendsClass = tableEntityTypes.get(table);
-                } else {
-                    extendsClass = aggregateRoots.contains(table) ? "AggregateRoot" : "BaseDomainEntity";
-                }
+    private static final CodeTemplate ENUM_TEMPLATE = CodeTemplate.compile("""
+package %s.domain.core.valueobject;
+
+import java.util.stream.Stream;
+
+public enum %s {
+%s;
+
+    private final int value;
+
+    %s(int value) {
+        this.value = value;
+    }
 
-                Path valueObjectDir = Paths.get(domainCoreMainJava.toString(), "valueobject");
-                Files.createDirectories(valueObjectDir);
-                String idClassName = classNamePrefix + "Id";
-                String idClassContent = generateIdClassContent(basePackageName, idClassName);
-                Files.write(Paths.get(valueObjectDir.toString(), idClassName + ".java"), idClassContent.getBytes());
-
-                List<Map<String, String>> columns = getColumnsForTable(conn, schema, table);
-                Path entityDir = Paths.get(domainCoreMainJava.toString(), "entity");
-                Files.createDirectories(entityDir);
-                String domainEntityClassName = classNamePrefix + "DomainEntity";
-                String domainEntityClassContent = generateDomainEntityClassContent(basePackageName, classNamePrefix, domainEntityClassName, idClassName, columns, extendsClass, columnToEnumMap, table, detailedForeignKeys, aggregateRoots);
-                Files.write(Paths.get(entityDir.toString(), domainEntityClassName + ".java"), domainEntityClassContent.getBytes());
+    public int getValue() {
+        return value;
+    }
+
+    public static %s fromValue(int value) {
+        return Stream.of(%s.values())
+                .filter(targetEnum -> targetEnum.value == value)
+                .findFirst()
+                .orElse(null);
+    }
+}
+""");
+
+    // Parses every "Enum:" column comment once; all later phases take enum types from the returned registry
+    private EnumRegistry buildEnumRegistry(SchemaModel schemaModel, String basePackageName) {
+        EnumRegistry enumRegistry = new EnumRegistry(basePackageName + ".domain.core.valueobject");
+        for (String table : schemaModel.getTables()) {
+            for (Map<String, String> column : schemaModel.getColumns(table)) {
+                registerEnumIfApplicable(enumRegistry, table, column.get("comment"), column.get("name"));
             }
-        } catch (SQLException | IOException e) {
-            e.printStackTrace();
         }
+        return enumRegistry;
     }
 
-    private String generateEnumIfApplicable(String comment, String columnName, String basePackageName, Path domainCoreMainJava) throws IOException {
+    private void registerEnumIfApplicable(EnumRegistry enumRegistry, String table, String comment, String columnName) {
         if (comment == null || !comment.startsWith("Enum:")) {
-            return null;
+            return;
         }
 
         String spec = comment.substring("Enum:".length());
@@ -1359,15 +1582,15 @@ public class RepositoryOutputPortException extends RuntimeException {
 
         int braceStart = spec.indexOf('{');
         if (braceStart == -1 || !spec.endsWith("}")) {
-            return null;
+            return;
         }
 
         String classNamePart = spec.substring(0, braceStart).trim();
-        enumClassName = !classNamePart.isEmpty() ? classNamePart : snakeKebabCaseToPascalCase(columnName);
+        enumClassName = !classNamePart.isEmpty() ? classNamePart : NamingModel.toPascalCase(columnName);
 
         valuesPart = spec.substring(braceStart + 1, spec.length() - 1);
         if (valuesPart.trim().isEmpty()) {
-            return null;
+            return;
         }
 
         StringBuilder enumValues = new StringBuilder();
@@ -1399,50 +1622,28 @@ public class RepositoryOutputPortException extends RuntimeException {
             if (!first) {
                 enumValues.append(",\n");
             }
-            enumValues.append(String.format("    %s(%d)", enumConstantName, ordinal));
+            enumValues.append("    ").append(enumConstantName).append("(").append(ordinal).append(")");
             first = false;
         }
 
         if (enumValues.length() == 0) {
-            return null;
+            return;
         }
 
-        String enumContent = String.format("""
-package %s.domain.core.valueobject;
-
-import java.util.stream.Stream;
-
-public enum %s {
-%s;
-
-    private final int value;
-
-    %s(int value) {
-        this.value = value;
-    }
-
-    public int getValue() {
-        return value;
+        enumRegistry.register(table, columnName, enumClassName, enumValues.toString());
     }
 
-    public static %s fromValue(int value) {
-        return Stream.of(%s.values())
-                .filter(targetEnum -> targetEnum.value == value)
-                .findFirst()
-                .orElse(null);
-    }
-}
-""", basePackageName, enumClassName, enumValues.toString(), enumClassName, enumClassName, enumClassName);
-
+    // Each enum class exactly once, however many columns use it
+    private void generateEnums(ProjectOutput output, EnumRegistry enumRegistry, String basePackageName, Path domainCoreMainJava) throws IOException {
         Path valueObjectDir = Paths.get(domainCoreMainJava.toString(), "valueobject");
-        Files.createDirectories(valueObjectDir);
-        Files.write(Paths.get(valueObjectDir.toString(), enumClassName + ".java"), enumContent.getBytes());
-
-        return basePackageName + ".domain.core.valueobject." + enumClassName;
+        for (Map.Entry<String, String> enumConstants : enumRegistry.getConstantsByEnum().entrySet()) {
+            String enumClassName = enumConstants.getKey();
+            String enumContent = ENUM_TEMPLATE.render(basePackageName, enumClassName, enumConstants.getValue(), enumClassName, enumClassName, enumClassName);
+            output.write(Paths.get(valueObjectDir.toString(), enumClassName + ".java"), enumContent);
+        }
     }
 
-    private String generateIdClassContent(String basePackageName, String idClassName) {
-        return String.format("""
+    private static final CodeTemplate ID_CLASS_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.valueobject;
 
 import java.util.UUID;
@@ -1453,39 +1654,49 @@ public class %s extends BaseId<UUID> {
         super(value);
     }
 }
-""", basePackageName, idClassName, idClassName);
+""");
+
+    private String generateIdClassContent(String basePackageName, String idClassName) {
+        return ID_CLASS_TEMPLATE.render(basePackageName, idClassName, idClassName);
     }
 
-    private String generateDomainEntityClassContent(String basePackageName, String entityName, String domainEntityClassName, String idClassName, List<Map<String, String>> columns, String extendsClass, Map<String, String> columnToEnumMap, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots) {
+    private static final CodeTemplate DOMAIN_ENTITY_CLASS_TEMPLATE = CodeTemplate.compile("""
+package %s.domain.core.entity;
+
+%s
+public class %s extends %s<%s> {
+
+%s
+    public %s(%s) {
+%s    }
+
+%s}
+""");
+
+    private String generateDomainEntityClassContent(String basePackageName, NamingModel naming, String domainEntityClassName, String idClassName, List<Map<String, String>> columns, String extendsClass, Map<String, String> columnToEnumMap, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots) {
         StringBuilder fields = new StringBuilder();
         StringBuilder constructorParams = new StringBuilder();
         StringBuilder constructorBody = new StringBuilder();
         StringBuilder getters = new StringBuilder();
         Set<String> imports = new TreeSet<>();
 
-        imports.add(String.format("%s.domain.core.valueobject.%s", basePackageName, idClassName));
+        imports.add(basePackageName + ".domain.core.valueobject." + idClassName);
 
-        constructorParams.append(String.format("%s id, ", idClassName));
+        constructorParams.append(idClassName).append(" id, ");
         if (extendsClass.equals("AggregateRoot")) {
-            constructorBody.append(String.format("        super.setId(id);%n"));
+            constructorBody.append("        super.setId(id);").append(LINE_SEPARATOR);
         } else {
-            constructorBody.append(String.format("        this.setId(id);%n"));
+            constructorBody.append("        this.setId(id);").append(LINE_SEPARATOR);
         }
 
         Map<String, ForeignKeyInfo> tableForeignKeys = detailedForeignKeys.getOrDefault(currentTable, new HashMap<>());
-        String classNamePrefix = domainEntityClassName.replace("DomainEntity", "");
-        String fieldPrefix = classNamePrefix.substring(0, 1).toLowerCase(Locale.ENGLISH) + classNamePrefix.substring(1);
+        NamingModel.TableNames tableNames = naming.table(currentTable);
 
         for (Map<String, String> column : columns) {
             String columnName = column.get("name");
             if (!columnName.equals("id")) {
-                String camelCaseName = snakeCaseToCamelCase(columnName);
-                String fieldName;
-                if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                    fieldName = firstCharToLowerCase(classNamePrefix) + snakeKebabCaseToPascalCase(columnName);
-                } else {
-                    fieldName = camelCaseName;
-                }
+                NamingModel.ColumnNames columnNames = tableNames.column(columnName);
+                String fieldName = columnNames.getFieldName();
 
                 String fqnFieldType;
                 String columnIdentifier = currentTable + "." + columnName;
@@ -1493,7 +1704,7 @@ public class %s extends BaseId<UUID> {
                 if (columnToEnumMap.containsKey(columnIdentifier)) {
                     fqnFieldType = columnToEnumMap.get(columnIdentifier);
                 } else if (tableForeignKeys.containsKey(columnName)) {
-                    fqnFieldType = basePackageName + ".domain.core.valueobject." + snakeKebabCaseToPascalCase(tableForeignKeys.get(columnName).getPkTableName()) + "Id";
+                    fqnFieldType = basePackageName + ".domain.core.valueobject." + naming.table(tableForeignKeys.get(columnName).getPkTableName()).getClassName() + "Id";
                 } else {
                     fqnFieldType = toJavaType(column.get("type"));
                 }
@@ -1509,18 +1720,12 @@ public class %s extends BaseId<UUID> {
                 } else {
                     simpleFieldType = fqnFieldType;
                 }
-                fields.append(String.format("    private final %s %s;%n", simpleFieldType, fieldName));
-                constructorParams.append(String.format("%s %s, ", simpleFieldType, fieldName));
-                constructorBody.append(String.format("        this.%s = %s;%n", fieldName, fieldName));
-
-                String getterMethodName;
-                if (simpleFieldType.equals("Boolean")) {
-                    // Always prefix boolean getters with "get" for consistency, as requested.
-                    getterMethodName = "get" + capitalizeFirstLetter(fieldName);
-                } else {
-                    getterMethodName = "get" + capitalizeFirstLetter(fieldName);
-                }
-                getters.append(String.format("    public %s %s() {%n        return %s;%n    }%n%n", simpleFieldType, getterMethodName, fieldName));
+                fields.append("    private final ").append(simpleFieldType).append(" ").append(fieldName).append(";").append(LINE_SEPARATOR);
+                constructorParams.append(simpleFieldType).append(" ").append(fieldName).append(", ");
+                constructorBody.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";").append(LINE_SEPARATOR);
+
+                // Boolean getters are prefixed with "get" too, for consistency
+                getters.append("    public ").append(simpleFieldType).append(" ").append(columnNames.getGetterName()).append("() {").append(LINE_SEPARATOR).append("        return ").append(fieldName).append(";").append(LINE_SEPARATOR).append("    }").append(LINE_SEPARATOR).append(LINE_SEPARATOR);
             }
         }
 
@@ -1530,120 +1735,10 @@ public class %s extends BaseId<UUID> {
 
         StringBuilder importStatements = new StringBuilder();
         for (String imp : imports) {
-            importStatements.append(String.format("import %s;%n", imp));
-        }
-
-        return String.format("""
-package %s.domain.core.entity;
-
-%s
-public class %s extends %s<%s> {
-
-%s
-    public %s(%s) {
-%s    }
-
-%s}
-""", basePackageName, importStatements.toString(), domainEntityClassName, extendsClass, idClassName, fields.toString(), domainEntityClassName, constructorParams.toString(), constructorBody.toString(), getters.toString());
-    }
-
-    private List<String> getTables(Connection conn, String schema) throws SQLException {
-        List<String> tables = new ArrayList<>();
-        String query = "SELECT table_name FROM information_schema.tables WHERE table_schema = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(query)) {
-            pstmt.setString(1, schema);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    tables.add(rs.getString("table_name"));
-                }
-            }
-        }
-        return tables;
-    }
-
-    public Map<String, Set<String>> getForeignKeys(Connection conn, String schema) throws SQLException {
-        Map<String, Set<String>> foreignKeys = new HashMap<>();
-        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = getDetailedForeignKeys(conn, schema);
-        
-        for (Map.Entry<String, Map<String, ForeignKeyInfo>> entry : detailedForeignKeys.entrySet()) {
-            Set<String> referencedTables = entry.getValue().values().stream()
-                .map(ForeignKeyInfo::getPkTableName)
-                .collect(Collectors.toSet());
-            foreignKeys.put(entry.getKey(), referencedTables);
-        }
-        
-        return foreignKeys;
-    }
-
-    private static class ForeignKeyInfo {
-        private final String pkTableName;
-        private final String fkColumnName;
-        private final String pkColumnName;
-
-        public ForeignKeyInfo(String pkTableName, String fkColumnName, String pkColumnName) {
-            this.pkTableName = pkTableName;
-            this.fkColumnName = fkColumnName;
-            this.pkColumnName = pkColumnName;
-        }
-
-        public String getPkTableName() {
-            return pkTableName;
-        }
-
-        public String getFkColumnName() {
-            return fkColumnName;
-        }
-
-        public String getPkColumnName() {
-            return pkColumnName;
-        }
-    }
-
-    private Map<String, Map<String, ForeignKeyInfo>> getDetailedForeignKeys(Connection conn, String schema) throws SQLException {
-        Map<String, Map<String, ForeignKeyInfo>> foreignKeys = new HashMap<>();
-        DatabaseMetaData metaData = conn.getMetaData();
-        List<String> allTables = getTables(conn, schema);
-        
-        for (String tableName : allTables) {
-            try (ResultSet rs = metaData.getImportedKeys(conn.getCatalog(), schema, tableName)) {
-                while (rs.next()) {
-                    String pkTableName = rs.getString("PKTABLE_NAME");
-                    String fkColumnName = rs.getString("FKCOLUMN_NAME");
-                    String pkColumnName = rs.getString("PKCOLUMN_NAME");
-                    
-                    foreignKeys
-                        .computeIfAbsent(tableName, k -> new HashMap<>())
-                        .put(fkColumnName, new ForeignKeyInfo(pkTableName, fkColumnName, pkColumnName));
-                }
-            }
-        }
-        return foreignKeys;
-    }
-
-    public Set<String> determineAggregateRootsFromDB(List<String> allTables, Map<String, Set<String>> foreignKeys) {
-        Set<String> aggregateRoots = new HashSet<>();
-        // Rule 1: Tables with no outgoing FKs are roots.
-        for (String table : allTables) {
-            if (!foreignKeys.containsKey(table)) {
-                aggregateRoots.add(table);
-            }
+            importStatements.append("import ").append(imp).append(";").append(LINE_SEPARATOR);
         }
 
-        // Rule 2: Iteratively find tables that only point to existing roots.
-        boolean changed;
-        do {
-            changed = false;
-            for (String table : allTables) {
-                if (!aggregateRoots.contains(table) && foreignKeys.containsKey(table)) {
-                    if (aggregateRoots.containsAll(foreignKeys.get(table))) {
-                        aggregateRoots.add(table);
-                        changed = true;
-                    }
-                }
-            }
-        } while (changed);
-
-        return aggregateRoots;
+        return DOMAIN_ENTITY_CLASS_TEMPLATE.render(basePackageName, importStatements.toString(), domainEntityClassName, extendsClass, idClassName, fields.toString(), domainEntityClassName, constructorParams.toString(), constructorBody.toString(), getters.toString());
     }
 
     private Set<String> determineAggregateRootsFromUserSelection(Map<String, String> tableEntityTypes) {
@@ -1658,31 +1753,6 @@ public class %s extends %s<%s> {
         return aggregateRoots;
     }
 
-    private List<Map<String, String>> getColumnsForTable(Connection conn, String schema, String table) throws SQLException {
-        List<Map<String, String>> columns = new ArrayList<>();
-        String query = "SELECT c.column_name, c.data_type, pgd.description " +
-                "FROM information_schema.columns AS c " +
-                "LEFT JOIN pg_catalog.pg_class AS pgc ON pgc.relname = c.table_name AND pgc.relkind = 'r' " +
-                "LEFT JOIN pg_catalog.pg_namespace AS pgns ON pgns.oid = pgc.relnamespace AND pgns.nspname = c.table_schema " +
-                "LEFT JOIN pg_catalog.pg_description AS pgd ON pgd.objoid = pgc.oid AND pgd.objsubid = c.ordinal_position " +
-                "WHERE c.table_schema = ? AND c.table_name = ? " +
-                "ORDER BY c.ordinal_position";
-        try (PreparedStatement pstmt = conn.prepareStatement(query)) {
-            pstmt.setString(1, schema);
-            pstmt.setString(2, table);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Map<String, String> columnData = new HashMap<>();
-                    columnData.put("name", rs.getString("column_name"));
-                    columnData.put("type", rs.getString("data_type"));
-                    columnData.put("comment", rs.getString("description"));
-                    columns.add(columnData);
-                }
-            }
-        }
-        return columns;
-    }
-
     private String toJavaType(String dbType) {
         switch (dbType.toLowerCase(Locale.ENGLISH)) {
             case "uuid":
@@ -1722,216 +1792,183 @@ public class %s extends %s<%s> {
         }
     }
 
-    private static final Set<String> JAVA_KEYWORDS = new HashSet<>(Arrays.asList(
-            "abstract", "continue", "for", "new", "switch", "assert", "default", "goto", "package", "synchronized",
-            "boolean", "do", "if", "private", "this", "break", "double", "implements", "protected", "throw",
-            "byte", "else", "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
-            "catch", "extends", "int", "short", "try", "char", "final", "interface", "static", "void",
-            "class", "finally", "long", "strictfp", "volatile", "const", "float", "native", "super", "while",
-            "true", "false", "null"
-    ));
-
-    private void generateApplicationServiceClasses(ProjectRequest projectRequest, EnvironmentalCredentialsRequest envRequest, Path appServiceMainJava, Path domainCoreMainJava, String basePackageName) throws IOException {
-        try (Connection conn = DriverManager.getConnection(envRequest.getLocalDatasourceUrl(), envRequest.getLocalDatasourceUsername(), envRequest.getLocalDatasourcePassword())) {
-            String schema = envRequest.getSelectedSchema();
-            List<String> tables = getTables(conn, schema);
-            Map<String, Set<String>> foreignKeys = getForeignKeys(conn, schema);
-            Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(envRequest.getTableEntityTypes());
-            Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = getDetailedForeignKeys(conn, schema);
-
-            Map<String, String> columnToEnumMap = new HashMap<>();
-            for (String table : tables) {
-                List<Map<String, String>> columns = getColumnsForTable(conn, schema, table);
-                for (Map<String, String> column : columns) {
-                    String comment = column.get("comment");
-                    if (comment != null && !comment.isBlank()) {
-                        String enumFqn = generateEnumIfApplicable(comment, column.get("name"), basePackageName, domainCoreMainJava);
-                        if (enumFqn != null) {
-                            columnToEnumMap.put(table + "." + column.get("name"), enumFqn);
-                        }
-                    }
-                }
-            }
+    private void generateApplicationServiceClasses(ProjectOutput output, ProjectRequest projectRequest, EnvironmentalCredentialsRequest envRequest, SchemaModel schemaModel, EnumRegistry enumRegistry, NamingModel naming, Path appServiceMainJava, String basePackageName) throws IOException {
+        List<String> tables = schemaModel.getTables();
+        Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(envRequest.getTableEntityTypes());
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+        Map<String, String> columnToEnumMap = enumRegistry.getEnumTypesByColumn();
 
-            String domainMapperName = snakeKebabCaseToPascalCase(projectRequest.getArtifactId()) + "DomainMapper";
+        String domainMapperName = NamingModel.toPascalCase(projectRequest.getArtifactId()) + "DomainMapper";
 
-            // Domain Entities (non-aggregate tables) should not have command/query packages generated
+        // Domain Entities (non-aggregate tables) should not have command/query packages generated
 
-            // Generate repositories and full command classes for aggregate roots (includes GetByIdResponse DTOs)
-            for (String table : tables) {
-                if (aggregateRoots.contains(table)) {
-                    generateRepositoryInterface(table, basePackageName, appServiceMainJava);
-                    generateCommandClasses(table, basePackageName, appServiceMainJava, conn, schema, detailedForeignKeys, aggregateRoots, columnToEnumMap, domainMapperName, projectRequest);
-                    generateApplicationServiceInterface(table, basePackageName, appServiceMainJava);
-                    generateApplicationServiceImplementation(table, basePackageName, appServiceMainJava, domainMapperName, projectRequest);
-                }
+        // Generate repositories and full command classes for aggregate roots (includes GetByIdResponse DTOs)
+        for (String table : tables) {
+            if (aggregateRoots.contains(table) && output.enterTable(table)) {
+                NamingModel.TableNames tableNames = naming.table(table);
+                generateRepositoryInterface(output, tableNames, basePackageName, appServiceMainJava);
+                generateCommandClasses(output, tableNames, basePackageName, appServiceMainJava, schemaModel, naming, detailedForeignKeys, aggregateRoots, columnToEnumMap, domainMapperName, projectRequest);
+                generateApplicationServiceInterface(output, tableNames, basePackageName, appServiceMainJava);
+                generateApplicationServiceImplementation(output, tableNames, basePackageName, appServiceMainJava, domainMapperName, projectRequest);
             }
+        }
+        output.exitTable();
 
-            // Generate DomainMapper only for Aggregate Roots (not Domain Entities)
-            generateDomainMapper(domainMapperName, basePackageName, appServiceMainJava, aggregateRoots, conn, schema, columnToEnumMap, detailedForeignKeys, aggregateRoots);
+        // Generate DomainMapper only for Aggregate Roots (not Domain Entities)
+        generateDomainMapper(output, domainMapperName, basePackageName, appServiceMainJava, aggregateRoots, schemaModel, naming, columnToEnumMap, detailedForeignKeys, aggregateRoots);
 
-            // Domain Entities (non-aggregate tables) should not have query handlers generated
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to generate application service classes", e);
-        }
+        // Domain Entities (non-aggregate tables) should not have query handlers generated
     }
 
-    private void generateDomainMapper(String domainMapperName, String basePackageName, Path appServiceMainJava, Set<String> aggregateRoots, Connection conn, String schema, Map<String, String> columnToEnumMap, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> allAggregateRoots) throws IOException, SQLException {
+    private static final CodeTemplate DOMAIN_MAPPER_TEMPLATE = CodeTemplate.compile("""
+package %s.domain.applicationservice.mapper;
+
+%s
+
+@Component
+public class %s {
+
+%s
+}
+""");
+
+    private void generateDomainMapper(ProjectOutput output, String domainMapperName, String basePackageName, Path appServiceMainJava, Set<String> aggregateRoots, SchemaModel schemaModel, NamingModel naming, Map<String, String> columnToEnumMap, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> allAggregateRoots) throws IOException {
         Path mapperDir = Paths.get(appServiceMainJava.toString(), "mapper");
-        Files.createDirectories(mapperDir);
-        StringBuilder methods = new StringBuilder();
         Set<String> mapperImports = new TreeSet<>();
 
         mapperImports.add("import org.springframework.stereotype.Component;");
-        mapperImports.add(String.format("import %s.domain.core.entity.*;", basePackageName));
-        mapperImports.add(String.format("import %s.domain.core.valueobject.*;", basePackageName));
+        mapperImports.add("import " + basePackageName + ".domain.core.entity.*;");
+        mapperImports.add("import " + basePackageName + ".domain.core.valueobject.*;");
         mapperImports.add("import java.time.ZonedDateTime;");
 
+        // Imports first: the methods below are streamed into the file one aggregate root at a time
         for (String rootTable : aggregateRoots) {
-            String entityName = snakeKebabCaseToPascalCase(rootTable);
-            String domainEntityName = entityName + "DomainEntity";
-            String createCommandName = "Create" + entityName + "Command";
-            String createCommandVar = firstCharToLowerCase(createCommandName);
-            String createResponseName = "Create" + entityName + "Response";
-            String updateCommandName = "Update" + entityName + "Command";
-            String updateCommandVar = firstCharToLowerCase(updateCommandName);
-            String updateResponseName = "Update" + entityName + "Response";
-            String getByIdResponseName = "GetById" + entityName + "Response";
-            String queryResponseName = entityName + "QueryResponse";
-            String entityNameLower = rootTable.toLowerCase(Locale.ENGLISH).replace("_", "");
-
-            // Generate imports for commands and responses (only processing aggregate roots now)
-            mapperImports.add(String.format("import %s.domain.applicationservice.commands.%s.create.%s;", basePackageName, entityNameLower, createCommandName));
-            mapperImports.add(String.format("import %s.domain.applicationservice.commands.%s.create.%s;", basePackageName, entityNameLower, createResponseName));
-            mapperImports.add(String.format("import %s.domain.applicationservice.commands.%s.update.%s;", basePackageName, entityNameLower, updateCommandName));
-            mapperImports.add(String.format("import %s.domain.applicationservice.commands.%s.update.%s;", basePackageName, entityNameLower, updateResponseName));
-            mapperImports.add(String.format("import %s.domain.applicationservice.queries.%s.query.%s;", basePackageName, entityNameLower, queryResponseName));
-            mapperImports.add(String.format("import %s.domain.applicationservice.queries.%s.getbyid.%s;", basePackageName, entityNameLower, getByIdResponseName));
-            
-            List<Map<String, String>> columns = getColumnsForTable(conn, schema, rootTable);
-            Map<String, ForeignKeyInfo> tableForeignKeys = detailedForeignKeys.getOrDefault(rootTable, new HashMap<>());
-
-            // Generate Command to DomainEntity mapping
-            StringBuilder domainEntityConstructorArgs = new StringBuilder();
-            domainEntityConstructorArgs.append(String.format("new %s(null)", entityName + "Id")); // For ID, always new ID(null) for creation
-
-            StringBuilder responseConstructorArgs = new StringBuilder();
-            String rootTableCamelCase = snakeCaseToCamelCase(rootTable);
-            responseConstructorArgs.append(String.format("%sDomainEntity.getId().getValue()", rootTableCamelCase));
-
-            for (Map<String, String> column : columns) {
-                String columnName = column.get("name");
-                if (columnName.equals("id")) continue;
-
-                String camelCaseName = snakeCaseToCamelCase(columnName);
-                String fieldName;
-                if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                    fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-                } else {
-                    fieldName = camelCaseName;
-                }
-
-                String columnIdentifier = rootTable + "." + columnName;
-
-                // For Command to DomainEntity mapping (CREATE)
-                if (columnToEnumMap.containsKey(columnIdentifier)) {
-                    domainEntityConstructorArgs.append(String.format(", %s.get%s()", createCommandVar, capitalizeFirstLetter(fieldName)));
-                } else if (tableForeignKeys.containsKey(columnName)) {
-                    String referencedEntityPascal = snakeKebabCaseToPascalCase(tableForeignKeys.get(columnName).getPkTableName());
-                    domainEntityConstructorArgs.append(String.format(", new %sId(%s.get%s())", referencedEntityPascal, createCommandVar, capitalizeFirstLetter(fieldName)));
-                } else if (columnName.equals("occurred_at")) {
-                    domainEntityConstructorArgs.append(", now"); // Special handling for 'now' from handler
-                } else {
-                    domainEntityConstructorArgs.append(String.format(", %s.get%s()", createCommandVar, capitalizeFirstLetter(fieldName)));
-                }
-
-                // For DomainEntity to Response mapping (CREATE/UPDATE)
-                if (columnToEnumMap.containsKey(columnIdentifier)) {
-                    responseConstructorArgs.append(String.format(", %sDomainEntity.get%s()", rootTableCamelCase, capitalizeFirstLetter(fieldName)));
-                } else if (tableForeignKeys.containsKey(columnName)) {
-                    responseConstructorArgs.append(String.format(", %sDomainEntity.get%s().getValue()", rootTableCamelCase, capitalizeFirstLetter(fieldName)));
-                } else {
-                    responseConstructorArgs.append(String.format(", %sDomainEntity.get%s()", rootTableCamelCase, capitalizeFirstLetter(fieldName)));
-                }
-            }
-
-            // Generate CREATE and UPDATE mapping methods (only processing aggregate roots now)
-            methods.append(String.format("    public %s %sTo%s(%s %s, ZonedDateTime now) {\n", domainEntityName, createCommandVar, domainEntityName, createCommandName, createCommandVar));
-            methods.append(String.format("        return new %s(%s);\n", domainEntityName, domainEntityConstructorArgs.toString()));
-            methods.append("    }\n\n");
-
-            methods.append(String.format("    public %s %sTo%s(%s %s) {\n", createResponseName, firstCharToLowerCase(domainEntityName), createResponseName, domainEntityName, firstCharToLowerCase(domainEntityName)));
-            methods.append(String.format("        return new %s(%s);\n", createResponseName, responseConstructorArgs.toString()));
-            methods.append("    }\n\n");
-
-            // --- UPDATE methods (NEW) ---
-            // 1. UpdateCommand to DomainEntity
-            StringBuilder updateDomainEntityConstructorArgs = new StringBuilder();
-            updateDomainEntityConstructorArgs.append(String.format("new %s(update%sCommand.getId())", entityName + "Id", entityName));
-            for (Map<String, String> column : columns) {
-                String columnName = column.get("name");
-                if (columnName.equals("id")) continue;
-                String camelCaseName = snakeCaseToCamelCase(columnName);
-                String fieldName;
-                if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                    fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-                } else {
-                    fieldName = camelCaseName;
-                }
-                String columnIdentifier = rootTable + "." + columnName;
-                if (columnToEnumMap.containsKey(columnIdentifier)) {
-                    updateDomainEntityConstructorArgs.append(String.format(", update%sCommand.get%s()", entityName, capitalizeFirstLetter(fieldName)));
-                } else if (tableForeignKeys.containsKey(columnName)) {
-                    String referencedEntityPascal = snakeKebabCaseToPascalCase(tableForeignKeys.get(columnName).getPkTableName());
-                    updateDomainEntityConstructorArgs.append(String.format(", new %sId(update%sCommand.get%s())", referencedEntityPascal, entityName, capitalizeFirstLetter(fieldName)));
-                } else if (columnName.equals("occurred_at")) {
-                    updateDomainEntityConstructorArgs.append(", now");
-                } else {
-                    updateDomainEntityConstructorArgs.append(String.format(", update%sCommand.get%s()", entityName, capitalizeFirstLetter(fieldName)));
-                }
-            }
-            methods.append(String.format("    public %s update%sCommandTo%s(%s update%sCommand, ZonedDateTime now) {\n", domainEntityName, entityName, domainEntityName, updateCommandName, entityName));
-            methods.append(String.format("        return new %s(%s);\n", domainEntityName, updateDomainEntityConstructorArgs.toString()));
-            methods.append("    }\n\n");
-
-            // 2. DomainEntity to UpdateResponse
-            methods.append(String.format("    public %s %sDomainEntityToUpdate%sResponse(%s %sDomainEntity) {\n", updateResponseName, rootTableCamelCase, entityName, domainEntityName, rootTableCamelCase));
-            methods.append(String.format("        return new %s(%s);\n", updateResponseName, responseConstructorArgs.toString()));
-            methods.append("    }\n\n");
-
-            // Add QueryResponse mapping method
-            methods.append(String.format("    public %s %sDomainEntityTo%s(%s %s) {\n", queryResponseName, firstCharToLowerCase(entityName), queryResponseName, domainEntityName, firstCharToLowerCase(domainEntityName)));
-            methods.append(String.format("        return new %s(%s);\n", queryResponseName, responseConstructorArgs.toString()));
-            methods.append("    }\n\n");
-
-            // --- GET BY ID methods ---
-            methods.append(String.format("    public %s %sDomainEntityToGetById%sResponse(%s %sDomainEntity) {\n", getByIdResponseName, rootTableCamelCase, entityName, domainEntityName, rootTableCamelCase));
-            methods.append(String.format("        return new %s(%s);\n", getByIdResponseName, responseConstructorArgs.toString()));
-            methods.append("    }\n\n");
+            NamingModel.TableNames tableNames = naming.table(rootTable);
+            String entityName = tableNames.getClassName();
+            String entityNameLower = tableNames.getPackageSegment();
+            mapperImports.add("import " + basePackageName + ".domain.applicationservice.commands." + entityNameLower + ".create.Create" + entityName + "Command;");
+            mapperImports.add("import " + basePackageName + ".domain.applicationservice.commands." + entityNameLower + ".create.Create" + entityName + "Response;");
+            mapperImports.add("import " + basePackageName + ".domain.applicationservice.commands." + entityNameLower + ".update.Update" + entityName + "Command;");
+            mapperImports.add("import " + basePackageName + ".domain.applicationservice.commands." + entityNameLower + ".update.Update" + entityName + "Response;");
+            mapperImports.add("import " + basePackageName + ".domain.applicationservice.queries." + entityNameLower + ".query." + entityName + "QueryResponse;");
+            mapperImports.add("import " + basePackageName + ".domain.applicationservice.queries." + entityNameLower + ".getbyid.GetById" + entityName + "Response;");
         }
-
         String importStatements = mapperImports.stream().collect(Collectors.joining("\n"));
 
-        String content = String.format("""
-package %s.domain.applicationservice.mapper;
+        try (Writer writer = output.openWriter(Paths.get(mapperDir.toString(), domainMapperName + ".java"))) {
+            DOMAIN_MAPPER_TEMPLATE.renderTo(writer, basePackageName, importStatements, domainMapperName, (CodeTemplate.Fragment) methods -> {
+                for (String rootTable : aggregateRoots) {
+                    NamingModel.TableNames tableNames = naming.table(rootTable);
+                    String entityName = tableNames.getClassName();
+                    String domainEntityName = entityName + "DomainEntity";
+                    String createCommandName = "Create" + entityName + "Command";
+                    String createCommandVar = firstCharToLowerCase(createCommandName);
+                    String createResponseName = "Create" + entityName + "Response";
+                    String updateCommandName = "Update" + entityName + "Command";
+                    String updateCommandVar = firstCharToLowerCase(updateCommandName);
+                    String updateResponseName = "Update" + entityName + "Response";
+                    String getByIdResponseName = "GetById" + entityName + "Response";
+                    String queryResponseName = entityName + "QueryResponse";
+                    String entityNameLower = tableNames.getPackageSegment();
 
-%s
+            
+                    List<Map<String, String>> columns = schemaModel.getColumns(rootTable);
+                    Map<String, ForeignKeyInfo> tableForeignKeys = detailedForeignKeys.getOrDefault(rootTable, new HashMap<>());
+
+                    // Generate Command to DomainEntity mapping
+                    StringBuilder domainEntityConstructorArgs = new StringBuilder();
+                    domainEntityConstructorArgs.append("new ").append(entityName).append("Id(null)"); // For ID, always new ID(null) for creation
+
+                    StringBuilder responseConstructorArgs = new StringBuilder();
+                    String rootTableCamelCase = tableNames.getVariableName();
+                    responseConstructorArgs.append(rootTableCamelCase).append("DomainEntity.getId().getValue()");
+
+                    for (Map<String, String> column : columns) {
+                        String columnName = column.get("name");
+                        if (columnName.equals("id")) continue;
+
+                        String getterName = tableNames.column(columnName).getGetterName();
+                        String columnIdentifier = rootTable + "." + columnName;
+
+                        // For Command to DomainEntity mapping (CREATE)
+                        if (columnToEnumMap.containsKey(columnIdentifier)) {
+                            domainEntityConstructorArgs.append(", ").append(createCommandVar).append(".").append(getterName).append("()");
+                        } else if (tableForeignKeys.containsKey(columnName)) {
+                            String referencedEntityPascal = naming.table(tableForeignKeys.get(columnName).getPkTableName()).getClassName();
+                            domainEntityConstructorArgs.append(", new ").append(referencedEntityPascal).append("Id(").append(createCommandVar).append(".").append(getterName).append("())");
+                        } else if (columnName.equals("occurred_at")) {
+                            domainEntityConstructorArgs.append(", now"); // Special handling for 'now' from handler
+                        } else {
+                            domainEntityConstructorArgs.append(", ").append(createCommandVar).append(".").append(getterName).append("()");
+                        }
 
-@Component
-public class %s {
+                        // For DomainEntity to Response mapping (CREATE/UPDATE)
+                        if (columnToEnumMap.containsKey(columnIdentifier)) {
+                            responseConstructorArgs.append(", ").append(rootTableCamelCase).append("DomainEntity.").append(getterName).append("()");
+                        } else if (tableForeignKeys.containsKey(columnName)) {
+                            responseConstructorArgs.append(", ").append(rootTableCamelCase).append("DomainEntity.").append(getterName).append("().getValue()");
+                        } else {
+                            responseConstructorArgs.append(", ").append(rootTableCamelCase).append("DomainEntity.").append(getterName).append("()");
+                        }
+                    }
 
-%s
-}
-""", basePackageName, importStatements, domainMapperName, methods.toString());
-    Files.write(Paths.get(mapperDir.toString(), domainMapperName + ".java"), content.getBytes());
-}
+                    // Generate CREATE and UPDATE mapping methods (only processing aggregate roots now)
+                    methods.append("    public ").append(domainEntityName).append(" ").append(createCommandVar).append("To").append(domainEntityName).append("(").append(createCommandName).append(" ").append(createCommandVar).append(", ZonedDateTime now) {\n");
+                    methods.append("        return new ").append(domainEntityName).append("(").append(domainEntityConstructorArgs).append(");\n");
+                    methods.append("    }\n\n");
+
+                    methods.append("    public ").append(createResponseName).append(" ").append(firstCharToLowerCase(domainEntityName)).append("To").append(createResponseName).append("(").append(domainEntityName).append(" ").append(firstCharToLowerCase(domainEntityName)).append(") {\n");
+                    methods.append("        return new ").append(createResponseName).append("(").append(responseConstructorArgs).append(");\n");
+                    methods.append("    }\n\n");
+
+                    // --- UPDATE methods (NEW) ---
+                    // 1. UpdateCommand to DomainEntity
+                    StringBuilder updateDomainEntityConstructorArgs = new StringBuilder();
+                    updateDomainEntityConstructorArgs.append("new ").append(entityName).append("Id(update").append(entityName).append("Command.getId())");
+                    for (Map<String, String> column : columns) {
+                        String columnName = column.get("name");
+                        if (columnName.equals("id")) continue;
+                        String getterName = tableNames.column(columnName).getGetterName();
+                        String columnIdentifier = rootTable + "." + columnName;
+                        if (columnToEnumMap.containsKey(columnIdentifier)) {
+                            updateDomainEntityConstructorArgs.append(", update").append(entityName).append("Command.").append(getterName).append("()");
+                        } else if (tableForeignKeys.containsKey(columnName)) {
+                            String referencedEntityPascal = naming.table(tableForeignKeys.get(columnName).getPkTableName()).getClassName();
+                            updateDomainEntityConstructorArgs.append(", new ").append(referencedEntityPascal).append("Id(update").append(entityName).append("Command.").append(getterName).append("())");
+                        } else if (columnName.equals("occurred_at")) {
+                            updateDomainEntityConstructorArgs.append(", now");
+                        } else {
+                            updateDomainEntityConstructorArgs.append(", update").append(entityName).append("Command.").append(getterName).append("()");
+                        }
+                    }
+                    methods.append("    public ").append(domainEntityName).append(" update").append(entityName).append("CommandTo").append(domainEntityName).append("(").append(updateCommandName).append(" update").append(entityName).append("Command, ZonedDateTime now) {\n");
+                    methods.append("        return new ").append(domainEntityName).append("(").append(updateDomainEntityConstructorArgs).append(");\n");
+                    methods.append("    }\n\n");
+
+                    // 2. DomainEntity to UpdateResponse
+                    methods.append("    public ").append(updateResponseName).append(" ").append(rootTableCamelCase).append("DomainEntityToUpdate").append(entityName).append("Response(").append(domainEntityName).append(" ").append(rootTableCamelCase).append("DomainEntity) {\n");
+                    methods.append("        return new ").append(updateResponseName).append("(").append(responseConstructorArgs).append(");\n");
+                    methods.append("    }\n\n");
+
+                    // Add QueryResponse mapping method
+                    methods.append("    public ").append(queryResponseName).append(" ").append(firstCharToLowerCase(entityName)).append("DomainEntityTo").append(queryResponseName).append("(").append(domainEntityName).append(" ").append(firstCharToLowerCase(domainEntityName)).append(") {\n");
+                    methods.append("        return new ").append(queryResponseName).append("(").append(responseConstructorArgs).append(");\n");
+                    methods.append("    }\n\n");
+
+                    // --- GET BY ID methods ---
+                    methods.append("    public ").append(getByIdResponseName).append(" ").append(rootTableCamelCase).append("DomainEntityToGetById").append(entityName).append("Response(").append(domainEntityName).append(" ").append(rootTableCamelCase).append("DomainEntity) {\n");
+                    methods.append("        return new ").append(getByIdResponseName).append("(").append(responseConstructorArgs).append(");\n");
+                    methods.append("    }\n\n");
+                }
+            });
+        }
+    }
 
-private void generateRepositoryInterface(String tableName, String basePackageName, Path appServiceMainJava) throws IOException {
-    String entityName = snakeKebabCaseToPascalCase(tableName);
+private void generateRepositoryInterface(ProjectOutput output, NamingModel.TableNames tableNames, String basePackageName, Path appServiceMainJava) throws IOException {
+    String entityName = tableNames.getClassName();
     String domainEntityName = entityName + "DomainEntity";
     String repositoryName = entityName + "Repository";
     Path repoDir = Paths.get(appServiceMainJava.toString(), "ports", "output", "repository");
-    Files.createDirectories(repoDir);
     StringBuilder content = new StringBuilder();
     content.append("package " + basePackageName + ".domain.applicationservice.ports.output.repository;\n\n");
     content.append("import java.util.Optional;\n");
@@ -1939,7 +1976,7 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
     content.append("import java.time.ZonedDateTime;\n");
     content.append("import " + basePackageName + ".domain.core.entity." + domainEntityName + ";\n");
     content.append("import " + basePackageName + ".domain.core.payload.BaseQueryResponse;\n");
-    content.append("import " + basePackageName + ".domain.applicationservice.queries." + tableName.toLowerCase(Locale.ENGLISH).replace("_", "") + ".query." + entityName + "Query;\n");
+    content.append("import " + basePackageName + ".domain.applicationservice.queries." + tableNames.getPackageSegment() + ".query." + entityName + "Query;\n");
     content.append("\npublic interface " + repositoryName + " {\n\n");
     content.append("    " + domainEntityName + " create(" + domainEntityName + " entity, UUID createdBy, ZonedDateTime now);\n");
     content.append("    " + domainEntityName + " update(" + domainEntityName + " entity, UUID updatedBy, ZonedDateTime now);\n");
@@ -1947,69 +1984,64 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
     content.append("    Optional<" + domainEntityName + "> getById(UUID id);\n");
     content.append("    BaseQueryResponse<" + domainEntityName + "> query(" + entityName + "Query query);\n");
     content.append("}\n");
-    Files.write(Paths.get(repoDir.toString(), repositoryName + ".java"), content.toString().getBytes());
+    output.write(Paths.get(repoDir.toString(), repositoryName + ".java"), content.toString());
 }
 
-    private void generateCommandClasses(String tableName, String basePackageName, Path appServiceMainJava, Connection conn, String schema, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, String domainMapperName, ProjectRequest projectRequest) throws IOException, SQLException {
-        String entityName = snakeKebabCaseToPascalCase(tableName);
-        String entityNameLower = tableName.toLowerCase(Locale.ENGLISH).replace("_", "");
+    private void generateCommandClasses(ProjectOutput output, NamingModel.TableNames tableNames, String basePackageName, Path appServiceMainJava, SchemaModel schemaModel, NamingModel naming, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, String domainMapperName, ProjectRequest projectRequest) throws IOException {
+        String tableName = tableNames.getTableName();
+        String entityName = tableNames.getClassName();
+        String entityNameLower = tableNames.getPackageSegment();
         Path createCommandDir = Paths.get(appServiceMainJava.toString(), "commands", entityNameLower, "create");
-        Files.createDirectories(createCommandDir);
         Path updateCommandDir = Paths.get(appServiceMainJava.toString(), "commands", entityNameLower, "update");
-        Files.createDirectories(updateCommandDir);
         Path deleteCommandDir = Paths.get(appServiceMainJava.toString(), "commands", entityNameLower, "delete");
-        Files.createDirectories(deleteCommandDir);
-        Files.createDirectories(Paths.get(appServiceMainJava.toString(), "queries", entityNameLower, "getbyid"));
 
-        List<Map<String, String>> columns = getColumnsForTable(conn, schema, tableName);
+        List<Map<String, String>> columns = schemaModel.getColumns(tableName);
 
         // Create
-        String createCommandContent = generateCreateCommand(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(createCommandDir.toString(), "Create" + entityName + "Command.java"), createCommandContent.getBytes());
+        String createCommandContent = generateCreateCommand(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(createCommandDir.toString(), "Create" + entityName + "Command.java"), createCommandContent);
 
-        String createResponseContent = generateCreateResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(createCommandDir.toString(), "Create" + entityName + "Response.java"), createResponseContent.getBytes());
+        String createResponseContent = generateCreateResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(createCommandDir.toString(), "Create" + entityName + "Response.java"), createResponseContent);
 
         String commandHandlerContent = generateCreateCommandHandler(entityName, basePackageName, domainMapperName);
-        Files.write(Paths.get(createCommandDir.toString(), entityName + "CreateCommandHandler.java"), commandHandlerContent.getBytes());
+        output.write(Paths.get(createCommandDir.toString(), entityName + "CreateCommandHandler.java"), commandHandlerContent);
 
         // Update
-        String updateCommandContent = generateUpdateCommand(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(updateCommandDir.toString(), "Update" + entityName + "Command.java"), updateCommandContent.getBytes());
+        String updateCommandContent = generateUpdateCommand(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(updateCommandDir.toString(), "Update" + entityName + "Command.java"), updateCommandContent);
 
-        String updateResponseContent = generateUpdateResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(updateCommandDir.toString(), "Update" + entityName + "Response.java"), updateResponseContent.getBytes());
+        String updateResponseContent = generateUpdateResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(updateCommandDir.toString(), "Update" + entityName + "Response.java"), updateResponseContent);
 
         String updateHandlerContent = generateUpdateCommandHandler(entityName, basePackageName, domainMapperName);
-        Files.write(Paths.get(updateCommandDir.toString(), entityName + "UpdateCommandHandler.java"), updateHandlerContent.getBytes());
+        output.write(Paths.get(updateCommandDir.toString(), entityName + "UpdateCommandHandler.java"), updateHandlerContent);
 
         String updateCommandName = "Update" + entityName + "Command";
         String updateCommandVar = firstCharToLowerCase(updateCommandName);
 
         // Delete
         String deleteResponseContent = generateDeleteResponse(entityName, basePackageName);
-        Files.write(Paths.get(deleteCommandDir.toString(), "Delete" + entityName + "Response.java"), deleteResponseContent.getBytes());
+        output.write(Paths.get(deleteCommandDir.toString(), "Delete" + entityName + "Response.java"), deleteResponseContent);
 
         String deleteHandlerContent = generateDeleteCommandHandler(entityName, basePackageName);
-        Files.write(Paths.get(deleteCommandDir.toString(), entityName + "DeleteCommandHandler.java"), deleteHandlerContent.getBytes());
+        output.write(Paths.get(deleteCommandDir.toString(), entityName + "DeleteCommandHandler.java"), deleteHandlerContent);
 
         // Queries - getById
         Path getByIdQueryDir = Paths.get(appServiceMainJava.toString(), "queries", entityNameLower, "getbyid");
-        Files.createDirectories(getByIdQueryDir);
         String getByIdQueryHandlerContent = generateGetByIdQueryHandler(entityName, basePackageName, domainMapperName);
-        Files.write(Paths.get(getByIdQueryDir.toString(), entityName + "GetByIdQueryHandler.java"), getByIdQueryHandlerContent.getBytes());
-        String getByIdResponseContent = generateGetByIdResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(getByIdQueryDir.toString(), "GetById" + entityName + "Response.java"), getByIdResponseContent.getBytes());
+        output.write(Paths.get(getByIdQueryDir.toString(), entityName + "GetByIdQueryHandler.java"), getByIdQueryHandlerContent);
+        String getByIdResponseContent = generateGetByIdResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(getByIdQueryDir.toString(), "GetById" + entityName + "Response.java"), getByIdResponseContent);
 
         // General Query
         Path queryDir = Paths.get(appServiceMainJava.toString(), "queries", entityNameLower, "query");
-        Files.createDirectories(queryDir);
-        String queryDtoContent = generateGeneralQueryDto(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(queryDir.toString(), entityName + "Query.java"), queryDtoContent.getBytes());
-        String queryResponseContent = generateGeneralQueryResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap);
-        Files.write(Paths.get(queryDir.toString(), entityName + "QueryResponse.java"), queryResponseContent.getBytes());
+        String queryDtoContent = generateGeneralQueryDto(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(queryDir.toString(), entityName + "Query.java"), queryDtoContent);
+        String queryResponseContent = generateGeneralQueryResponse(entityName, basePackageName, columns, tableName, detailedForeignKeys, aggregateRoots, columnToEnumMap, naming);
+        output.write(Paths.get(queryDir.toString(), entityName + "QueryResponse.java"), queryResponseContent);
         String queryHandlerContent = generateGeneralQueryHandler(entityName, basePackageName, domainMapperName);
-        Files.write(Paths.get(queryDir.toString(), entityName + "QueryHandler.java"), queryHandlerContent.getBytes());
+        output.write(Paths.get(queryDir.toString(), entityName + "QueryHandler.java"), queryHandlerContent);
     }
 
     // Helper to determine if a column is filterable for Query DTO
@@ -2021,7 +2053,8 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
         return type.contains("char") || type.contains("text") || type.contains("enum") || type.contains("bool");
     }
 
-    private String generateGeneralQueryDto(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private String generateGeneralQueryDto(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         StringBuilder constructorParams = new StringBuilder();
         StringBuilder constructorBody = new StringBuilder();
@@ -2033,8 +2066,7 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
             String columnName = column.get("name");
             String dbType = column.get("type");
             if (!isFilterableField(columnName, dbType)) continue;
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String safeFieldName = getSafeFieldName(entityName, camelCaseName);
+            String safeFieldName = tableNames.column(columnName).getFieldName();
             String fieldType;
             String columnIdentifier = currentTable + "." + columnName;
             if (columnToEnumMap.containsKey(columnIdentifier)) {
@@ -2069,7 +2101,8 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
         return classContent.toString();
     }
 
-    private String generateGeneralQueryResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private String generateGeneralQueryResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         StringBuilder constructorParams = new StringBuilder();
         StringBuilder constructorBody = new StringBuilder();
@@ -2087,8 +2120,7 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
             // Skip id column since we already added it
             if (columnName.equals("id")) continue;
             String dbType = column.get("type");
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String safeFieldName = getSafeFieldName(entityName, camelCaseName);
+            String safeFieldName = tableNames.column(columnName).getFieldName();
             String fieldType;
             String columnIdentifier = currentTable + "." + columnName;
             if (columnToEnumMap.containsKey(columnIdentifier)) {
@@ -2165,15 +2197,7 @@ private void generateRepositoryInterface(String tableName, String basePackageNam
         return classContent.toString();
     }
 
-    private String generateCreateCommandHandler(String entityName, String basePackageName, String domainMapperName) {
-        String repositoryName = entityName + "Repository";
-        String repositoryVarName = firstCharToLowerCase(repositoryName);
-        String commandName = "Create" + entityName + "Command";
-        String commandVarName = firstCharToLowerCase(commandName);
-        String domainEntityName = entityName + "DomainEntity";
-        String domainMapperVarName = firstCharToLowerCase(domainMapperName);
-
-        return String.format("""
+    private static final CodeTemplate CREATE_COMMAND_HANDLER_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.commands.%s.create;
 
 import %s.domain.applicationservice.mapper.%s;
@@ -2213,8 +2237,17 @@ public class %sCreateCommandHandler {
         return savedDomainEntity;
     }
 }
-""",
-            basePackageName, entityName.toLowerCase(Locale.ENGLISH),
+""");
+
+    private String generateCreateCommandHandler(String entityName, String basePackageName, String domainMapperName) {
+        String repositoryName = entityName + "Repository";
+        String repositoryVarName = firstCharToLowerCase(repositoryName);
+        String commandName = "Create" + entityName + "Command";
+        String commandVarName = firstCharToLowerCase(commandName);
+        String domainEntityName = entityName + "DomainEntity";
+        String domainMapperVarName = firstCharToLowerCase(domainMapperName);
+
+        return CREATE_COMMAND_HANDLER_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH),
             basePackageName, domainMapperName,
             basePackageName, repositoryName,
             basePackageName, domainEntityName,
@@ -2229,7 +2262,24 @@ public class %sCreateCommandHandler {
             domainEntityName, entityName.toLowerCase(Locale.ENGLISH));
     }
 
-    private String generateCreateCommand(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private static final CodeTemplate CREATE_COMMAND_TEMPLATE = CodeTemplate.compile("""
+package %s.domain.applicationservice.commands.%s.create;
+
+%s
+
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Create%sCommand {
+
+%s
+}
+""");
+
+    private String generateCreateCommand(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         Set<String> imports = new TreeSet<>();
         imports.add("jakarta.validation.constraints.NotNull;");
@@ -2256,13 +2306,7 @@ public class %sCreateCommandHandler {
             String columnName = column.get("name");
             if (columnName.equals("id")) continue;
 
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String fieldName;
-            if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-            } else {
-                fieldName = camelCaseName;
-            }
+            String fieldName = tableNames.column(columnName).getFieldName();
 
             String fqnFieldType;
             String columnIdentifier = currentTable + "." + columnName;
@@ -2285,28 +2329,28 @@ public class %sCreateCommandHandler {
                 simpleFieldType = fqnFieldType;
             }
             fields.append("    @NotNull\n");
-            fields.append(String.format("    private final %s %s;\n\n", simpleFieldType, fieldName));
+            fields.append("    private final ").append(simpleFieldType).append(" ").append(fieldName).append(";\n\n");
         }
         String importStatements = imports.stream().map(s -> "import " + s).collect(Collectors.joining("\n"));
 
-        return String.format("""
+        return CREATE_COMMAND_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
+    }
+
+    private static final CodeTemplate CREATE_RESPONSE_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.commands.%s.create;
 
 %s
 
 @Getter
-@Builder
 @AllArgsConstructor
-@ToString
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class Create%sCommand {
+public class Create%sResponse {
 
 %s
 }
-""", basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
-    }
+""");
 
-    private String generateCreateResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private String generateCreateResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         Set<String> imports = new TreeSet<>();
         imports.add("import lombok.AllArgsConstructor;");
@@ -2321,13 +2365,7 @@ public class Create%sCommand {
             String columnName = column.get("name");
             if (columnName.equals("id")) continue;
 
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String fieldName;
-            if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-            } else {
-                fieldName = camelCaseName;
-            }
+            String fieldName = tableNames.column(columnName).getFieldName();
 
             String fqnFieldType;
             String columnIdentifier = currentTable + "." + columnName;
@@ -2349,25 +2387,30 @@ public class Create%sCommand {
             } else {
                 simpleFieldType = fqnFieldType;
             }
-            fields.append(String.format("    private final %s %s;\n\n", simpleFieldType, fieldName));
+            fields.append("    private final ").append(simpleFieldType).append(" ").append(fieldName).append(";\n\n");
         }
         String importStatements = imports.stream().collect(Collectors.joining("\n"));
 
-        return String.format("""
-package %s.domain.applicationservice.commands.%s.create;
+        return CREATE_RESPONSE_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
+    }
+
+    private static final CodeTemplate UPDATE_COMMAND_TEMPLATE = CodeTemplate.compile("""
+package %s.domain.applicationservice.commands.%s.update;
 
 %s
 
 @Getter
+@Builder
 @AllArgsConstructor
-public class Create%sResponse {
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Update%sCommand {
 
-%s
-}
-""", basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
-    }
+%s}
+""");
 
-    private String generateUpdateCommand(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private String generateUpdateCommand(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         Set<String> imports = new TreeSet<>();
         imports.add("jakarta.validation.constraints.NotNull;");
@@ -2398,13 +2441,7 @@ public class Create%sResponse {
             String columnName = column.get("name");
             if (columnName.equals("id")) continue;
 
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String fieldName;
-            if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-            } else {
-                fieldName = camelCaseName;
-            }
+            String fieldName = tableNames.column(columnName).getFieldName();
 
             String fqnFieldType;
             String columnIdentifier = currentTable + "." + columnName;
@@ -2427,27 +2464,27 @@ public class Create%sResponse {
                 simpleFieldType = fqnFieldType;
             }
             fields.append("    @NotNull\n");
-            fields.append(String.format("    private final %s %s;\n\n", simpleFieldType, fieldName));
+            fields.append("    private final ").append(simpleFieldType).append(" ").append(fieldName).append(";\n\n");
         }
         String importStatements = imports.stream().map(s -> "import " + s).collect(Collectors.joining("\n"));
 
-        return String.format("""
+        return UPDATE_COMMAND_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
+    }
+
+    private static final CodeTemplate UPDATE_RESPONSE_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.commands.%s.update;
 
 %s
 
 @Getter
-@Builder
 @AllArgsConstructor
-@ToString
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class Update%sCommand {
+public class Update%sResponse {
 
 %s}
-""", basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
-    }
+""");
 
-    private String generateUpdateResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private String generateUpdateResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         Set<String> imports = new TreeSet<>();
         imports.add("import lombok.AllArgsConstructor;");
@@ -2462,13 +2499,7 @@ public class Update%sCommand {
             String columnName = column.get("name");
             if (columnName.equals("id")) continue;
 
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String fieldName;
-            if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-            } else {
-                fieldName = camelCaseName;
-            }
+            String fieldName = tableNames.column(columnName).getFieldName();
 
             String fqnFieldType;
             String columnIdentifier = currentTable + "." + columnName;
@@ -2490,32 +2521,14 @@ public class Update%sCommand {
             } else {
                 simpleFieldType = fqnFieldType;
             }
-            fields.append(String.format("    private final %s %s;\n\n", simpleFieldType, fieldName));
+            fields.append("    private final ").append(simpleFieldType).append(" ").append(fieldName).append(";\n\n");
         }
         String importStatements = imports.stream().collect(Collectors.joining("\n"));
 
-        return String.format("""
-package %s.domain.applicationservice.commands.%s.update;
-
-%s
-
-@Getter
-@AllArgsConstructor
-public class Update%sResponse {
-
-%s}
-""", basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
+        return UPDATE_RESPONSE_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
     }
 
-    private String generateUpdateCommandHandler(String entityName, String basePackageName, String domainMapperName) {
-        String repositoryName = entityName + "Repository";
-        String repositoryVarName = firstCharToLowerCase(repositoryName);
-        String commandName = "Update" + entityName + "Command";
-        String commandVarName = firstCharToLowerCase(commandName);
-        String domainEntityName = entityName + "DomainEntity";
-        String domainMapperVarName = firstCharToLowerCase(domainMapperName);
-
-        return String.format("""
+    private static final CodeTemplate UPDATE_COMMAND_HANDLER_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.commands.%s.update;
 
 import %s.domain.applicationservice.mapper.%s;
@@ -2555,8 +2568,17 @@ public class %sUpdateCommandHandler {
         return updatedDomainEntity;
     }
 }
-""",
-            basePackageName, entityName.toLowerCase(Locale.ENGLISH),
+""");
+
+    private String generateUpdateCommandHandler(String entityName, String basePackageName, String domainMapperName) {
+        String repositoryName = entityName + "Repository";
+        String repositoryVarName = firstCharToLowerCase(repositoryName);
+        String commandName = "Update" + entityName + "Command";
+        String commandVarName = firstCharToLowerCase(commandName);
+        String domainEntityName = entityName + "DomainEntity";
+        String domainMapperVarName = firstCharToLowerCase(domainMapperName);
+
+        return UPDATE_COMMAND_HANDLER_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH),
             basePackageName, domainMapperName,
             basePackageName, repositoryName,
             basePackageName, domainEntityName,
@@ -2571,12 +2593,7 @@ public class %sUpdateCommandHandler {
             domainEntityName, entityName.toLowerCase(Locale.ENGLISH));
     }
 
-    private String generateDeleteCommandHandler(String entityName, String basePackageName) {
-        String repositoryName = entityName + "Repository";
-        String domainEntityName = entityName + "DomainEntity";
-        String entityLower = entityName.toLowerCase(Locale.ENGLISH);
-        String repositoryVar = firstCharToLowerCase(repositoryName);
-        return String.format("""
+    private static final CodeTemplate DELETE_COMMAND_HANDLER_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.commands.%s.delete;
 
 import %s.domain.applicationservice.ports.output.repository.%s;
@@ -2613,8 +2630,14 @@ public class %sDeleteCommandHandler {
         }
     }
 }
-""",
-            basePackageName, entityLower,
+""");
+
+    private String generateDeleteCommandHandler(String entityName, String basePackageName) {
+        String repositoryName = entityName + "Repository";
+        String domainEntityName = entityName + "DomainEntity";
+        String entityLower = entityName.toLowerCase(Locale.ENGLISH);
+        String repositoryVar = firstCharToLowerCase(repositoryName);
+        return DELETE_COMMAND_HANDLER_TEMPLATE.render(basePackageName, entityLower,
             basePackageName, repositoryName,
             basePackageName, domainEntityName,
             basePackageName,
@@ -2628,8 +2651,7 @@ public class %sDeleteCommandHandler {
         );
     }
 
-    private String generateDeleteResponse(String entityName, String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DELETE_RESPONSE_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.commands.%s.delete;
 
 import lombok.AllArgsConstructor;
@@ -2644,21 +2666,14 @@ public class Delete%sResponse {
     private final ZonedDateTime updatedAt;
     private final UUID updatedBy;
 }
-""",
-            basePackageName, entityName.toLowerCase(Locale.ENGLISH), entityName
+""");
+
+    private String generateDeleteResponse(String entityName, String basePackageName) {
+        return DELETE_RESPONSE_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH), entityName
         );
     }
 
-    private String generateGetByIdQueryHandler(String entityName, String basePackageName, String domainMapperName) {
-        String repositoryName = entityName + "Repository";
-        String domainEntityName = entityName + "DomainEntity";
-        String entityLower = entityName.toLowerCase(Locale.ENGLISH);
-        String repositoryVar = firstCharToLowerCase(repositoryName);
-        String domainMapperVar = firstCharToLowerCase(domainMapperName);
-        String responseClassName = "GetById" + entityName + "Response";
-        String entityCamelCase = firstCharToLowerCase(entityName);
-        String mappingMethod = entityCamelCase + "DomainEntityToGetById" + entityName + "Response";
-        return String.format("""
+    private static final CodeTemplate GET_BY_ID_QUERY_HANDLER_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.queries.%s.getbyid;
 
 import %s.domain.applicationservice.ports.output.repository.%s;
@@ -2691,8 +2706,18 @@ public class %sGetByIdQueryHandler {
         return %s.%s(domainEntityOptional.get());
     }
 }
-""",
-        basePackageName, entityLower,
+""");
+
+    private String generateGetByIdQueryHandler(String entityName, String basePackageName, String domainMapperName) {
+        String repositoryName = entityName + "Repository";
+        String domainEntityName = entityName + "DomainEntity";
+        String entityLower = entityName.toLowerCase(Locale.ENGLISH);
+        String repositoryVar = firstCharToLowerCase(repositoryName);
+        String domainMapperVar = firstCharToLowerCase(domainMapperName);
+        String responseClassName = "GetById" + entityName + "Response";
+        String entityCamelCase = firstCharToLowerCase(entityName);
+        String mappingMethod = entityCamelCase + "DomainEntityToGetById" + entityName + "Response";
+        return GET_BY_ID_QUERY_HANDLER_TEMPLATE.render(basePackageName, entityLower,
         basePackageName, repositoryName,
         basePackageName, domainMapperName,
         basePackageName, domainEntityName,
@@ -2707,7 +2732,20 @@ public class %sGetByIdQueryHandler {
     );
     }
 
-    private String generateGetByIdResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap) {
+    private static final CodeTemplate GET_BY_ID_RESPONSE_TEMPLATE = CodeTemplate.compile("""
+package %s.domain.applicationservice.queries.%s.getbyid;
+
+%s
+
+@Getter
+@AllArgsConstructor
+public class GetById%sResponse {
+
+%s}
+""");
+
+    private String generateGetByIdResponse(String entityName, String basePackageName, List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Set<String> aggregateRoots, Map<String, String> columnToEnumMap, NamingModel naming) {
+        NamingModel.TableNames tableNames = naming.table(currentTable);
         StringBuilder fields = new StringBuilder();
         Set<String> imports = new TreeSet<>();
         imports.add("import lombok.AllArgsConstructor;");
@@ -2722,13 +2760,7 @@ public class %sGetByIdQueryHandler {
             String columnName = column.get("name");
             if (columnName.equals("id")) continue;
 
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String fieldName;
-            if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                fieldName = firstCharToLowerCase(entityName) + snakeKebabCaseToPascalCase(columnName);
-            } else {
-                fieldName = camelCaseName;
-            }
+            String fieldName = tableNames.column(columnName).getFieldName();
 
             String fqnFieldType;
             String columnIdentifier = currentTable + "." + columnName;
@@ -2750,26 +2782,14 @@ public class %sGetByIdQueryHandler {
             } else {
                 simpleFieldType = fqnFieldType;
             }
-            fields.append(String.format("    private final %s %s;\n\n", simpleFieldType, fieldName));
+            fields.append("    private final ").append(simpleFieldType).append(" ").append(fieldName).append(";\n\n");
         }
         String importStatements = imports.stream().collect(Collectors.joining("\n"));
 
-        return String.format("""
-package %s.domain.applicationservice.queries.%s.getbyid;
-
-%s
-
-@Getter
-@AllArgsConstructor
-public class GetById%sResponse {
-
-%s}
-""",
-            basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
+        return GET_BY_ID_RESPONSE_TEMPLATE.render(basePackageName, entityName.toLowerCase(Locale.ENGLISH), importStatements, entityName, fields.toString());
     }
 
-    private String generateDomainConstantsContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate DOMAIN_CONSTANTS_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core;
 
 import java.time.ZoneId;
@@ -2786,11 +2806,13 @@ public class DomainConstants {
     public static final String DEFAULT_SORT_BY = "created_at";
     public static final String DEFAULT_SORT_DIRECTION = "desc";
 }
-""", basePackageName);
+""");
+
+    private String generateDomainConstantsContent(String basePackageName) {
+        return DOMAIN_CONSTANTS_TEMPLATE.render(basePackageName);
     }
 
-    private String generateBaseQueryContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate BASE_QUERY_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.payload;
 
 import %s.domain.core.DomainConstants;
@@ -2847,11 +2869,13 @@ public class BaseQuery {
         this.sortDirection = sortDirection;
     }
 }
-""", basePackageName, basePackageName);
+""");
+
+    private String generateBaseQueryContent(String basePackageName) {
+        return BASE_QUERY_TEMPLATE.render(basePackageName, basePackageName);
     }
 
-    private String generateBaseQueryResponseContent(String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate BASE_QUERY_RESPONSE_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.core.payload;
 
 import java.util.List;
@@ -2864,103 +2888,97 @@ public record BaseQueryResponse<T>(
         int totalPages,
         boolean isLast) {
  }
-""", basePackageName);
-    }
+""");
 
-    private boolean isJavaKeyword(String name) {
-        return JAVA_KEYWORDS.contains(name);
-    }
-
-    private String getSafeFieldName(String entityName, String fieldName) {
-        if (isJavaKeyword(fieldName)) {
-            return firstCharToLowerCase(entityName) + capitalizeFirstLetter(fieldName);
-        }
-        return fieldName;
+    private String generateBaseQueryResponseContent(String basePackageName) {
+        return BASE_QUERY_RESPONSE_TEMPLATE.render(basePackageName);
     }
 
-    private void generatePersistenceImplementation(ProjectRequest projectRequest, EnvironmentalCredentialsRequest envRequest, Path persistenceMainJava, String basePackageName, boolean useCrossCuttingLibrary) throws IOException {
-        try (Connection conn = DriverManager.getConnection(envRequest.getLocalDatasourceUrl(), envRequest.getLocalDatasourceUsername(), envRequest.getLocalDatasourcePassword())) {
-            String schema = envRequest.getSelectedSchema();
-            List<String> tables = getTables(conn, schema);
-            Map<String, Set<String>> foreignKeys = getForeignKeys(conn, schema);
-            Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(envRequest.getTableEntityTypes());
-            Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = getDetailedForeignKeys(conn, schema);
-            
-            // Create persistence package structure
-            Path entityDir = Paths.get(persistenceMainJava.toString(), "entity");
-            Path repositoryDir = Paths.get(persistenceMainJava.toString(), "repository");
-            Path adapterDir = Paths.get(persistenceMainJava.toString(), "adapter");
-            Path mapperDir = Paths.get(persistenceMainJava.toString(), "mapper");
-            
-            Files.createDirectories(entityDir);
-            Files.createDirectories(repositoryDir);
-            Files.createDirectories(adapterDir);
-            Files.createDirectories(mapperDir);
-            
-            // Generate JPA entities for all tables
-            generateJpaEntities(tables, conn, schema, entityDir, basePackageName, detailedForeignKeys, useCrossCuttingLibrary);
-            
-            // Generate JPA repository interfaces for aggregate roots
-            generateJpaRepositoryInterfaces(aggregateRoots, repositoryDir, basePackageName);
-            
-            // Generate repository adapter implementations for aggregate roots
-            generateRepositoryAdapters(aggregateRoots, adapterDir, basePackageName, projectRequest.getArtifactId(), conn, schema);
-            
-            // Generate persistence mapper
-            Map<String, String> columnToEnumMap = new HashMap<>();
-            for (String table : tables) {
-                List<Map<String, String>> columns = getColumnsForTable(conn, schema, table);
-                for (Map<String, String> column : columns) {
-                    String comment = column.get("comment");
-                    if (comment != null && !comment.isBlank()) {
-                        String enumFqn = generateEnumIfApplicable(comment, column.get("name"), basePackageName, Paths.get("dummy"));
-                        if (enumFqn != null) {
-                            columnToEnumMap.put(table + "." + column.get("name"), enumFqn);
-                        }
-                    }
-                }
-            }
-            generatePersistenceMapper(tables, mapperDir, basePackageName, conn, schema, detailedForeignKeys, projectRequest.getArtifactId(), columnToEnumMap);
-            
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to generate persistence implementation", e);
-        }
+    private void generatePersistenceImplementation(ProjectOutput output, ProjectRequest projectRequest, EnvironmentalCredentialsRequest envRequest, SchemaModel schemaModel, EnumRegistry enumRegistry, NamingModel naming, Path persistenceMainJava, String basePackageName, boolean useCrossCuttingLibrary) throws IOException {
+        List<String> tables = schemaModel.getTables();
+        Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(envRequest.getTableEntityTypes());
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+        
+        // Create persistence package structure
+        Path entityDir = Paths.get(persistenceMainJava.toString(), "entity");
+        Path repositoryDir = Paths.get(persistenceMainJava.toString(), "repository");
+        Path adapterDir = Paths.get(persistenceMainJava.toString(), "adapter");
+        Path mapperDir = Paths.get(persistenceMainJava.toString(), "mapper");
+        
+        
+        // Generate JPA entities for all tables
+        generateJpaEntities(output, tables, schemaModel, naming, entityDir, basePackageName, detailedForeignKeys, useCrossCuttingLibrary);
+        
+        // Generate JPA repository interfaces for aggregate roots
+        generateJpaRepositoryInterfaces(output, aggregateRoots, naming, repositoryDir, basePackageName);
+        
+        // Generate repository adapter implementations for aggregate roots
+        generateRepositoryAdapters(output, aggregateRoots, naming, adapterDir, basePackageName, projectRequest.getArtifactId(), schemaModel);
+        
+        // Generate persistence mapper
+        generatePersistenceMapper(output, tables, mapperDir, basePackageName, schemaModel, naming, detailedForeignKeys, projectRequest.getArtifactId(), enumRegistry.getEnumTypesByColumn());
     }
 
-    private void generateJpaEntities(List<String> tables, Connection conn, String schema, Path entityDir, String basePackageName, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, boolean useCrossCuttingLibrary) throws SQLException, IOException {
+    private void generateJpaEntities(ProjectOutput output, List<String> tables, SchemaModel schemaModel, NamingModel naming, Path entityDir, String basePackageName, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, boolean useCrossCuttingLibrary) throws IOException {
         for (String table : tables) {
-            String entityName = snakeKebabCaseToPascalCase(table);
-            String jpaEntityContent = generateJpaEntityContent(table, basePackageName, conn, schema, detailedForeignKeys, useCrossCuttingLibrary);
-            Files.writeString(Paths.get(entityDir.toString(), entityName + "Entity.java"), jpaEntityContent);
+            if (!output.enterTable(table)) {
+                continue;
+            }
+            String entityName = naming.table(table).getClassName();
+            String jpaEntityContent = generateJpaEntityContent(table, basePackageName, schemaModel, naming, detailedForeignKeys, useCrossCuttingLibrary);
+            output.write(Paths.get(entityDir.toString(), entityName + "Entity.java"), jpaEntityContent);
         }
+        output.exitTable();
     }
 
-    private void generateJpaRepositoryInterfaces(Set<String> aggregateRoots, Path repositoryDir, String basePackageName) throws IOException {
+    private void generateJpaRepositoryInterfaces(ProjectOutput output, Set<String> aggregateRoots, NamingModel naming, Path repositoryDir, String basePackageName) throws IOException {
         for (String aggregateRoot : aggregateRoots) {
-            String entityName = snakeKebabCaseToPascalCase(aggregateRoot);
+            if (!output.enterTable(aggregateRoot)) {
+                continue;
+            }
+            String entityName = naming.table(aggregateRoot).getClassName();
             String jpaRepoContent = generateJpaRepositoryContent(entityName, basePackageName);
-            Files.writeString(Paths.get(repositoryDir.toString(), entityName + "JpaRepository.java"), jpaRepoContent);
+            output.write(Paths.get(repositoryDir.toString(), entityName + "JpaRepository.java"), jpaRepoContent);
         }
+        output.exitTable();
     }
 
-    private void generateRepositoryAdapters(Set<String> aggregateRoots, Path adapterDir, String basePackageName, String projectArtifactId, Connection conn, String schema) throws IOException, SQLException {
+    private void generateRepositoryAdapters(ProjectOutput output, Set<String> aggregateRoots, NamingModel naming, Path adapterDir, String basePackageName, String projectArtifactId, SchemaModel schemaModel) throws IOException {
         for (String aggregateRoot : aggregateRoots) {
-            String entityName = snakeKebabCaseToPascalCase(aggregateRoot);
-            List<Map<String, String>> columns = getColumnsForTable(conn, schema, aggregateRoot);
+            if (!output.enterTable(aggregateRoot)) {
+                continue;
+            }
+            String entityName = naming.table(aggregateRoot).getClassName();
+            List<Map<String, String>> columns = schemaModel.getColumns(aggregateRoot);
             String adapterContent = generateRepositoryAdapterContent(entityName, basePackageName, projectArtifactId, columns);
-            Files.writeString(Paths.get(adapterDir.toString(), entityName + "RepositoryImpl.java"), adapterContent);
+            output.write(Paths.get(adapterDir.toString(), entityName + "RepositoryImpl.java"), adapterContent);
         }
+        output.exitTable();
     }
 
-    private void generatePersistenceMapper(List<String> tables, Path mapperDir, String basePackageName, Connection conn, String schema, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, String projectArtifactId, Map<String, String> columnToEnumMap) throws IOException, SQLException {
-        String mapperContent = generatePersistenceMapperContent(tables, basePackageName, conn, schema, detailedForeignKeys, projectArtifactId, columnToEnumMap);
-        String mapperName = snakeKebabCaseToPascalCase(projectArtifactId) + "PersistenceMapper";
-        Files.writeString(Paths.get(mapperDir.toString(), mapperName + ".java"), mapperContent);
+    private void generatePersistenceMapper(ProjectOutput output, List<String> tables, Path mapperDir, String basePackageName, SchemaModel schemaModel, NamingModel naming, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, String projectArtifactId, Map<String, String> columnToEnumMap) throws IOException {
+        String mapperName = NamingModel.toPascalCase(projectArtifactId) + "PersistenceMapper";
+        try (Writer writer = output.openWriter(Paths.get(mapperDir.toString(), mapperName + ".java"))) {
+            writePersistenceMapperContent(writer, tables, basePackageName, schemaModel, naming, detailedForeignKeys, projectArtifactId, columnToEnumMap);
+        }
     }
 
-    private String generateJpaEntityContent(String tableName, String basePackageName, Connection conn, String schema, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, boolean useCrossCuttingLibrary) throws SQLException {
-        String entityName = snakeKebabCaseToPascalCase(tableName);
-        List<Map<String, String>> columns = getColumnsForTable(conn, schema, tableName);
+    private static final CodeTemplate JPA_ENTITY_TEMPLATE = CodeTemplate.compile("""
+package %s.infrastructure.persistence.entity;
+
+%s
+@Entity
+%s
+public class %sEntity%s {
+
+%s%s%s}
+""");
+
+    private String generateJpaEntityContent(String tableName, String basePackageName, SchemaModel schemaModel, NamingModel naming, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, boolean useCrossCuttingLibrary) {
+        NamingModel.TableNames tableNames = naming.table(tableName);
+        String entityName = tableNames.getClassName();
+        String schema = schemaModel.getSchemaName();
+        List<Map<String, String>> columns = schemaModel.getColumns(tableName);
         Map<String, ForeignKeyInfo> tableForeignKeys = detailedForeignKeys.getOrDefault(tableName, new HashMap<>());
         
         StringBuilder fields = new StringBuilder();
@@ -2994,13 +3012,8 @@ public record BaseQueryResponse<T>(
         
         for (Map<String, String> column : columns) {
             String columnName = column.get("name");
-            String camelCaseName = snakeCaseToCamelCase(columnName);
-            String fieldName;
-            if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                fieldName = firstCharToLowerCase(entityName) + capitalizeFirstLetter(camelCaseName);
-            } else {
-                fieldName = camelCaseName;
-            }
+            NamingModel.ColumnNames columnNames = tableNames.column(columnName);
+            String fieldName = columnNames.getFieldName();
             String javaType;
             
             if (tableForeignKeys.containsKey(columnName)) {
@@ -3026,12 +3039,12 @@ public record BaseQueryResponse<T>(
             fields.append("    private " + javaType + " " + fieldName + ";\n\n");
             
             // Generate getter
-            getters.append("    public " + javaType + " get" + capitalizeFirstLetter(fieldName) + "() {\n");
+            getters.append("    public " + javaType + " " + columnNames.getGetterName() + "() {\n");
             getters.append("        return " + fieldName + ";\n");
             getters.append("    }\n\n");
             
             // Generate setter  
-            setters.append("    public void set" + capitalizeFirstLetter(fieldName) + "(" + javaType + " " + fieldName + ") {\n");
+            setters.append("    public void " + columnNames.getSetterName() + "(" + javaType + " " + fieldName + ") {\n");
             setters.append("        this." + fieldName + " = " + fieldName + ";\n");
             setters.append("    }\n\n");
         }
@@ -3044,25 +3057,15 @@ public record BaseQueryResponse<T>(
         // Generate @Table annotation with schema if provided and not default
         String tableAnnotation;
         if (schema != null && !schema.isEmpty() && !schema.equals("public")) {
-            tableAnnotation = String.format("@Table(schema = \"%s\", name = \"%s\")", schema, tableName);
+            tableAnnotation = "@Table(schema = \"" + schema + "\", name = \"" + tableName + "\")";
         } else {
-            tableAnnotation = String.format("@Table(name = \"%s\")", tableName);
+            tableAnnotation = "@Table(name = \"" + tableName + "\")";
         }
         
-        return String.format("""
-package %s.infrastructure.persistence.entity;
-
-%s
-@Entity
-%s
-public class %sEntity%s {
-
-%s%s%s}
-""", basePackageName, importStatements.toString(), tableAnnotation, entityName, extendsClass, fields.toString(), getters.toString(), setters.toString());
+        return JPA_ENTITY_TEMPLATE.render(basePackageName, importStatements.toString(), tableAnnotation, entityName, extendsClass, fields.toString(), getters.toString(), setters.toString());
     }
 
-    private String generateJpaRepositoryContent(String entityName, String basePackageName) {
-        return String.format("""
+    private static final CodeTemplate JPA_REPOSITORY_TEMPLATE = CodeTemplate.compile("""
 package %s.infrastructure.persistence.repository;
 
 import %s.infrastructure.persistence.entity.%sEntity;
@@ -3073,7 +3076,10 @@ import java.util.UUID;
 @Repository
 public interface %sJpaRepository extends JpaRepository<%sEntity, UUID> {
 }
-""", basePackageName, basePackageName, entityName, entityName, entityName);
+""");
+
+    private String generateJpaRepositoryContent(String entityName, String basePackageName) {
+        return JPA_REPOSITORY_TEMPLATE.render(basePackageName, basePackageName, entityName, entityName, entityName);
     }
 
     private String generateRepositoryAdapterContent(String entityName, String basePackageName, String projectArtifactId, List<Map<String, String>> columns) {
@@ -3085,7 +3091,7 @@ public interface %sJpaRepository extends JpaRepository<%sEntity, UUID> {
         String queryClassLower = entityName.toLowerCase(Locale.ENGLISH).replace("_", "");
         String jpaRepoVar = firstCharToLowerCase(jpaRepositoryName);
         String entityVar = firstCharToLowerCase(entityName);
-        String mapperClassName = snakeKebabCaseToPascalCase(projectArtifactId) + "PersistenceMapper";
+        String mapperClassName = NamingModel.toPascalCase(projectArtifactId) + "PersistenceMapper";
         String mapperVar = firstCharToLowerCase(mapperClassName);
         
         // Check which audit columns exist in the table
@@ -3112,11 +3118,11 @@ public interface %sJpaRepository extends JpaRepository<%sEntity, UUID> {
         }
         
         boolean createdAtNeedsConversion = createdAtType != null && 
-            (createdAtType.toLowerCase().contains("timestamp")
-                    && !(createdAtType.toLowerCase().contains("with time zone") || createdAtType.toLowerCase().contains("timestamptz")));
+            (createdAtType.toLowerCase(Locale.ENGLISH).contains("timestamp")
+                    && !(createdAtType.toLowerCase(Locale.ENGLISH).contains("with time zone") || createdAtType.toLowerCase(Locale.ENGLISH).contains("timestamptz")));
         boolean updatedAtNeedsConversion = updatedAtType != null && 
-            (updatedAtType.toLowerCase().contains("timestamp")
-                    && !(updatedAtType.toLowerCase().contains("with time zone") || updatedAtType.toLowerCase().contains("timestamptz")));
+            (updatedAtType.toLowerCase(Locale.ENGLISH).contains("timestamp")
+                    && !(updatedAtType.toLowerCase(Locale.ENGLISH).contains("with time zone") || updatedAtType.toLowerCase(Locale.ENGLISH).contains("timestamptz")));
         
         StringBuilder content = new StringBuilder();
         content.append("package ").append(basePackageName).append(".infrastructure.persistence.adapter;\n\n");
@@ -3240,8 +3246,17 @@ public interface %sJpaRepository extends JpaRepository<%sEntity, UUID> {
         return content.toString();
     }
 
-    private String generatePersistenceMapperContent(List<String> tables, String basePackageName, Connection conn, String schema, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, String projectArtifactId, Map<String, String> columnToEnumMap) throws SQLException {
-        StringBuilder methods = new StringBuilder();
+    private static final CodeTemplate PERSISTENCE_MAPPER_TEMPLATE = CodeTemplate.compile("""
+package %s.infrastructure.persistence.mapper;
+
+%s
+@Component
+public class %s {
+
+%s}
+""");
+
+    private void writePersistenceMapperContent(Appendable out, List<String> tables, String basePackageName, SchemaModel schemaModel, NamingModel naming, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, String projectArtifactId, Map<String, String> columnToEnumMap) throws IOException {
         Set<String> imports = new TreeSet<>();
         
         imports.add("import org.springframework.stereotype.Component;");
@@ -3251,102 +3266,18 @@ public interface %sJpaRepository extends JpaRepository<%sEntity, UUID> {
         
         // UUID import not needed since we use value objects (InstitutionId, etc.) not raw UUID
         
+        // Enum imports first: the methods below are streamed into the file one table at a time
         for (String table : tables) {
-            String entityName = snakeKebabCaseToPascalCase(table);
-            String domainEntityName = entityName + "DomainEntity";
-            String jpaEntityName = entityName + "Entity";
-            String idClassName = entityName + "Id";
-            
-            List<Map<String, String>> columns = getColumnsForTable(conn, schema, table);
             Map<String, ForeignKeyInfo> tableForeignKeys = detailedForeignKeys.getOrDefault(table, new HashMap<>());
-            
-            // Check if table has an id column
-            boolean hasIdColumn = columns.stream().anyMatch(col -> "id".equals(col.get("name")));
-            
-            // Generate Entity to DomainEntity method
-            methods.append("    public " + domainEntityName + " " + firstCharToLowerCase(jpaEntityName) + "To" + domainEntityName + "(" + jpaEntityName + " entity) {\n");
-            methods.append("        if (entity == null) return null;\n");
-            methods.append("        return new " + domainEntityName + "(\n");
-            
-            StringBuilder constructorParams = new StringBuilder();
-            
-            // Always add ID parameter first for all domain entities
-            constructorParams.append("            new " + idClassName + "(entity.getId()),\n");
-            
-            for (Map<String, String> column : columns) {
+            for (Map<String, String> column : schemaModel.getColumns(table)) {
                 String columnName = column.get("name");
-                String camelCaseName = snakeCaseToCamelCase(columnName);
-                String fieldName;
-                if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                    fieldName = firstCharToLowerCase(entityName) + capitalizeFirstLetter(camelCaseName);
-                } else {
-                    fieldName = camelCaseName;
-                }
-                String getterName = "get" + capitalizeFirstLetter(fieldName);
-                String columnIdentifier = table + "." + columnName;
-                
-                if (columnName.equals("id")) {
-                    // Skip ID column since we already added it at the beginning
-                    continue;
-                } else if (tableForeignKeys.containsKey(columnName)) {
-                    // Foreign key field
-                    String referencedTable = tableForeignKeys.get(columnName).getPkTableName();
-                    String referencedIdClass = snakeKebabCaseToPascalCase(referencedTable) + "Id";
-                    constructorParams.append("            entity." + getterName + "() != null ? new " + referencedIdClass + "(entity." + getterName + "()) : null,\n");
-                } else if (columnToEnumMap.containsKey(columnIdentifier)) {
-                    // Enum field - convert from Short to Enum
-                    String enumFqn = columnToEnumMap.get(columnIdentifier);
-                    String enumClassName = enumFqn.substring(enumFqn.lastIndexOf('.') + 1);
+                String enumFqn = columnToEnumMap.get(table + "." + columnName);
+                if (enumFqn != null && !columnName.equals("id") && !tableForeignKeys.containsKey(columnName)) {
                     imports.add("import " + enumFqn + ";");
-                    constructorParams.append("            entity." + getterName + "() != null ? " + enumClassName + ".fromValue(entity." + getterName + "().intValue()) : null,\n");
-                } else {
-                    constructorParams.append("            entity." + getterName + "(),\n");
-                }
-            }
-            if (constructorParams.length() > 0) {
-                constructorParams.setLength(constructorParams.length() - 2); // Remove last comma and newline
-            }
-            methods.append(constructorParams.toString());
-            methods.append("\n        );\n    }\n\n");
-            
-            // Generate DomainEntity to Entity method
-            methods.append("    public " + jpaEntityName + " " + firstCharToLowerCase(domainEntityName) + "To" + jpaEntityName + "(" + domainEntityName + " domainEntity) {\n");
-            methods.append("        if (domainEntity == null) return null;\n");
-            methods.append("        " + jpaEntityName + " entity = new " + jpaEntityName + "();\n");
-            
-            // Set ID first if it wasn't in the database columns (generated ID)
-            if (!hasIdColumn) {
-                methods.append("        entity.setId(domainEntity.getId().getValue());\n");
-            }
-            
-            for (Map<String, String> column : columns) {
-                String columnName = column.get("name");
-                String camelCaseName = snakeCaseToCamelCase(columnName);
-                String fieldName;
-                if (JAVA_KEYWORDS.contains(camelCaseName)) {
-                    fieldName = firstCharToLowerCase(entityName) + capitalizeFirstLetter(camelCaseName);
-                } else {
-                    fieldName = camelCaseName;
-                }
-                String setterName = "set" + capitalizeFirstLetter(fieldName);
-                String getterName = "get" + capitalizeFirstLetter(fieldName);
-                String columnIdentifier = table + "." + columnName;
-                
-                if (columnName.equals("id")) {
-                    methods.append("        entity." + setterName + "(domainEntity.getId().getValue());\n");
-                } else if (tableForeignKeys.containsKey(columnName)) {
-                    // Foreign key field
-                    methods.append("        entity." + setterName + "(domainEntity." + getterName + "() != null ? domainEntity." + getterName + "().getValue() : null);\n");
-                } else if (columnToEnumMap.containsKey(columnIdentifier)) {
-                    // Enum field - convert from Enum to Short
-                    methods.append("        entity." + setterName + "(domainEntity." + getterName + "() != null ? (short) domainEntity." + getterName + "().getValue() : null);\n");
-                } else {
-                    methods.append("        entity." + setterName + "(domainEntity." + getterName + "());\n");
                 }
             }
-            methods.append("        return entity;\n    }\n\n");
         }
-        
+
         // UUID import not needed since all methods use value objects
         
         StringBuilder importStatements = new StringBuilder();
@@ -3354,74 +3285,109 @@ public interface %sJpaRepository extends JpaRepository<%sEntity, UUID> {
             importStatements.append(imp + "\n");
         }
         
-        String mapperClassName = snakeKebabCaseToPascalCase(projectArtifactId) + "PersistenceMapper";
-        return String.format("""
-package %s.infrastructure.persistence.mapper;
-
-%s
-@Component
-public class %s {
-
-%s}
-""", basePackageName, importStatements.toString(), mapperClassName, methods.toString());
+        String mapperClassName = NamingModel.toPascalCase(projectArtifactId) + "PersistenceMapper";
+        PERSISTENCE_MAPPER_TEMPLATE.renderTo(out, basePackageName, importStatements.toString(), mapperClassName, (CodeTemplate.Fragment) methods -> {
+            for (String table : tables) {
+                NamingModel.TableNames tableNames = naming.table(table);
+                String entityName = tableNames.getClassName();
+                String domainEntityName = entityName + "DomainEntity";
+                String jpaEntityName = entityName + "Entity";
+                String idClassName = entityName + "Id";
+        
+                List<Map<String, String>> columns = schemaModel.getColumns(table);
+                Map<String, ForeignKeyInfo> tableForeignKeys = detailedForeignKeys.getOrDefault(table, new HashMap<>());
+        
+                // Check if table has an id column
+                boolean hasIdColumn = columns.stream().anyMatch(col -> "id".equals(col.get("name")));
+        
+                // Generate Entity to DomainEntity method
+                methods.append("    public " + domainEntityName + " " + firstCharToLowerCase(jpaEntityName) + "To" + domainEntityName + "(" + jpaEntityName + " entity) {\n");
+                methods.append("        if (entity == null) return null;\n");
+                methods.append("        return new " + domainEntityName + "(\n");
+        
+                StringBuilder constructorParams = new StringBuilder();
+        
+                // Always add ID parameter first for all domain entities
+                constructorParams.append("            new " + idClassName + "(entity.getId()),\n");
+        
+                for (Map<String, String> column : columns) {
+                    String columnName = column.get("name");
+                    String getterName = tableNames.column(columnName).getGetterName();
+                    String columnIdentifier = table + "." + columnName;
+            
+                    if (columnName.equals("id")) {
+                        // Skip ID column since we already added it at the beginning
+                        continue;
+                    } else if (tableForeignKeys.containsKey(columnName)) {
+                        // Foreign key field
+                        String referencedTable = tableForeignKeys.get(columnName).getPkTableName();
+                        String referencedIdClass = naming.table(referencedTable).getClassName() + "Id";
+                        constructorParams.append("            entity." + getterName + "() != null ? new " + referencedIdClass + "(entity." + getterName + "()) : null,\n");
+                    } else if (columnToEnumMap.containsKey(columnIdentifier)) {
+                        // Enum field - convert from Short to Enum
+                        String enumFqn = columnToEnumMap.get(columnIdentifier);
+                        String enumClassName = enumFqn.substring(enumFqn.lastIndexOf('.') + 1);
+                        constructorParams.append("            entity." + getterName + "() != null ? " + enumClassName + ".fromValue(entity." + getterName + "().intValue()) : null,\n");
+                    } else {
+                        constructorParams.append("            entity." + getterName + "(),\n");
+                    }
+                }
+                if (constructorParams.length() > 0) {
+                    constructorParams.setLength(constructorParams.length() - 2); // Remove last comma and newline
+                }
+                methods.append(constructorParams.toString());
+                methods.append("\n        );\n    }\n\n");
+        
+                // Generate DomainEntity to Entity method
+                methods.append("    public " + jpaEntityName + " " + firstCharToLowerCase(domainEntityName) + "To" + jpaEntityName + "(" + domainEntityName + " domainEntity) {\n");
+                methods.append("        if (domainEntity == null) return null;\n");
+                methods.append("        " + jpaEntityName + " entity = new " + jpaEntityName + "();\n");
+        
+                // Set ID first if it wasn't in the database columns (generated ID)
+                if (!hasIdColumn) {
+                    methods.append("        entity.setId(domainEntity.getId().getValue());\n");
+                }
+        
+                for (Map<String, String> column : columns) {
+                    String columnName = column.get("name");
+                    NamingModel.ColumnNames columnNames = tableNames.column(columnName);
+                    String setterName = columnNames.getSetterName();
+                    String getterName = columnNames.getGetterName();
+                    String columnIdentifier = table + "." + columnName;
+            
+                    if (columnName.equals("id")) {
+                        methods.append("        entity." + setterName + "(domainEntity.getId().getValue());\n");
+                    } else if (tableForeignKeys.containsKey(columnName)) {
+                        // Foreign key field
+                        methods.append("        entity." + setterName + "(domainEntity." + getterName + "() != null ? domainEntity." + getterName + "().getValue() : null);\n");
+                    } else if (columnToEnumMap.containsKey(columnIdentifier)) {
+                        // Enum field - convert from Enum to Short
+                        methods.append("        entity." + setterName + "(domainEntity." + getterName + "() != null ? (short) domainEntity." + getterName + "().getValue() : null);\n");
+                    } else {
+                        methods.append("        entity." + setterName + "(domainEntity." + getterName + "());\n");
+                    }
+                }
+                methods.append("        return entity;\n    }\n\n");
+            }
+        });
     }
 
-    private void generateRestControllers(EnvironmentalCredentialsRequest envRequest, Path restDir, String basePackageName) throws IOException {
+    private void generateRestControllers(ProjectOutput output, EnvironmentalCredentialsRequest envRequest, NamingModel naming, Path restDir, String basePackageName) throws IOException {
         Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(envRequest.getTableEntityTypes());
         for (String aggregateRoot : aggregateRoots) {
-            String entityName = snakeKebabCaseToPascalCase(aggregateRoot);
+            if (!output.enterTable(aggregateRoot)) {
+                continue;
+            }
+            NamingModel.TableNames tableNames = naming.table(aggregateRoot);
+            String entityName = tableNames.getClassName();
             String controllerName = entityName + "Controller";
-            String controllerContent = generateRestControllerContent(entityName, aggregateRoot, basePackageName);
-            Files.writeString(Paths.get(restDir.toString(), controllerName + ".java"), controllerContent);
+            String controllerContent = generateRestControllerContent(tableNames, basePackageName);
+            output.write(Paths.get(restDir.toString(), controllerName + ".java"), controllerContent);
         }
+        output.exitTable();
     }
 
-    private String generateRestControllerContent(String entityName, String tableName, String basePackageName) {
-        String camelCaseEntityName = firstCharToLowerCase(entityName);
-        String entityPackageName = camelCaseEntityName.toLowerCase(); // All lowercase for package names
-        String pluralPath = pluralize(camelCaseEntityName);
-        String appServiceName = entityName + "ApplicationService";
-        String appServiceVarName = firstCharToLowerCase(appServiceName);
-        
-        // Create parameter array to debug count
-        Object[] params = {
-            basePackageName, // package
-            basePackageName, appServiceName, // import ApplicationService
-            basePackageName, entityPackageName, entityName, // import Create Command
-            basePackageName, entityPackageName, entityName, // import Create Response
-            basePackageName, entityPackageName, entityName, // import Update Command
-            basePackageName, entityPackageName, entityName, // import Update Response
-            basePackageName, entityPackageName, entityName, // import Delete Response
-            basePackageName, entityPackageName, entityName, // import GetById Response
-            basePackageName, entityPackageName, entityName, // import Query
-            basePackageName, entityPackageName, entityName, // import Query Response
-            basePackageName, // import BaseQueryResponse
-            basePackageName, // import ResultObject
-            pluralPath, entityName + "Controller", // RequestMapping and class name
-            appServiceName, appServiceVarName, // field declaration
-            entityName + "Controller", appServiceName, appServiceVarName, // constructor name and parameters  
-            appServiceVarName, appServiceVarName, // constructor assignment
-            entityName, entityName, entityName, // create method
-            camelCaseEntityName, entityName, // create method log
-            appServiceVarName, entityName, // create method call
-            entityName, // query method response type
-            entityName, camelCaseEntityName, // query method parameters
-            pluralPath, camelCaseEntityName, // query method log
-            appServiceVarName, camelCaseEntityName, // query method call
-            entityName, // getById method
-            camelCaseEntityName, // getById method log
-            appServiceVarName, // getById method call
-            entityName, // update method
-            entityName, entityName, // update method parameters
-            camelCaseEntityName, entityName, // update method log
-            entityName, // update method setId
-            appServiceVarName, entityName, // update method call
-            entityName, // delete method
-            camelCaseEntityName, // delete method log
-            appServiceVarName // delete method call
-        };
-        
-        return String.format("""
+    private static final CodeTemplate REST_CONTROLLER_TEMPLATE = CodeTemplate.compile("""
 package %s.application.rest;
 
 import %s.domain.applicationservice.ports.input.service.%s;
@@ -3489,19 +3455,58 @@ public class %s {
         return ResponseEntity.ok(ResultObject.success(%s.delete(UUID.fromString(id), UUID.fromString(updatedBy))));
     }
 }
-""", params);
-    }
+""");
 
-    private void generateApplicationServiceInterface(String tableName, String basePackageName, Path appServiceMainJava) throws IOException {
-        String entityName = snakeKebabCaseToPascalCase(tableName);
-        String interfaceName = entityName + "ApplicationService";
-        String camelCaseEntityName = firstCharToLowerCase(entityName);
-        String entityPackageName = camelCaseEntityName.toLowerCase(); // All lowercase for package names
+    private String generateRestControllerContent(NamingModel.TableNames tableNames, String basePackageName) {
+        String entityName = tableNames.getClassName();
+        String camelCaseEntityName = tableNames.getVariableName();
+        String entityPackageName = tableNames.getPackageSegment();
+        String pluralPath = tableNames.getPluralPath();
+        String appServiceName = entityName + "ApplicationService";
+        String appServiceVarName = firstCharToLowerCase(appServiceName);
         
-        Path interfaceDir = Paths.get(appServiceMainJava.toString(), "ports", "input", "service");
-        Files.createDirectories(interfaceDir);
+        // Create parameter array to debug count
+        Object[] params = {
+            basePackageName, // package
+            basePackageName, appServiceName, // import ApplicationService
+            basePackageName, entityPackageName, entityName, // import Create Command
+            basePackageName, entityPackageName, entityName, // import Create Response
+            basePackageName, entityPackageName, entityName, // import Update Command
+            basePackageName, entityPackageName, entityName, // import Update Response
+            basePackageName, entityPackageName, entityName, // import Delete Response
+            basePackageName, entityPackageName, entityName, // import GetById Response
+            basePackageName, entityPackageName, entityName, // import Query
+            basePackageName, entityPackageName, entityName, // import Query Response
+            basePackageName, // import BaseQueryResponse
+            basePackageName, // import ResultObject
+            pluralPath, entityName + "Controller", // RequestMapping and class name
+            appServiceName, appServiceVarName, // field declaration
+            entityName + "Controller", appServiceName, appServiceVarName, // constructor name and parameters  
+            appServiceVarName, appServiceVarName, // constructor assignment
+            entityName, entityName, entityName, // create method
+            camelCaseEntityName, entityName, // create method log
+            appServiceVarName, entityName, // create method call
+            entityName, // query method response type
+            entityName, camelCaseEntityName, // query method parameters
+            pluralPath, camelCaseEntityName, // query method log
+            appServiceVarName, camelCaseEntityName, // query method call
+            entityName, // getById method
+            camelCaseEntityName, // getById method log
+            appServiceVarName, // getById method call
+            entityName, // update method
+            entityName, entityName, // update method parameters
+            camelCaseEntityName, entityName, // update method log
+            entityName, // update method setId
+            appServiceVarName, entityName, // update method call
+            entityName, // delete method
+            camelCaseEntityName, // delete method log
+            appServiceVarName // delete method call
+        };
         
-        String interfaceContent = String.format("""
+        return REST_CONTROLLER_TEMPLATE.render(params);
+    }
+
+    private static final CodeTemplate APPLICATION_SERVICE_INTERFACE_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.ports.input.service;
 
 import %s.domain.applicationservice.commands.%s.create.Create%sCommand;
@@ -3529,8 +3534,17 @@ public interface %s {
 
     BaseQueryResponse<%sQueryResponse> query(@Valid %sQuery %sQuery);
 }
-""",
-            basePackageName, // package
+""");
+
+    private void generateApplicationServiceInterface(ProjectOutput output, NamingModel.TableNames tableNames, String basePackageName, Path appServiceMainJava) throws IOException {
+        String entityName = tableNames.getClassName();
+        String interfaceName = entityName + "ApplicationService";
+        String camelCaseEntityName = tableNames.getVariableName();
+        String entityPackageName = tableNames.getPackageSegment();
+        
+        Path interfaceDir = Paths.get(appServiceMainJava.toString(), "ports", "input", "service");
+        
+        String interfaceContent = APPLICATION_SERVICE_INTERFACE_TEMPLATE.render(basePackageName, // package
             basePackageName, entityPackageName, entityName, // import Create Command
             basePackageName, entityPackageName, entityName, // import Create Response
             basePackageName, entityPackageName, entityName, // import Update Command
@@ -3548,20 +3562,10 @@ public interface %s {
             entityName, entityName, camelCaseEntityName // query method
         );
         
-        Files.writeString(Paths.get(interfaceDir.toString(), interfaceName + ".java"), interfaceContent);
+        output.write(Paths.get(interfaceDir.toString(), interfaceName + ".java"), interfaceContent);
     }
 
-    private void generateApplicationServiceImplementation(String tableName, String basePackageName, Path appServiceMainJava, String domainMapperName, ProjectRequest projectRequest) throws IOException {
-        String entityName = snakeKebabCaseToPascalCase(tableName);
-        String implName = entityName + "ApplicationServiceImpl";
-        String interfaceName = entityName + "ApplicationService";
-        String camelCaseEntityName = firstCharToLowerCase(entityName);
-        String entityPackageName = camelCaseEntityName.toLowerCase(); // All lowercase for package names
-        
-        Path implDir = Paths.get(appServiceMainJava.toString(), "ports", "input", "service", "impl");
-        Files.createDirectories(implDir);
-        
-        String implContent = String.format("""
+    private static final CodeTemplate APPLICATION_SERVICE_IMPLEMENTATION_TEMPLATE = CodeTemplate.compile("""
 package %s.domain.applicationservice.ports.input.service.impl;
 
 import %s.domain.applicationservice.commands.%s.create.%sCreateCommandHandler;
@@ -3640,8 +3644,18 @@ public class %s implements %s {
         return %sQueryHandler.query(%sQuery);
     }
 }
-""",
-            basePackageName, // package
+""");
+
+    private void generateApplicationServiceImplementation(ProjectOutput output, NamingModel.TableNames tableNames, String basePackageName, Path appServiceMainJava, String domainMapperName, ProjectRequest projectRequest) throws IOException {
+        String entityName = tableNames.getClassName();
+        String implName = entityName + "ApplicationServiceImpl";
+        String interfaceName = entityName + "ApplicationService";
+        String camelCaseEntityName = tableNames.getVariableName();
+        String entityPackageName = tableNames.getPackageSegment();
+        
+        Path implDir = Paths.get(appServiceMainJava.toString(), "ports", "input", "service", "impl");
+        
+        String implContent = APPLICATION_SERVICE_IMPLEMENTATION_TEMPLATE.render(basePackageName, // package
             basePackageName, entityPackageName, entityName, // import Create Handler
             basePackageName, entityPackageName, entityName, // import Create Command
             basePackageName, entityPackageName, entityName, // import Create Response
@@ -3693,46 +3707,26 @@ public class %s implements %s {
             camelCaseEntityName, camelCaseEntityName // query method body
         );
         
-        Files.writeString(Paths.get(implDir.toString(), implName + ".java"), implContent);
+        output.write(Paths.get(implDir.toString(), implName + ".java"), implContent);
     }
 
-    private void generateHttpRequestFiles(EnvironmentalCredentialsRequest environmentalCredentialsRequest, Path httpDir, String basePackageName) throws IOException, SQLException {
-        try (Connection conn = DriverManager.getConnection(
-                environmentalCredentialsRequest.getLocalDatasourceUrl(),
-                environmentalCredentialsRequest.getLocalDatasourceUsername(),
-                environmentalCredentialsRequest.getLocalDatasourcePassword())) {
-
-            String schema = environmentalCredentialsRequest.getSelectedSchema();
-            List<String> tables = getTables(conn, schema);
-            Map<String, Set<String>> foreignKeys = getForeignKeys(conn, schema);
-            Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(environmentalCredentialsRequest.getTableEntityTypes());
-            
-            for (String tableName : aggregateRoots) {
-                String entityNameLower = tableName.toLowerCase(Locale.ENGLISH).replace("_", "");
-                String httpFileName = entityNameLower + ".http";
-                String httpContent = generateHttpFileContent(tableName, basePackageName, environmentalCredentialsRequest.getServerPort(), conn, schema);
-                Files.writeString(Paths.get(httpDir.toString(), httpFileName), httpContent);
+    private void generateHttpRequestFiles(ProjectOutput output, EnvironmentalCredentialsRequest environmentalCredentialsRequest, SchemaModel schemaModel, EnumRegistry enumRegistry, NamingModel naming, Path httpDir, String basePackageName) throws IOException {
+        Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(environmentalCredentialsRequest.getTableEntityTypes());
+        Map<String, String> columnToEnumMap = enumRegistry.getEnumTypesByColumn();
+        
+        for (String tableName : aggregateRoots) {
+            if (!output.enterTable(tableName)) {
+                continue;
             }
+            NamingModel.TableNames tableNames = naming.table(tableName);
+            String httpFileName = tableNames.getPackageSegment() + ".http";
+            String httpContent = generateHttpFileContent(tableNames, basePackageName, environmentalCredentialsRequest.getServerPort(), schemaModel, columnToEnumMap);
+            output.write(Paths.get(httpDir.toString(), httpFileName), httpContent);
         }
+        output.exitTable();
     }
 
-    private String generateHttpFileContent(String tableName, String basePackageName, String serverPort, Connection conn, String schema) throws SQLException {
-        String entityNameLower = tableName.toLowerCase(Locale.ENGLISH).replace("_", "");
-        String entityName = snakeKebabCaseToPascalCase(tableName);
-        String entityNameLowerPlural = pluralize(entityNameLower);
-        
-        // Get columns to generate proper request bodies
-        List<Map<String, String>> columns = getColumnsForTable(conn, schema, tableName);
-        
-        // Get additional data needed for accurate request body generation
-        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = getDetailedForeignKeys(conn, schema);
-        Map<String, String> columnToEnumMap = scanForEnumColumns(conn, schema);
-        
-        String createRequestBody = generateCreateRequestBody(columns, tableName, detailedForeignKeys, columnToEnumMap);
-        String updateRequestBody = generateUpdateRequestBody(columns, tableName, detailedForeignKeys, columnToEnumMap);
-        String queryRequestBody = generateQueryRequestBody(columns);
-        
-        return String.format("""
+    private static final CodeTemplate HTTP_FILE_TEMPLATE = CodeTemplate.compile("""
 ### Create %s
 POST http://localhost:%s/api/v1/%s
 Content-Type: application/json
@@ -3765,8 +3759,24 @@ GET https://your-domain.com/api/v1/%s/123e4567-e89b-12d3-a456-426614174000
 
 ### WITH QUERY PARAMETERS (pagination and sorting)
 GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
-""", 
-            entityName, serverPort, entityNameLowerPlural,    // Create %s, POST localhost:%s/api/v1/%s
+""");
+
+    private String generateHttpFileContent(NamingModel.TableNames tableNames, String basePackageName, String serverPort, SchemaModel schemaModel, Map<String, String> columnToEnumMap) {
+        String tableName = tableNames.getTableName();
+        String entityName = tableNames.getClassName();
+        String entityNameLowerPlural = tableNames.getPluralPath();
+        
+        // Get columns to generate proper request bodies
+        List<Map<String, String>> columns = schemaModel.getColumns(tableName);
+        
+        // Get additional data needed for accurate request body generation
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+        
+        String createRequestBody = generateCreateRequestBody(columns, tableNames, detailedForeignKeys, columnToEnumMap);
+        String updateRequestBody = generateUpdateRequestBody(columns, tableNames, detailedForeignKeys, columnToEnumMap);
+        String queryRequestBody = generateQueryRequestBody(columns, tableNames);
+        
+        return HTTP_FILE_TEMPLATE.render(entityName, serverPort, entityNameLowerPlural,    // Create %s, POST localhost:%s/api/v1/%s
             createRequestBody,                                // Request body for create
             entityName, serverPort, entityNameLowerPlural,    // Get %s by ID, GET localhost:%s/api/v1/%s/...
             entityName, serverPort, entityNameLowerPlural,    // Update %s, PUT localhost:%s/api/v1/%s/...
@@ -3780,7 +3790,8 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
         );
     }
 
-    private String generateCreateRequestBody(List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Map<String, String> columnToEnumMap) {
+    private String generateCreateRequestBody(List<Map<String, String>> columns, NamingModel.TableNames tableNames, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Map<String, String> columnToEnumMap) {
+        String currentTable = tableNames.getTableName();
         if (columns == null || columns.isEmpty()) {
             return "{\n  \"createdBy\": \"0197b76c-7cce-71be-a0f2-949c6f4ff9f7\",\n  \"name\": \"Sample Name\",\n  \"description\": \"Sample description\"\n}";
         }
@@ -3820,10 +3831,10 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             }
             first = false;
             
-            String camelCaseColumnName = snakeCaseToCamelCase(columnName);
+            String camelCaseColumnName = tableNames.column(columnName).getCamelCaseName();
             
             // Handle Java keywords like in Command DTO generation
-            if (JAVA_KEYWORDS.contains(camelCaseColumnName)) {
+            if (NamingModel.isJavaKeyword(camelCaseColumnName)) {
                 // This would need the entityName, but for HTTP requests we'll keep it simple
                 camelCaseColumnName = camelCaseColumnName + "Value";
             }
@@ -3857,7 +3868,8 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
         return body.toString();
     }
 
-    private String generateUpdateRequestBody(List<Map<String, String>> columns, String currentTable, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Map<String, String> columnToEnumMap) {
+    private String generateUpdateRequestBody(List<Map<String, String>> columns, NamingModel.TableNames tableNames, Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys, Map<String, String> columnToEnumMap) {
+        String currentTable = tableNames.getTableName();
         if (columns == null || columns.isEmpty()) {
             return "{\n  \"id\": \"0197b76c-7cce-71be-a0f2-949c6f4ff9f7\",\n  \"name\": \"Updated Name\",\n  \"description\": \"Updated description\"\n}";
         }
@@ -3878,8 +3890,8 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             }
             
             // Skip created columns but include ID for updates
-            if (columnName.toLowerCase().contains("created") || 
-                columnName.toLowerCase().contains("version")) {
+            if (columnName.toLowerCase(Locale.ENGLISH).contains("created") || 
+                columnName.toLowerCase(Locale.ENGLISH).contains("version")) {
                 continue;
             }
             
@@ -3888,10 +3900,10 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             }
             first = false;
             
-            String camelCaseColumnName = snakeCaseToCamelCase(columnName);
+            String camelCaseColumnName = tableNames.column(columnName).getCamelCaseName();
             
             // Handle Java keywords like in Command DTO generation
-            if (JAVA_KEYWORDS.contains(camelCaseColumnName)) {
+            if (NamingModel.isJavaKeyword(camelCaseColumnName)) {
                 camelCaseColumnName = camelCaseColumnName + "Value";
             }
             
@@ -3928,7 +3940,7 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
         return body.toString();
     }
 
-    private String generateQueryRequestBody(List<Map<String, String>> columns) {
+    private String generateQueryRequestBody(List<Map<String, String>> columns, NamingModel.TableNames tableNames) {
         if (columns == null || columns.isEmpty()) {
             return "{\n  \"name\": \"Search criteria\",\n  \"description\": \"Sample query\"\n}";
         }
@@ -3947,9 +3959,9 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             }
             
             if (columnName.equalsIgnoreCase("id") || 
-                columnName.toLowerCase().contains("created") || 
-                columnName.toLowerCase().contains("updated") ||
-                columnName.toLowerCase().contains("version") ||
+                columnName.toLowerCase(Locale.ENGLISH).contains("created") || 
+                columnName.toLowerCase(Locale.ENGLISH).contains("updated") ||
+                columnName.toLowerCase(Locale.ENGLISH).contains("version") ||
                 fieldCount >= 3) {
                 continue;
             }
@@ -3960,7 +3972,7 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             first = false;
             fieldCount++;
             
-            String camelCaseColumnName = snakeCaseToCamelCase(columnName);
+            String camelCaseColumnName = tableNames.column(columnName).getCamelCaseName();
             String sampleValue = generateSampleValue(dataType, columnName);
             body.append("  \"").append(camelCaseColumnName).append("\": ").append(sampleValue);
         }
@@ -3975,32 +3987,8 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
         return body.toString();
     }
 
-    private Map<String, String> scanForEnumColumns(Connection conn, String schema) throws SQLException {
-        Map<String, String> columnToEnumMap = new HashMap<>();
-        List<String> tables = getTables(conn, schema);
-        
-        for (String table : tables) {
-            List<Map<String, String>> columns = getColumnsForTable(conn, schema, table);
-            for (Map<String, String> column : columns) {
-                String comment = column.get("comment");
-                if (comment != null && !comment.isBlank() && comment.startsWith("Enum:")) {
-                    // Extract enum class name from comment format: Enum:EnumClass{...}
-                    String enumName = comment.substring(5); // Remove "Enum:" prefix
-                    if (enumName.contains("{")) {
-                        enumName = enumName.substring(0, enumName.indexOf("{"));
-                    }
-                    // Create fully qualified enum class name
-                    String enumFqn = "com.muratagin.dddgenerator.domain.core.valueobject." + enumName;
-                    columnToEnumMap.put(table + "." + column.get("name"), enumFqn);
-                }
-            }
-        }
-        
-        return columnToEnumMap;
-    }
-
     private String generateEnumSampleValue(String columnName) {
-        String lowerColumnName = columnName.toLowerCase();
+        String lowerColumnName = columnName.toLowerCase(Locale.ENGLISH);
         
         // Generate appropriate enum values based on column name
         if (lowerColumnName.contains("type")) {
@@ -4021,7 +4009,7 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             return "\"Sample Value\"";
         }
         
-        String lowerColumnName = columnName.toLowerCase();
+        String lowerColumnName = columnName.toLowerCase(Locale.ENGLISH);
         
         if (dataType.contains("VARCHAR") || dataType.contains("TEXT") || dataType.contains("CHAR")) {
             if (lowerColumnName.contains("email")) {
@@ -4037,7 +4025,7 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
                 } else if (lowerColumnName.contains("institution")) {
                     return "\"Hacettepe\"";
                 } else {
-                    return "\"Sample " + snakeKebabCaseToPascalCase(columnName) + "\"";
+                    return "\"Sample " + NamingModel.toPascalCase(columnName) + "\"";
                 }
             } else if (lowerColumnName.contains("description")) {
                 return "\"Sample description\"";
@@ -4083,48 +4071,15 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
         }
     }
 
-    private void generatePostmanCollection(EnvironmentalCredentialsRequest environmentalCredentialsRequest, Path postmanDir, String basePackageName, ProjectRequest projectRequest) throws IOException, SQLException {
-        try (Connection conn = DriverManager.getConnection(
-                environmentalCredentialsRequest.getLocalDatasourceUrl(),
-                environmentalCredentialsRequest.getLocalDatasourceUsername(),
-                environmentalCredentialsRequest.getLocalDatasourcePassword())) {
-
-            String schema = environmentalCredentialsRequest.getSelectedSchema();
-            List<String> tables = getTables(conn, schema);
-            Map<String, Set<String>> foreignKeys = getForeignKeys(conn, schema);
-            Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(environmentalCredentialsRequest.getTableEntityTypes());
-            String postmanContent = generatePostmanCollectionContent(aggregateRoots, projectRequest, environmentalCredentialsRequest.getServerPort(), conn, schema);
-            String fileName = projectRequest.getArtifactId() + ".postman_collection.json";
-            Files.writeString(Paths.get(postmanDir.toString(), fileName), postmanContent);
+    private void generatePostmanCollection(ProjectOutput output, EnvironmentalCredentialsRequest environmentalCredentialsRequest, SchemaModel schemaModel, EnumRegistry enumRegistry, NamingModel naming, Path postmanDir, String basePackageName, ProjectRequest projectRequest) throws IOException {
+        Set<String> aggregateRoots = determineAggregateRootsFromUserSelection(environmentalCredentialsRequest.getTableEntityTypes());
+        String fileName = projectRequest.getArtifactId() + ".postman_collection.json";
+        try (Writer writer = output.openWriter(Paths.get(postmanDir.toString(), fileName))) {
+            writePostmanCollectionContent(writer, aggregateRoots, projectRequest, environmentalCredentialsRequest.getServerPort(), schemaModel, enumRegistry, naming);
         }
     }
 
-    private String generatePostmanCollectionContent(Set<String> aggregateRoots, ProjectRequest projectRequest, String serverPort, Connection conn, String schema) throws SQLException {
-        StringBuilder items = new StringBuilder();
-        boolean first = true;
-        
-        for (String tableName : aggregateRoots) {
-            if (!first) {
-                items.append(",\n");
-            }
-            first = false;
-            
-            String entityName = snakeKebabCaseToPascalCase(tableName);
-            String entityNameLower = tableName.toLowerCase(Locale.ENGLISH).replace("_", "");
-            String entityNameLowerPlural = pluralize(entityNameLower);
-            
-            // Get columns to generate proper request bodies
-            List<Map<String, String>> columns = getColumnsForTable(conn, schema, tableName);
-            
-            // Get additional data needed for accurate request body generation
-            Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = getDetailedForeignKeys(conn, schema);
-            Map<String, String> columnToEnumMap = scanForEnumColumns(conn, schema);
-            
-            String createRequestBody = generateCreateRequestBody(columns, tableName, detailedForeignKeys, columnToEnumMap).replace("\"", "\\\"").replace("\n", "\\n");
-            String updateRequestBody = generateUpdateRequestBody(columns, tableName, detailedForeignKeys, columnToEnumMap).replace("\"", "\\\"").replace("\n", "\\n");
-            String queryRequestBody = generateQueryRequestBody(columns).replace("\"", "\\\"").replace("\n", "\\n");
-            
-            items.append(String.format("""
+    private static final CodeTemplate POSTMAN_COLLECTION_1_TEMPLATE = CodeTemplate.compile("""
         {
             "name": "%s",
             "item": [
@@ -4251,25 +4206,9 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
                     ]
                 }
             ]
-        }""", 
-                entityName,                                    // 1. "name": "%s"
-                createRequestBody,                             // 2. Create request body
-                serverPort, entityNameLowerPlural,             // 3-4. localhost:%s/api/v1/%s
-                serverPort, entityNameLowerPlural,             // 5-6. port + path
-                updateRequestBody,                             // 7. Update request body
-                serverPort, entityNameLowerPlural, entityNameLower, // 8-10. localhost:%s/api/v1/%s/{{%sId}}
-                serverPort, entityNameLowerPlural, entityNameLower, // 11-13. port + path + {{%sId}}
-                serverPort, entityNameLowerPlural, entityNameLower, // 14-16. DELETE localhost:%s/api/v1/%s/{{%sId}}
-                serverPort, entityNameLowerPlural, entityNameLower, // 17-19. port + path + {{%sId}}
-                serverPort, entityNameLowerPlural, entityNameLower, // 20-22. GET localhost:%s/api/v1/%s/{{%sId}}
-                serverPort, entityNameLowerPlural, entityNameLower, // 23-25. port + path + {{%sId}}
-                queryRequestBody,                              // 26. Query request body
-                serverPort, entityNameLowerPlural,             // 27-28. localhost:%s/api/v1/%s/query
-                serverPort, entityNameLowerPlural              // 29-30. port + path
-            ));
-        }
-        
-        return String.format("""
+        }""");
+
+    private static final CodeTemplate POSTMAN_COLLECTION_2_TEMPLATE = CodeTemplate.compile("""
 {
     "info": {
         "_postman_id": "%s",
@@ -4286,6 +4225,52 @@ GET http://localhost:%s/api/v1/%s?page=0&size=10&sort=name,asc
             "value": "http://localhost:8080"
         }
     ]
-}""", java.util.UUID.randomUUID().toString(), projectRequest.getArtifactId(), items.toString());
+}""");
+
+    private void writePostmanCollectionContent(Appendable out, Set<String> aggregateRoots, ProjectRequest projectRequest, String serverPort, SchemaModel schemaModel, EnumRegistry enumRegistry, NamingModel naming) throws IOException {
+        // Resolved once for the whole collection instead of once per aggregate root
+        Map<String, Map<String, ForeignKeyInfo>> detailedForeignKeys = schemaModel.getDetailedForeignKeys();
+        Map<String, String> columnToEnumMap = enumRegistry.getEnumTypesByColumn();
+        
+        // Derived from the coordinates so that regenerating the project keeps the collection's identity (and its bytes)
+        String collectionId = java.util.UUID.nameUUIDFromBytes((projectRequest.getGroupId() + ":" + projectRequest.getArtifactId()).getBytes(java.nio.charset.StandardCharsets.UTF_8)).toString();
+        // The items are appended one aggregate root at a time, straight into the output
+        POSTMAN_COLLECTION_2_TEMPLATE.renderTo(out, collectionId, projectRequest.getArtifactId(), (CodeTemplate.Fragment) items -> {
+            boolean first = true;
+            for (String tableName : aggregateRoots) {
+                if (!first) {
+                    items.append(",\n");
+                }
+                first = false;
+            
+                NamingModel.TableNames tableNames = naming.table(tableName);
+                String entityName = tableNames.getClassName();
+                String entityNameLower = tableNames.getPackageSegment();
+                String entityNameLowerPlural = tableNames.getPluralPath();
+            
+                // Get columns to generate proper request bodies
+                List<Map<String, String>> columns = schemaModel.getColumns(tableName);
+            
+                String createRequestBody = generateCreateRequestBody(columns, tableNames, detailedForeignKeys, columnToEnumMap).replace("\"", "\\\"").replace("\n", "\\n");
+                String updateRequestBody = generateUpdateRequestBody(columns, tableNames, detailedForeignKeys, columnToEnumMap).replace("\"", "\\\"").replace("\n", "\\n");
+                String queryRequestBody = generateQueryRequestBody(columns, tableNames).replace("\"", "\\\"").replace("\n", "\\n");
+            
+                POSTMAN_COLLECTION_1_TEMPLATE.renderTo(items, entityName,                                    // 1. "name": "%s"
+                    createRequestBody,                             // 2. Create request body
+                    serverPort, entityNameLowerPlural,             // 3-4. localhost:%s/api/v1/%s
+                    serverPort, entityNameLowerPlural,             // 5-6. port + path
+                    updateRequestBody,                             // 7. Update request body
+                    serverPort, entityNameLowerPlural, entityNameLower, // 8-10. localhost:%s/api/v1/%s/{{%sId}}
+                    serverPort, entityNameLowerPlural, entityNameLower, // 11-13. port + path + {{%sId}}
+                    serverPort, entityNameLowerPlural, entityNameLower, // 14-16. DELETE localhost:%s/api/v1/%s/{{%sId}}
+                    serverPort, entityNameLowerPlural, entityNameLower, // 17-19. port + path + {{%sId}}
+                    serverPort, entityNameLowerPlural, entityNameLower, // 20-22. GET localhost:%s/api/v1/%s/{{%sId}}
+                    serverPort, entityNameLowerPlural, entityNameLower, // 23-25. port + path + {{%sId}}
+                    queryRequestBody,                              // 26. Query request body
+                    serverPort, entityNameLowerPlural,             // 27-28. localhost:%s/api/v1/%s/query
+                    serverPort, entityNameLowerPlural              // 29-30. port + path
+                );
+            }
+        });
     }
 }
@@ -0,0 +1,431 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.schema.AggregateGraph;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import com.muratagin.dddgenerator.domain.schema.SchemaSnapshot;
+import com.muratagin.dddgenerator.service.job.GenerationPhase;
+import com.muratagin.dddgenerator.service.job.GenerationProgress;
+import com.muratagin.dddgenerator.service.job.GenerationScheduler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class SchemaIntrospectionService implements DisposableBean {
+
+    private final List<SchemaIntrospector> schemaIntrospectors;
+    private final PgDumpSchemaParser pgDumpSchemaParser;
+    private final SchemaModelCache schemaModelCache;
+    private final ConnectionPoolRegistry connectionPoolRegistry;
+    private final GeneratorProperties.Introspection settings;
+    private final ExecutorService introspectionExecutor;
+    // Loads started ahead of the wizard step that needs them, keyed by kind, credentials and schema
+    private final Map<String, Prefetch> prefetches = new ConcurrentHashMap<>();
+    // Held while a prefetch is added or finishes, so that concurrent sessions cannot exceed either prefetch limit
+    private final Object prefetchLock = new Object();
+    // Running prefetches per url and username; kept apart from the scheduler's quota, which only counts generations
+    private final Map<String, Integer> runningPrefetchesPerDatasource = new HashMap<>();
+
+    public SchemaIntrospectionService(List<SchemaIntrospector> schemaIntrospectors, PgDumpSchemaParser pgDumpSchemaParser, SchemaModelCache schemaModelCache,
+                                      ConnectionPoolRegistry connectionPoolRegistry, GeneratorProperties generatorProperties) {
+        this.schemaIntrospectors = List.copyOf(schemaIntrospectors);
+        this.pgDumpSchemaParser = pgDumpSchemaParser;
+        this.schemaModelCache = schemaModelCache;
+        this.connectionPoolRegistry = connectionPoolRegistry;
+        this.settings = generatorProperties.getIntrospection();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.introspectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "dddgenerator-introspection-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Borrows pooled connections for the datasource; large schemas are split across several of them
+    public SchemaModel introspect(String url, String username, String password, String schema) throws SQLException {
+        return introspect(url, username, password, schema, GenerationProgress.NONE);
+    }
+
+    // Reports CONNECT while the first connection is borrowed and INTROSPECTION once it is available. A prefetch of the
+    // same schema with the same credentials is joined while it runs. A finished one is not reused as is: the load
+    // re-checks the catalog fingerprint and only then takes the prefetched model from the model cache.
+    public SchemaModel introspect(String url, String username, String password, String schema, GenerationProgress progress) throws SQLException {
+        Prefetch prefetch = freshPrefetch(modelKey(url, username, password, schema));
+        if (prefetch != null && !prefetch.result.isDone()) {
+            progress.phaseStarted(GenerationPhase.INTROSPECTION);
+            SchemaModel schemaModel = (SchemaModel) awaitPrefetch(prefetch);
+            if (schemaModel != null) {
+                return schemaModel;
+            }
+        }
+        return load(url, username, password, schema, progress);
+    }
+
+    private SchemaModel load(String url, String username, String password, String schema, GenerationProgress progress) throws SQLException {
+        progress.phaseStarted(GenerationPhase.CONNECT);
+        try (Connection conn = connectionPoolRegistry.getConnection(url, username, password)) {
+            progress.phaseStarted(GenerationPhase.INTROSPECTION);
+            return introspect(conn, schema, () -> connectionPoolRegistry.getConnection(url, username, password));
+        }
+    }
+
+    public SchemaModel introspect(Connection conn, String schema) throws SQLException {
+        return introspect(conn, schema, null);
+    }
+
+    public List<String> loadSchemas(String url, String username, String password) throws SQLException {
+        Prefetch prefetch = freshPrefetch(schemasKey(url, username, password));
+        if (prefetch != null) {
+            @SuppressWarnings("unchecked")
+            List<String> schemas = (List<String>) awaitPrefetch(prefetch);
+            if (schemas != null) {
+                return schemas;
+            }
+        }
+        try (Connection conn = connectionPoolRegistry.getConnection(url, username, password)) {
+            return introspectorFor(conn).loadSchemas(conn);
+        }
+    }
+
+    // The table names alone, as the paged table list needs them; a prefetched list is reused until it expires
+    public List<String> loadTables(String url, String username, String password, String schema) throws SQLException {
+        Prefetch prefetch = freshPrefetch(tablesKey(url, username, password, schema));
+        if (prefetch != null) {
+            @SuppressWarnings("unchecked")
+            List<String> tables = (List<String>) awaitPrefetch(prefetch);
+            if (tables != null) {
+                return tables;
+            }
+        }
+        try (Connection conn = connectionPoolRegistry.getConnection(url, username, password)) {
+            return introspectorFor(conn).loadTables(conn, schema);
+        }
+    }
+
+    // Starts listing the schemas in the background, e.g. as soon as the user's credentials are submitted
+    public void prefetchSchemas(String url, String username, String password) {
+        prefetch(schemasKey(url, username, password), GenerationScheduler.datasourceKey(url, username), () -> {
+            try (Connection conn = connectionPoolRegistry.getConnection(url, username, password)) {
+                return List.copyOf(introspectorFor(conn).loadSchemas(conn));
+            }
+        });
+    }
+
+    // Starts listing a schema's tables, so that the pages of the table list share one catalog query
+    public void prefetchTables(String url, String username, String password, String schema) {
+        prefetch(tablesKey(url, username, password, schema), GenerationScheduler.datasourceKey(url, username), () -> {
+            try (Connection conn = connectionPoolRegistry.getConnection(url, username, password)) {
+                return List.copyOf(introspectorFor(conn).loadTables(conn, schema));
+            }
+        });
+    }
+
+    // Starts loading a schema the user has picked, so that the tables and the final generation find it ready
+    public void prefetch(String url, String username, String password, String schema) {
+        prefetch(modelKey(url, username, password, schema), GenerationScheduler.datasourceKey(url, username), () -> load(url, username, password, schema, GenerationProgress.NONE));
+    }
+
+    // Builds the model from an exported snapshot instead of a live database
+    public SchemaModel introspect(SchemaSnapshot snapshot) {
+        if (snapshot == null || snapshot.getFormatVersion() != SchemaSnapshot.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported schema snapshot format version " + (snapshot == null ? null : snapshot.getFormatVersion())
+                    + "; expected " + SchemaSnapshot.FORMAT_VERSION + ".");
+        }
+        if (snapshot.getSchemaName() == null || snapshot.getSchemaName().isBlank()) {
+            throw new IllegalArgumentException("The schema snapshot has no schema name.");
+        }
+
+        List<String> tables = new ArrayList<>();
+        TableMetadata metadata = new TableMetadata(new LinkedHashMap<>(), new HashMap<>(), new HashMap<>());
+        for (SchemaSnapshot.Table table : snapshot.getTables()) {
+            if (table.getName() == null || table.getName().isBlank()) {
+                throw new IllegalArgumentException("The schema snapshot contains a table without a name.");
+            }
+            tables.add(table.getName());
+            List<Map<String, String>> columns = new ArrayList<>();
+            for (SchemaSnapshot.Column column : table.getColumns()) {
+                Map<String, String> columnData = new HashMap<>();
+                columnData.put("name", column.getName());
+                columnData.put("type", column.getType());
+                columnData.put("comment", column.getComment());
+                columns.add(columnData);
+            }
+            metadata.columnsByTable.put(table.getName(), columns);
+            if (!table.getPrimaryKey().isEmpty()) {
+                metadata.primaryKeys.put(table.getName(), table.getPrimaryKey());
+            }
+            Map<String, ForeignKeyInfo> foreignKeys = new HashMap<>();
+            for (SchemaSnapshot.ForeignKey foreignKey : table.getForeignKeys()) {
+                foreignKeys.put(foreignKey.getColumn(), new ForeignKeyInfo(foreignKey.getReferencedTable(), foreignKey.getColumn(), foreignKey.getReferencedColumn()));
+            }
+            if (!foreignKeys.isEmpty()) {
+                metadata.foreignKeys.put(table.getName(), foreignKeys);
+            }
+        }
+        return buildSchemaModel(snapshot.getSchemaName(), tables, metadata);
+    }
+
+    // Builds the model from pg_dump --schema-only output; a blank schema means the schema of the first table
+    public SchemaModel introspectDdl(String ddl, String schema) {
+        return introspect(pgDumpSchemaParser.parse(ddl, schema));
+    }
+
+    @Override
+    public void destroy() {
+        prefetches.clear();
+        introspectionExecutor.shutdownNow();
+    }
+
+    private SchemaModel introspect(Connection conn, String schema, WorkerConnections workerConnections) throws SQLException {
+        SchemaIntrospector introspector = introspectorFor(conn);
+        // The driver only streams with the configured fetch size inside a transaction, and REPEATABLE READ keeps
+        // every catalog query below on one snapshot
+        boolean autoCommit = conn.getAutoCommit();
+        int isolation = conn.getTransactionIsolation();
+        if (autoCommit) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        }
+        try {
+            String cacheKey = SchemaModelCache.key(conn.getMetaData().getURL(), conn.getMetaData().getUserName(), schema);
+            // One cheap catalog query decides whether the cached snapshot is still accurate
+            String fingerprint = introspector.loadFingerprint(conn, schema);
+            SchemaModel cached = fingerprint != null ? schemaModelCache.get(cacheKey, fingerprint) : null;
+            if (cached != null) {
+                return cached;
+            }
+
+            List<String> tables = introspector.loadTables(conn, schema);
+            TableMetadata metadata = null;
+            // A snapshot can only be shared from a transaction this method owns
+            if (autoCommit && workerConnections != null && settings.getParallelism() > 1 && tables.size() >= settings.getParallelThreshold()) {
+                metadata = loadInParallel(introspector, conn, schema, tables, workerConnections);
+            }
+            if (metadata == null) {
+                metadata = loadMetadata(introspector, conn, schema, null);
+            }
+
+            SchemaModel schemaModel = buildSchemaModel(schema, tables, metadata);
+            if (fingerprint != null) {
+                schemaModelCache.put(cacheKey, fingerprint, schemaModel);
+            }
+            return schemaModel;
+        } finally {
+            if (autoCommit) {
+                conn.rollback();
+                conn.setTransactionIsolation(isolation);
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    // Splits the tables across worker connections that all import this transaction's snapshot, so the merged
+    // result is as consistent as a serial load. Returns null if the snapshot cannot be exported.
+    private TableMetadata loadInParallel(SchemaIntrospector introspector, Connection conn, String schema, List<String> tables,
+                                         WorkerConnections workerConnections) throws SQLException {
+        String snapshotId = introspector.exportSnapshot(conn);
+        if (snapshotId == null) {
+            return null;
+        }
+
+        int workers = Math.min(settings.getParallelism(), tables.size());
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < tables.size(); i++) {
+            partitions.get(i % workers).add(tables.get(i));
+        }
+
+        List<Future<TableMetadata>> futures = new ArrayList<>();
+        for (List<String> partition : partitions) {
+            futures.add(introspectionExecutor.submit(() -> {
+                try (Connection worker = workerConnections.getConnection()) {
+                    return loadPartition(introspector, worker, schema, partition, snapshotId);
+                }
+            }));
+        }
+
+        TableMetadata merged = new TableMetadata(new LinkedHashMap<>(), new HashMap<>(), new HashMap<>());
+        try {
+            for (Future<TableMetadata> future : futures) {
+                TableMetadata partitionMetadata = future.get();
+                merged.columnsByTable.putAll(partitionMetadata.columnsByTable);
+                merged.primaryKeys.putAll(partitionMetadata.primaryKeys);
+                merged.foreignKeys.putAll(partitionMetadata.foreignKeys);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Schema introspection was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("Schema introspection failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            for (Future<TableMetadata> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return merged;
+    }
+
+    private TableMetadata loadPartition(SchemaIntrospector introspector, Connection worker, String schema, List<String> tables, String snapshotId) throws SQLException {
+        boolean autoCommit = worker.getAutoCommit();
+        int isolation = worker.getTransactionIsolation();
+        worker.setAutoCommit(false);
+        worker.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        try {
+            introspector.importSnapshot(worker, snapshotId);
+            return loadMetadata(introspector, worker, schema, tables);
+        } finally {
+            worker.rollback();
+            worker.setTransactionIsolation(isolation);
+            worker.setAutoCommit(autoCommit);
+        }
+    }
+
+    private TableMetadata loadMetadata(SchemaIntrospector introspector, Connection conn, String schema, List<String> tables) throws SQLException {
+        return new TableMetadata(
+                introspector.loadColumns(conn, schema, tables),
+                introspector.loadPrimaryKeys(conn, schema, tables),
+                introspector.loadForeignKeys(conn, schema, tables));
+    }
+
+    // Speculative: skipped when max-prefetches results are already held or running, or when max-prefetches-per-datasource
+    // are already running against the same url and username. Generations never wait for or are refused over a prefetch.
+    private void prefetch(String key, String datasource, Callable<?> load) {
+        if (settings.getMaxPrefetches() <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        prefetches.values().removeIf(prefetch -> prefetch.isExpired(now, settings.getPrefetchTtl()));
+        FutureTask<?> task;
+        synchronized (prefetchLock) {
+            if (prefetches.containsKey(key) || prefetches.size() >= settings.getMaxPrefetches()
+                    || runningPrefetchesPerDatasource.getOrDefault(datasource, 0) >= settings.getMaxPrefetchesPerDatasource()) {
+                return;
+            }
+            runningPrefetchesPerDatasource.merge(datasource, 1, Integer::sum);
+            task = new FutureTask<>(() -> {
+                try {
+                    return load.call();
+                } finally {
+                    synchronized (prefetchLock) {
+                        runningPrefetchesPerDatasource.computeIfPresent(datasource, (ignored, count) -> count > 1 ? count - 1 : null);
+                    }
+                }
+            });
+            prefetches.put(key, new Prefetch(task, now));
+        }
+        introspectionExecutor.execute(task);
+    }
+
+    private Prefetch freshPrefetch(String key) {
+        Prefetch prefetch = prefetches.get(key);
+        if (prefetch != null && prefetch.isExpired(System.nanoTime(), settings.getPrefetchTtl())) {
+            prefetches.remove(key, prefetch);
+            return null;
+        }
+        return prefetch;
+    }
+
+    // Null if the prefetch failed; the caller then loads again and reports its own error
+    private Object awaitPrefetch(Prefetch prefetch) throws SQLException {
+        try {
+            return prefetch.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Schema introspection was interrupted", e);
+        } catch (ExecutionException | CancellationException e) {
+            prefetches.values().remove(prefetch);
+            return null;
+        }
+    }
+
+    // The pool key holds only a hash of the password, and a prefetch is never shared with other credentials
+    private static String schemasKey(String url, String username, String password) {
+        return "schemas\u0000" + ConnectionPoolRegistry.poolKey(url, username, password);
+    }
+
+    private static String tablesKey(String url, String username, String password, String schema) {
+        return "tables\u0000" + ConnectionPoolRegistry.poolKey(url, username, password) + '\u0000' + schema;
+    }
+
+    private static String modelKey(String url, String username, String password, String schema) {
+        return "model\u0000" + ConnectionPoolRegistry.poolKey(url, username, password) + '\u0000' + schema;
+    }
+
+    // Introspectors are injected in @Order; the generic JDBC metadata one comes last and accepts any database
+    private SchemaIntrospector introspectorFor(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        for (SchemaIntrospector introspector : schemaIntrospectors) {
+            if (introspector.supports(metaData)) {
+                return introspector;
+            }
+        }
+        throw new SQLException("No schema introspector supports " + metaData.getDatabaseProductName());
+    }
+
+    private SchemaModel buildSchemaModel(String schema, List<String> tables, TableMetadata metadata) {
+        return new SchemaModel(schema, tables, metadata.columnsByTable, metadata.primaryKeys, metadata.foreignKeys);
+    }
+
+    public Set<String> determineAggregateRootsFromDB(List<String> allTables, Map<String, Set<String>> foreignKeys) {
+        return AggregateGraph.build(allTables, foreignKeys).getAggregateRoots();
+    }
+
+    private static final class Prefetch {
+        private final Future<?> result;
+        private final long startedAt;
+
+        private Prefetch(Future<?> result, long startedAt) {
+            this.result = result;
+            this.startedAt = startedAt;
+        }
+
+        // A running prefetch never expires: joining it is always cheaper than starting over
+        private boolean isExpired(long now, Duration ttl) {
+            return result.isDone() && now - startedAt > ttl.toNanos();
+        }
+    }
+
+    private interface WorkerConnections {
+        Connection getConnection() throws SQLException;
+    }
+
+    private static final class TableMetadata {
+        private final Map<String, List<Map<String, String>>> columnsByTable;
+        private final Map<String, List<String>> primaryKeys;
+        private final Map<String, Map<String, ForeignKeyInfo>> foreignKeys;
+
+        private TableMetadata(Map<String, List<Map<String, String>>> columnsByTable,
+                              Map<String, List<String>> primaryKeys,
+                              Map<String, Map<String, ForeignKeyInfo>> foreignKeys) {
+            this.columnsByTable = columnsByTable;
+            this.primaryKeys = primaryKeys;
+            this.foreignKeys = foreignKeys;
+        }
+    }
+}
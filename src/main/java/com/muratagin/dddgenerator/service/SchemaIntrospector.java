@@ -0,0 +1,45 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the tables, columns and keys of one database schema. {@link SchemaIntrospectionService} picks the first
+ * implementation, in {@code @Order}, that supports the connected database.
+ */
+public interface SchemaIntrospector {
+
+    boolean supports(DatabaseMetaData metaData) throws SQLException;
+
+    // User schemas only, without the database's system schemas
+    List<String> loadSchemas(Connection conn) throws SQLException;
+
+    List<String> loadTables(Connection conn, String schema) throws SQLException;
+
+    // A null table list loads the whole schema; otherwise only the given tables are read
+    Map<String, List<Map<String, String>>> loadColumns(Connection conn, String schema, List<String> tables) throws SQLException;
+
+    Map<String, List<String>> loadPrimaryKeys(Connection conn, String schema, List<String> tables) throws SQLException;
+
+    Map<String, Map<String, ForeignKeyInfo>> loadForeignKeys(Connection conn, String schema, List<String> tables) throws SQLException;
+
+    // Changes whenever the schema does; null means the database offers nothing cheap enough and models are not cached
+    default String loadFingerprint(Connection conn, String schema) throws SQLException {
+        return null;
+    }
+
+    // Shares the calling transaction's snapshot with worker connections; null disables the parallel load
+    default String exportSnapshot(Connection conn) throws SQLException {
+        return null;
+    }
+
+    default void importSnapshot(Connection conn, String snapshotId) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Snapshot import is not supported by " + getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,77 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size- and TTL-bounded cache of introspected schemas, keyed by datasource, user and schema. An entry is only served
+ * while the catalog fingerprint it was loaded under still matches the database.
+ */
+@Component
+public class SchemaModelCache {
+
+    private final GeneratorProperties.SchemaCache settings;
+    private final LinkedHashMap<String, CachedSchema> entries;
+
+    public SchemaModelCache(GeneratorProperties generatorProperties) {
+        this.settings = generatorProperties.getSchemaCache();
+        // Access-ordered so the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSchema> eldest) {
+                return size() > settings.getMaxEntries();
+            }
+        };
+    }
+
+    public static String key(String url, String username, String schema) {
+        return url + '\u0000' + username + '\u0000' + schema;
+    }
+
+    public synchronized SchemaModel get(String key, String fingerprint) {
+        CachedSchema cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (isExpired(cached) || !cached.fingerprint.equals(fingerprint)) {
+            entries.remove(key);
+            return null;
+        }
+        return cached.schemaModel;
+    }
+
+    public synchronized void put(String key, String fingerprint, SchemaModel schemaModel) {
+        if (settings.getMaxEntries() <= 0 || fingerprint == null) {
+            return;
+        }
+        entries.put(key, new CachedSchema(schemaModel, fingerprint, System.currentTimeMillis()));
+    }
+
+    public synchronized void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(CachedSchema cached) {
+        return System.currentTimeMillis() - cached.loadedAt > settings.getTtl().toMillis();
+    }
+
+    private static final class CachedSchema {
+        private final SchemaModel schemaModel;
+        private final String fingerprint;
+        private final long loadedAt;
+
+        private CachedSchema(SchemaModel schemaModel, String fingerprint, long loadedAt) {
+            this.schemaModel = schemaModel;
+            this.fingerprint = fingerprint;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.muratagin.dddgenerator.service;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Matches table names the way the schema selection page searches them and the entity type rules select them: by
+ * case-insensitive prefix, or by a case-insensitive wildcard pattern over the whole name, where {@code *} stands for
+ * any run of characters and {@code ?} for one. Patterns come from users, so they are never compiled into regular
+ * expressions; a match takes at most name length times pattern length steps.
+ */
+public final class TableNameMatcher {
+
+    private TableNameMatcher() {
+    }
+
+    public static Predicate<String> compile(String pattern, boolean glob) {
+        if (pattern == null || pattern.isEmpty()) {
+            return table -> true;
+        }
+        String lowerPattern = pattern.toLowerCase(Locale.ENGLISH);
+        if (!glob) {
+            return table -> table.toLowerCase(Locale.ENGLISH).startsWith(lowerPattern);
+        }
+        return table -> globMatches(lowerPattern, table.toLowerCase(Locale.ENGLISH));
+    }
+
+    // Greedy scan that, on a mismatch, retries from the last '*' with one more character consumed by it
+    static boolean globMatches(String pattern, String name) {
+        int p = 0;
+        int n = 0;
+        int star = -1;
+        int starMatch = 0;
+        while (n < name.length()) {
+            if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == name.charAt(n))) {
+                p++;
+                n++;
+            } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                star = p++;
+                starMatch = n;
+            } else if (star >= 0) {
+                p = star + 1;
+                n = ++starMatch;
+            } else {
+                return false;
+            }
+        }
+        while (p < pattern.length() && pattern.charAt(p) == '*') {
+            p++;
+        }
+        return p == pattern.length();
+    }
+}
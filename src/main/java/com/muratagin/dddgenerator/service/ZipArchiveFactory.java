@@ -0,0 +1,62 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.service.output.ZipProjectOutput;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opens project archives with the configured compression, sharing one ForkJoinPool for entry compression across all
+ * generations running at the same time. Each open archive gets its own writer thread.
+ */
+@Component
+public class ZipArchiveFactory implements DisposableBean {
+
+    private final GeneratorProperties.Archive settings;
+    private final ForkJoinPool compressionPool;
+    private final ExecutorService writerExecutor;
+
+    public ZipArchiveFactory(GeneratorProperties generatorProperties) {
+        this.settings = generatorProperties.getArchive();
+        if (settings.getCompressionLevel() < -1 || settings.getCompressionLevel() > 9) {
+            throw new IllegalStateException("dddgenerator.archive.compression-level must be between -1 and 9");
+        }
+        if (settings.getQueueCapacity() < 0) {
+            throw new IllegalStateException("dddgenerator.archive.queue-capacity must not be negative");
+        }
+        // Stored entries only need a checksum, which is cheaper than handing them to another thread
+        boolean parallel = settings.getParallelism() > 1 && settings.getMethod() == GeneratorProperties.Archive.Method.DEFLATED;
+        this.compressionPool = parallel ? new ForkJoinPool(settings.getParallelism(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("dddgenerator-zip-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false) : null;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.writerExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "dddgenerator-zip-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ZipProjectOutput open(OutputStream out) {
+        return new ZipProjectOutput(out, compressionPool, settings.getCompressionLevel(),
+                settings.getMethod() == GeneratorProperties.Archive.Method.STORED, writerExecutor, settings.getQueueCapacity());
+    }
+
+    @Override
+    public void destroy() {
+        writerExecutor.shutdownNow();
+        if (compressionPool != null) {
+            compressionPool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.muratagin.dddgenerator.service.job;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * One queued or running project generation and, once it has finished, its archive or error. The archive is a temporary
+ * file, so finished jobs waiting for their download hold no archive in memory.
+ */
+public class GenerationJob implements GenerationProgress {
+
+    private final String id;
+    private final String fileName;
+    private final long createdAt = System.currentTimeMillis();
+    private final Executor notificationExecutor;
+    // Each listener is fed from its own queue on the notification executor, so a slow one holds up neither the
+    // generation nor other listeners, and still gets its events in order
+    private final Map<GenerationJobListener, Subscriber> subscribers = new LinkedHashMap<>();
+    private GenerationJobStatus status = GenerationJobStatus.QUEUED;
+    private GenerationPhase phase;
+    private String errorMessage;
+    private Path archive;
+    private long archiveSize;
+    private long finishedAt;
+
+    public GenerationJob(String id, String fileName, Executor notificationExecutor) {
+        this.id = id;
+        this.fileName = fileName;
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public synchronized GenerationJobStatus getStatus() {
+        return status;
+    }
+
+    // The phase currently running, or the last one reached; null while queued
+    public synchronized GenerationPhase getPhase() {
+        return phase;
+    }
+
+    public synchronized String getErrorMessage() {
+        return errorMessage;
+    }
+
+    // Only known once the job has completed
+    public synchronized long getArchiveSize() {
+        return archiveSize;
+    }
+
+    public synchronized long getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized boolean isFinished() {
+        return status == GenerationJobStatus.COMPLETED || status == GenerationJobStatus.FAILED;
+    }
+
+    // Registers the listener and immediately replays the job's current state to it
+    public synchronized void subscribe(GenerationJobListener listener) {
+        Subscriber subscriber = new Subscriber(listener);
+        if (!isFinished()) {
+            subscribers.put(listener, subscriber);
+        }
+        if (phase != null && status == GenerationJobStatus.RUNNING) {
+            GenerationPhase currentPhase = phase;
+            subscriber.post(l -> l.phaseStarted(this, currentPhase));
+        } else if (status == GenerationJobStatus.COMPLETED) {
+            subscriber.post(l -> l.completed(this));
+        } else if (status == GenerationJobStatus.FAILED) {
+            String currentErrorMessage = errorMessage;
+            subscriber.post(l -> l.failed(this, currentErrorMessage));
+        }
+    }
+
+    // Stops notifying the listener; events already queued for it are discarded
+    public void unsubscribe(GenerationJobListener listener) {
+        Subscriber subscriber;
+        synchronized (this) {
+            subscriber = subscribers.remove(listener);
+        }
+        if (subscriber != null) {
+            subscriber.close();
+        }
+    }
+
+    @Override
+    public synchronized void phaseStarted(GenerationPhase phase) {
+        this.status = GenerationJobStatus.RUNNING;
+        this.phase = phase;
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.post(l -> l.phaseStarted(this, phase));
+        }
+    }
+
+    synchronized void complete(Path archive, long archiveSize) {
+        this.archive = archive;
+        this.archiveSize = archiveSize;
+        this.status = GenerationJobStatus.COMPLETED;
+        this.finishedAt = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.post(l -> l.completed(this));
+        }
+    }
+
+    synchronized void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.status = GenerationJobStatus.FAILED;
+        this.finishedAt = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.post(l -> l.failed(this, errorMessage));
+        }
+    }
+
+    private synchronized void removeSubscriber(Subscriber subscriber) {
+        subscribers.remove(subscriber.listener, subscriber);
+    }
+
+    // Listeners of a finished job stay registered until their last event has been delivered, so that it can still time out
+    private synchronized void removeIfDelivered(Subscriber subscriber) {
+        if (isFinished() && subscriber.isIdle()) {
+            removeSubscriber(subscriber);
+        }
+    }
+
+    // Drops every listener that has been busy with one event for longer than the timeout
+    void dropStalledSubscribers(long timeoutMillis) {
+        List<Subscriber> stalled = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            for (Subscriber subscriber : subscribers.values()) {
+                if (subscriber.isStalled(now, timeoutMillis)) {
+                    stalled.add(subscriber);
+                }
+            }
+        }
+        stalled.forEach(Subscriber::drop);
+    }
+
+    // Hands the archive file over to the caller, who is responsible for deleting it
+    synchronized Path takeArchive() {
+        Path taken = archive;
+        archive = null;
+        return taken;
+    }
+
+    synchronized void release() {
+        Path released = takeArchive();
+        if (released != null) {
+            try {
+                Files.deleteIfExists(released);
+            } catch (IOException e) {
+                // Left to the temp directory's own cleanup
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final GenerationJobListener listener;
+        private final Deque<Consumer<GenerationJobListener>> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        // When the event being delivered was handed to the listener; 0 while idle
+        private long deliveringSince;
+
+        Subscriber(GenerationJobListener listener) {
+            this.listener = listener;
+        }
+
+        synchronized void post(Consumer<GenerationJobListener> event) {
+            if (closed) {
+                return;
+            }
+            pending.add(event);
+            if (!draining) {
+                draining = true;
+                try {
+                    notificationExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down; nobody is left to tell
+                    closed = true;
+                    pending.clear();
+                }
+            }
+        }
+
+        synchronized boolean isStalled(long now, long timeoutMillis) {
+            return deliveringSince != 0 && now - deliveringSince > timeoutMillis;
+        }
+
+        synchronized boolean isIdle() {
+            return !draining;
+        }
+
+        synchronized void close() {
+            closed = true;
+            pending.clear();
+        }
+
+        // Unsubscribes the listener and tells it so on another thread, as it may still be stuck in a delivery
+        void drop() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            removeSubscriber(this);
+            try {
+                notificationExecutor.execute(() -> listener.dropped(GenerationJob.this));
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the listener goes away with the application
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Consumer<GenerationJobListener> event;
+                synchronized (this) {
+                    event = closed ? null : pending.poll();
+                    if (event == null) {
+                        draining = false;
+                        deliveringSince = 0;
+                    } else {
+                        deliveringSince = System.currentTimeMillis();
+                    }
+                }
+                if (event == null) {
+                    removeIfDelivered(this);
+                    return;
+                }
+                try {
+                    event.accept(listener);
+                } catch (RuntimeException e) {
+                    drop();
+                }
+            }
+        }
+    }
+}
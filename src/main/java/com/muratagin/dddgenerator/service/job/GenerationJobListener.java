@@ -0,0 +1,17 @@
+package com.muratagin.dddgenerator.service.job;
+
+/**
+ * Observes one generation job. Every method is called with the job's current state, including once on subscription.
+ * Events arrive in order on a notification thread, never on the generating one; a listener that throws, or takes longer
+ * than dddgenerator.jobs.event-timeout over one event, is unsubscribed and told so through dropped.
+ */
+public interface GenerationJobListener {
+
+    void phaseStarted(GenerationJob job, GenerationPhase phase);
+
+    void completed(GenerationJob job);
+
+    void failed(GenerationJob job, String message);
+
+    void dropped(GenerationJob job);
+}
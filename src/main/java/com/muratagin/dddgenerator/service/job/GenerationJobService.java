@@ -0,0 +1,156 @@
+package com.muratagin.dddgenerator.service.job;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.dto.ProjectRequest;
+import com.muratagin.dddgenerator.service.ProjectService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs project generations in the background so that no request thread waits for introspection, code generation and
+ * compression. Jobs are admitted by the GenerationScheduler, which also bounds how many run at once. Finished archives
+ * are spooled to temporary files and kept until they are downloaded or their retention runs out.
+ */
+@Service
+public class GenerationJobService implements DisposableBean {
+
+    private final ProjectService projectService;
+    private final GenerationScheduler generationScheduler;
+    private final GeneratorProperties.Jobs settings;
+    private final ThreadPoolExecutor executor;
+    // Delivers job events to listeners, one queue per listener; threads only live while some listener has events pending
+    private final ThreadPoolExecutor notificationExecutor;
+    private final ScheduledExecutorService reaper;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    public GenerationJobService(ProjectService projectService, GenerationScheduler generationScheduler, GeneratorProperties generatorProperties) {
+        this.projectService = projectService;
+        this.generationScheduler = generationScheduler;
+        this.settings = generatorProperties.getJobs();
+        AtomicInteger threadCount = new AtomicInteger();
+        // Unbounded on its own; the scheduler admits at most max-concurrent + queue-capacity jobs, and the queued ones
+        // wait on their admission rather than in this executor
+        this.executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "dddgenerator-generation-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        AtomicInteger notificationThreadCount = new AtomicInteger();
+        this.notificationExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "dddgenerator-job-events-" + notificationThreadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dddgenerator-job-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, settings.getRetention().toSeconds() / 2);
+        this.reaper.scheduleWithFixedDelay(this::removeExpiredJobs, period, period, TimeUnit.SECONDS);
+        long eventTimeout = Math.max(1, settings.getEventTimeout().toMillis());
+        this.reaper.scheduleWithFixedDelay(this::dropStalledListeners, eventTimeout, eventTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    // Throws GenerationRejectedException when the scheduler is full or the session or its database is over quota. The job
+    // works on its own copy of the environment, which generation completes with the resolved entity types.
+    public GenerationJob submit(String session, ProjectRequest projectRequest, EnvironmentalCredentialsRequest sessionEnvironment) {
+        EnvironmentalCredentialsRequest environmentalCredentialsRequest = new EnvironmentalCredentialsRequest(sessionEnvironment);
+        GenerationScheduler.Admission admission = generationScheduler.admit(session, GenerationScheduler.datasourceKey(environmentalCredentialsRequest));
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), projectRequest.getArtifactId() + ".zip", notificationExecutor);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, admission, projectRequest, environmentalCredentialsRequest));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            admission.close();
+            throw new IllegalStateException("Project generation is shutting down.");
+        }
+        return job;
+    }
+
+    public GenerationJob getJob(String jobId) {
+        return jobId == null ? null : jobs.get(jobId);
+    }
+
+    // Hands out the finished archive once and forgets the job; the caller deletes the file once it has been sent
+    public Path takeArchive(String jobId) {
+        GenerationJob job = getJob(jobId);
+        if (job == null || job.getStatus() != GenerationJobStatus.COMPLETED || !jobs.remove(jobId, job)) {
+            return null;
+        }
+        return job.takeArchive();
+    }
+
+    @Override
+    public void destroy() {
+        reaper.shutdownNow();
+        executor.shutdownNow();
+        notificationExecutor.shutdownNow();
+        jobs.values().forEach(GenerationJob::release);
+        jobs.clear();
+    }
+
+    private void run(GenerationJob job, GenerationScheduler.Admission admission, ProjectRequest projectRequest,
+                     EnvironmentalCredentialsRequest environmentalCredentialsRequest) {
+        try (admission) {
+            admission.awaitTurn(null);
+            generateArchive(job, projectRequest, environmentalCredentialsRequest);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Project generation was cancelled.");
+        } catch (SQLException | IOException | IllegalArgumentException e) {
+            job.fail("Error generating project: " + e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail("Unexpected error while generating project: " + e.getMessage());
+        }
+    }
+
+    private void generateArchive(GenerationJob job, ProjectRequest projectRequest, EnvironmentalCredentialsRequest environmentalCredentialsRequest)
+            throws IOException, SQLException {
+        Path archive = Files.createTempFile("dddgenerator-", ".zip");
+        try {
+            try (OutputStream out = Files.newOutputStream(archive)) {
+                projectService.generateProject(projectRequest, environmentalCredentialsRequest, out, job);
+            }
+            job.complete(archive, Files.size(archive));
+        } catch (IOException | SQLException | RuntimeException e) {
+            Files.deleteIfExists(archive);
+            throw e;
+        }
+    }
+
+    private void removeExpiredJobs() {
+        long cutoff = System.currentTimeMillis() - settings.getRetention().toMillis();
+        for (GenerationJob job : jobs.values()) {
+            // A job being downloaded right now has already been removed by takeArchive
+            if (job.isFinished() && job.getFinishedAt() < cutoff && jobs.remove(job.getId(), job)) {
+                job.release();
+            }
+        }
+    }
+
+    private void dropStalledListeners() {
+        long timeout = settings.getEventTimeout().toMillis();
+        jobs.values().forEach(job -> job.dropStalledSubscribers(timeout));
+    }
+}
@@ -0,0 +1,8 @@
+package com.muratagin.dddgenerator.service.job;
+
+public enum GenerationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,25 @@
+package com.muratagin.dddgenerator.service.job;
+
+/**
+ * Coarse steps of one project generation, in the order they run.
+ */
+public enum GenerationPhase {
+    CONNECT("Connecting to database"),
+    INTROSPECTION("Reading database schema"),
+    DOMAIN("Generating domain core"),
+    APPLICATION_SERVICE("Generating application services"),
+    PERSISTENCE("Generating persistence layer"),
+    REST("Generating REST layer"),
+    REQUESTS("Generating HTTP and Postman requests"),
+    ZIP("Packaging archive");
+
+    private final String label;
+
+    GenerationPhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,11 @@
+package com.muratagin.dddgenerator.service.job;
+
+/**
+ * Receives a callback whenever a generation enters its next phase. Called on the generating thread.
+ */
+public interface GenerationProgress {
+
+    GenerationProgress NONE = phase -> { };
+
+    void phaseStarted(GenerationPhase phase);
+}
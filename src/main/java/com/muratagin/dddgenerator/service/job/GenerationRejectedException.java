@@ -0,0 +1,39 @@
+package com.muratagin.dddgenerator.service.job;
+
+/**
+ * Thrown when the generation scheduler turns a generation away instead of queueing it. Carries how long the caller
+ * should wait before trying again.
+ */
+public class GenerationRejectedException extends RuntimeException {
+
+    public enum Reason {
+        // Every running slot is taken and the wait queue is full
+        QUEUE_FULL,
+        // The generation waited in the queue longer than allowed
+        QUEUE_TIMEOUT,
+        SESSION_QUOTA,
+        DATASOURCE_QUOTA
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public GenerationRejectedException(Reason reason, String message, long retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    // Quotas are per caller, so only those rejections are the caller's "too many requests"
+    public boolean isQuotaExceeded() {
+        return reason == Reason.SESSION_QUOTA || reason == Reason.DATASOURCE_QUOTA;
+    }
+}
@@ -0,0 +1,220 @@
+package com.muratagin.dddgenerator.service.job;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for project generations, whether they run as wizard jobs or on an API request. At most
+ * max-concurrent generations run at once and at most queue-capacity more wait for a slot; anything beyond that, or
+ * beyond the per-session and per-datasource quotas, is rejected immediately rather than left to pile up connections
+ * and heap.
+ */
+@Component
+public class GenerationScheduler {
+
+    private static final String OUTCOME_ADMITTED = "admitted";
+    // Smoothing factor of the moving average of generation durations used for Retry-After
+    private static final double DURATION_WEIGHT = 0.2;
+
+    private final GeneratorProperties.Scheduler settings;
+    private final Semaphore runningSlots;
+    private final Map<String, Integer> admittedPerSession = new HashMap<>();
+    private final Map<String, Integer> admittedPerDatasource = new HashMap<>();
+    private final Counter admittedCounter;
+    private final Map<GenerationRejectedException.Reason, Counter> rejectedCounters = new EnumMap<>(GenerationRejectedException.Reason.class);
+    private final Timer queueWaitTimer;
+    private int admitted;
+    private int running;
+    private double averageDurationSeconds;
+
+    public GenerationScheduler(GeneratorProperties generatorProperties, MeterRegistry meterRegistry) {
+        this.settings = generatorProperties.getScheduler();
+        this.runningSlots = new Semaphore(Math.max(1, settings.getMaxConcurrent()), true);
+        this.averageDurationSeconds = settings.getInitialRetryAfter().toSeconds();
+        this.admittedCounter = admissionCounter(meterRegistry, OUTCOME_ADMITTED);
+        for (GenerationRejectedException.Reason reason : GenerationRejectedException.Reason.values()) {
+            rejectedCounters.put(reason, admissionCounter(meterRegistry, reason.name().toLowerCase(Locale.ENGLISH)));
+        }
+        this.queueWaitTimer = Timer.builder("dddgenerator.scheduler.queue.wait")
+                .description("Time an admitted generation waited for a running slot")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("dddgenerator.scheduler.running", this, GenerationScheduler::getRunning)
+                .description("Generations currently running")
+                .register(meterRegistry);
+        Gauge.builder("dddgenerator.scheduler.queued", this, GenerationScheduler::getQueued)
+                .description("Admitted generations waiting for a running slot")
+                .register(meterRegistry);
+    }
+
+    // The database a generation will open connections to, or null when it reads an offline schema or none at all
+    public static String datasourceKey(EnvironmentalCredentialsRequest environmentalCredentialsRequest) {
+        if (environmentalCredentialsRequest == null
+                || environmentalCredentialsRequest.getSchemaSnapshot() != null
+                || (environmentalCredentialsRequest.getSchemaDdl() != null && !environmentalCredentialsRequest.getSchemaDdl().isBlank())
+                || environmentalCredentialsRequest.getSelectedSchema() == null || environmentalCredentialsRequest.getSelectedSchema().isEmpty()
+                || environmentalCredentialsRequest.getLocalDatasourceUrl() == null || environmentalCredentialsRequest.getLocalDatasourceUrl().isBlank()) {
+            return null;
+        }
+        return datasourceKey(environmentalCredentialsRequest.getLocalDatasourceUrl(), environmentalCredentialsRequest.getLocalDatasourceUsername());
+    }
+
+    public static String datasourceKey(String url, String username) {
+        return url + '\u0000' + username;
+    }
+
+    /**
+     * Admits a generation into the queue, or throws GenerationRejectedException straight away. The returned admission
+     * must be closed once the generation has finished, whether or not it ever got to run.
+     */
+    public synchronized Admission admit(String session, String datasource) {
+        if (session != null && admittedPerSession.getOrDefault(session, 0) >= settings.getMaxPerSession()) {
+            throw reject(GenerationRejectedException.Reason.SESSION_QUOTA,
+                    "A project is already being generated for you.", retryAfterSeconds(1));
+        }
+        if (datasource != null && admittedPerDatasource.getOrDefault(datasource, 0) >= settings.getMaxPerDatasource()) {
+            throw reject(GenerationRejectedException.Reason.DATASOURCE_QUOTA,
+                    "Too many projects are being generated from this database right now.", retryAfterSeconds(1));
+        }
+        if (admitted >= settings.getMaxConcurrent() + settings.getQueueCapacity()) {
+            throw reject(GenerationRejectedException.Reason.QUEUE_FULL,
+                    "Too many projects are being generated right now.",
+                    retryAfterSeconds((double) (admitted - settings.getMaxConcurrent() + 1) / Math.max(1, settings.getMaxConcurrent())));
+        }
+        admitted++;
+        if (session != null) {
+            admittedPerSession.merge(session, 1, Integer::sum);
+        }
+        if (datasource != null) {
+            admittedPerDatasource.merge(datasource, 1, Integer::sum);
+        }
+        admittedCounter.increment();
+        return new Admission(session, datasource);
+    }
+
+    // Admits a generation and waits, at most max-queue-wait, until it may run; for callers holding a request thread
+    public Admission acquire(String session, String datasource) {
+        Admission admission = admit(session, datasource);
+        boolean turn = false;
+        try {
+            turn = admission.awaitTurn(settings.getMaxQueueWait());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(GenerationRejectedException.Reason.QUEUE_TIMEOUT, "Generation was interrupted while queued.", retryAfterSeconds(1));
+        } finally {
+            // Whatever kept the generation from its turn, its place in the queue and the quotas must be given back
+            if (!turn) {
+                admission.close();
+            }
+        }
+        if (!turn) {
+            throw reject(GenerationRejectedException.Reason.QUEUE_TIMEOUT,
+                    "Too many projects are being generated right now.", retryAfterSeconds(1));
+        }
+        return admission;
+    }
+
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    public synchronized int getQueued() {
+        return admitted - running;
+    }
+
+    private GenerationRejectedException reject(GenerationRejectedException.Reason reason, String message, long retryAfterSeconds) {
+        rejectedCounters.get(reason).increment();
+        return new GenerationRejectedException(reason, message + " Please try again in " + retryAfterSeconds + " seconds.", retryAfterSeconds);
+    }
+
+    // Roughly how long this many back-to-back generations take
+    private synchronized long retryAfterSeconds(double generations) {
+        return Math.max(1, (long) Math.ceil(averageDurationSeconds * generations));
+    }
+
+    private synchronized void started() {
+        running++;
+    }
+
+    private synchronized void finished(String session, String datasource, boolean ran, long durationNanos) {
+        admitted--;
+        if (ran) {
+            running--;
+            averageDurationSeconds += DURATION_WEIGHT * (durationNanos / 1e9 - averageDurationSeconds);
+        }
+        if (session != null) {
+            admittedPerSession.computeIfPresent(session, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (datasource != null) {
+            admittedPerDatasource.computeIfPresent(datasource, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private static Counter admissionCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("dddgenerator.scheduler.admissions")
+                .description("Admission decisions for project generations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * One admitted generation. Not thread-safe: it is handed from the admitting thread to the one running the
+     * generation, which awaits its turn and closes it.
+     */
+    public class Admission implements AutoCloseable {
+
+        private final String session;
+        private final String datasource;
+        private final long admittedAt = System.nanoTime();
+        private long startedAt;
+        private boolean running;
+        private boolean closed;
+
+        private Admission(String session, String datasource) {
+            this.session = session;
+            this.datasource = datasource;
+        }
+
+        // Blocks until a running slot is free; a null timeout waits as long as it takes
+        public boolean awaitTurn(Duration timeout) throws InterruptedException {
+            if (running || closed) {
+                return running;
+            }
+            if (timeout == null) {
+                runningSlots.acquire();
+            } else if (!runningSlots.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+            startedAt = System.nanoTime();
+            queueWaitTimer.record(startedAt - admittedAt, TimeUnit.NANOSECONDS);
+            running = true;
+            started();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (running) {
+                runningSlots.release();
+            }
+            finished(session, datasource, running, System.nanoTime() - startedAt);
+        }
+    }
+}
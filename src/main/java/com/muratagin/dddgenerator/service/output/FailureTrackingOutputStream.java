@@ -0,0 +1,53 @@
+package com.muratagin.dddgenerator.service.output;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes everything through to the target and remembers whether the target ever failed, so that a client that went
+ * away can be told apart from a generation that failed.
+ */
+public class FailureTrackingOutputStream extends FilterOutputStream {
+
+    // Written from the archive's writer thread, read by the generating one
+    private volatile boolean failed;
+
+    public FailureTrackingOutputStream(OutputStream target) {
+        super(target);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        try {
+            out.write(b);
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        try {
+            out.write(bytes, offset, length);
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+}
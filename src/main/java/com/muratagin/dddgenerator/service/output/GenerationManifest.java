@@ -0,0 +1,98 @@
+package com.muratagin.dddgenerator.service.output;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Describes one generated project: a fingerprint of the settings it was generated with, a fingerprint per table and a
+ * SHA-256 hash per file. Stored in the project as {@code .dddgenerator/manifest.json} and sent back with the next
+ * request to generate only what changed since.
+ */
+public class GenerationManifest {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private int formatVersion = FORMAT_VERSION;
+    private String settings;
+    private Map<String, String> tables = new TreeMap<>();
+    private Map<String, FileEntry> files = new TreeMap<>();
+
+    public GenerationManifest() {
+    }
+
+    public GenerationManifest(String settings) {
+        this.settings = settings;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public void setFormatVersion(int formatVersion) {
+        this.formatVersion = formatVersion;
+    }
+
+    // Everything besides the schema tables that the generated files depend on
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Map<String, String> getTables() {
+        return tables;
+    }
+
+    public void setTables(Map<String, String> tables) {
+        this.tables = new TreeMap<>(tables);
+    }
+
+    // Keyed by the file's path inside the project, always with '/' separators
+    public Map<String, FileEntry> getFiles() {
+        return files;
+    }
+
+    public void setFiles(Map<String, FileEntry> files) {
+        this.files = new TreeMap<>(files);
+    }
+
+    // Whether the per-table fingerprints of the two manifests can be compared at all
+    public boolean isComparableTo(GenerationManifest other) {
+        return other != null && other.formatVersion == formatVersion && settings != null && settings.equals(other.settings);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class FileEntry {
+        private String hash;
+        // The table the file was generated for, or null for files that depend on the whole schema
+        private String table;
+
+        public FileEntry() {
+        }
+
+        public FileEntry(String hash, String table) {
+            this.hash = hash;
+            this.table = table;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        public void setTable(String table) {
+            this.table = table;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.muratagin.dddgenerator.service.output;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records a {@link GenerationManifest} of everything written through it. Against a previous manifest only new and
+ * changed files are passed on to the delegate, tables outside the given set are not rendered at all, and
+ * {@link #finish()} lists the files that no longer exist.
+ */
+public class ManifestProjectOutput implements ProjectOutput {
+
+    public static final Path MANIFEST_PATH = Paths.get(".dddgenerator", "manifest.json");
+    public static final Path DELETED_FILES_PATH = Paths.get(".dddgenerator", "deleted-files.txt");
+
+    private static final ObjectWriter MANIFEST_WRITER = new ObjectMapper().writerWithDefaultPrettyPrinter();
+
+    private final ProjectOutput delegate;
+    private final GenerationManifest manifest;
+    private final GenerationManifest previous;
+    private final Set<String> tables;
+    private final MessageDigest digest;
+    private String currentTable;
+
+    // A null previous manifest writes every file; null tables renders every table
+    public ManifestProjectOutput(ProjectOutput delegate, GenerationManifest manifest, GenerationManifest previous, Set<String> tables) {
+        this.delegate = delegate;
+        this.manifest = manifest;
+        this.previous = previous;
+        this.tables = tables;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    public boolean enterTable(String table) {
+        currentTable = tables == null || tables.contains(table) ? table : null;
+        return currentTable != null;
+    }
+
+    @Override
+    public void exitTable() {
+        currentTable = null;
+    }
+
+    @Override
+    public void write(Path path, String content) throws IOException {
+        String name = ZipProjectOutput.toEntryName(path);
+        // Mirrors ZipProjectOutput: the first write of a path wins
+        if (manifest.getFiles().containsKey(name)) {
+            return;
+        }
+        String hash = HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        manifest.getFiles().put(name, new GenerationManifest.FileEntry(hash, currentTable));
+        GenerationManifest.FileEntry previousEntry = previous == null ? null : previous.getFiles().get(name);
+        if (previousEntry == null || !hash.equals(previousEntry.getHash())) {
+            delegate.write(path, content);
+        }
+    }
+
+    @Override
+    public Writer openWriter(Path path) throws IOException {
+        String name = ZipProjectOutput.toEntryName(path);
+        // Against a previous manifest the hash decides whether the file is passed on at all, so it is collected first
+        if (previous != null || manifest.getFiles().containsKey(name)) {
+            return ProjectOutput.super.openWriter(path);
+        }
+        Writer target = delegate.openWriter(path);
+        Writer hashing = new OutputStreamWriter(new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8);
+        String table = currentTable;
+        return new Writer() {
+            private boolean closed;
+
+            @Override
+            public void write(char[] chars, int offset, int length) throws IOException {
+                target.write(chars, offset, length);
+                hashing.write(chars, offset, length);
+            }
+
+            @Override
+            public void write(String string, int offset, int length) throws IOException {
+                target.write(string, offset, length);
+                hashing.write(string, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                target.flush();
+                hashing.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                hashing.close();
+                String hash = HexFormat.of().formatHex(digest.digest());
+                manifest.getFiles().put(name, new GenerationManifest.FileEntry(hash, table));
+                target.close();
+            }
+        };
+    }
+
+    // Completes the manifest with the unchanged tables' files and writes it, plus the list of deleted files
+    public GenerationManifest finish() throws IOException {
+        List<String> deletedFiles = new ArrayList<>();
+        if (previous != null) {
+            for (Map.Entry<String, GenerationManifest.FileEntry> entry : previous.getFiles().entrySet()) {
+                String table = entry.getValue().getTable();
+                boolean skippedTable = tables != null && table != null && !tables.contains(table) && manifest.getTables().containsKey(table);
+                if (skippedTable) {
+                    manifest.getFiles().putIfAbsent(entry.getKey(), entry.getValue());
+                } else if (!manifest.getFiles().containsKey(entry.getKey())) {
+                    deletedFiles.add(entry.getKey());
+                }
+            }
+        }
+        if (!deletedFiles.isEmpty()) {
+            delegate.write(DELETED_FILES_PATH, String.join("\n", deletedFiles) + "\n");
+        }
+        delegate.write(MANIFEST_PATH, toJson(manifest));
+        return manifest;
+    }
+
+    private static String toJson(GenerationManifest manifest) throws JsonProcessingException {
+        return MANIFEST_WRITER.writeValueAsString(manifest);
+    }
+}
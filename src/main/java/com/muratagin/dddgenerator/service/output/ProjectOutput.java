@@ -0,0 +1,39 @@
+package com.muratagin.dddgenerator.service.output;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * Sink for generated project files. Paths are relative to the project root; directories are implied by file paths.
+ */
+public interface ProjectOutput {
+
+    void write(Path path, String content) throws IOException;
+
+    // For files that grow with the schema, e.g. one mapper for every table: closing the writer completes the file.
+    // Nothing else may be written while it is open. By default the content is collected and written on close.
+    default Writer openWriter(Path path) throws IOException {
+        return new StringWriter() {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    ProjectOutput.this.write(path, toString());
+                }
+            }
+        };
+    }
+
+    // Called before the files generated for one table are written; false means the table can be skipped
+    default boolean enterTable(String table) {
+        return true;
+    }
+
+    // Ends the table started by the last enterTable; later files belong to no single table
+    default void exitTable() {
+    }
+}
@@ -0,0 +1,51 @@
+package com.muratagin.dddgenerator.service.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffers everything written to it in memory up to a limit, then writes the buffer to the target and passes all further
+ * writes straight through. Small results can be kept whole, while large ones never take more memory than the limit.
+ */
+public class SpillingOutputStream extends OutputStream {
+
+    private final OutputStream target;
+    private final long limit;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    public SpillingOutputStream(OutputStream target, long limit) {
+        this.target = target;
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (buffer != null && buffer.size() + (long) length > limit) {
+            buffer.writeTo(target);
+            buffer = null;
+        }
+        if (buffer != null) {
+            buffer.write(bytes, offset, length);
+        } else {
+            target.write(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer == null) {
+            target.flush();
+        }
+    }
+
+    // Everything written so far, or null once it has been spilled to the target
+    public byte[] toByteArray() {
+        return buffer == null ? null : buffer.toByteArray();
+    }
+}
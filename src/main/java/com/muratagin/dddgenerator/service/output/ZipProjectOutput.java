@@ -0,0 +1,546 @@
+package com.muratagin.dddgenerator.service.output;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes each generated file straight into a zip stream, so nothing is staged on disk.
+ * <p>
+ * Entries are deflated (or checksummed, when stored) on an optional ForkJoinPool while generation goes on, and written
+ * to the stream in the order they were produced with their CRC and sizes already known. Without a pool every entry is
+ * compressed on the thread writing it. Files opened with {@link #openWriter(Path)} are deflated chunk by chunk as they
+ * are written instead, with their CRC and sizes in a data descriptor after the data.
+ * <p>
+ * Given a writer executor, a single writer thread drains a bounded queue of entries and chunks into the stream, so
+ * generation is not held up by a slow stream until the queue is full, and memory stays bounded by the queue however
+ * large the project is. Without one, everything is written on the calling thread.
+ */
+public class ZipProjectOutput implements ProjectOutput, Closeable {
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int DATA_DESCRIPTOR = 0x08074b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    // CRC and sizes follow the entry's data instead of being in its local header
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    // Entry names are always encoded as UTF-8
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final long MAX_32_BIT = 0xFFFFFFFFL;
+    private static final int MAX_16_BIT = 0xFFFF;
+    // Compressed entries waiting to be written, per compression thread; bounds memory when the writer falls behind
+    private static final int PENDING_PER_THREAD = 8;
+    // Compressed bytes of a streamed file handed to the writer at a time
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    // Marks the end of the queue for the writer thread
+    private static final Segment END_OF_ENTRIES = () -> {
+    };
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+
+    private final OutputStream out;
+    private final ForkJoinPool pool;
+    private final int level;
+    private final boolean stored;
+    private final int maxPending;
+    private final Deque<Segment> pending = new ArrayDeque<>();
+    private final BlockingQueue<Segment> queue;
+    private final FutureTask<Void> writer;
+    private final List<CompressedEntry> centralDirectory = new ArrayList<>();
+    private final Set<String> entryNames = new HashSet<>();
+    private final int dosTime;
+    private final int dosDate;
+    private StreamedEntry openEntry;
+    private boolean aborted;
+    private long offset;
+    private long contentBytes;
+
+    public ZipProjectOutput(OutputStream out) {
+        this(out, null, Deflater.DEFAULT_COMPRESSION, false, null, 0);
+    }
+
+    // A null pool compresses on the writing thread; stored entries are written uncompressed and ignore the level.
+    // A null writer executor or a queue capacity of 0 writes everything on the calling thread.
+    public ZipProjectOutput(OutputStream out, ForkJoinPool pool, int level, boolean stored, Executor writerExecutor, int queueCapacity) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.out = new BufferedOutputStream(out, 64 * 1024);
+        this.pool = pool;
+        this.level = level;
+        this.stored = stored;
+        this.maxPending = pool == null ? 0 : pool.getParallelism() * PENDING_PER_THREAD;
+        LocalDateTime now = LocalDateTime.now();
+        this.dosTime = now.getHour() << 11 | now.getMinute() << 5 | now.getSecond() >> 1;
+        this.dosDate = Math.max(0, now.getYear() - 1980) << 9 | now.getMonthValue() << 5 | now.getDayOfMonth();
+        if (writerExecutor != null && queueCapacity > 0) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.writer = new FutureTask<>(this::drainQueue);
+            writerExecutor.execute(writer);
+        } else {
+            this.queue = null;
+            this.writer = null;
+        }
+    }
+
+    @Override
+    public void write(Path path, String content) throws IOException {
+        checkNoOpenEntry();
+        String entryName = toEntryName(path);
+        // Some files (e.g. shared enums) are produced by more than one phase; the first write wins
+        if (!entryNames.add(entryName)) {
+            return;
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        contentBytes += bytes.length;
+        submit(new CompressedSegment(entryName, bytes, pool == null ? null : pool.submit(() -> compress(entryName, bytes))));
+    }
+
+    // Streamed entries are always deflated, at level 0 when the archive is stored: zip readers only accept a data
+    // descriptor on deflated entries
+    @Override
+    public Writer openWriter(Path path) throws IOException {
+        checkNoOpenEntry();
+        String entryName = toEntryName(path);
+        if (!entryNames.add(entryName)) {
+            return Writer.nullWriter();
+        }
+        openEntry = new StreamedEntry(entryName);
+        return new OutputStreamWriter(openEntry, StandardCharsets.UTF_8);
+    }
+
+    public int getFileCount() {
+        return entryNames.size();
+    }
+
+    // Uncompressed size of everything written so far
+    public long getContentBytes() {
+        return contentBytes;
+    }
+
+    // Makes close() leave the archive without its central directory, so a generation that failed part-way never ends
+    // in a well-formed zip that silently lacks files
+    public void abort() {
+        aborted = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (aborted) {
+                return;
+            }
+            checkNoOpenEntry();
+            if (writer != null) {
+                enqueue(END_OF_ENTRIES);
+                awaitWriter();
+            }
+            while (!pending.isEmpty()) {
+                pending.poll().write();
+            }
+            writeCentralDirectory();
+        } finally {
+            pending.forEach(Segment::cancel);
+            if (writer != null) {
+                writer.cancel(true);
+            }
+            if (openEntry != null) {
+                openEntry.deflater.end();
+            }
+            out.close();
+        }
+    }
+
+    private void checkNoOpenEntry() {
+        // The segments of a streamed entry must not be interleaved with those of any other entry
+        if (openEntry != null) {
+            throw new IllegalStateException("The writer for " + openEntry.entry.name + " has not been closed");
+        }
+    }
+
+    private void submit(Segment segment) throws IOException {
+        if (queue != null) {
+            enqueue(segment);
+            return;
+        }
+        if (pool == null) {
+            segment.write();
+            return;
+        }
+        pending.add(segment);
+        // Write whatever is already compressed at the head of the queue, and wait for it once too much is in flight
+        while (!pending.isEmpty() && (pending.peek().isReady() || pending.size() > maxPending)) {
+            pending.poll().write();
+        }
+    }
+
+    // Blocks while the queue is full, so generation never runs further ahead of the writer than the queue allows
+    private void enqueue(Segment segment) throws IOException {
+        try {
+            // The writer only stops early when it failed, and then frees no more slots
+            while (writer.isDone() || !queue.offer(segment, 100, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    segment.cancel();
+                    awaitWriter();
+                    throw new IOException("The project archive writer has stopped");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            segment.cancel();
+            throw new InterruptedIOException("Interrupted while waiting for the project archive writer");
+        }
+    }
+
+    private void awaitWriter() throws IOException {
+        try {
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the project archive writer");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Writing the project archive failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // Runs on the writer thread, which owns the stream until the end of the queue is reached
+    private Void drainQueue() throws IOException, InterruptedException {
+        try {
+            Segment segment;
+            while ((segment = queue.take()) != END_OF_ENTRIES) {
+                segment.write();
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // A producer blocked on a full queue must not wait forever for a writer that has given up
+            Segment segment;
+            while ((segment = queue.poll()) != null) {
+                segment.cancel();
+            }
+            throw e;
+        }
+    }
+
+    private CompressedEntry compress(String name, byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        if (stored) {
+            return new CompressedEntry(name, METHOD_STORED, FLAG_UTF8, crc.getValue(), content.length, content, content.length);
+        }
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setLevel(level);
+        deflater.setInput(content);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+        byte[] buffer = new byte[Math.min(64 * 1024, Math.max(512, content.length))];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(buffer);
+            compressed.write(buffer, 0, count);
+        }
+        return new CompressedEntry(name, METHOD_DEFLATED, FLAG_UTF8, crc.getValue(), content.length, compressed.toByteArray(), compressed.size());
+    }
+
+    private void writeEntry(CompressedEntry entry) throws IOException {
+        writeLocalHeader(entry);
+        out.write(entry.data, 0, (int) entry.compressedSize);
+        offset += entry.compressedSize;
+        // Only the header fields are needed from here on
+        entry.data = null;
+        centralDirectory.add(entry);
+    }
+
+    private void writeLocalHeader(CompressedEntry entry) throws IOException {
+        if (offset > MAX_32_BIT) {
+            throw new IOException("The project archive exceeds 4 GB");
+        }
+        // A streamed entry's CRC and sizes are not known yet; its data descriptor carries them
+        boolean descriptor = (entry.flags & FLAG_DATA_DESCRIPTOR) != 0;
+        entry.offset = offset;
+        byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+        writeInt(LOCAL_HEADER);
+        writeShort(versionNeeded(entry));
+        writeShort(entry.flags);
+        writeShort(entry.method);
+        writeShort(dosTime);
+        writeShort(dosDate);
+        writeInt(descriptor ? 0 : entry.crc);
+        writeInt(descriptor ? 0 : entry.compressedSize);
+        writeInt(descriptor ? 0 : entry.size);
+        writeShort(name.length);
+        writeShort(0);
+        out.write(name);
+        offset += 30 + name.length;
+    }
+
+    private void writeChunk(byte[] chunk, int length) throws IOException {
+        out.write(chunk, 0, length);
+        offset += length;
+    }
+
+    private void writeDataDescriptor(CompressedEntry entry) throws IOException {
+        writeInt(DATA_DESCRIPTOR);
+        writeInt(entry.crc);
+        writeInt(entry.compressedSize);
+        writeInt(entry.size);
+        offset += 16;
+        centralDirectory.add(entry);
+    }
+
+    private void writeCentralDirectory() throws IOException {
+        long centralDirectoryOffset = offset;
+        for (CompressedEntry entry : centralDirectory) {
+            byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+            writeInt(CENTRAL_HEADER);
+            writeShort(versionNeeded(entry));
+            writeShort(versionNeeded(entry));
+            writeShort(entry.flags);
+            writeShort(entry.method);
+            writeShort(dosTime);
+            writeShort(dosDate);
+            writeInt(entry.crc);
+            writeInt(entry.compressedSize);
+            writeInt(entry.size);
+            writeShort(name.length);
+            writeShort(0);
+            writeShort(0);
+            writeShort(0);
+            writeShort(0);
+            writeInt(0);
+            writeInt(entry.offset);
+            out.write(name);
+            offset += 46 + name.length;
+        }
+        long centralDirectorySize = offset - centralDirectoryOffset;
+        int entries = centralDirectory.size();
+        if (entries > MAX_16_BIT || centralDirectoryOffset > MAX_32_BIT) {
+            // Large schemas can produce more entries than the classic end record can count
+            long zip64EndOffset = offset;
+            writeInt(ZIP64_END_OF_CENTRAL_DIRECTORY);
+            writeLong(44);
+            writeShort(45);
+            writeShort(45);
+            writeInt(0);
+            writeInt(0);
+            writeLong(entries);
+            writeLong(entries);
+            writeLong(centralDirectorySize);
+            writeLong(centralDirectoryOffset);
+            writeInt(ZIP64_LOCATOR);
+            writeInt(0);
+            writeLong(zip64EndOffset);
+            writeInt(1);
+        }
+        writeInt(END_OF_CENTRAL_DIRECTORY);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(entries, MAX_16_BIT));
+        writeShort(Math.min(entries, MAX_16_BIT));
+        writeInt(Math.min(centralDirectorySize, MAX_32_BIT));
+        writeInt(Math.min(centralDirectoryOffset, MAX_32_BIT));
+        writeShort(0);
+    }
+
+    private static int versionNeeded(CompressedEntry entry) {
+        return entry.method == METHOD_STORED ? 10 : 20;
+    }
+
+    private void writeShort(int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+    }
+
+    private void writeInt(long value) throws IOException {
+        writeShort((int) (value & 0xFFFF));
+        writeShort((int) ((value >>> 16) & 0xFFFF));
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt(value & MAX_32_BIT);
+        writeInt(value >>> 32);
+    }
+
+    static String toEntryName(Path path) {
+        // Zip entry names always use '/', whatever the platform separator is
+        StringBuilder entryName = new StringBuilder();
+        for (Path element : path) {
+            if (entryName.length() > 0) {
+                entryName.append('/');
+            }
+            entryName.append(element);
+        }
+        return entryName.toString();
+    }
+
+    // A piece of the archive waiting to be written, in the order it was produced
+    private interface Segment {
+        void write() throws IOException;
+
+        // False while writing it would still wait for its compression
+        default boolean isReady() {
+            return true;
+        }
+
+        default void cancel() {
+        }
+    }
+
+    private final class CompressedSegment implements Segment {
+        private final String name;
+        private final byte[] content;
+        private final ForkJoinTask<CompressedEntry> compression;
+
+        // Without a compression task the content is compressed by whichever thread writes the segment
+        private CompressedSegment(String name, byte[] content, ForkJoinTask<CompressedEntry> compression) {
+            this.name = name;
+            this.content = content;
+            this.compression = compression;
+        }
+
+        @Override
+        public void write() throws IOException {
+            writeEntry(compression != null ? compression.join() : compress(name, content));
+        }
+
+        @Override
+        public boolean isReady() {
+            return compression == null || compression.isDone();
+        }
+
+        @Override
+        public void cancel() {
+            if (compression != null) {
+                compression.cancel(false);
+            }
+        }
+    }
+
+    // Receives a streamed file's UTF-8 bytes on the generating thread and submits them as deflated chunks
+    private final class StreamedEntry extends OutputStream {
+        private final CompressedEntry entry;
+        private final Deflater deflater = new Deflater(stored ? Deflater.NO_COMPRESSION : level, true);
+        private final CRC32 crc = new CRC32();
+        private long size;
+        private long compressedSize;
+        private byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+        private int chunkLength;
+        private boolean closed;
+
+        private StreamedEntry(String name) throws IOException {
+            this.entry = new CompressedEntry(name, METHOD_DEFLATED, FLAG_UTF8 | FLAG_DATA_DESCRIPTOR, 0, 0, null, 0);
+            submit(() -> writeLocalHeader(entry));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            crc.update(bytes, offset, length);
+            size += length;
+            deflater.setInput(bytes, offset, length);
+            while (!deflater.needsInput()) {
+                deflate();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflate();
+                }
+                if (chunkLength > 0) {
+                    submitChunk();
+                }
+            } finally {
+                deflater.end();
+                openEntry = null;
+            }
+            if (size > MAX_32_BIT || compressedSize > MAX_32_BIT) {
+                throw new IOException(entry.name + " exceeds 4 GB");
+            }
+            entry.crc = crc.getValue();
+            entry.size = size;
+            entry.compressedSize = compressedSize;
+            contentBytes += size;
+            submit(() -> writeDataDescriptor(entry));
+        }
+
+        private void deflate() throws IOException {
+            chunkLength += deflater.deflate(chunk, chunkLength, chunk.length - chunkLength);
+            if (chunkLength == chunk.length) {
+                submitChunk();
+            }
+        }
+
+        private void submitChunk() throws IOException {
+            byte[] data = chunk;
+            int length = chunkLength;
+            compressedSize += length;
+            chunk = new byte[STREAM_CHUNK_SIZE];
+            chunkLength = 0;
+            submit(() -> writeChunk(data, length));
+        }
+    }
+
+    private static final class CompressedEntry {
+        private final String name;
+        private final int method;
+        private final int flags;
+        private long crc;
+        private long size;
+        private long compressedSize;
+        private byte[] data;
+        private long offset;
+
+        private CompressedEntry(String name, int method, int flags, long crc, long size, byte[] data, long compressedSize) {
+            this.name = name;
+            this.method = method;
+            this.flags = flags;
+            this.crc = crc;
+            this.size = size;
+            this.data = data;
+            this.compressedSize = compressedSize;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.muratagin.dddgenerator.service.template;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A source template parsed once into literal segments and argument slots, rendered without re-parsing.
+ * Understands the subset of {@link String#format} syntax the generator uses: {@code %s}, {@code %n} and {@code %%}.
+ */
+public final class CodeTemplate {
+
+    // literals[i] precedes the i-th argument; the last literal follows the last argument
+    private final String[] literals;
+    private final int literalLength;
+
+    private CodeTemplate(String[] literals) {
+        this.literals = literals;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CodeTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (i + 1 >= pattern.length()) {
+                throw new IllegalArgumentException("Dangling '%' at the end of template");
+            }
+            char conversion = pattern.charAt(++i);
+            switch (conversion) {
+                case 's' -> {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                }
+                case 'n' -> literal.append(System.lineSeparator());
+                case '%' -> literal.append('%');
+                default -> throw new IllegalArgumentException("Unsupported conversion '%" + conversion + "' in template");
+            }
+        }
+        literals.add(literal.toString());
+        return new CodeTemplate(literals.toArray(new String[0]));
+    }
+
+    public int getArgumentCount() {
+        return literals.length - 1;
+    }
+
+    public String render(Object... args) {
+        StringBuilder out = new StringBuilder(literalLength + args.length * 16);
+        renderTo(out, args);
+        return out.toString();
+    }
+
+    public void renderTo(StringBuilder out, Object... args) {
+        checkArguments(args);
+        for (int i = 0; i < literals.length - 1; i++) {
+            out.append(literals[i]).append(args[i]);
+        }
+        out.append(literals[literals.length - 1]);
+    }
+
+    // A Fragment argument appends itself in place, so a slot can be filled without building its content as one String
+    public void renderTo(Appendable out, Object... args) throws IOException {
+        checkArguments(args);
+        for (int i = 0; i < literals.length - 1; i++) {
+            out.append(literals[i]);
+            if (args[i] instanceof Fragment fragment) {
+                fragment.appendTo(out);
+            } else {
+                out.append(String.valueOf(args[i]));
+            }
+        }
+        out.append(literals[literals.length - 1]);
+    }
+
+    private void checkArguments(Object[] args) {
+        // Like String.format, surplus arguments are ignored but missing ones are an error
+        if (args.length < literals.length - 1) {
+            throw new IllegalArgumentException("Template expects " + (literals.length - 1) + " arguments but got " + args.length);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Fragment {
+        void appendTo(Appendable out) throws IOException;
+    }
+}
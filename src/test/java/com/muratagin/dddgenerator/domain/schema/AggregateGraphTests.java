@@ -0,0 +1,202 @@
+package com.muratagin.dddgenerator.domain.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregateGraphTests {
+
+    @Test
+    void tablesReferencingOnlyRootsAreRoots() {
+        AggregateGraph graph = AggregateGraph.build(List.of("customers", "orders", "order_lines", "products"), Map.of(
+                "orders", Set.of("customers"),
+                "order_lines", Set.of("orders", "products")));
+
+        assertThat(graph.getAggregateRoots()).containsExactlyInAnyOrder("customers", "orders", "order_lines", "products");
+        assertThat(graph.getCyclicClusters()).isEmpty();
+        assertThat(graph.getSelfReferencingTables()).isEmpty();
+        assertThat(graph.getAggregateBoundaries()).containsOnlyKeys("customers", "orders", "order_lines", "products")
+                .allSatisfy((root, members) -> assertThat(members).isEmpty());
+    }
+
+    @Test
+    void cyclesAndTheirDependentsAreNotRoots() {
+        AggregateGraph graph = AggregateGraph.build(List.of("a", "b", "c", "d", "e", "x", "y"), Map.of(
+                "a", Set.of("b"),
+                "b", Set.of("c"),
+                "c", Set.of("a", "e"),
+                "d", Set.of("a"),
+                "x", Set.of("y"),
+                "y", Set.of("x")));
+
+        assertThat(graph.getAggregateRoots()).containsExactly("e");
+        assertThat(graph.getCyclicClusters()).containsExactly(List.of("a", "b", "c"), List.of("x", "y"));
+        // The cycle leads only to e, and d only to the cycle
+        assertThat(graph.getAggregateBoundaries()).containsExactly(Map.entry("e", List.of("a", "b", "c", "d")));
+    }
+
+    @Test
+    void selfReferencingTablesAreNotRootsButJoinTheRootTheyReference() {
+        AggregateGraph graph = AggregateGraph.build(List.of("categories", "employees", "departments"), Map.of(
+                "categories", Set.of("categories"),
+                "employees", Set.of("employees", "departments")));
+
+        assertThat(graph.getAggregateRoots()).containsExactly("departments");
+        assertThat(graph.getSelfReferencingTables()).containsExactlyInAnyOrder("categories", "employees");
+        assertThat(graph.getCyclicClusters()).isEmpty();
+        assertThat(graph.getAggregateBoundaries()).containsExactly(Map.entry("departments", List.of("employees")));
+    }
+
+    @Test
+    void foreignKeysLeavingTheSchemaBlockRoots() {
+        AggregateGraph graph = AggregateGraph.build(List.of("invoices", "invoice_lines", "currencies"), Map.of(
+                "invoices", Set.of("other_schema_customers", "currencies"),
+                "invoice_lines", Set.of("invoices")));
+
+        assertThat(graph.getAggregateRoots()).containsExactly("currencies");
+        assertThat(graph.getAggregateBoundaries()).containsExactly(Map.entry("currencies", List.of("invoice_lines", "invoices")));
+    }
+
+    @Test
+    void tablesLeadingToSeveralRootsStayOutsideEveryBoundary() {
+        AggregateGraph graph = AggregateGraph.build(List.of("users", "groups", "memberships", "audit"), Map.of(
+                "memberships", Set.of("users", "groups", "memberships"),
+                "audit", Set.of("memberships")));
+
+        assertThat(graph.getAggregateRoots()).containsExactlyInAnyOrder("users", "groups");
+        assertThat(graph.getAggregateBoundaries()).containsExactly(Map.entry("groups", List.of()), Map.entry("users", List.of()));
+    }
+
+    @Test
+    void duplicateTableNamesAreClassifiedOnce() {
+        List<String> tables = List.of("a", "b", "a", "c", "c");
+        Map<String, Set<String>> references = Map.of("b", Set.of("a"), "c", Set.of("c"));
+        AggregateGraph graph = AggregateGraph.build(tables, references);
+
+        assertThat(graph.getAggregateRoots()).isEqualTo(baselineRoots(tables, references));
+        assertThat(graph.getAggregateRoots()).containsExactlyInAnyOrder("a", "b");
+        assertThat(graph.getSelfReferencingTables()).containsExactly("c");
+    }
+
+    @Test
+    void longChainsDoNotOverflowTheStack() {
+        int length = 200_000;
+        List<String> tables = new ArrayList<>();
+        Map<String, Set<String>> references = new HashMap<>();
+        for (int i = 0; i < length; i++) {
+            tables.add("t" + i);
+            if (i > 0) {
+                references.put("t" + i, Set.of("t" + (i - 1)));
+            }
+        }
+        // Closing the chain into one cycle makes every table a member of a single cluster
+        references.put("t0", Set.of("t" + (length - 1)));
+
+        AggregateGraph graph = AggregateGraph.build(tables, references);
+
+        assertThat(graph.getAggregateRoots()).isEmpty();
+        assertThat(graph.getCyclicClusters()).hasSize(1);
+        assertThat(graph.getCyclicClusters().get(0)).hasSize(length);
+    }
+
+    // Compares with the fixed point the generator used before, and with boundaries found by walking every table
+    @Test
+    void randomGraphsMatchTheBaselineRoots() {
+        Random random = new Random(19);
+        for (int run = 0; run < 2_000; run++) {
+            int tableCount = 1 + random.nextInt(30);
+            List<String> tables = new ArrayList<>();
+            for (int i = 0; i < tableCount; i++) {
+                tables.add("t" + i);
+            }
+            if (random.nextInt(10) == 0) {
+                tables.add(tables.get(random.nextInt(tableCount)));
+            }
+            Map<String, Set<String>> references = new HashMap<>();
+            for (String table : tables) {
+                int count = random.nextInt(4) == 0 ? 0 : random.nextInt(3);
+                Set<String> referenced = new LinkedHashSet<>();
+                for (int r = 0; r < count; r++) {
+                    // Mostly backwards, as in real schemas, with the occasional cycle, self-reference or external table
+                    int target = random.nextInt(8) == 0 ? random.nextInt(tableCount + 2) : random.nextInt(tableCount);
+                    referenced.add(target < tableCount ? "t" + target : "external" + target);
+                }
+                if (!referenced.isEmpty() || random.nextBoolean()) {
+                    references.put(table, referenced);
+                }
+            }
+
+            AggregateGraph graph = AggregateGraph.build(tables, references);
+
+            assertThat(graph.getAggregateRoots()).as("run %d: %s", run, references).isEqualTo(baselineRoots(tables, references));
+            assertThat(graph.getAggregateBoundaries()).as("run %d: %s", run, references)
+                    .isEqualTo(walkedBoundaries(tables, references, graph.getAggregateRoots()));
+        }
+    }
+
+    // The fixed-point loop AggregateGraph replaced
+    private static Set<String> baselineRoots(List<String> allTables, Map<String, Set<String>> foreignKeys) {
+        Set<String> aggregateRoots = new HashSet<>();
+        for (String table : allTables) {
+            if (!foreignKeys.containsKey(table)) {
+                aggregateRoots.add(table);
+            }
+        }
+        boolean changed;
+        do {
+            changed = false;
+            for (String table : allTables) {
+                if (!aggregateRoots.contains(table) && foreignKeys.containsKey(table)
+                        && aggregateRoots.containsAll(foreignKeys.get(table))) {
+                    aggregateRoots.add(table);
+                    changed = true;
+                }
+            }
+        } while (changed);
+        return aggregateRoots;
+    }
+
+    // Each non-root table's reachable roots, found by a separate walk from every table
+    private static Map<String, List<String>> walkedBoundaries(List<String> tables, Map<String, Set<String>> references, Set<String> roots) {
+        Map<String, Set<String>> members = new TreeMap<>();
+        roots.forEach(root -> members.put(root, new TreeSet<>()));
+        for (String table : new LinkedHashSet<>(tables)) {
+            if (roots.contains(table)) {
+                continue;
+            }
+            Set<String> reachedRoots = new HashSet<>();
+            Set<String> visited = new HashSet<>();
+            List<String> pending = new ArrayList<>(List.of(table));
+            while (!pending.isEmpty()) {
+                String current = pending.remove(pending.size() - 1);
+                if (!visited.add(current)) {
+                    continue;
+                }
+                for (String target : references.getOrDefault(current, Set.of())) {
+                    if (roots.contains(target)) {
+                        reachedRoots.add(target);
+                    } else if (tables.contains(target)) {
+                        pending.add(target);
+                    }
+                }
+            }
+            if (reachedRoots.size() == 1) {
+                members.get(reachedRoots.iterator().next()).add(table);
+            }
+        }
+        Map<String, List<String>> boundaries = new TreeMap<>();
+        members.forEach((root, tablesOfRoot) -> boundaries.put(root, List.copyOf(tablesOfRoot)));
+        return boundaries;
+    }
+}
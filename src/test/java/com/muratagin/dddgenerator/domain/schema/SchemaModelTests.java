@@ -0,0 +1,139 @@
+package com.muratagin.dddgenerator.domain.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaModelTests {
+
+    @Test
+    void returnsWhatItWasBuiltFrom() {
+        Random random = new Random(23);
+        for (int run = 0; run < 200; run++) {
+            List<String> tables = new ArrayList<>();
+            Map<String, List<Map<String, String>>> columnsByTable = new HashMap<>();
+            Map<String, List<String>> primaryKeys = new HashMap<>();
+            Map<String, Map<String, ForeignKeyInfo>> foreignKeys = new HashMap<>();
+            int tableCount = 1 + random.nextInt(40);
+            for (int i = 0; i < tableCount; i++) {
+                // Fresh strings, as a JDBC driver returns them
+                String table = new String("table_" + i);
+                tables.add(table);
+                List<Map<String, String>> columns = new ArrayList<>();
+                int columnCount = random.nextInt(12);
+                for (int c = 0; c < columnCount; c++) {
+                    Map<String, String> column = new HashMap<>();
+                    column.put("name", new String("column_" + c));
+                    column.put("type", random.nextInt(10) == 0 ? null : List.of("bigint", "text", "uuid", "USER-DEFINED").get(random.nextInt(4)));
+                    column.put("comment", random.nextInt(5) == 0 ? "Enum:A,B" : random.nextBoolean() ? "Comment " + c : null);
+                    columns.add(column);
+                }
+                columnsByTable.put(table, columns);
+                if (columnCount > 0 && random.nextBoolean()) {
+                    primaryKeys.put(table, columnCount > 1 && random.nextBoolean() ? List.of("column_1", "column_0") : List.of("column_0"));
+                }
+                if (columnCount > 0 && random.nextInt(3) > 0) {
+                    Map<String, ForeignKeyInfo> tableForeignKeys = new HashMap<>();
+                    for (int c = 0; c < columnCount; c += 1 + random.nextInt(3)) {
+                        String referencedTable = random.nextInt(10) == 0 ? "elsewhere" : "table_" + random.nextInt(tableCount);
+                        tableForeignKeys.put("column_" + c, new ForeignKeyInfo(referencedTable, "column_" + c, random.nextInt(10) == 0 ? null : "column_0"));
+                    }
+                    foreignKeys.put(table, tableForeignKeys);
+                }
+            }
+
+            SchemaModel schemaModel = new SchemaModel("public", tables, columnsByTable, primaryKeys, foreignKeys);
+
+            assertThat(schemaModel.getSchemaName()).isEqualTo("public");
+            assertThat(schemaModel.getTables()).isEqualTo(tables);
+            Map<String, String> enumComments = new HashMap<>();
+            Map<String, Set<String>> referencedTables = new HashMap<>();
+            for (String table : tables) {
+                assertThat(schemaModel.getColumns(table)).isEqualTo(columnsByTable.get(table));
+                assertThat(schemaModel.getPrimaryKeyColumns(table)).isEqualTo(primaryKeys.getOrDefault(table, List.of()));
+                Map<String, ForeignKeyInfo> expectedForeignKeys = foreignKeys.getOrDefault(table, Map.of());
+                assertThat(describe(schemaModel.getForeignKeys(table))).isEqualTo(describe(expectedForeignKeys));
+                assertThat(describe(schemaModel.getDetailedForeignKeys().get(table))).isEqualTo(expectedForeignKeys.isEmpty() ? null : describe(expectedForeignKeys));
+                for (Map<String, String> column : columnsByTable.get(table)) {
+                    if (column.get("comment") != null && column.get("comment").startsWith("Enum:")) {
+                        enumComments.put(table + "." + column.get("name"), column.get("comment"));
+                    }
+                }
+                if (!expectedForeignKeys.isEmpty()) {
+                    Set<String> referenced = new HashSet<>();
+                    expectedForeignKeys.values().forEach(foreignKeyInfo -> referenced.add(foreignKeyInfo.getPkTableName()));
+                    referencedTables.put(table, referenced);
+                }
+            }
+            assertThat(schemaModel.getDetailedForeignKeys().keySet()).isEqualTo(referencedTables.keySet());
+            assertThat(schemaModel.getReferencedTables()).isEqualTo(referencedTables);
+            Map<String, List<String>> referencingTables = new HashMap<>();
+            for (String table : tables) {
+                referencedTables.getOrDefault(table, Set.of()).forEach(referenced -> referencingTables.computeIfAbsent(referenced, key -> new ArrayList<>()).add(table));
+            }
+            referencingTables.values().forEach(list -> list.sort(null));
+            assertThat(schemaModel.getReferencingTables()).isEqualTo(referencingTables);
+            assertThat(schemaModel.getEnumComments()).isEqualTo(enumComments);
+            assertThat(schemaModel.getAggregateRoots()).isEqualTo(AggregateGraph.build(tables, referencedTables).getAggregateRoots());
+        }
+    }
+
+    @Test
+    void dropsKeysOfTablesOutsideTheTableList() {
+        SchemaModel schemaModel = new SchemaModel("public", List.of("orders"),
+                Map.of("orders", List.of(column("id", "bigint")), "ghost", List.of(column("id", "bigint"))),
+                Map.of("orders", List.of("id"), "ghost", List.of("id")),
+                Map.of("ghost", Map.of("id", new ForeignKeyInfo("orders", "id", "id"))));
+
+        assertThat(schemaModel.getColumns("ghost")).isEmpty();
+        assertThat(schemaModel.getPrimaryKeyColumns("ghost")).isEmpty();
+        assertThat(schemaModel.getForeignKeys("ghost")).isEmpty();
+        assertThat(schemaModel.getDetailedForeignKeys()).isEmpty();
+        assertThat(schemaModel.getReferencedTables()).isEmpty();
+        assertThat(schemaModel.getAggregateRoots()).containsExactly("orders");
+    }
+
+    @Test
+    void reusesItsViews() {
+        SchemaModel schemaModel = new SchemaModel("public", List.of("customers", "orders"),
+                Map.of("customers", List.of(column("id", "bigint")), "orders", List.of(column("id", "bigint"), column("customer_id", "bigint"))),
+                Map.of("customers", List.of("id"), "orders", List.of("id")),
+                Map.of("orders", Map.of("customer_id", new ForeignKeyInfo("customers", "customer_id", "id"))));
+
+        assertThat(schemaModel.getColumns("orders")).isSameAs(schemaModel.getColumns("orders"));
+        assertThat(schemaModel.getColumns("orders").get(1)).isSameAs(schemaModel.getColumns("orders").get(1));
+        assertThat(schemaModel.getForeignKeys("orders")).isSameAs(schemaModel.getDetailedForeignKeys().get("orders"));
+        assertThat(schemaModel.getForeignKeys("orders").get("customer_id")).isSameAs(schemaModel.getForeignKeys("orders").get("customer_id"));
+        assertThat(schemaModel.getDetailedForeignKeys()).isSameAs(schemaModel.getDetailedForeignKeys());
+        assertThat(schemaModel.getReferencedTables()).isSameAs(schemaModel.getReferencedTables());
+        assertThat(schemaModel.getReferencingTables()).isSameAs(schemaModel.getReferencingTables());
+        assertThat(schemaModel.getReferencingTables()).containsExactly(Map.entry("customers", List.of("orders")));
+    }
+
+    private static Map<String, String> column(String name, String type) {
+        Map<String, String> column = new HashMap<>();
+        column.put("name", name);
+        column.put("type", type);
+        column.put("comment", null);
+        return column;
+    }
+
+    // FK column -> "column:table.column", since ForeignKeyInfo has no equals
+    private static Map<String, String> describe(Map<String, ForeignKeyInfo> foreignKeys) {
+        if (foreignKeys == null) {
+            return null;
+        }
+        Map<String, String> described = new HashMap<>();
+        foreignKeys.forEach((column, foreignKeyInfo) -> described.put(column,
+                foreignKeyInfo.getFkColumnName() + ":" + foreignKeyInfo.getPkTableName() + "." + foreignKeyInfo.getPkColumnName()));
+        return described;
+    }
+}
@@ -0,0 +1,131 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NamingModelTests {
+
+    @ParameterizedTest
+    @CsvSource({
+            "order_item, OrderItem, orderItem",
+            "order-item, OrderItem, orderItem",
+            "ORDER_ITEM, OrderItem, orderItem",
+            "_leading__double_, LeadingDouble, leadingDouble",
+            "id, Id, id",
+            "x, X, x"
+    })
+    void convertsNamesToPascalAndCamelCase(String input, String pascalCase, String camelCase) {
+        assertThat(NamingModel.toPascalCase(input)).isEqualTo(pascalCase);
+        assertThat(NamingModel.toCamelCase(input)).isEqualTo(camelCase);
+    }
+
+    @Test
+    void leavesEmptyNamesEmpty() {
+        assertThat(NamingModel.toPascalCase(null)).isEmpty();
+        assertThat(NamingModel.toPascalCase("")).isEmpty();
+        assertThat(NamingModel.toPascalCase("__")).isEmpty();
+        assertThat(NamingModel.toCamelCase(null)).isNull();
+        assertThat(NamingModel.toCamelCase("__")).isEmpty();
+        assertThat(NamingModel.pluralize("")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            // Irregular
+            "person, people",
+            "Child, children",
+            "mouse, mice",
+            // Consonant + y, vowel + y
+            "category, categories",
+            "key, keys",
+            // Sibilants and a single trailing z
+            "address, addresses",
+            "box, boxes",
+            "batch, batches",
+            "quiz, quizzes",
+            "buzz, buzzes",
+            // -f and -fe
+            "leaf, leaves",
+            "knife, knives",
+            // Consonant + o, its exceptions, vowel + o
+            "hero, heroes",
+            "photo, photos",
+            "radio, radios",
+            "item, items"
+    })
+    void pluralizesLowerCaseWords(String word, String plural) {
+        assertThat(NamingModel.pluralize(word)).isEqualTo(plural);
+    }
+
+    @Test
+    void doesNotDependOnTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // The Turkish locale lower-cases 'I' to a dotless 'ı'
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertThat(NamingModel.pluralize("ITEM")).isEqualTo("items");
+            assertThat(NamingModel.toPascalCase("INVOICE_LINE")).isEqualTo("InvoiceLine");
+            assertThat(NamingModel.toCamelCase("IS_ACTIVE")).isEqualTo("isActive");
+            NamingModel.TableNames tableNames = new NamingModel(schema("INVOICE_ITEM", "ID")).table("INVOICE_ITEM");
+            assertThat(tableNames.getPackageSegment()).isEqualTo("invoiceitem");
+            assertThat(tableNames.getPluralPath()).isEqualTo("invoiceitems");
+            assertThat(tableNames.column("ID").getFieldName()).isEqualTo("id");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void derivesTableNames() {
+        NamingModel.TableNames tableNames = new NamingModel(schema("order_category", "id")).table("order_category");
+
+        assertThat(tableNames.getTableName()).isEqualTo("order_category");
+        assertThat(tableNames.getClassName()).isEqualTo("OrderCategory");
+        assertThat(tableNames.getVariableName()).isEqualTo("orderCategory");
+        assertThat(tableNames.getPackageSegment()).isEqualTo("ordercategory");
+        assertThat(tableNames.getPluralPath()).isEqualTo("ordercategories");
+        // Tables outside the schema are derived the same way
+        assertThat(new NamingModel(schema("order_category", "id")).table("person").getPluralPath()).isEqualTo("people");
+    }
+
+    @Test
+    void prefixesKeywordColumnsWithTheirEntity() {
+        NamingModel.TableNames tableNames = new NamingModel(schema("person", "class", "default", "first_name", "true")).table("person");
+
+        NamingModel.ColumnNames keyword = tableNames.column("class");
+        assertThat(keyword.isJavaKeyword()).isTrue();
+        assertThat(keyword.getCamelCaseName()).isEqualTo("class");
+        assertThat(keyword.getFieldName()).isEqualTo("personClass");
+        assertThat(keyword.getGetterName()).isEqualTo("getPersonClass");
+        assertThat(keyword.getSetterName()).isEqualTo("setPersonClass");
+        assertThat(tableNames.column("default").getFieldName()).isEqualTo("personDefault");
+        assertThat(tableNames.column("true").getFieldName()).isEqualTo("personTrue");
+
+        NamingModel.ColumnNames plain = tableNames.column("first_name");
+        assertThat(plain.isJavaKeyword()).isFalse();
+        assertThat(plain.getFieldName()).isEqualTo("firstName");
+        assertThat(plain.getGetterName()).isEqualTo("getFirstName");
+        assertThat(plain.getSetterName()).isEqualTo("setFirstName");
+
+        // Columns outside the schema are derived on demand with the same rule
+        assertThat(tableNames.column("package").getFieldName()).isEqualTo("personPackage");
+        assertThat(NamingModel.isJavaKeyword("record")).isFalse();
+    }
+
+    private static SchemaModel schema(String table, String... columns) {
+        List<Map<String, String>> columnList = new ArrayList<>();
+        for (String column : columns) {
+            columnList.add(Map.of("name", column, "type", "text"));
+        }
+        return new SchemaModel("public", List.of(table), Map.of(table, columnList), Map.of(), Map.of());
+    }
+}
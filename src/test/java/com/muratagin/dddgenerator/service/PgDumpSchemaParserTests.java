@@ -0,0 +1,279 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PgDumpSchemaParserTests {
+
+    private SchemaIntrospectionService schemaIntrospectionService;
+
+    @BeforeEach
+    void setUp() {
+        GeneratorProperties generatorProperties = new GeneratorProperties();
+        schemaIntrospectionService = new SchemaIntrospectionService(List.of(), new PgDumpSchemaParser(), new SchemaModelCache(generatorProperties),
+                new ConnectionPoolRegistry(generatorProperties, new SimpleMeterRegistry()), generatorProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schemaIntrospectionService.destroy();
+    }
+
+    @Test
+    void parsesPgDumpOutput() {
+        SchemaModel schemaModel = parse("""
+                SET statement_timeout = 0;
+                SELECT pg_catalog.set_config('search_path', '', false);
+
+                CREATE TABLE public.customers (
+                    id bigint NOT NULL,
+                    email character varying(255) NOT NULL,
+                    created_at timestamp with time zone DEFAULT now()
+                );
+
+                CREATE TABLE public.orders (
+                    id bigint NOT NULL,
+                    customer_id bigint,
+                    total numeric(10,2)
+                );
+
+                CREATE SEQUENCE public.orders_id_seq START WITH 1 INCREMENT BY 1;
+                ALTER TABLE ONLY public.orders ALTER COLUMN id SET DEFAULT nextval('public.orders_id_seq'::regclass);
+
+                ALTER TABLE ONLY public.customers
+                    ADD CONSTRAINT customers_pkey PRIMARY KEY (id);
+                ALTER TABLE ONLY public.orders
+                    ADD CONSTRAINT orders_pkey PRIMARY KEY (id);
+                ALTER TABLE ONLY public.orders
+                    ADD CONSTRAINT orders_customer_id_fkey FOREIGN KEY (customer_id) REFERENCES public.customers(id) ON DELETE CASCADE;
+                CREATE INDEX orders_customer_idx ON public.orders USING btree (customer_id);
+                """, "public");
+
+        assertThat(schemaModel.getSchemaName()).isEqualTo("public");
+        assertThat(schemaModel.getTables()).containsExactly("customers", "orders");
+        assertThat(columnTypes(schemaModel, "customers")).containsExactly(
+                Map.entry("id", "bigint"),
+                Map.entry("email", "character varying"),
+                Map.entry("created_at", "timestamp with time zone"));
+        assertThat(columnTypes(schemaModel, "orders")).containsExactly(
+                Map.entry("id", "bigint"),
+                Map.entry("customer_id", "bigint"),
+                Map.entry("total", "numeric"));
+        assertThat(schemaModel.getPrimaryKeyColumns("customers")).containsExactly("id");
+        assertThat(schemaModel.getPrimaryKeyColumns("orders")).containsExactly("id");
+        assertThat(foreignKeys(schemaModel, "customers")).isEmpty();
+        assertThat(foreignKeys(schemaModel, "orders")).containsExactly(Map.entry("customer_id", "customers.id"));
+        assertThat(schemaModel.getAggregateRoots()).containsExactlyInAnyOrder("customers", "orders");
+    }
+
+    @Test
+    void keepsTheCaseOfQuotedIdentifiersAndFoldsTheRest() {
+        SchemaModel schemaModel = parse("""
+                CREATE TABLE "Sales"."OrderHeader" (
+                    "OrderId" integer PRIMARY KEY,
+                    "Say ""hi""\" text,
+                    Amount NUMERIC
+                );
+                CREATE TABLE "Sales".Order_Line (
+                    id int4 PRIMARY KEY,
+                    "OrderId" integer REFERENCES "Sales"."OrderHeader"
+                );
+                """, "Sales");
+
+        assertThat(schemaModel.getSchemaName()).isEqualTo("Sales");
+        assertThat(schemaModel.getTables()).containsExactly("OrderHeader", "order_line");
+        assertThat(columnTypes(schemaModel, "OrderHeader")).containsExactly(
+                Map.entry("OrderId", "integer"),
+                Map.entry("Say \"hi\"", "text"),
+                Map.entry("amount", "numeric"));
+        assertThat(schemaModel.getPrimaryKeyColumns("OrderHeader")).containsExactly("OrderId");
+        // Without a column list the reference points at the referenced table's primary key
+        assertThat(foreignKeys(schemaModel, "order_line")).containsExactly(Map.entry("OrderId", "OrderHeader.OrderId"));
+    }
+
+    @Test
+    void readsOnlyTheRequestedSchema() {
+        String ddl = """
+                CREATE TABLE audit.events (id bigint PRIMARY KEY, payload jsonb);
+                CREATE TABLE public.accounts (id bigint PRIMARY KEY);
+                CREATE TABLE public.transfers (
+                    id bigint PRIMARY KEY,
+                    account_id bigint REFERENCES accounts (id),
+                    event_id bigint REFERENCES audit.events (id)
+                );
+                ALTER TABLE audit.events ADD COLUMN account_id bigint;
+                COMMENT ON COLUMN audit.events.payload IS 'Not in public';
+                COMMENT ON COLUMN public.accounts.id IS 'Account number';
+                """;
+
+        SchemaModel publicModel = parse(ddl, "public");
+        assertThat(publicModel.getTables()).containsExactly("accounts", "transfers");
+        assertThat(foreignKeys(publicModel, "transfers")).containsExactly(
+                Map.entry("account_id", "accounts.id"),
+                Map.entry("event_id", "events.id"));
+        assertThat(publicModel.getColumns("accounts").get(0).get("comment")).isEqualTo("Account number");
+        // The reference leaving the schema keeps transfers from being a root
+        assertThat(publicModel.getAggregateRoots()).containsExactly("accounts");
+
+        SchemaModel auditModel = parse(ddl, "audit");
+        assertThat(auditModel.getTables()).containsExactly("events");
+        assertThat(columnTypes(auditModel, "events")).containsExactly(
+                Map.entry("id", "bigint"),
+                Map.entry("payload", "jsonb"),
+                Map.entry("account_id", "bigint"));
+
+        // A blank schema means the schema of the first table
+        assertThat(parse(ddl, " ").getSchemaName()).isEqualTo("audit");
+        // A schema-less name in DDL for another schema means that schema
+        assertThat(parse("CREATE TABLE items (id bigint);", "inventory").getTables()).containsExactly("items");
+    }
+
+    @Test
+    void readsCompositeKeysAddedByAlterTable() {
+        SchemaModel schemaModel = parse("""
+                CREATE TABLE public.warehouses (region text, code text, name text);
+                CREATE TABLE public.stock (
+                    region text,
+                    code text,
+                    sku text,
+                    quantity integer,
+                    CONSTRAINT stock_pkey PRIMARY KEY (region, code, sku)
+                );
+                CREATE TABLE public.stock_moves (id bigint, region text, code text, sku text);
+                ALTER TABLE ONLY public.warehouses ADD CONSTRAINT warehouses_pkey PRIMARY KEY (region, code);
+                ALTER TABLE ONLY public.stock
+                    ADD CONSTRAINT stock_warehouse_fkey FOREIGN KEY (region, code) REFERENCES public.warehouses(region, code);
+                ALTER TABLE public.stock_moves
+                    ADD CONSTRAINT stock_moves_stock_fkey FOREIGN KEY (region, code, sku) REFERENCES public.stock;
+                """, "public");
+
+        assertThat(schemaModel.getPrimaryKeyColumns("warehouses")).containsExactly("region", "code");
+        assertThat(schemaModel.getPrimaryKeyColumns("stock")).containsExactly("region", "code", "sku");
+        assertThat(schemaModel.getPrimaryKeyColumns("stock_moves")).isEmpty();
+        assertThat(foreignKeys(schemaModel, "stock")).containsExactly(
+                Map.entry("code", "warehouses.code"),
+                Map.entry("region", "warehouses.region"));
+        assertThat(foreignKeys(schemaModel, "stock_moves")).containsExactly(
+                Map.entry("code", "stock.code"),
+                Map.entry("region", "stock.region"),
+                Map.entry("sku", "stock.sku"));
+        assertThat(schemaModel.getReferencedTables()).containsOnlyKeys("stock", "stock_moves");
+    }
+
+    @Test
+    void ignoresCommentsStringsAndDollarQuotedBodies() {
+        SchemaModel schemaModel = parse("""
+                -- CREATE TABLE public.commented_out (id bigint);
+                /* CREATE TABLE public.block_commented (id bigint);
+                   /* nested */ CREATE TABLE public.still_commented (id bigint); */
+                CREATE FUNCTION public.make_table() RETURNS void
+                    LANGUAGE plpgsql
+                    AS $body$
+                BEGIN
+                    CREATE TABLE public.from_function (id bigint);
+                    EXECUTE 'CREATE TABLE public.dynamic (id bigint)';
+                END;
+                $body$;
+                CREATE FUNCTION public.answer() RETURNS integer LANGUAGE sql AS $$ SELECT 42; $$;
+                CREATE TABLE public.notes (
+                    id bigint PRIMARY KEY, -- surrogate key
+                    body text DEFAULT 'a; b -- c',
+                    /* the author */ author text
+                );
+                COMMENT ON COLUMN public.notes.body IS 'It''s the text; with a semicolon';
+                COMMENT ON COLUMN public.notes.author IS E'Line one\\nLine two';
+                COMMENT ON COLUMN public.notes.id IS NULL;
+                """, "public");
+
+        assertThat(schemaModel.getTables()).containsExactly("notes");
+        assertThat(columnTypes(schemaModel, "notes")).containsExactly(
+                Map.entry("id", "bigint"),
+                Map.entry("body", "text"),
+                Map.entry("author", "text"));
+        List<Map<String, String>> columns = schemaModel.getColumns("notes");
+        assertThat(columns.get(0).get("comment")).isNull();
+        assertThat(columns.get(1).get("comment")).isEqualTo("It's the text; with a semicolon");
+        assertThat(columns.get(2).get("comment")).isEqualTo("Line one\nLine two");
+    }
+
+    @Test
+    void reportsTypesTheWayInformationSchemaDoes() {
+        SchemaModel schemaModel = parse("""
+                CREATE TYPE public.status AS ENUM ('ACTIVE', 'CLOSED');
+                CREATE DOMAIN public.email AS varchar(320) CHECK (VALUE LIKE '%@%');
+                CREATE TABLE public.samples (
+                    a serial,
+                    b int8,
+                    c bool,
+                    d float8,
+                    e timestamptz,
+                    f timestamp(3),
+                    g text[],
+                    h integer ARRAY,
+                    i public.status,
+                    j email,
+                    k pg_catalog.int4,
+                    l character varying(20) COLLATE pg_catalog."default"
+                );
+                """, "public");
+
+        assertThat(columnTypes(schemaModel, "samples")).containsExactly(
+                Map.entry("a", "integer"),
+                Map.entry("b", "bigint"),
+                Map.entry("c", "boolean"),
+                Map.entry("d", "double precision"),
+                Map.entry("e", "timestamp with time zone"),
+                Map.entry("f", "timestamp without time zone"),
+                Map.entry("g", "ARRAY"),
+                Map.entry("h", "ARRAY"),
+                Map.entry("i", "USER-DEFINED"),
+                Map.entry("j", "character varying"),
+                Map.entry("k", "integer"),
+                Map.entry("l", "character varying"));
+    }
+
+    @Test
+    void rejectsDdlWithoutTables() {
+        assertThatThrownBy(() -> parse("CREATE VIEW public.v AS SELECT 1;", "public"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("schema 'public'");
+        assertThatThrownBy(() -> parse("CREATE TABLE other.t (id bigint);", "public"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parse("CREATE TABLE public.t (id bigint", "public"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SchemaModel parse(String ddl, String schema) {
+        return schemaIntrospectionService.introspectDdl(ddl, schema);
+    }
+
+    private static Map<String, String> columnTypes(SchemaModel schemaModel, String table) {
+        Map<String, String> types = new LinkedHashMap<>();
+        for (Map<String, String> column : schemaModel.getColumns(table)) {
+            types.put(column.get("name"), column.get("type"));
+        }
+        return types;
+    }
+
+    // Column -> referenced table.column, sorted by column
+    private static Map<String, String> foreignKeys(SchemaModel schemaModel, String table) {
+        Map<String, String> foreignKeys = new TreeMap<>();
+        for (ForeignKeyInfo foreignKeyInfo : schemaModel.getForeignKeys(table).values()) {
+            foreignKeys.put(foreignKeyInfo.getFkColumnName(), foreignKeyInfo.getPkTableName() + "." + foreignKeyInfo.getPkColumnName());
+        }
+        return foreignKeys;
+    }
+}
@@ -0,0 +1,229 @@
+package com.muratagin.dddgenerator.service;
+
+import com.muratagin.dddgenerator.config.GeneratorProperties;
+import com.muratagin.dddgenerator.domain.request.EnvironmentalCredentialsRequest;
+import com.muratagin.dddgenerator.domain.schema.ForeignKeyInfo;
+import com.muratagin.dddgenerator.domain.schema.SchemaModel;
+import com.muratagin.dddgenerator.service.job.GenerationScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaPrefetchTests {
+
+    private static final String URL = "jdbc:prefetch-test:db";
+    private static final Driver DRIVER = new FakeDriver();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch tableLoadsStarted = new CountDownLatch(2);
+    private final AtomicInteger schemaLoads = new AtomicInteger();
+    private GeneratorProperties generatorProperties;
+    private ConnectionPoolRegistry connectionPoolRegistry;
+    private SchemaIntrospectionService schemaIntrospectionService;
+
+    @BeforeAll
+    static void registerDriver() throws SQLException {
+        DriverManager.registerDriver(DRIVER);
+    }
+
+    @AfterAll
+    static void deregisterDriver() throws SQLException {
+        DriverManager.deregisterDriver(DRIVER);
+    }
+
+    @BeforeEach
+    void setUp() {
+        generatorProperties = new GeneratorProperties();
+        connectionPoolRegistry = new ConnectionPoolRegistry(generatorProperties, new SimpleMeterRegistry());
+        schemaIntrospectionService = new SchemaIntrospectionService(List.of(new BlockingIntrospector()), new PgDumpSchemaParser(),
+                new SchemaModelCache(generatorProperties), connectionPoolRegistry, generatorProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        schemaIntrospectionService.destroy();
+        connectionPoolRegistry.destroy();
+    }
+
+    @Test
+    void runningPrefetchesDoNotKeepGenerationsOut() throws Exception {
+        // What the wizard starts when a schema is picked: the model, and the table list for the first page
+        schemaIntrospectionService.prefetch(URL, "user", "secret", "public");
+        schemaIntrospectionService.prefetchTables(URL, "user", "secret", "public");
+        assertThat(tableLoadsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // generate-final from the same session, and another generation from the same database, are both admitted
+        GenerationScheduler generationScheduler = new GenerationScheduler(generatorProperties, new SimpleMeterRegistry());
+        String datasource = GenerationScheduler.datasourceKey(credentials());
+        assertThat(generatorProperties.getScheduler().getMaxPerDatasource()).isEqualTo(2);
+        try (GenerationScheduler.Admission first = generationScheduler.acquire("session-1", datasource);
+             GenerationScheduler.Admission second = generationScheduler.acquire("session-2", datasource)) {
+            assertThat(generationScheduler.getRunning()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void prefetchesHaveTheirOwnPerDatasourceBudget() throws Exception {
+        schemaIntrospectionService.prefetch(URL, "user", "secret", "public");
+        schemaIntrospectionService.prefetchTables(URL, "user", "secret", "public");
+        assertThat(tableLoadsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Both of this database's prefetch slots are taken, so the schema list is not prefetched
+        schemaIntrospectionService.prefetchSchemas(URL, "user", "secret");
+        Thread.sleep(200);
+        assertThat(schemaLoads).hasValue(0);
+
+        // Another database still gets its prefetch
+        schemaIntrospectionService.prefetchSchemas(URL, "other", "secret");
+        assertThat(schemaIntrospectionService.loadSchemas(URL, "other", "secret")).containsExactly("public");
+        assertThat(schemaLoads).hasValue(1);
+
+        // The running model prefetch is joined once it is allowed to finish
+        release.countDown();
+        SchemaModel schemaModel = schemaIntrospectionService.introspect(URL, "user", "secret", "public");
+        assertThat(schemaModel.getTables()).containsExactly("orders");
+    }
+
+    private static EnvironmentalCredentialsRequest credentials() {
+        EnvironmentalCredentialsRequest environmentalCredentialsRequest = new EnvironmentalCredentialsRequest();
+        environmentalCredentialsRequest.setLocalDatasourceUrl(URL);
+        environmentalCredentialsRequest.setLocalDatasourceUsername("user");
+        environmentalCredentialsRequest.setLocalDatasourcePassword("secret");
+        environmentalCredentialsRequest.setSelectedSchema("public");
+        return environmentalCredentialsRequest;
+    }
+
+    // Table lists block until the test releases them, so that prefetches stay running
+    private final class BlockingIntrospector implements SchemaIntrospector {
+
+        @Override
+        public boolean supports(DatabaseMetaData metaData) {
+            return true;
+        }
+
+        @Override
+        public List<String> loadSchemas(Connection conn) {
+            schemaLoads.incrementAndGet();
+            return List.of("public");
+        }
+
+        @Override
+        public List<String> loadTables(Connection conn, String schema) throws SQLException {
+            tableLoadsStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted", e);
+            }
+            return List.of("orders");
+        }
+
+        @Override
+        public Map<String, List<Map<String, String>>> loadColumns(Connection conn, String schema, List<String> tables) {
+            return Map.of("orders", List.of(Map.of("name", "id", "type", "bigint", "comment", "")));
+        }
+
+        @Override
+        public Map<String, List<String>> loadPrimaryKeys(Connection conn, String schema, List<String> tables) {
+            return Map.of("orders", List.of("id"));
+        }
+
+        @Override
+        public Map<String, Map<String, ForeignKeyInfo>> loadForeignKeys(Connection conn, String schema, List<String> tables) {
+            return Map.of();
+        }
+    }
+
+    // Hands out connections that accept every call and return defaults; the introspector above never queries them
+    private static final class FakeDriver implements Driver {
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {DatabaseMetaData.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getURL" -> url;
+                        case "getUserName" -> info.getProperty("user");
+                        default -> defaultValue(method);
+                    });
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getMetaData" -> metaData;
+                        case "isValid", "getAutoCommit" -> true;
+                        case "getTransactionIsolation" -> Connection.TRANSACTION_READ_COMMITTED;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> defaultValue(method);
+                    });
+        }
+
+        private static Object defaultValue(Method method) {
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:prefetch-test:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.muratagin.dddgenerator.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableNameMatcherTests {
+
+    @ParameterizedTest
+    @CsvSource({
+            "audit_, audit_log, true",
+            "AUDIT_, audit_log, true",
+            "audit_, order_audit, false",
+            "a*, a*b, true",
+            "a*, ab, false"
+    })
+    void matchesPrefixesCaseInsensitively(String pattern, String table, boolean matches) {
+        assertThat(TableNameMatcher.compile(pattern, false).test(table)).isEqualTo(matches);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "*_status, order_status, true",
+            "*_STATUS, Order_Status, true",
+            "*_status, order_status_history, false",
+            "order_*, order_lines, true",
+            "order_*, order_, true",
+            "order_*, orders, false",
+            "*audit*, order_audit_log, true",
+            "*, anything, true",
+            "order?, orders, true",
+            "order?, order, false",
+            "o??er, order, true",
+            "*a*b, aab, true",
+            "*a*b, aba, false",
+            "a*b*c, abxbc, true",
+            "(type|status)$, order_status, false",
+            "order.lines, orderxlines, false",
+            "order.lines, order.lines, true"
+    })
+    void matchesWildcardsOverTheWholeName(String pattern, String table, boolean matches) {
+        assertThat(TableNameMatcher.compile(pattern, true).test(table)).isEqualTo(matches);
+    }
+
+    @Test
+    void acceptsEveryTableWithoutAPattern() {
+        assertThat(TableNameMatcher.compile(null, true).test("orders")).isTrue();
+        assertThat(TableNameMatcher.compile("", false).test("orders")).isTrue();
+    }
+
+    // A pattern that makes a backtracking regular expression engine take exponential time
+    @Test
+    @Timeout(5)
+    void matchesPathologicalPatternsQuickly() {
+        Predicate<String> matcher = TableNameMatcher.compile("*a*a*a*a*a*a*a*a*a*a*a*a*a*a*a*a*a*a*a*a*b", true);
+        String table = "a".repeat(10_000);
+
+        assertThat(matcher.test(table)).isFalse();
+        assertThat(matcher.test(table + "b")).isTrue();
+    }
+}
@@ -0,0 +1,149 @@
+package com.muratagin.dddgenerator.service.job;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationJobTests {
+
+    private final ExecutorService notificationExecutor = Executors.newCachedThreadPool();
+    private final GenerationJob job = new GenerationJob("job", "demo.zip", notificationExecutor);
+
+    @AfterEach
+    void tearDown() {
+        notificationExecutor.shutdownNow();
+    }
+
+    @Test
+    void slowListenerHoldsUpNeitherTheGenerationNorOtherListeners() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener(release);
+        RecordingListener fast = new RecordingListener(null);
+        job.subscribe(slow);
+        job.subscribe(fast);
+
+        // Returns at once although the slow listener is stuck on the first phase
+        long start = System.nanoTime();
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            job.phaseStarted(phase);
+        }
+        job.fail("boom");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+        List<String> expected = new ArrayList<>();
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            expected.add(phase.name());
+        }
+        expected.add("failed:boom");
+        assertThat(fast.awaitEvents(expected.size())).containsExactlyElementsOf(expected);
+
+        // Subscribing does not wait for the slow listener either, and the slow one still gets every event in order
+        RecordingListener late = new RecordingListener(null);
+        job.subscribe(late);
+        assertThat(late.awaitEvents(1)).containsExactly("failed:boom");
+        release.countDown();
+        assertThat(slow.awaitEvents(expected.size())).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void stalledListenerIsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener stalled = new RecordingListener(release);
+        job.subscribe(stalled);
+        job.phaseStarted(GenerationPhase.values()[0]);
+        job.phaseStarted(GenerationPhase.values()[1]);
+        assertThat(stalled.delivering.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(50);
+        job.dropStalledSubscribers(10);
+        assertThat(stalled.dropped.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The event it was stuck on finishes, the one queued behind it is discarded
+        release.countDown();
+        job.phaseStarted(GenerationPhase.values()[2]);
+        assertThat(stalled.awaitEvents(1)).containsExactly(GenerationPhase.values()[0].name());
+        Thread.sleep(100);
+        assertThat(stalled.events).hasSize(1);
+    }
+
+    @Test
+    void failingListenerIsDropped() throws Exception {
+        RecordingListener failing = new RecordingListener(null) {
+            @Override
+            public void phaseStarted(GenerationJob job, GenerationPhase phase) {
+                throw new IllegalStateException("Emitter already completed");
+            }
+        };
+        job.subscribe(failing);
+        job.phaseStarted(GenerationPhase.values()[0]);
+        assertThat(failing.dropped.await(5, TimeUnit.SECONDS)).isTrue();
+
+        job.fail("boom");
+        Thread.sleep(100);
+        assertThat(failing.events).isEmpty();
+    }
+
+    private static class RecordingListener implements GenerationJobListener {
+
+        private final CountDownLatch release;
+        private final CountDownLatch delivering = new CountDownLatch(1);
+        private final CountDownLatch dropped = new CountDownLatch(1);
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        RecordingListener(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void phaseStarted(GenerationJob job, GenerationPhase phase) {
+            record(phase.name());
+        }
+
+        @Override
+        public void completed(GenerationJob job) {
+            record("completed");
+        }
+
+        @Override
+        public void failed(GenerationJob job, String message) {
+            record("failed:" + message);
+        }
+
+        @Override
+        public void dropped(GenerationJob job) {
+            dropped.countDown();
+        }
+
+        List<String> awaitEvents(int count) throws InterruptedException {
+            for (int i = 0; i < count; i++) {
+                assertThat(received.poll(5, TimeUnit.SECONDS)).isNotNull();
+            }
+            return events;
+        }
+
+        private void record(String event) {
+            delivering.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.muratagin.dddgenerator.service.output;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipProjectOutputTests {
+
+    private static final ForkJoinPool COMPRESSION_POOL = new ForkJoinPool(2);
+    private static final ExecutorService WRITER_EXECUTOR = Executors.newCachedThreadPool();
+
+    @TempDir
+    Path tempDir;
+
+    @AfterAll
+    static void shutDown() {
+        COMPRESSION_POOL.shutdownNow();
+        WRITER_EXECUTOR.shutdownNow();
+    }
+
+    // Every combination of compression thread, writer thread and method the factory can configure
+    static Stream<Arguments> configurations() {
+        List<Arguments> configurations = new ArrayList<>();
+        for (boolean pool : new boolean[] {false, true}) {
+            for (boolean writer : new boolean[] {false, true}) {
+                for (boolean stored : new boolean[] {false, true}) {
+                    configurations.add(Arguments.of(pool, writer, stored));
+                }
+            }
+        }
+        return configurations.stream();
+    }
+
+    @ParameterizedTest(name = "pool={0}, writer={1}, stored={2}")
+    @MethodSource("configurations")
+    void entriesReadBackWithTheirNamesContentsAndCrcs(boolean pool, boolean writer, boolean stored) throws IOException {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("empty.txt", "");
+        for (int i = 0; i < 200; i++) {
+            expected.put("src/main/java/Small" + i + ".java", "class Small" + i + " {}\n");
+        }
+        // Larger than the 64 KB buffers used for both whole and streamed entries
+        expected.put("large.txt", text(300_000));
+        expected.put("streamed/large.txt", text(200_000));
+        expected.put("streamed/empty.txt", "");
+        expected.put("utf8.txt", "\u00e4 \u00f6 \u00fc \u20ac");
+
+        Path archive = tempDir.resolve("project.zip");
+        try (OutputStream out = Files.newOutputStream(archive); ZipProjectOutput zip = open(out, pool, writer, stored)) {
+            for (Map.Entry<String, String> entry : expected.entrySet()) {
+                if (entry.getKey().startsWith("streamed/")) {
+                    try (Writer file = zip.openWriter(Path.of(entry.getKey()))) {
+                        // Written in pieces, as the generators do
+                        String content = entry.getValue();
+                        for (int offset = 0; offset < content.length(); offset += 10_000) {
+                            file.write(content, offset, Math.min(10_000, content.length() - offset));
+                        }
+                    }
+                } else {
+                    zip.write(Path.of(entry.getKey()), entry.getValue());
+                }
+            }
+            // The first write of a path wins
+            zip.write(Path.of("empty.txt"), "ignored");
+            try (Writer file = zip.openWriter(Path.of("large.txt"))) {
+                file.write("ignored");
+            }
+            assertThat(zip.getFileCount()).isEqualTo(expected.size());
+        }
+
+        assertZipFile(archive, expected);
+        assertZipInputStream(archive, expected);
+    }
+
+    @Test
+    void moreEntriesThanTheClassicEndRecordCountsUseZip64() throws IOException {
+        // One past the 16-bit entry count of the end of central directory record
+        int count = 0xFFFF + 1;
+        Path archive = tempDir.resolve("many.zip");
+        try (OutputStream out = Files.newOutputStream(archive); ZipProjectOutput zip = open(out, true, true, false)) {
+            for (int i = 0; i < count; i++) {
+                zip.write(Path.of("e" + i), Integer.toString(i));
+            }
+        }
+
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            assertThat(zipFile.size()).isEqualTo(count);
+            for (int i : new int[] {0, 0xFFFE, 0xFFFF, count - 1}) {
+                ZipEntry entry = zipFile.getEntry("e" + i);
+                assertThat(entry).isNotNull();
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(Integer.toString(i));
+                }
+            }
+        }
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(archive))) {
+            int read = 0;
+            while (in.getNextEntry() != null) {
+                read++;
+            }
+            assertThat(read).isEqualTo(count);
+        }
+    }
+
+    @Test
+    void exactlyTheClassicEntryLimitNeedsNoZip64() throws IOException {
+        int count = 0xFFFF;
+        Path archive = tempDir.resolve("limit.zip");
+        try (OutputStream out = Files.newOutputStream(archive); ZipProjectOutput zip = open(out, false, false, true)) {
+            for (int i = 0; i < count; i++) {
+                zip.write(Path.of("e" + i), "");
+            }
+        }
+
+        byte[] bytes = Files.readAllBytes(archive);
+        // The end of central directory record is the last 22 bytes; it carries the exact count
+        int end = bytes.length - 22;
+        assertThat(readInt(bytes, end)).isEqualTo(0x06054b50);
+        assertThat(readShort(bytes, end + 10)).isEqualTo(count);
+        assertThat(readInt(bytes, end - 20)).as("no ZIP64 locator").isNotEqualTo(0x07064b50);
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            assertThat(zipFile.size()).isEqualTo(count);
+        }
+    }
+
+    @Test
+    void abortedArchiveIsNotAValidZip() throws IOException {
+        Path archive = tempDir.resolve("aborted.zip");
+        try (OutputStream out = Files.newOutputStream(archive); ZipProjectOutput zip = open(out, true, true, false)) {
+            zip.write(Path.of("a.txt"), "a");
+            zip.openWriter(Path.of("b.txt")).write("left open by a failed generation");
+            zip.abort();
+        }
+
+        assertThatThrownBy(() -> new ZipFile(archive.toFile()).close()).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    void writingWhileAStreamedEntryIsOpenFails() throws IOException {
+        try (ZipProjectOutput zip = open(OutputStream.nullOutputStream(), false, false, false)) {
+            zip.openWriter(Path.of("open.txt"));
+            assertThatThrownBy(() -> zip.write(Path.of("other.txt"), "x")).isInstanceOf(IllegalStateException.class);
+            zip.abort();
+        }
+    }
+
+    private static ZipProjectOutput open(OutputStream out, boolean pool, boolean writer, boolean stored) {
+        return new ZipProjectOutput(out, pool ? COMPRESSION_POOL : null, Deflater.DEFAULT_COMPRESSION, stored,
+                writer ? WRITER_EXECUTOR : null, writer ? 4 : 0);
+    }
+
+    private static void assertZipFile(Path archive, Map<String, String> expected) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<String> names = new ArrayList<>();
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                names.add(entry.getName());
+                byte[] content = expected.get(entry.getName()).getBytes(StandardCharsets.UTF_8);
+                assertThat(entry.getSize()).as(entry.getName()).isEqualTo(content.length);
+                assertThat(entry.getCrc()).as(entry.getName()).isEqualTo(crc(content));
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    assertThat(in.readAllBytes()).as(entry.getName()).isEqualTo(content);
+                }
+            }
+            assertThat(names).containsExactlyElementsOf(expected.keySet());
+        }
+    }
+
+    // Reads the local headers and data descriptors only, as streaming unzip tools do
+    private static void assertZipInputStream(Path archive, Map<String, String> expected) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                names.add(entry.getName());
+                byte[] content = in.readAllBytes();
+                assertThat(new String(content, StandardCharsets.UTF_8)).as(entry.getName()).isEqualTo(expected.get(entry.getName()));
+                // Known once the entry has been read, from its header or its data descriptor
+                assertThat(entry.getCrc()).as(entry.getName()).isEqualTo(crc(content));
+            }
+        }
+        assertThat(names).containsExactlyElementsOf(expected.keySet());
+    }
+
+    private static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        long seed = 42;
+        while (text.length() < length) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            text.append("line ").append(seed >>> 40).append('\n');
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    private static long crc(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return readShort(bytes, offset) | readShort(bytes, offset + 2) << 16;
+    }
+}